@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.edge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.pmviva.todo.list.api.model.Todo;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Measures the write throughput of a {@link PersistentTodoStore} and its recovery time, once by replaying the whole
+ * log and once from a snapshot, at each configured number of todos. Settings are passed to the Gradle task as project
+ * properties (for example {@code ./gradlew benchmark --tests '*PersistentTodoStoreBenchmark'
+ * -Pbenchmark.edge.todos=1000000 -Pbenchmark.edge.log-sync-interval=PT0.002S}). The heap is collected before each
+ * recovery, so collecting the store of the previous phase is not timed as part of it. Ten million todos take a heap of
+ * about 5 GB to recover, within the 8 GB of the benchmark task.
+ *
+ * <p>No results of this benchmark have been reproduced yet. The figures quoted for one and ten million todos, about
+ * 36,000 to 39,000 writes/s with 2.5 s and 48 s of log replay, came from a copy of this code patched to build on JDK 17
+ * with platform writer threads. They are unverified until the benchmark task is run as committed, on the Java 21
+ * toolchain.
+ */
+public class PersistentTodoStoreBenchmark {
+
+    private static final int STRIPES = 16;
+
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testWriteThroughputAndRecoveryTime() throws IOException, InterruptedException {
+        List<Integer> sizes = Arrays.stream(
+                        System.getProperty("benchmark.edge.todos", "1000000,10000000")
+                                .split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+        int writers = Integer.getInteger("benchmark.edge.writers", 256);
+        Duration syncInterval = Duration.parse(System.getProperty("benchmark.edge.log-sync-interval", "PT0.005S"));
+        Path reportDirectory =
+                Path.of(System.getProperty("benchmark.report-directory", "build/reports/benchmark"));
+
+        Files.createDirectories(reportDirectory);
+
+        try (PrintStream report = new PrintStream(
+                Files.newOutputStream(reportDirectory.resolve("persistent-todo-store.txt")),
+                true,
+                StandardCharsets.UTF_8)) {
+            String header = String.format(
+                    "%12s %8s %12s %14s %16s %18s",
+                    "todos", "writers", "sync", "writes/s", "log replay ms", "snapshot load ms");
+
+            System.out.println(header);
+            report.println(header);
+
+            for (int size : sizes) {
+                String row = run(directory.resolve(Integer.toString(size)), size, writers, syncInterval);
+
+                System.out.println(row);
+                report.println(row);
+            }
+        }
+    }
+
+    private String run(Path storeDirectory, int size, int writers, Duration syncInterval)
+            throws IOException, InterruptedException {
+        double throughput;
+
+        try (PersistentTodoStore persistentTodoStore = open(storeDirectory, syncInterval)) {
+            persistentTodoStore.start();
+            throughput = write(new InMemoryTodoRepository(persistentTodoStore, Clock.systemUTC()), size, writers);
+            persistentTodoStore.stop();
+        }
+
+        collectGarbage();
+
+        long started = System.nanoTime();
+        long logReplay;
+
+        try (PersistentTodoStore persistentTodoStore = open(storeDirectory, syncInterval)) {
+            logReplay = Duration.ofNanos(System.nanoTime() - started).toMillis();
+            assertThat(persistentTodoStore.store().count()).isEqualTo(size);
+            persistentTodoStore.checkpoint();
+        }
+
+        collectGarbage();
+
+        started = System.nanoTime();
+        long snapshotLoad;
+
+        try (PersistentTodoStore persistentTodoStore = open(storeDirectory, syncInterval)) {
+            snapshotLoad = Duration.ofNanos(System.nanoTime() - started).toMillis();
+            assertThat(persistentTodoStore.store().count()).isEqualTo(size);
+        }
+
+        return String.format(
+                "%12d %8d %12s %14.0f %16d %18d", size, writers, syncInterval, throughput, logReplay, snapshotLoad);
+    }
+
+    /**
+     * Saves the todos from concurrent writers, each waiting for its writes to be durable, and returns the writes per
+     * second.
+     */
+    private static double write(InMemoryTodoRepository todoRepository, int size, int writers)
+            throws InterruptedException {
+        long started = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int writer = 0; writer < writers; writer++) {
+                int count = size / writers + (writer < size % writers ? 1 : 0);
+
+                executor.execute(() -> {
+                    for (int index = 0; index < count; index++) {
+                        todoRepository.save(new Todo("DESCRIPTION " + index, index % 2 == 0));
+                    }
+                });
+            }
+        }
+
+        return size / (Duration.ofNanos(System.nanoTime() - started).toNanos() / 1e9);
+    }
+
+    private static void collectGarbage() {
+        ManagementFactory.getMemoryMXBean().gc();
+    }
+
+    private static PersistentTodoStore open(Path storeDirectory, Duration syncInterval) {
+        return new PersistentTodoStore(storeDirectory, STRIPES, SEGMENT_SIZE, syncInterval, true, Duration.ZERO);
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.sun.management.ThreadMXBean;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Compares serializing a page of todos before and after the hand-written serializers: before, a todo with
+ * {@link Calendar} timestamps written by the bean serializers Jackson builds by introspection; after, a {@link Todo}
+ * with {@link Instant} timestamps written by {@link TodoJsonComponent} and {@link PagedModelJsonComponent}. Both
+ * mappers are configured the way Spring Boot configures its own, and both must write the same bytes. Reading a single
+ * todo is measured the same way. Allocations are read from the thread allocation counter of the JVM after a warm-up.
+ * Settings are passed to the Gradle task as project properties (for example
+ * {@code ./gradlew benchmark --tests '*TodoJsonBenchmark' -Pbenchmark.json.iterations=50000}).
+ */
+public class TodoJsonBenchmark {
+
+    @Test
+    public void testSerialization() throws IOException {
+        int pageSize = Integer.getInteger("benchmark.json.page-size", 100);
+        int iterations = Integer.getInteger("benchmark.json.iterations", 20_000);
+        Path reportDirectory =
+                Path.of(System.getProperty("benchmark.report-directory", "build/reports/benchmark"));
+
+        ObjectMapper reflective = springBootMapper();
+        ObjectMapper handWritten = springBootMapper().registerModule(handWrittenModule());
+
+        List<Todo> todos = new ArrayList<>();
+        List<CalendarTodo> calendarTodos = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (int index = 0; index < pageSize; index++) {
+            Todo todo = new Todo("DESCRIPTION " + index, index % 2 == 0);
+            todo.setId(UUID.randomUUID());
+            todo.setCreatedAt(Instant.ofEpochMilli(now - index * 60_000L));
+            todo.setUpdatedAt(Instant.ofEpochMilli(now));
+
+            todos.add(todo);
+            calendarTodos.add(new CalendarTodo(todo));
+        }
+
+        PageRequest pageable = PageRequest.of(0, pageSize);
+        PagedModel<CalendarTodo> before = new PagedModel<>(new PageImpl<>(calendarTodos, pageable, pageSize));
+        PagedModel<Todo> after = new PagedModel<>(new PageImpl<>(todos, pageable, pageSize));
+        byte[] single = handWritten.writeValueAsBytes(todos.getFirst());
+
+        assertThat(handWritten.writeValueAsString(after)).isEqualTo(reflective.writeValueAsString(before));
+
+        Measurement writeBefore =
+                measure(() -> reflective.writeValue(OutputStream.nullOutputStream(), before), iterations);
+        Measurement writeAfter =
+                measure(() -> handWritten.writeValue(OutputStream.nullOutputStream(), after), iterations);
+        Measurement readBefore =
+                measure(() -> reflective.readValue(single, CalendarTodo.class), iterations * pageSize);
+        Measurement readAfter = measure(() -> handWritten.readValue(single, Todo.class), iterations * pageSize);
+
+        Files.createDirectories(reportDirectory);
+
+        try (PrintStream report = new PrintStream(
+                Files.newOutputStream(reportDirectory.resolve("todo-json.txt")), true, StandardCharsets.UTF_8)) {
+            for (PrintStream out : new PrintStream[] {System.out, report}) {
+                out.printf("%-22s %14s %14s%n", "operation", "ops/s", "bytes/op");
+                print(out, "write page (before)", writeBefore);
+                print(out, "write page (after)", writeAfter);
+                print(out, "read todo (before)", readBefore);
+                print(out, "read todo (after)", readAfter);
+            }
+        }
+
+        assertThat(writeAfter.bytesPerOperation()).isLessThan(writeBefore.bytesPerOperation());
+    }
+
+    /**
+     * Builds a mapper with the defaults Spring Boot applies on top of the builder, dates written as text among them.
+     */
+    private static ObjectMapper springBootMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(
+                        SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .build();
+    }
+
+    private static SimpleModule handWrittenModule() {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(Todo.class, new TodoJsonComponent.Serializer());
+        module.addDeserializer(Todo.class, new TodoJsonComponent.Deserializer());
+        module.addSerializer(PagedModel.class, new PagedModelJsonComponent.Serializer());
+
+        return module;
+    }
+
+    private static Measurement measure(IoRunnable operation, int iterations) throws IOException {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            operation.run();
+        }
+
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes();
+        long started = System.nanoTime();
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            operation.run();
+        }
+
+        long elapsed = System.nanoTime() - started;
+
+        return new Measurement(
+                iterations * 1_000_000_000.0 / elapsed,
+                (double) (threadMXBean.getCurrentThreadAllocatedBytes() - allocated) / iterations);
+    }
+
+    private static void print(PrintStream out, String operation, Measurement measurement) {
+        out.printf(
+                "%-22s %14.0f %14.0f%n",
+                operation,
+                measurement.operationsPerSecond(),
+                measurement.bytesPerOperation());
+    }
+
+    private record Measurement(double operationsPerSecond, double bytesPerOperation) {}
+
+    @FunctionalInterface
+    private interface IoRunnable {
+
+        void run() throws IOException;
+    }
+
+    /**
+     * The todo as it was mapped before, with {@link Calendar} timestamps and no serializer of its own.
+     */
+    public static class CalendarTodo {
+
+        private UUID id;
+
+        private String description;
+
+        private Boolean completed;
+
+        private Calendar createdAt;
+
+        private Calendar updatedAt;
+
+        public CalendarTodo() {}
+
+        CalendarTodo(Todo todo) {
+            this.id = todo.getId();
+            this.description = todo.getDescription();
+            this.completed = todo.getCompleted();
+            this.createdAt = toCalendar(todo.getCreatedAt());
+            this.updatedAt = toCalendar(todo.getUpdatedAt());
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public void setId(UUID id) {
+            this.id = id;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public Boolean getCompleted() {
+            return completed;
+        }
+
+        public void setCompleted(Boolean completed) {
+            this.completed = completed;
+        }
+
+        public Calendar getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(Calendar createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public Calendar getUpdatedAt() {
+            return updatedAt;
+        }
+
+        public void setUpdatedAt(Calendar updatedAt) {
+            this.updatedAt = updatedAt;
+        }
+
+        private static Calendar toCalendar(Instant instant) {
+            Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+            calendar.setTimeInMillis(instant.toEpochMilli());
+
+            return calendar;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Runs a fixed number of clients, each on its own virtual thread, that send their next request once the previous one
+ * has completed (a closed model), so every client holds a connection to the server while its request is in flight.
+ * Unlike the open model it measures how many concurrent clients a stack can carry rather than its latency at a given
+ * rate: latencies are measured from the actual send time, and a slow server lowers the throughput instead of growing
+ * the queue. The clients start spread over the ramp-up so that the server is not hit by all connection attempts at
+ * once, and the requests of the ramp-up are left out of the report.
+ */
+final class ConcurrentClientsLoadGenerator {
+
+    private final TodoApiRequests requests;
+
+    private final Set<LoadOperation> operations;
+
+    ConcurrentClientsLoadGenerator(TodoApiRequests requests, Set<LoadOperation> operations) {
+        this.requests = requests;
+        this.operations = Set.copyOf(operations);
+    }
+
+    LoadReport run(int clients, Duration rampUp, Duration duration) {
+        Map<LoadOperation, Recorder> recorders = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+
+        for (LoadOperation operation : operations) {
+            recorders.put(operation, new Recorder(LoadReport.SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+        }
+
+        long start = System.nanoTime();
+        long end = start + rampUp.plus(duration).toNanos();
+        long stagger = rampUp.toNanos() / clients;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < clients; client++) {
+                long delay = client * stagger;
+
+                executor.execute(() -> {
+                    LockSupport.parkNanos(delay);
+
+                    while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                        LoadOperation operation = LoadOperation.next(ThreadLocalRandom.current(), recorders.keySet());
+                        long sent = System.nanoTime();
+                        boolean success = requests.send(operation);
+
+                        recorders.get(operation).recordValue(System.nanoTime() - sent);
+
+                        if (!success) {
+                            errors.get(operation).increment();
+                        }
+                    }
+                });
+            }
+
+            LockSupport.parkNanos(start + rampUp.toNanos() - System.nanoTime());
+
+            recorders.values().forEach(Recorder::getIntervalHistogram);
+            errors.values().forEach(LongAdder::reset);
+        }
+
+        return LoadReport.of(recorders, errors, duration);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.load;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * The todo API operations driven by the load test, weighted after a read-heavy production mix.
+ */
+enum LoadOperation {
+    GET_TODO(50),
+    LIST_TODOS(20),
+    BATCH_GET_TODOS(10),
+    CREATE_TODO(10),
+    UPDATE_TODO(10);
+
+    /**
+     * The operations both the servlet and the reactive stack serve; the reactive stack has no batch get.
+     */
+    static final Set<LoadOperation> COMMON =
+            Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(BATCH_GET_TODOS)));
+
+    private final int weight;
+
+    LoadOperation(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Draws one of the given operations, weighted by their share of the mix.
+     */
+    static LoadOperation next(RandomGenerator random, Set<LoadOperation> operations) {
+        int point = random.nextInt(operations.stream().mapToInt(operation -> operation.weight).sum());
+
+        for (LoadOperation operation : operations) {
+            point -= operation.weight;
+
+            if (point < 0) {
+                return operation;
+            }
+        }
+
+        throw new IllegalStateException("No operation drawn from " + operations);
+    }
+}
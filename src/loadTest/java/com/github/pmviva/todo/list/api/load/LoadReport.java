@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latency histograms, request counts and errors of one load run. The open model measures latencies from the intended
+ * send time of each request, so a stalled server shows up in the percentiles instead of slowing the generator down.
+ */
+record LoadReport(Map<LoadOperation, Histogram> histograms, Map<LoadOperation, Long> errors, Duration duration) {
+
+    static final int SIGNIFICANT_DIGITS = 3;
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    static LoadReport of(
+            Map<LoadOperation, Recorder> recorders, Map<LoadOperation, LongAdder> errors, Duration duration) {
+        Map<LoadOperation, Histogram> histograms = recorders.entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> entry.getValue().getIntervalHistogram(),
+                        (left, right) -> left,
+                        () -> new EnumMap<>(LoadOperation.class)));
+        Map<LoadOperation, Long> errorCounts = errors.entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> entry.getValue().sum(),
+                        (left, right) -> left,
+                        () -> new EnumMap<>(LoadOperation.class)));
+
+        return new LoadReport(histograms, errorCounts, duration);
+    }
+
+    Histogram total() {
+        Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        histograms.values().forEach(total::add);
+
+        return total;
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    double errorRate() {
+        long count = total().getTotalCount();
+
+        return count == 0 ? 0 : (double) totalErrors() / count;
+    }
+
+    double throughput() {
+        return total().getTotalCount() / (duration.toNanos() / 1e9);
+    }
+
+    Duration percentile(double percentile) {
+        return Duration.ofNanos(total().getValueAtPercentile(percentile));
+    }
+
+    void print(PrintStream out) {
+        out.printf(
+                "%-16s %10s %8s %10s %10s %10s %10s%n",
+                "operation",
+                "requests",
+                "errors",
+                "p50 ms",
+                "p99 ms",
+                "p99.9 ms",
+                "max ms");
+
+        histograms.forEach((operation, histogram) -> printRow(out, operation.name(), histogram, errors.get(operation)));
+        printRow(out, "TOTAL", total(), totalErrors());
+
+        out.printf("throughput: %.1f requests/s over %s%n", throughput(), duration);
+    }
+
+    /**
+     * Writes the percentile distribution of every operation in milliseconds, in the format read by the HdrHistogram
+     * plotter.
+     */
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        for (Map.Entry<LoadOperation, Histogram> entry : histograms.entrySet()) {
+            writeDistribution(directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm"), entry.getValue());
+        }
+
+        writeDistribution(directory.resolve("total.hgrm"), total());
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errors) {
+        out.printf(
+                "%-16s %10d %8d %10.2f %10.2f %10.2f %10.2f%n",
+                name,
+                histogram.getTotalCount(),
+                errors,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+}
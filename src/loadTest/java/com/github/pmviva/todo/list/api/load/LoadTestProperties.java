@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Load test settings, passed to the Gradle task as project properties (for example
+ * {@code ./gradlew loadTest -Ploadtest.rate=500 -Ploadtest.slo.p99=PT0.1S}).
+ */
+@ConfigurationProperties(prefix = "loadtest")
+public record LoadTestProperties(
+        @DefaultValue("200") double rate,
+        @DefaultValue("PT15S") Duration warmup,
+        @DefaultValue("PT60S") Duration duration,
+        @DefaultValue("1000") int seedTodos,
+        @DefaultValue("build/reports/load-test") Path reportDirectory,
+        @DefaultValue Slo slo,
+        @DefaultValue Clients clients) {
+
+    public LoadTestProperties {
+        if (rate <= 0 || seedTodos < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid load test rate %f or seed todos %d", rate, seedTodos));
+        }
+    }
+
+    public record Slo(
+            @DefaultValue("PT0.025S") Duration p50,
+            @DefaultValue("PT0.2S") Duration p99,
+            @DefaultValue("PT0.5S") Duration p999,
+            @DefaultValue("0.001") double maxErrorRate) {}
+
+    /**
+     * The concurrent clients run, which compares the connections, throughput and memory of the servlet and the
+     * reactive stack (for example {@code ./gradlew loadTest -Ploadtest.clients.count=10000}).
+     */
+    public record Clients(
+            @DefaultValue("10000") int count,
+            @DefaultValue("PT30S") Duration rampUp,
+            @DefaultValue("PT60S") Duration duration) {
+
+        public Clients {
+            if (count < 1) {
+                throw new IllegalArgumentException(String.format("Invalid load test client count %d", count));
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Sends requests at a fixed arrival rate whether or not earlier requests have completed (an open model), each on its
+ * own virtual thread. A closed-loop generator would wait for slow responses and so understate tail latency.
+ */
+final class OpenModelLoadGenerator {
+
+    private final TodoApiRequests requests;
+
+    private final Set<LoadOperation> operations;
+
+    OpenModelLoadGenerator(TodoApiRequests requests, Set<LoadOperation> operations) {
+        this.requests = requests;
+        this.operations = Set.copyOf(operations);
+    }
+
+    LoadReport run(double rate, Duration duration) {
+        Map<LoadOperation, Recorder> recorders = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+
+        for (LoadOperation operation : operations) {
+            recorders.put(operation, new Recorder(LoadReport.SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+        }
+
+        long interval = (long) (1_000_000_000L / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long intended = start; intended < end; intended += interval) {
+                long wait = intended - System.nanoTime();
+
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                LoadOperation operation = LoadOperation.next(ThreadLocalRandom.current(), recorders.keySet());
+                long scheduled = intended;
+
+                executor.execute(() -> {
+                    boolean success = requests.send(operation);
+
+                    recorders.get(operation).recordValue(System.nanoTime() - scheduled);
+
+                    if (!success) {
+                        errors.get(operation).increment();
+                    }
+                });
+            }
+        }
+
+        return LoadReport.of(recorders, errors, duration);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The peak resources a stack held during one load run, as sampled by {@link ResourceSampler}.
+ */
+record ResourceReport(long connections, long databaseConnections, long heapUsed, long platformThreads) {
+
+    static final long UNAVAILABLE = -1;
+
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+
+    void print(PrintStream out) {
+        out.printf("peak server connections:   %s%n", format(connections));
+        out.printf("peak database connections: %s%n", format(databaseConnections));
+        out.printf(
+                "peak heap used:            %s%n",
+                heapUsed == UNAVAILABLE ? "n/a" : String.format("%.1f MB", heapUsed / BYTES_PER_MEGABYTE));
+        out.printf("peak platform threads:     %s%n", format(platformThreads));
+    }
+
+    void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            print(out);
+        }
+    }
+
+    private static String format(long value) {
+        return value == UNAVAILABLE ? "n/a" : Long.toString(value);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.load;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.stream.Stream;
+
+/**
+ * Samples the resources a stack holds while it is under load and keeps their peaks: the established connections to the
+ * server port, read from the Linux socket tables, the connections to the database, read from {@code pg_stat_activity}
+ * over a connection of its own so that it does not compete for the application pool, and the used heap and live
+ * platform threads of the JVM. The load generator runs in the same JVM, so the heap and thread peaks include its
+ * share, which is the same for both stacks. A resource that cannot be read is reported as unavailable.
+ */
+final class ResourceSampler implements AutoCloseable {
+
+    private static final Duration INTERVAL = Duration.ofMillis(500);
+
+    private static final List<Path> SOCKET_TABLES = List.of(Path.of("/proc/net/tcp"), Path.of("/proc/net/tcp6"));
+
+    private static final String ESTABLISHED = "01";
+
+    private static final String DATABASE_CONNECTIONS_QUERY =
+            "SELECT count(*) FROM pg_stat_activity WHERE datname = current_database() AND pid <> pg_backend_pid()";
+
+    private final String port;
+
+    private final Connection connection;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private final LongAccumulator connections = new LongAccumulator(Math::max, ResourceReport.UNAVAILABLE);
+
+    private final LongAccumulator databaseConnections = new LongAccumulator(Math::max, ResourceReport.UNAVAILABLE);
+
+    private final LongAccumulator heapUsed = new LongAccumulator(Math::max, ResourceReport.UNAVAILABLE);
+
+    private final LongAccumulator platformThreads = new LongAccumulator(Math::max, ResourceReport.UNAVAILABLE);
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    private ResourceSampler(int port, Connection connection) {
+        this.port = HexFormat.of().withUpperCase().toHexDigits((short) port);
+        this.connection = connection;
+    }
+
+    /**
+     * Starts sampling the given server port and database connection, which stays owned by the caller.
+     */
+    static ResourceSampler start(int port, Connection connection) {
+        ResourceSampler sampler = new ResourceSampler(port, connection);
+
+        sampler.executor.scheduleAtFixedRate(sampler::sample, 0, INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+
+        return sampler;
+    }
+
+    ResourceReport report() {
+        return new ResourceReport(
+                connections.get(), databaseConnections.get(), heapUsed.get(), platformThreads.get());
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+
+        if (!executor.awaitTermination(INTERVAL.toMillis() * 2, TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void sample() {
+        heapUsed.accumulate(memory.getHeapMemoryUsage().getUsed());
+        platformThreads.accumulate(threads.getThreadCount());
+
+        try {
+            connections.accumulate(establishedConnections());
+        } catch (IOException exception) {
+            // The socket table changed while it was read, the next sample reads it again.
+        }
+
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(DATABASE_CONNECTIONS_QUERY)) {
+            if (resultSet.next()) {
+                databaseConnections.accumulate(resultSet.getLong(1));
+            }
+        } catch (SQLException exception) {
+            // The database went away with the test, the connections keep their last peak.
+        }
+    }
+
+    /**
+     * Counts the server side of the established connections: the socket table rows whose local address, the second
+     * column, ends with the server port in hexadecimal and whose state, the fourth column, is established.
+     */
+    private long establishedConnections() throws IOException {
+        List<Path> tables = SOCKET_TABLES.stream().filter(Files::isReadable).toList();
+
+        if (tables.isEmpty()) {
+            return ResourceReport.UNAVAILABLE;
+        }
+
+        long count = 0;
+
+        for (Path table : tables) {
+            try (Stream<String> lines = Files.lines(table)) {
+                count += lines.skip(1)
+                        .map(line -> line.trim().split("\\s+"))
+                        .filter(columns -> columns.length > 3
+                                && columns[1].endsWith(":" + port)
+                                && columns[3].equals(ESTABLISHED))
+                        .count();
+            }
+        }
+
+        return count;
+    }
+}
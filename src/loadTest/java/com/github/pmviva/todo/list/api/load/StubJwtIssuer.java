@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.load;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+
+/**
+ * Issues signed tokens with an in-memory RSA key, standing in for Keycloak so the load test only needs Postgres.
+ */
+final class StubJwtIssuer {
+
+    private static final String KEY_ID = "load-test";
+
+    private static final String ISSUER = "http://localhost/realms/load-test";
+
+    private final RSAKey key;
+
+    StubJwtIssuer() {
+        try {
+            this.key = new RSAKeyGenerator(2048).keyID(KEY_ID).generate();
+        } catch (JOSEException exception) {
+            throw new IllegalStateException("Failed to generate the stub issuer key", exception);
+        }
+    }
+
+    String issue(String subject, Duration validity) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject(subject)
+                .claim("preferred_username", subject)
+                .claim("scope", "email profile")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(validity)))
+                .build();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(KEY_ID).build(), claims);
+
+        try {
+            jwt.sign(new RSASSASigner(key));
+        } catch (JOSEException exception) {
+            throw new IllegalStateException("Failed to sign the stub token", exception);
+        }
+
+        return jwt.serialize();
+    }
+
+    JwtDecoder decoder() {
+        try {
+            return NimbusJwtDecoder.withPublicKey(key.toRSAPublicKey()).build();
+        } catch (JOSEException exception) {
+            throw new IllegalStateException("Failed to read the stub issuer public key", exception);
+        }
+    }
+
+    ReactiveJwtDecoder reactiveDecoder() {
+        try {
+            return NimbusReactiveJwtDecoder.withPublicKey(key.toRSAPublicKey()).build();
+        } catch (JOSEException exception) {
+            throw new IllegalStateException("Failed to read the stub issuer public key", exception);
+        }
+    }
+}
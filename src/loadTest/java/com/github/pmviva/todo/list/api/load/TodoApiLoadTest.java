@@ -0,0 +1,175 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Runs the full application against a Postgres container, drives a mix of todo API requests at a fixed rate and
+ * fails when the latency percentiles or the error rate exceed the configured SLOs. Per-client rate limiting is
+ * disabled, since all requests come from one client; adaptive concurrency limiting stays on and its rejections count
+ * as errors. A second run holds the configured number of concurrent clients and reports the connections, throughput
+ * and memory of the stack, to be compared with the same run of {@link ReactiveTodoApiLoadTest}; it drives the
+ * operations both stacks serve. Reports are written to a directory per stack and run.
+ */
+@Import(LoadTestConfiguration.class)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "todo.rate-limit.enabled=false")
+public class TodoApiLoadTest {
+
+    private static final Duration TOKEN_MARGIN = Duration.ofMinutes(5);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private StubJwtIssuer stubJwtIssuer;
+
+    @Autowired
+    private LoadTestProperties properties;
+
+    @Test
+    public void testTodoApiMeetsLatencySlo() throws IOException, InterruptedException {
+        HttpClient httpClient =
+                HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        URI baseUri = URI.create("http://localhost:" + port);
+        String token = stubJwtIssuer.issue(
+                "load-test", properties.warmup().plus(properties.duration()).plus(TOKEN_MARGIN));
+
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator(
+                new TodoApiRequests(httpClient, baseUri, token, seed(httpClient, baseUri, token)), operations());
+
+        generator.run(properties.rate(), properties.warmup());
+
+        LoadReport report = generator.run(properties.rate(), properties.duration());
+
+        System.out.printf("%s stack at %.0f requests/s%n", stack(), properties.rate());
+        report.print(System.out);
+        report.write(reportDirectory("latency"));
+
+        LoadTestProperties.Slo slo = properties.slo();
+
+        assertThat(report.errorRate()).as("error rate").isLessThanOrEqualTo(slo.maxErrorRate());
+        assertThat(report.percentile(50)).as("p50 latency").isLessThanOrEqualTo(slo.p50());
+        assertThat(report.percentile(99)).as("p99 latency").isLessThanOrEqualTo(slo.p99());
+        assertThat(report.percentile(99.9)).as("p99.9 latency").isLessThanOrEqualTo(slo.p999());
+    }
+
+    /**
+     * Only reports: how many concurrent clients a stack carries is what the run compares, so rejected and timed out
+     * requests are counted as errors rather than failing it.
+     */
+    @Test
+    public void testTodoApiUnderConcurrentClients() throws IOException, InterruptedException, SQLException {
+        LoadTestProperties.Clients clients = properties.clients();
+        HttpClient httpClient =
+                HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        URI baseUri = URI.create("http://localhost:" + port);
+        String token = stubJwtIssuer.issue(
+                "load-test", clients.rampUp().plus(clients.duration()).plus(TOKEN_MARGIN));
+
+        ConcurrentClientsLoadGenerator generator = new ConcurrentClientsLoadGenerator(
+                new TodoApiRequests(httpClient, baseUri, token, seed(httpClient, baseUri, token)),
+                LoadOperation.COMMON);
+
+        LoadReport report;
+        ResourceReport resources;
+
+        try (Connection connection = DriverManager.getConnection(
+                        LoadTestConfiguration.postgres.getJdbcUrl(),
+                        LoadTestConfiguration.postgres.getUsername(),
+                        LoadTestConfiguration.postgres.getPassword());
+                ResourceSampler sampler = ResourceSampler.start(port, connection)) {
+            report = generator.run(clients.count(), clients.rampUp(), clients.duration());
+            resources = sampler.report();
+        }
+
+        System.out.printf("%s stack with %d concurrent clients%n", stack(), clients.count());
+        report.print(System.out);
+        resources.print(System.out);
+        report.write(reportDirectory("clients"));
+        resources.write(reportDirectory("clients").resolve("resources.txt"));
+
+        assertThat(report.total().getTotalCount()).as("requests").isPositive();
+    }
+
+    /**
+     * The operations of the latency run, all those the stack under test serves.
+     */
+    protected Set<LoadOperation> operations() {
+        return EnumSet.allOf(LoadOperation.class);
+    }
+
+    protected String stack() {
+        return "servlet";
+    }
+
+    private Path reportDirectory(String run) {
+        return properties.reportDirectory().resolve(stack()).resolve(run);
+    }
+
+    private List<UUID> seed(HttpClient httpClient, URI baseUri, String token)
+            throws IOException, InterruptedException {
+        List<UUID> ids = new ArrayList<>(properties.seedTodos());
+
+        for (int index = 0; index < properties.seedTodos(); index++) {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/v1/todos"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            String.format("{\"description\":\"Seed todo %d\",\"completed\":false}", index)))
+                    .build();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            String location = response.headers()
+                    .firstValue("Location")
+                    .orElseThrow(() -> new IllegalStateException("Seeding failed with " + response.statusCode()));
+
+            ids.add(UUID.fromString(location.substring(location.lastIndexOf('/') + 1)));
+        }
+
+        return ids;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Builds and sends the request of each load operation against the seeded todos, shared by the load generators.
+ */
+final class TodoApiRequests {
+
+    private static final int BATCH_GET_SIZE = 20;
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+
+    private final URI baseUri;
+
+    private final String token;
+
+    private final List<UUID> ids;
+
+    TodoApiRequests(HttpClient httpClient, URI baseUri, String token, List<UUID> ids) {
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.token = token;
+        this.ids = List.copyOf(ids);
+    }
+
+    /**
+     * Sends the request of the operation and tells whether it succeeded, that is whether a response below 400 came
+     * back before the request timeout.
+     */
+    boolean send(LoadOperation operation) {
+        try {
+            HttpResponse<Void> response = httpClient.send(request(operation), HttpResponse.BodyHandlers.discarding());
+
+            return response.statusCode() < 400;
+        } catch (IOException exception) {
+            return false;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+
+    private HttpRequest request(LoadOperation operation) {
+        return switch (operation) {
+            case GET_TODO -> builder("/api/v1/todos/" + randomId()).GET().build();
+            case LIST_TODOS -> builder("/api/v1/todos?size=20&completed=false")
+                    .GET()
+                    .build();
+            case BATCH_GET_TODOS -> builder("/api/v1/todos?ids=" + randomIds()).GET().build();
+            case CREATE_TODO -> builder("/api/v1/todos")
+                    .POST(HttpRequest.BodyPublishers.ofString(body()))
+                    .build();
+            case UPDATE_TODO -> builder("/api/v1/todos/" + randomId())
+                    .PUT(HttpRequest.BodyPublishers.ofString(body()))
+                    .build();
+        };
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private UUID randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private String randomIds() {
+        return ThreadLocalRandom.current()
+                .ints(BATCH_GET_SIZE, 0, ids.size())
+                .mapToObj(index -> ids.get(index).toString())
+                .collect(Collectors.joining(","));
+    }
+
+    private static String body() {
+        return String.format(
+                "{\"description\":\"Load test todo %d\",\"completed\":%b}",
+                ThreadLocalRandom.current().nextInt(),
+                ThreadLocalRandom.current().nextBoolean());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.pmviva.todo.list.api.load.LoadTestConfiguration;
+import com.github.pmviva.todo.list.api.model.TodoSortField;
+import com.github.pmviva.todo.list.api.repository.TodoRepository;
+import com.sun.management.ThreadMXBean;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Compares the bytes allocated per row by the entity listing path, which reads {@code Todo} entities into a page and
+ * serializes its {@link PagedModel}, with the {@link TodoPageWriter}, for the same full page. Allocations are read
+ * from the thread allocation counter of the JVM after a warm-up, so they include the JDBC driver and Hibernate, as in
+ * production. Settings are passed to the Gradle task as project properties (for example
+ * {@code ./gradlew benchmark --tests '*TodoPageWriterBenchmark' -Pbenchmark.stream.iterations=20000}).
+ */
+@Import(LoadTestConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class TodoPageWriterBenchmark {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void testAllocationPerRow() throws IOException {
+        int pageSize = Integer.getInteger("benchmark.stream.page-size", 100);
+        int iterations = Integer.getInteger("benchmark.stream.iterations", 5_000);
+        Path reportDirectory =
+                Path.of(System.getProperty("benchmark.report-directory", "build/reports/benchmark"));
+
+        jdbcTemplate.update(
+                "INSERT INTO todos (id, description, completed, created_at, updated_at) "
+                        + "SELECT gen_random_uuid(), 'DESCRIPTION ' || n, n % 2 = 0, now(), now() "
+                        + "FROM generate_series(1, ?) AS n",
+                pageSize);
+
+        Pageable pageable = TodoSortField.validate(PageRequest.of(0, pageSize));
+        TodoPageWriter todoPageWriter = new TodoPageWriter(jdbcTemplate, objectMapper.getFactory(), 1);
+
+        IoRunnable entityPath = () -> objectMapper.writeValue(
+                OutputStream.nullOutputStream(), new PagedModel<>(todoRepository.findAll(pageable)));
+        IoRunnable streamingPath =
+                () -> todoPageWriter.write(pageable, Optional.empty(), OutputStream.nullOutputStream());
+
+        double entityBytesPerRow = bytesPerRow(entityPath, iterations, pageSize);
+        double streamingBytesPerRow = bytesPerRow(streamingPath, iterations, pageSize);
+
+        Files.createDirectories(reportDirectory);
+
+        try (PrintStream report = new PrintStream(
+                Files.newOutputStream(reportDirectory.resolve("todo-page-writer.txt")),
+                true,
+                StandardCharsets.UTF_8)) {
+            for (PrintStream out : new PrintStream[] {System.out, report}) {
+                out.printf("%-12s %14s%n", "path", "bytes/row");
+                out.printf("%-12s %14.0f%n", "entity", entityBytesPerRow);
+                out.printf("%-12s %14.0f%n", "streaming", streamingBytesPerRow);
+            }
+        }
+
+        assertThat(streamingBytesPerRow).isLessThan(entityBytesPerRow);
+    }
+
+    private static double bytesPerRow(IoRunnable path, int iterations, int rows) throws IOException {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            path.run();
+        }
+
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes();
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            path.run();
+        }
+
+        return (double) (threadMXBean.getCurrentThreadAllocatedBytes() - allocated) / iterations / rows;
+    }
+
+    @FunctionalInterface
+    private interface IoRunnable {
+
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,434 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.pmviva.todo.list.api.event.TodoChangedEvent;
+import com.github.pmviva.todo.list.api.event.TodoSnapshot;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Records the history of todo changes without adding a write to the changing transaction. Committed changes are
+ * buffered in memory together with the authenticated principal, and a background thread flushes the buffer to the
+ * history table in batches at least once per flush interval. A crash loses at most the changes committed during the
+ * last flush interval. A full buffer spills new entries to a file rather than blocking requests, which would hold
+ * their connections while the history table is slow or unavailable. Until every spilled entry has been written, new
+ * entries are spilled too, so entries are written in the order they were recorded; a spill file left by a crash is
+ * written after the restart. An entry is only dropped, and counted, when it cannot be spilled. A crash while spilled
+ * entries are being written may record the ones already written twice.
+ */
+public class TodoHistoryRecorder implements SmartLifecycle, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoHistoryRecorder.class);
+
+    public static final String SYSTEM_PRINCIPAL = "system";
+
+    private static final String INSERT_QUERY =
+            """
+            INSERT INTO todo_history (todo_id, change_type, principal, before_state, after_state, changed_at)
+            VALUES (?, ?, ?, ?::jsonb, ?::jsonb, ?)
+            """;
+
+    private static final String SPILL_FILE = "spill.jsonl";
+
+    private static final String DRAINING_FILE = "draining.jsonl";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final BlockingQueue<TodoHistoryEntry> buffer;
+
+    private final int batchSize;
+
+    private final Duration flushInterval;
+
+    private final Duration retryDelay;
+
+    private final Path spillFile;
+
+    private final Path drainingFile;
+
+    private final Clock clock;
+
+    private final AtomicLong flushed = new AtomicLong();
+
+    private final AtomicLong spilled = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final List<TodoHistoryEntry> pending = new ArrayList<>();
+
+    private final Deque<TodoHistoryEntry> unspilled = new ArrayDeque<>();
+
+    private final Object spillLock = new Object();
+
+    private BufferedWriter spillWriter;
+
+    private boolean draining;
+
+    private volatile boolean spilling;
+
+    private volatile boolean running;
+
+    private Thread thread;
+
+    public TodoHistoryRecorder(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            int capacity,
+            int batchSize,
+            Duration flushInterval,
+            Duration retryDelay,
+            Path spillDirectory,
+            Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.retryDelay = retryDelay;
+        this.spillFile = spillDirectory.resolve(SPILL_FILE);
+        this.drainingFile = spillDirectory.resolve(DRAINING_FILE);
+        this.clock = clock;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        record(event, event.principal() != null ? event.principal() : currentPrincipal());
+    }
+
+    /**
+     * Records a committed change on behalf of the given principal, for changes committed outside of the thread-bound
+     * transactions the event listener takes part in, such as those of the reactive stack. A bulk change is recorded as
+     * one entry per affected todo, with the bulk change type and no states.
+     */
+    public void record(TodoChangedEvent event, String principal) {
+        Instant changedAt = clock.instant();
+
+        if (event.todoId() != null) {
+            offer(new TodoHistoryEntry(
+                    event.todoId(), event.type(), principal, event.before(), event.after(), changedAt));
+        } else {
+            for (UUID todoId : event.todoIds()) {
+                offer(new TodoHistoryEntry(todoId, event.type(), principal, null, null, changedAt));
+            }
+        }
+    }
+
+    private void offer(TodoHistoryEntry entry) {
+        if (spilling || !buffer.offer(entry)) {
+            spill(entry);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        spilling = Files.exists(spillFile) || Files.exists(drainingFile);
+
+        thread = Thread.ofPlatform().name("todo-history").start(this::run);
+    }
+
+    /**
+     * Stops after the web server, so changes committed by in-flight requests are still recorded.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Stops the background thread after a final flush of the buffer.
+     */
+    @Override
+    public synchronized void stop() {
+        running = false;
+
+        if (thread != null) {
+            thread.interrupt();
+
+            try {
+                thread.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+
+            thread = null;
+        }
+
+        synchronized (spillLock) {
+            if (spillWriter != null) {
+                try {
+                    spillWriter.close();
+                } catch (IOException exception) {
+                    logger.warn("Failed to close the todo history spill file {}", spillFile, exception);
+                }
+
+                spillWriter = null;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getBuffered() {
+        return buffer.size();
+    }
+
+    public long getFlushed() {
+        return flushed.get();
+    }
+
+    public long getSpilled() {
+        return spilled.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.history.buffered", this, TodoHistoryRecorder::getBuffered)
+                .description("Todo history entries waiting to be flushed")
+                .register(registry);
+        FunctionCounter.builder("todo.history.flushed", this, TodoHistoryRecorder::getFlushed)
+                .description("Todo history entries written to the history table")
+                .register(registry);
+        FunctionCounter.builder("todo.history.spilled", this, TodoHistoryRecorder::getSpilled)
+                .description("Todo history entries spilled to a file because the buffer was full")
+                .register(registry);
+        FunctionCounter.builder("todo.history.dropped", this, TodoHistoryRecorder::getDropped)
+                .description("Todo history entries dropped because the buffer was full and spilling failed")
+                .register(registry);
+    }
+
+    /**
+     * Writes every buffered entry, then every spilled entry, one batch at a time, and returns the number of entries
+     * written. A batch that fails to write is kept and written first on the next flush.
+     */
+    int flush() {
+        int total = 0;
+
+        while (!pending.isEmpty() || buffer.drainTo(pending, batchSize) > 0 || unspill(pending)) {
+            write(pending);
+            total += pending.size();
+            flushed.addAndGet(pending.size());
+            pending.clear();
+        }
+
+        return total;
+    }
+
+    private void run() {
+        Duration delay = flushInterval;
+
+        while (running) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            try {
+                flush();
+                delay = flushInterval;
+            } catch (DataAccessException exception) {
+                logger.warn("Failed to flush todo history, retrying in {}", retryDelay, exception);
+                delay = retryDelay;
+            }
+        }
+
+        // Connections cannot be acquired on an interrupted thread, so the flag is cleared for the final flush
+        boolean interrupted = Thread.interrupted();
+
+        try {
+            flush();
+        } catch (DataAccessException exception) {
+            logger.error(
+                    "Failed to flush todo history on shutdown, {} entries lost",
+                    pending.size() + buffer.size(),
+                    exception);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void spill(TodoHistoryEntry entry) {
+        synchronized (spillLock) {
+            try {
+                if (spillWriter == null) {
+                    Files.createDirectories(spillFile.getParent());
+                    spillWriter = Files.newBufferedWriter(
+                            spillFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                }
+
+                spilling = true;
+                spillWriter.write(objectMapper.writeValueAsString(entry));
+                spillWriter.newLine();
+                spillWriter.flush();
+                spilled.incrementAndGet();
+            } catch (IOException exception) {
+                dropped.incrementAndGet();
+                logger.warn("Failed to spill a todo history entry for todo {}", entry.todoId(), exception);
+            }
+        }
+    }
+
+    /**
+     * Moves the next batch of spilled entries to the given batch and returns whether there was one. Spilled entries are
+     * read from the draining file, which takes over the spill file once the previous one has been written in full.
+     */
+    private boolean unspill(List<TodoHistoryEntry> batch) {
+        try {
+            if (unspilled.isEmpty()) {
+                if (draining) {
+                    Files.deleteIfExists(drainingFile);
+                    draining = false;
+                }
+
+                if (!drain()) {
+                    return false;
+                }
+            }
+        } catch (IOException exception) {
+            logger.warn("Failed to read spilled todo history entries from {}", drainingFile, exception);
+            return false;
+        }
+
+        while (batch.size() < batchSize && !unspilled.isEmpty()) {
+            batch.add(unspilled.poll());
+        }
+
+        return !batch.isEmpty();
+    }
+
+    /**
+     * Loads the draining file, left by a crash or renamed from the spill file, and returns whether it held entries.
+     */
+    private boolean drain() throws IOException {
+        synchronized (spillLock) {
+            if (!Files.exists(drainingFile)) {
+                if (!Files.exists(spillFile)) {
+                    spilling = false;
+                    return false;
+                }
+
+                if (spillWriter != null) {
+                    spillWriter.close();
+                    spillWriter = null;
+                }
+
+                Files.move(spillFile, drainingFile, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(drainingFile, StandardCharsets.UTF_8)) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                try {
+                    unspilled.add(objectMapper.readValue(line, TodoHistoryEntry.class));
+                } catch (JsonProcessingException exception) {
+                    logger.warn("Skipping truncated todo history entry in {}", drainingFile);
+                }
+            }
+        }
+
+        draining = true;
+
+        return !unspilled.isEmpty();
+    }
+
+    private void write(List<TodoHistoryEntry> batch) {
+        jdbcTemplate.batchUpdate(INSERT_QUERY, batch, batch.size(), (preparedStatement, entry) -> {
+            preparedStatement.setObject(1, entry.todoId());
+            preparedStatement.setString(2, entry.type().name());
+            preparedStatement.setString(3, entry.principal());
+            preparedStatement.setString(4, toJson(entry.before()));
+            preparedStatement.setString(5, toJson(entry.after()));
+            preparedStatement.setTimestamp(6, Timestamp.from(entry.changedAt()));
+        });
+    }
+
+    private String toJson(TodoSnapshot snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Failed to serialize todo snapshot", exception);
+        }
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        return authentication != null && authentication.getName() != null
+                ? authentication.getName()
+                : SYSTEM_PRINCIPAL;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.cache;
+
+import com.github.pmviva.todo.list.api.config.TodoCacheProperties;
+import com.github.pmviva.todo.list.api.model.Todo;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Listens on the invalidation channel over a dedicated connection, outside of the pool, and evicts the entries that
+ * other nodes (or this one, through native statements) have changed. Query results are always evicted because any
+ * change may alter a cached page. Everything is evicted whenever the connection is (re)established, since
+ * notifications sent while not listening are lost.
+ */
+public class TodoCacheInvalidationListener implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoCacheInvalidationListener.class);
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final JdbcConnectionDetails connectionDetails;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final TodoCacheProperties.Invalidation properties;
+
+    private volatile boolean running;
+
+    private Thread thread;
+
+    public TodoCacheInvalidationListener(
+            JdbcConnectionDetails connectionDetails,
+            EntityManagerFactory entityManagerFactory,
+            TodoCacheProperties.Invalidation properties) {
+        if (!CHANNEL_PATTERN.matcher(properties.channel()).matches()) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid cache invalidation channel %s", properties.channel()));
+        }
+
+        this.connectionDetails = connectionDetails;
+        this.entityManagerFactory = entityManagerFactory;
+        this.properties = properties;
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+
+        thread = Thread.ofPlatform()
+                .name("todo-cache-invalidation")
+                .daemon(true)
+                .start(this::listen);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void handle(String payload) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+
+        if (TodoCacheInvalidationPublisher.ALL.equals(payload)) {
+            cache.evictEntityData(Todo.class);
+        } else {
+            try {
+                cache.evictEntityData(Todo.class, UUID.fromString(payload));
+            } catch (IllegalArgumentException exception) {
+                logger.warn("Ignoring invalid cache invalidation payload {}", payload);
+                return;
+            }
+        }
+
+        cache.evictQueryRegions();
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    connectionDetails.getJdbcUrl(), connectionDetails.getUsername(), connectionDetails.getPassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.channel());
+                }
+
+                handle(TodoCacheInvalidationPublisher.ALL);
+
+                logger.info("Listening for cache invalidations on channel {}", properties.channel());
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                while (running) {
+                    PGNotification[] notifications =
+                            pgConnection.getNotifications((int) properties.pollTimeout().toMillis());
+
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException exception) {
+                if (running) {
+                    logger.warn("Cache invalidation connection lost, reconnecting", exception);
+
+                    sleep();
+                }
+            } catch (RuntimeException exception) {
+                logger.error("Unexpected error while handling cache invalidations", exception);
+
+                sleep();
+            }
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(properties.reconnectDelay());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
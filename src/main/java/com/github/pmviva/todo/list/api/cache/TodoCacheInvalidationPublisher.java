@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.cache;
+
+import com.github.pmviva.todo.list.api.event.TodoChangedEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Broadcasts todo changes to every node through Postgres {@code NOTIFY}. The notification is issued inside the
+ * changing transaction, so Postgres only delivers it once the change is committed.
+ */
+public class TodoCacheInvalidationPublisher {
+
+    public static final String ALL = "*";
+
+    private static final String NOTIFY_QUERY = "SELECT pg_notify(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String channel;
+
+    public TodoCacheInvalidationPublisher(JdbcTemplate jdbcTemplate, String channel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = channel;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        jdbcTemplate.queryForList(NOTIFY_QUERY, channel, payload(event));
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * Returns the notification payload of a change: the id of the changed todo, or {@link #ALL} for bulk changes.
+     */
+    public static String payload(TodoChangedEvent event) {
+        return event.todoId() != null ? event.todoId().toString() : ALL;
+    }
+}
@@ -25,8 +25,10 @@
 package com.github.pmviva.todo.list.api.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
+@Profile("!" + EdgeConfiguration.EDGE_PROFILE)
 public class AuditConfiguration {}
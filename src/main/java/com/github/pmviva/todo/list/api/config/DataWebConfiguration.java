@@ -25,9 +25,21 @@ package com.github.pmviva.todo.list.api.config;
 
 import static org.springframework.data.web.config.EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.data.web.config.PageableHandlerMethodArgumentResolverCustomizer;
 
 @Configuration
 @EnableSpringDataWebSupport(pageSerializationMode = VIA_DTO)
-public class DataWebConfiguration {}
+@EnableConfigurationProperties(PagingProperties.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DataWebConfiguration {
+
+    @Bean
+    public PageableHandlerMethodArgumentResolverCustomizer pageableResolverCustomizer(PagingProperties properties) {
+        return resolver -> resolver.setMaxPageSize(properties.maxPageSize());
+    }
+}
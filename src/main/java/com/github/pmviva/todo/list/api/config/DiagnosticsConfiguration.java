@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import com.github.pmviva.todo.list.api.diagnostics.FlightRecorderAspect;
+import com.github.pmviva.todo.list.api.diagnostics.FlightRecorderStatisticsFactory;
+import com.github.pmviva.todo.list.api.diagnostics.FlightRecordingEndpoint;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Records flight recorder events for todo service operations, repository methods and second-level cache lookups, and
+ * exposes the {@code jfr} endpoint that records on demand. The events are cheap enough to stay on in production. A
+ * recording holds process-wide data, such as system properties, environment variables and thread stacks, so the
+ * endpoint requires the {@code diagnostics} scope rather than any API token.
+ */
+@Configuration
+@EnableConfigurationProperties(DiagnosticsProperties.class)
+@ConditionalOnProperty(prefix = "todo.diagnostics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DiagnosticsConfiguration {
+
+    public static final String DIAGNOSTICS_AUTHORITY = "SCOPE_diagnostics";
+
+    private static final String STATISTICS_FACTORY = "hibernate.stats.factory";
+
+    @Bean
+    public FlightRecorderAspect flightRecorderAspect() {
+        return new FlightRecorderAspect();
+    }
+
+    @Bean
+    @Profile("!" + EdgeConfiguration.EDGE_PROFILE)
+    public HibernatePropertiesCustomizer flightRecorderStatisticsCustomizer() {
+        return properties -> properties.put(STATISTICS_FACTORY, new FlightRecorderStatisticsFactory());
+    }
+
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public FlightRecordingEndpoint flightRecordingEndpoint(DiagnosticsProperties properties) {
+        return new FlightRecordingEndpoint(properties.recordingDuration(), properties.maxRecordingDuration());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import com.github.pmviva.todo.list.api.edge.EmptyArchivedTodoRepository;
+import com.github.pmviva.todo.list.api.edge.EmptyTodoHistoryRepository;
+import com.github.pmviva.todo.list.api.edge.InMemoryTodoRepository;
+import com.github.pmviva.todo.list.api.edge.PersistentTodoStore;
+import com.github.pmviva.todo.list.api.repository.ArchivedTodoRepository;
+import com.github.pmviva.todo.list.api.repository.TodoHistoryRepository;
+import com.github.pmviva.todo.list.api.repository.TodoRepository;
+import java.time.Clock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Runs the todo API without Postgres, for edge deployments. The edge profile turns off the data source and every
+ * feature that needs it, and the repositories are replaced by in-memory ones. With {@code todo.edge.persistent}, the
+ * todos survive restarts in a write-ahead log and snapshots under {@code todo.edge.directory}.
+ */
+@Configuration
+@Profile(EdgeConfiguration.EDGE_PROFILE)
+@EnableConfigurationProperties(EdgeProperties.class)
+public class EdgeConfiguration {
+
+    public static final String EDGE_PROFILE = "edge";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.edge", name = "persistent", havingValue = "true")
+    public PersistentTodoStore persistentTodoStore(EdgeProperties properties) {
+        return new PersistentTodoStore(
+                properties.directory(),
+                properties.stripes(),
+                (int) properties.logSegmentSize().toBytes(),
+                properties.logSyncInterval(),
+                properties.awaitLogSync(),
+                properties.snapshotInterval());
+    }
+
+    @Bean
+    public TodoRepository inMemoryTodoRepository(
+            EdgeProperties properties, ObjectProvider<PersistentTodoStore> persistentTodoStore) {
+        PersistentTodoStore store = persistentTodoStore.getIfAvailable();
+
+        return store != null
+                ? new InMemoryTodoRepository(store, Clock.systemUTC())
+                : new InMemoryTodoRepository(properties.stripes(), Clock.systemUTC());
+    }
+
+    @Bean
+    public ArchivedTodoRepository emptyArchivedTodoRepository() {
+        return new EmptyArchivedTodoRepository();
+    }
+
+    @Bean
+    public TodoHistoryRepository emptyTodoHistoryRepository() {
+        return new EmptyTodoHistoryRepository();
+    }
+
+    /**
+     * Every in-memory write is atomic on its own, so bulk operations run their chunks without a transaction.
+     */
+    @Bean
+    public TransactionOperations transactionOperations() {
+        return TransactionOperations.withoutTransaction();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "todo.edge")
+public record EdgeProperties(
+        @DefaultValue("16") int stripes,
+        @DefaultValue("false") boolean persistent,
+        @DefaultValue("edge") Path directory,
+        @DefaultValue("64MB") DataSize logSegmentSize,
+        @DefaultValue("5ms") Duration logSyncInterval,
+        @DefaultValue("true") boolean awaitLogSync,
+        @DefaultValue("PT5M") Duration snapshotInterval) {
+
+    public EdgeProperties {
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException(String.format("Invalid edge stripes %d, not a power of two", stripes));
+        }
+
+        if (logSegmentSize.toBytes() < DataSize.ofMegabytes(1).toBytes()
+                || logSegmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid edge log segment size %s, not between 1MB and 2GB", logSegmentSize));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import com.github.pmviva.todo.list.api.cache.TodoCacheBulkEvictor;
+import com.github.pmviva.todo.list.api.cache.TodoCacheInvalidationListener;
+import com.github.pmviva.todo.list.api.cache.TodoCacheInvalidationPublisher;
+import com.github.pmviva.todo.list.api.model.Todo;
+import jakarta.persistence.EntityManagerFactory;
+import java.net.URI;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@EnableConfigurationProperties(TodoCacheProperties.class)
+@Profile("!" + EdgeConfiguration.EDGE_PROFILE)
+public class HibernateCacheConfiguration {
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(TodoCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(EhcacheCachingProvider.class.getName())
+                .getCacheManager(URI.create("todo-list-api"), getClass().getClassLoader());
+
+        // Entities and query results are bounded in time so that a lost invalidation can only serve stale data for
+        // at most the configured time to live
+        CacheConfiguration<Object, Object> boundedConfiguration = CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                        Object.class,
+                        Object.class,
+                        ResourcePoolsBuilder.newResourcePoolsBuilder()
+                                .heap(properties.heapEntries(), EntryUnit.ENTRIES)
+                                .offheap(properties.offHeapSize().toMegabytes(), MemoryUnit.MB))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(properties.timeToLive()))
+                .build();
+
+        // Hibernate requires the update timestamps to outlive every query result that depends on them
+        CacheConfiguration<Object, Object> timestampsConfiguration = CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                        Object.class,
+                        Object.class,
+                        ResourcePoolsBuilder.newResourcePoolsBuilder().heap(properties.heapEntries(), EntryUnit.ENTRIES))
+                .withExpiry(ExpiryPolicyBuilder.noExpiration())
+                .build();
+
+        createCache(cacheManager, Todo.class.getName(), boundedConfiguration);
+        createCache(cacheManager, QUERY_RESULTS_REGION, boundedConfiguration);
+        createCache(cacheManager, UPDATE_TIMESTAMPS_REGION, timestampsConfiguration);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    @Bean
+    public TodoCacheBulkEvictor todoCacheBulkEvictor(EntityManagerFactory entityManagerFactory) {
+        return new TodoCacheBulkEvictor(entityManagerFactory);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "todo.cache.invalidation",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    public TodoCacheInvalidationPublisher todoCacheInvalidationPublisher(
+            JdbcTemplate jdbcTemplate, TodoCacheProperties properties) {
+        return new TodoCacheInvalidationPublisher(
+                jdbcTemplate, properties.invalidation().channel());
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "todo.cache.invalidation",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    public TodoCacheInvalidationListener todoCacheInvalidationListener(
+            JdbcConnectionDetails connectionDetails,
+            EntityManagerFactory entityManagerFactory,
+            TodoCacheProperties properties) {
+        return new TodoCacheInvalidationListener(connectionDetails, entityManagerFactory, properties.invalidation());
+    }
+
+    private static void createCache(
+            CacheManager cacheManager, String name, CacheConfiguration<Object, Object> configuration) {
+        if (cacheManager.getCache(name) == null) {
+            cacheManager.createCache(name, Eh107Configuration.fromEhcacheCacheConfiguration(configuration));
+            cacheManager.enableStatistics(name, true);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.pmviva.todo.list.api.outbox.FileOutboxSink;
+import com.github.pmviva.todo.list.api.outbox.InMemoryOutboxSink;
+import com.github.pmviva.todo.list.api.outbox.LoggingOutboxSink;
+import com.github.pmviva.todo.list.api.outbox.OutboxSink;
+import com.github.pmviva.todo.list.api.outbox.TodoOutboxRelay;
+import com.github.pmviva.todo.list.api.outbox.TodoOutboxWriter;
+import java.time.Clock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+@ConditionalOnProperty(prefix = "todo.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfiguration {
+
+    @Bean
+    public TodoOutboxWriter todoOutboxWriter(JdbcTemplate jdbcTemplate, OutboxProperties properties) {
+        return new TodoOutboxWriter(jdbcTemplate, properties.partitions());
+    }
+
+    /**
+     * Other sinks, such as a message broker, can be plugged in by declaring an {@link OutboxSink} bean.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxSink outboxSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        return switch (properties.sink()) {
+            case LOG -> new LoggingOutboxSink();
+            case FILE -> new FileOutboxSink(properties.file(), objectMapper);
+            case MEMORY -> new InMemoryOutboxSink();
+        };
+    }
+
+    @Bean
+    public TodoOutboxRelay todoOutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            OutboxSink outboxSink,
+            OutboxProperties properties) {
+        return new TodoOutboxRelay(
+                jdbcTemplate,
+                transactionOperations,
+                outboxSink,
+                properties.partitions(),
+                properties.batchSize(),
+                Clock.systemUTC());
+    }
+}
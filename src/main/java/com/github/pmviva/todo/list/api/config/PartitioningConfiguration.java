@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import com.github.pmviva.todo.list.api.partition.TodoArchiver;
+import com.github.pmviva.todo.list.api.partition.TodoPartitionManager;
+import java.time.Clock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Configuration
+@EnableConfigurationProperties(PartitioningProperties.class)
+@ConditionalOnProperty(prefix = "todo.partitioning", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PartitioningConfiguration {
+
+    @Bean
+    public TodoPartitionManager todoPartitionManager(
+            JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations, PartitioningProperties properties) {
+        return new TodoPartitionManager(
+                jdbcTemplate, transactionOperations, properties.monthsAhead(), Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "todo.partitioning.archive",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    public TodoArchiver todoArchiver(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            ApplicationEventPublisher eventPublisher,
+            PartitioningProperties properties) {
+        PartitioningProperties.Archive archive = properties.archive();
+
+        return new TodoArchiver(
+                jdbcTemplate,
+                transactionOperations,
+                eventPublisher,
+                archive.retention(),
+                archive.batchSize(),
+                archive.maxBatches(),
+                Clock.systemUTC());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "todo.partitioning")
+public record PartitioningProperties(
+        @DefaultValue("true") boolean enabled, @DefaultValue("3") int monthsAhead, @DefaultValue Archive archive) {
+
+    public PartitioningProperties {
+        if (monthsAhead < 0) {
+            throw new IllegalArgumentException(String.format("Invalid partition months ahead %d", monthsAhead));
+        }
+    }
+
+    public record Archive(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("P30D") Duration retention,
+            @DefaultValue("1000") int batchSize,
+            @DefaultValue("100") int maxBatches) {
+
+        public Archive {
+            if (batchSize < 1 || maxBatches < 1) {
+                throw new IllegalArgumentException(
+                        String.format("Invalid archive batch size %d or max batches %d", batchSize, maxBatches));
+            }
+        }
+    }
+}
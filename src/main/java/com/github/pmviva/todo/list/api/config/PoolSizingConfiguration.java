@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import com.github.pmviva.todo.list.api.pool.AdaptivePoolSizer;
+import com.github.pmviva.todo.list.api.pool.HikariPools;
+import com.github.pmviva.todo.list.api.pool.JdbcPoolBudget;
+import com.github.pmviva.todo.list.api.pool.PoolBudget;
+import com.github.pmviva.todo.list.api.sql.StatementRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@EnableConfigurationProperties(PoolSizingProperties.class)
+@Profile("!" + EdgeConfiguration.EDGE_PROFILE)
+@ConditionalOnProperty(prefix = "todo.pool-sizing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PoolSizingConfiguration {
+
+    @Bean(destroyMethod = "release")
+    @ConditionalOnProperty(prefix = "todo.pool-sizing.budget", name = "enabled", havingValue = "true")
+    public JdbcPoolBudget jdbcPoolBudget(JdbcConnectionDetails connectionDetails, PoolSizingProperties properties) {
+        PoolSizingProperties.Budget budget = properties.budget();
+        String instanceId =
+                budget.instanceId().isBlank() ? UUID.randomUUID().toString() : budget.instanceId();
+
+        return new JdbcPoolBudget(connectionDetails, instanceId, budget.connections(), budget.leaseTimeout());
+    }
+
+    @Bean
+    public AdaptivePoolSizer adaptivePoolSizer(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            ObjectProvider<StatementRecorder> statementRecorder,
+            ObjectProvider<PoolBudget> poolBudget,
+            PoolSizingProperties properties)
+            throws SQLException {
+        return new AdaptivePoolSizer(
+                HikariPools.unwrap(dataSource)
+                        .orElseThrow(() -> new IllegalStateException("Adaptive pool sizing requires a Hikari pool")),
+                meterRegistry,
+                Optional.ofNullable(statementRecorder.getIfAvailable()),
+                poolBudget.getIfAvailable(() -> PoolBudget.UNLIMITED),
+                properties.minSize(),
+                properties.maxSize(),
+                properties.step(),
+                properties.headroom(),
+                properties.acquireThreshold(),
+                properties.statementThreshold());
+    }
+}
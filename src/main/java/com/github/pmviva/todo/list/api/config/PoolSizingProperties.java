@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "todo.pool-sizing")
+public record PoolSizingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("PT5S") Duration interval,
+        @DefaultValue("2") int minSize,
+        @DefaultValue("20") int maxSize,
+        @DefaultValue("2") int step,
+        @DefaultValue("1.5") double headroom,
+        @DefaultValue("10ms") Duration acquireThreshold,
+        @DefaultValue("100ms") Duration statementThreshold,
+        @DefaultValue Budget budget) {
+
+    public PoolSizingProperties {
+        if (minSize < 1 || maxSize < minSize || step < 1 || headroom < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid pool sizing min size %d, max size %d, step %d or headroom %s",
+                    minSize,
+                    maxSize,
+                    step,
+                    headroom));
+        }
+
+        if (budget.enabled() && budget.leaseTimeout().compareTo(interval) <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Pool budget lease timeout %s must be longer than the pool sizing interval %s",
+                    budget.leaseTimeout(),
+                    interval));
+        }
+    }
+
+    public record Budget(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("100") int connections,
+            @DefaultValue("") String instanceId,
+            @DefaultValue("PT30S") Duration leaseTimeout) {}
+}
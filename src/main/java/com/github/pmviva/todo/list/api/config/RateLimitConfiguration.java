@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import com.github.pmviva.todo.list.api.filter.RateLimitFilter;
+import com.github.pmviva.todo.list.api.limit.EndpointClass;
+import com.github.pmviva.todo.list.api.limit.InMemoryRateLimiter;
+import com.github.pmviva.todo.list.api.limit.JdbcRateLimiter;
+import com.github.pmviva.todo.list.api.limit.RateLimit;
+import com.github.pmviva.todo.list.api.limit.RateLimiter;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "todo.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.rate-limit", name = "store", havingValue = "memory", matchIfMissing = true)
+    public InMemoryRateLimiter inMemoryRateLimiter(RateLimitProperties properties) {
+        return new InMemoryRateLimiter(getRateLimits(properties), properties.idleTimeout());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.rate-limit", name = "store", havingValue = "jdbc")
+    public JdbcRateLimiter jdbcRateLimiter(JdbcTemplate jdbcTemplate, RateLimitProperties properties) {
+        return new JdbcRateLimiter(jdbcTemplate, getRateLimits(properties), properties.idleTimeout());
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties) {
+        return new RateLimitFilter(rateLimiter, properties.keyClaims());
+    }
+
+    /**
+     * The filter only applies to the API security filter chain, so it must not be registered with the servlet
+     * container as well.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+
+        return registration;
+    }
+
+    private static Map<EndpointClass, RateLimit> getRateLimits(RateLimitProperties properties) {
+        return Map.of(
+                EndpointClass.READ, toRateLimit(properties.read()),
+                EndpointClass.WRITE, toRateLimit(properties.write()),
+                EndpointClass.BULK, toRateLimit(properties.bulk()));
+    }
+
+    private static RateLimit toRateLimit(RateLimitProperties.Limit limit) {
+        return new RateLimit(limit.limit(), limit.window());
+    }
+}
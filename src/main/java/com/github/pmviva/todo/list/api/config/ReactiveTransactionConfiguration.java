@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import com.github.pmviva.todo.list.api.audit.TodoHistoryRecorder;
+import com.github.pmviva.todo.list.api.cache.TodoCacheInvalidationPublisher;
+import com.github.pmviva.todo.list.api.event.ReactiveTodoChangePublisher;
+import com.github.pmviva.todo.list.api.outbox.TodoOutboxWriter;
+import io.r2dbc.spi.ConnectionFactory;
+import java.util.Optional;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Runs the writes of the reactive stack in R2DBC transactions, so a change commits together with its outbox message
+ * and its cache invalidation notification. The R2DBC transaction manager is kept out of the context, so it does not
+ * compete with the JPA one for {@code @Transactional} methods.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTransactionConfiguration {
+
+    @Bean
+    public ReactiveTodoChangePublisher reactiveTodoChangePublisher(
+            DatabaseClient databaseClient,
+            ConnectionFactory connectionFactory,
+            ObjectProvider<TodoOutboxWriter> todoOutboxWriter,
+            ObjectProvider<TodoCacheInvalidationPublisher> todoCacheInvalidationPublisher,
+            ObjectProvider<TodoHistoryRecorder> todoHistoryRecorder) {
+        return new ReactiveTodoChangePublisher(
+                databaseClient,
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)),
+                Optional.ofNullable(todoOutboxWriter.getIfAvailable()),
+                Optional.ofNullable(todoCacheInvalidationPublisher.getIfAvailable()),
+                Optional.ofNullable(todoHistoryRecorder.getIfAvailable()));
+    }
+}
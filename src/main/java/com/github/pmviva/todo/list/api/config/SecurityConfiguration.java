@@ -25,30 +25,56 @@ package com.github.pmviva.todo.list.api.config;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
+import com.github.pmviva.todo.list.api.diagnostics.FlightRecordingEndpoint;
+import com.github.pmviva.todo.list.api.filter.ConcurrencyLimitFilter;
+import com.github.pmviva.todo.list.api.filter.RateLimitFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfiguration {
 
     private static final String API_V1_PATH = "/api/v1/**";
 
     @Bean
     @Order(1)
-    public SecurityFilterChain apiFilterChain(HttpSecurity http) throws Exception {
-        return http.securityMatcher(API_V1_PATH)
+    public SecurityFilterChain apiFilterChain(
+            HttpSecurity http,
+            ObjectProvider<ConcurrencyLimitFilter> concurrencyLimitFilter,
+            ObjectProvider<RateLimitFilter> rateLimitFilter)
+            throws Exception {
+        http.securityMatcher(API_V1_PATH)
                 .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(withDefaults()));
+
+        concurrencyLimitFilter.ifAvailable(filter -> http.addFilterBefore(filter, BearerTokenAuthenticationFilter.class));
+        rateLimitFilter.ifAvailable(filter -> http.addFilterAfter(filter, BearerTokenAuthenticationFilter.class));
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
+    public SecurityFilterChain diagnosticsFilterChain(HttpSecurity http) throws Exception {
+        return http.securityMatcher(EndpointRequest.to(FlightRecordingEndpoint.class))
+                .authorizeHttpRequests(
+                        auth -> auth.anyRequest().hasAuthority(DiagnosticsConfiguration.DIAGNOSTICS_AUTHORITY))
                 .oauth2ResourceServer(oauth2 -> oauth2.jwt(withDefaults()))
                 .build();
     }
 
     @Bean
-    @Order(2)
+    @Order(3)
     public SecurityFilterChain publicFilterChain(HttpSecurity http) throws Exception {
         return http.authorizeHttpRequests(auth -> auth.anyRequest().permitAll()).build();
     }
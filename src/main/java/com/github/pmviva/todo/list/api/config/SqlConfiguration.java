@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import com.github.pmviva.todo.list.api.filter.ClientDisconnectWatcher;
+import com.github.pmviva.todo.list.api.filter.StatementBudgetFilter;
+import com.github.pmviva.todo.list.api.filter.StatementTimeoutFilter;
+import com.github.pmviva.todo.list.api.sql.StatementCallableInterceptor;
+import com.github.pmviva.todo.list.api.sql.StatementRecorder;
+import com.github.pmviva.todo.list.api.sql.StatementTimeoutListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * The statement recorder and the statement timeout listener are datasource-proxy listeners, which the data source
+ * observation auto-configuration adds to the proxy it already wraps the data source with. Requests that go
+ * asynchronous hand their statement timeout scope and statement captures over to the thread that runs their callable.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlProperties.class)
+@Profile("!" + EdgeConfiguration.EDGE_PROFILE)
+@ConditionalOnProperty(prefix = "todo.sql", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlConfiguration {
+
+    @Bean
+    public StatementRecorder statementRecorder(SqlProperties properties) {
+        return new StatementRecorder(
+                properties.slowThreshold(), properties.logParameters(), properties.explainSlowStatements());
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public StatementBudgetFilter statementBudgetFilter(SqlProperties properties) {
+        return new StatementBudgetFilter(properties.statementBudget());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.sql.timeouts", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public StatementTimeoutListener statementTimeoutListener() {
+        return new StatementTimeoutListener();
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = "todo.sql.timeouts", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ClientDisconnectWatcher clientDisconnectWatcher(SqlProperties properties) {
+        return new ClientDisconnectWatcher(properties.timeouts().disconnectPollInterval());
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = "todo.sql.timeouts", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public StatementTimeoutFilter statementTimeoutFilter(
+            SqlProperties properties, ClientDisconnectWatcher clientDisconnectWatcher) {
+        return new StatementTimeoutFilter(properties.timeouts().byClass(), clientDisconnectWatcher);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public WebMvcConfigurer statementCallableConfigurer() {
+        return new WebMvcConfigurer() {
+
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.registerCallableInterceptors(new StatementCallableInterceptor());
+            }
+        };
+    }
+}
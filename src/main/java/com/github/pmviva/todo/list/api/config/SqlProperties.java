@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import com.github.pmviva.todo.list.api.sql.StatementTimeoutClass;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "todo.sql")
+public record SqlProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200ms") Duration slowThreshold,
+        @DefaultValue("true") boolean logParameters,
+        @DefaultValue("true") boolean explainSlowStatements,
+        @DefaultValue("10") int statementBudget,
+        @DefaultValue Timeouts timeouts) {
+
+    public SqlProperties {
+        if (slowThreshold.isNegative() || statementBudget < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid SQL slow threshold %s or statement budget %d", slowThreshold, statementBudget));
+        }
+    }
+
+    /**
+     * The statement timeouts of each endpoint class, measured from the start of the request, and how often the
+     * connections of running requests are checked for clients that went away.
+     */
+    public record Timeouts(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("10s") Duration list,
+            @DefaultValue("2s") Duration read,
+            @DefaultValue("5s") Duration write,
+            @DefaultValue("60s") Duration bulk,
+            @DefaultValue("500ms") Duration disconnectPollInterval) {
+
+        public Timeouts {
+            for (Duration timeout : new Duration[] {list, read, write, bulk}) {
+                if (timeout.isNegative() || timeout.isZero()) {
+                    throw new IllegalArgumentException(String.format("Invalid SQL statement timeout %s", timeout));
+                }
+            }
+
+            if (!disconnectPollInterval.isPositive()) {
+                throw new IllegalArgumentException(
+                        String.format("Invalid client disconnect poll interval %s", disconnectPollInterval));
+            }
+        }
+
+        public Map<StatementTimeoutClass, Duration> byClass() {
+            return Map.of(
+                    StatementTimeoutClass.LIST, list,
+                    StatementTimeoutClass.READ, read,
+                    StatementTimeoutClass.WRITE, write,
+                    StatementTimeoutClass.BULK, bulk);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.pmviva.todo.list.api.tracing.FileSpanExporter;
+import com.github.pmviva.todo.list.api.tracing.ObservedMappingJackson2HttpMessageConverter;
+import com.github.pmviva.todo.list.api.tracing.TailSamplingSpanProcessor;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.actuate.autoconfigure.tracing.ConditionalOnEnabledTracing;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Exports traces through the tail sampling span processor, which owns the exporter, so every span reaches it and none
+ * is exported around it; the Spring Boot OTLP exporter stays off as long as {@code management.otlp.tracing.endpoint}
+ * is not set. The stages of a request are observed where they run: Spring Security observes its filter chain and the
+ * JWT authentication, datasource-micrometer the connection acquisition and each statement, {@code @Observed} the todo
+ * service and the message converters serialization.
+ */
+@Configuration
+@ConditionalOnEnabledTracing
+@EnableConfigurationProperties(TracingProperties.class)
+@ConditionalOnProperty(prefix = "todo.tracing", name = "enabled", havingValue = "true")
+public class TracingConfiguration {
+
+    @Bean
+    public TailSamplingSpanProcessor tailSamplingSpanProcessor(
+            TracingProperties properties, ObjectMapper objectMapper) {
+        SpanExporter exporter = switch (properties.exporter()) {
+            case OTLP -> OtlpHttpSpanExporter.builder()
+                    .setEndpoint(properties.otlpEndpoint().toString())
+                    .build();
+            case FILE -> new FileSpanExporter(properties.file(), objectMapper);
+        };
+
+        return new TailSamplingSpanProcessor(
+                BatchSpanProcessor.builder(exporter).build(),
+                properties.slowThreshold(),
+                properties.sampleProbability(),
+                properties.maxPendingTraces(),
+                properties.pendingTimeout());
+    }
+
+    /**
+     * Takes the place of the converter Spring Boot would declare, with the same object mapper.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+            ObjectMapper objectMapper, ObservationRegistry observationRegistry) {
+        return new ObservedMappingJackson2HttpMessageConverter(objectMapper, observationRegistry);
+    }
+
+    /**
+     * Carries the current observation over to the application task executor, which runs the callables of asynchronous
+     * requests, so the spans of a callable stay children of its request.
+     */
+    @Bean
+    public ContextPropagatingTaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "todo.tracing")
+public record TracingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("otlp") Exporter exporter,
+        URI otlpEndpoint,
+        @DefaultValue("traces/spans.jsonl") Path file,
+        @DefaultValue("500ms") Duration slowThreshold,
+        @DefaultValue("0.01") double sampleProbability,
+        @DefaultValue("10000") int maxPendingTraces,
+        @DefaultValue("PT1M") Duration pendingTimeout) {
+
+    public TracingProperties {
+        if (sampleProbability < 0 || sampleProbability > 1) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid tracing sample probability %s", sampleProbability));
+        }
+
+        if (maxPendingTraces < 1 || !pendingTimeout.isPositive()) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid tracing max pending traces %d or pending timeout %s", maxPendingTraces, pendingTimeout));
+        }
+
+        if (enabled && exporter == Exporter.OTLP && (otlpEndpoint == null || otlpEndpoint.toString().isBlank())) {
+            throw new IllegalArgumentException("Tracing with the OTLP exporter requires an OTLP endpoint");
+        }
+    }
+
+    public enum Exporter {
+        OTLP,
+        FILE
+    }
+}
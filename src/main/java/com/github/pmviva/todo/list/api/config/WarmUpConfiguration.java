@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.pmviva.todo.list.api.pool.AdaptivePoolSizer;
+import com.github.pmviva.todo.list.api.pool.HikariPools;
+import com.github.pmviva.todo.list.api.service.TodoService;
+import com.github.pmviva.todo.list.api.stream.TodoPageWriter;
+import com.github.pmviva.todo.list.api.warmup.TodoWarmUp;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+
+@Configuration
+@EnableConfigurationProperties(WarmUpProperties.class)
+@Profile("!" + MigrationConfiguration.MIGRATE_PROFILE)
+@ConditionalOnProperty(prefix = "todo.warm-up", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpConfiguration {
+
+    @Bean
+    public TodoWarmUp todoWarmUp(
+            TodoService todoService,
+            ObjectMapper objectMapper,
+            ObjectProvider<DataSource> dataSource,
+            ObjectProvider<AdaptivePoolSizer> poolSizer,
+            ObjectProvider<JwtDecoder> jwtDecoder,
+            ObjectProvider<ReactiveJwtDecoder> reactiveJwtDecoder,
+            ObjectProvider<TodoPageWriter> todoPageWriter,
+            WarmUpProperties properties)
+            throws SQLException {
+        return new TodoWarmUp(
+                todoService,
+                objectMapper,
+                HikariPools.unwrap(dataSource.getIfAvailable()),
+                Optional.ofNullable(poolSizer.getIfAvailable()),
+                tokenDecoder(jwtDecoder.getIfAvailable(), reactiveJwtDecoder.getIfAvailable()),
+                Optional.ofNullable(todoPageWriter.getIfAvailable()),
+                properties.iterations(),
+                properties.timeout(),
+                properties.pageSize());
+    }
+
+    private static Optional<Consumer<String>> tokenDecoder(
+            JwtDecoder jwtDecoder, ReactiveJwtDecoder reactiveJwtDecoder) {
+        if (jwtDecoder != null) {
+            return Optional.of(jwtDecoder::decode);
+        }
+
+        if (reactiveJwtDecoder != null) {
+            return Optional.of(token -> reactiveJwtDecoder.decode(token).block());
+        }
+
+        return Optional.empty();
+    }
+}
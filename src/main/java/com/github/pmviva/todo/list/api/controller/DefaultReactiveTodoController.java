@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.controller;
+
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.model.TodoSortField;
+import com.github.pmviva.todo.list.api.service.ReactiveTodoService;
+import jakarta.validation.Valid;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * The todo API on the reactive stack, active when the application runs as a reactive web application. It serves the
+ * same paths and payloads as {@link DefaultTodoController} for the core todo operations.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class DefaultReactiveTodoController implements ReactiveTodoController {
+
+    private static final String TODOS_PATH = "/todos";
+
+    private static final String TODO_PATH = "/todos/{id}";
+
+    private final ReactiveTodoService reactiveTodoService;
+
+    @Autowired
+    public DefaultReactiveTodoController(ReactiveTodoService reactiveTodoService) {
+        this.reactiveTodoService = reactiveTodoService;
+    }
+
+    @PostMapping(
+            path = TODOS_PATH,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Void>> createTodo(
+            @RequestBody @Valid Todo todo, UriComponentsBuilder uriComponentsBuilder) {
+        return reactiveTodoService.createTodo(todo).map(result -> ResponseEntity.created(uriComponentsBuilder
+                        .path("/api/v1" + TODO_PATH)
+                        .buildAndExpand(result.getId())
+                        .toUri())
+                .build());
+    }
+
+    @GetMapping(
+            path = TODOS_PATH,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PagedModel<Todo>>> getTodos(
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam Optional<Boolean> completed) {
+        return Mono.fromCallable(() -> TodoSortField.validate(pageable))
+                .flatMap(validated -> reactiveTodoService.getTodos(validated, completed))
+                .map(page -> ResponseEntity.ok(new PagedModel<>(page)));
+    }
+
+    @GetMapping(
+            path = TODO_PATH,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Todo>> getTodo(@PathVariable UUID id) {
+        return reactiveTodoService.getTodo(id).map(ResponseEntity::ok);
+    }
+
+    @PutMapping(
+            path = TODO_PATH,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Todo>> updateTodo(@PathVariable UUID id, @RequestBody @Valid Todo todo) {
+        return reactiveTodoService.updateTodo(id, todo).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping(
+            path = TODO_PATH,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Void>> deleteTodo(@PathVariable UUID id) {
+        return reactiveTodoService.deleteTodo(id).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
@@ -23,17 +23,39 @@
 
 package com.github.pmviva.todo.list.api.controller;
 
+import com.github.pmviva.todo.list.api.dto.BatchGetRequest;
+import com.github.pmviva.todo.list.api.dto.BatchGetResult;
+import com.github.pmviva.todo.list.api.dto.BulkOperationResult;
+import com.github.pmviva.todo.list.api.dto.HistoryPage;
+import com.github.pmviva.todo.list.api.dto.OperationStatus;
+import com.github.pmviva.todo.list.api.exception.BadRequestException;
+import com.github.pmviva.todo.list.api.exception.ResponseAbortedException;
 import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.model.TodoField;
+import com.github.pmviva.todo.list.api.model.TodoSortField;
 import com.github.pmviva.todo.list.api.service.TodoService;
+import com.github.pmviva.todo.list.api.stream.TodoPageWriter;
+import com.github.pmviva.todo.list.api.tracing.ObservedMappingJackson2HttpMessageConverter;
+import com.github.pmviva.todo.list.api.writebehind.OperationState;
+import com.github.pmviva.todo.list.api.writebehind.TodoWriteBehind;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -43,49 +65,217 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.MvcUriComponentsBuilder;
 
 @RestController
-@RequestMapping("/api/v1/todos")
+@RequestMapping("/api/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class DefaultTodoController implements TodoController {
 
+    private static final String TODOS_PATH = "/todos";
+
+    private static final String TODO_PATH = "/todos/{id}";
+
+    private static final String TODO_STATUS_PATH = "/todos/{id}/status";
+
+    private static final String TODO_HISTORY_PATH = "/todos/{id}/history";
+
+    private static final String COMPLETE_TODOS_PATH = "/todos:complete";
+
+    private static final String BATCH_GET_TODOS_PATH = "/todos:batchGet";
+
+    private static final String PREFER_HEADER = "Prefer";
+
+    private static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final TodoService todoService;
 
+    private final Optional<TodoWriteBehind> todoWriteBehind;
+
+    private final Optional<TodoPageWriter> todoPageWriter;
+
+    private final ObservationRegistry observationRegistry;
+
     @Autowired
     @SuppressFBWarnings({"EI_EXPOSE_REP2", "EI_EXPOSE_REP"})
-    public DefaultTodoController(TodoService todoService) {
+    public DefaultTodoController(
+            TodoService todoService,
+            ObjectProvider<TodoWriteBehind> todoWriteBehind,
+            ObjectProvider<TodoPageWriter> todoPageWriter,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
         this.todoService = todoService;
+        this.todoWriteBehind = Optional.ofNullable(todoWriteBehind.getIfAvailable());
+        this.todoPageWriter = Optional.ofNullable(todoPageWriter.getIfAvailable());
+        this.observationRegistry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
     }
 
-    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Todo> createTodo(@RequestBody @Valid Todo todo) {
+    @PostMapping(
+            path = TODOS_PATH,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Todo> createTodo(
+            @RequestBody @Valid Todo todo, @RequestHeader(name = PREFER_HEADER, required = false) String prefer) {
+        if (todoWriteBehind.isPresent() && isRespondAsync(prefer)) {
+            Todo accepted = todoWriteBehind.get().enqueue(todo);
+
+            URI uri = MvcUriComponentsBuilder.fromMethodName(
+                            DefaultTodoController.class, "getTodoStatus", accepted.getId())
+                    .build()
+                    .toUri();
+
+            return ResponseEntity.accepted()
+                    .location(uri)
+                    .header(PREFERENCE_APPLIED_HEADER, RESPOND_ASYNC)
+                    .build();
+        }
+
         Todo result = todoService.createTodo(todo);
 
-        URI uri = MvcUriComponentsBuilder.fromMethodName(DefaultTodoController.class, "getTodo", result.getId())
+        URI uri = MvcUriComponentsBuilder.fromMethodName(
+                        DefaultTodoController.class, "getTodo", result.getId(), null, null)
                 .build()
                 .toUri();
 
         return ResponseEntity.created(uri).build();
     }
 
-    @GetMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Page<Todo>> getTodos(
-            @PageableDefault Pageable pageable, @RequestParam Optional<Boolean> completed) {
-        return ResponseEntity.ok(todoService.getTodos(pageable, completed));
+    /**
+     * Lists todos. Full listings of large pages are written from the result set straight to the response when
+     * streaming is enabled; a streamed listing that fails once part of it has been sent aborts the response.
+     */
+    @GetMapping(
+            path = TODOS_PATH,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getTodos(
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam Optional<Boolean> completed,
+            @RequestParam(defaultValue = "false") boolean archived,
+            @RequestParam(required = false) List<String> fields,
+            HttpServletResponse response)
+            throws IOException {
+        Pageable validated = TodoSortField.validate(pageable);
+
+        if (archived) {
+            if (fields != null) {
+                throw new BadRequestException("Fields are not supported on archived todos");
+            }
+
+            return ResponseEntity.ok(todoService.getArchivedTodos(validated, completed));
+        }
+
+        if (fields != null) {
+            return ResponseEntity.ok(todoService.getTodos(validated, completed, TodoField.parse(fields)));
+        }
+
+        if (todoPageWriter.isPresent() && todoPageWriter.get().streams(validated)) {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+            try {
+                ObservedMappingJackson2HttpMessageConverter.serialization(observationRegistry, PagedModel.class)
+                        .observeChecked(() -> todoService.writeTodos(validated, completed, response.getOutputStream()));
+            } catch (IOException | RuntimeException exception) {
+                if (response.isCommitted()) {
+                    throw new ResponseAbortedException("Todo listing failed after streaming began", exception);
+                }
+
+                throw exception;
+            }
+
+            return null;
+        }
+
+        return ResponseEntity.ok(todoService.getTodos(validated, completed));
     }
 
+    /**
+     * Reads many todos by id in one request. Large id sets can be sent in a request body to
+     * {@code /todos:batchGet} instead.
+     */
     @GetMapping(
-            path = "/{id}",
+            path = TODOS_PATH,
+            params = "ids",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchGetResult> getTodosByIds(@RequestParam List<@NotNull UUID> ids) {
+        return ResponseEntity.ok(todoService.getTodos(ids));
+    }
+
+    @PostMapping(
+            path = BATCH_GET_TODOS_PATH,
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Todo> getTodo(@PathVariable UUID id) {
-        return ResponseEntity.ok(todoService.getTodo(id));
+    public ResponseEntity<BatchGetResult> batchGetTodos(@RequestBody @Valid BatchGetRequest request) {
+        return ResponseEntity.ok(todoService.getTodos(request.ids()));
+    }
+
+    /**
+     * Reads a todo. Archived todos are only read with {@code archived=true}, as in listings, and are not found
+     * otherwise, since the archiver moves them out of the todos table.
+     */
+    @GetMapping(
+            path = TODO_PATH,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getTodo(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "false") boolean archived,
+            @RequestParam(required = false) List<String> fields) {
+        if (archived) {
+            if (fields != null) {
+                throw new BadRequestException("Fields are not supported on archived todos");
+            }
+
+            return ResponseEntity.ok(todoService.getArchivedTodo(id));
+        }
+
+        if (fields == null) {
+            return ResponseEntity.ok(todoService.getTodo(id));
+        }
+
+        return ResponseEntity.ok(todoService.getTodo(id, TodoField.parse(fields)));
+    }
+
+    /**
+     * Reports whether a todo accepted asynchronously is still pending, has been written or could not be written.
+     */
+    @GetMapping(
+            path = TODO_STATUS_PATH,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<OperationStatus> getTodoStatus(@PathVariable UUID id) {
+        Optional<OperationState> state = todoWriteBehind.flatMap(writeBehind -> writeBehind.getState(id));
+
+        if (state.isPresent()) {
+            return ResponseEntity.ok(new OperationStatus(id, state.get()));
+        }
+
+        todoService.getTodo(id);
+
+        return ResponseEntity.ok(new OperationStatus(id, OperationState.COMPLETED));
+    }
+
+    /**
+     * Lists the recorded changes of a todo, oldest first. Changes show up once the history recorder has flushed them.
+     */
+    @GetMapping(
+            path = TODO_HISTORY_PATH,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<HistoryPage> getTodoHistory(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(todoService.getTodoHistory(id, after, size));
     }
 
     @PutMapping(
-            path = "/{id}",
+            path = TODO_PATH,
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Todo> updateTodo(@PathVariable UUID id, @RequestBody @Valid Todo todo) {
@@ -93,11 +283,42 @@ public class DefaultTodoController implements TodoController {
     }
 
     @DeleteMapping(
-            path = "/{id}",
+            path = TODO_PATH,
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Void> deleteTodo(@PathVariable UUID id) {
         todoService.deleteTodo(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping(
+            path = COMPLETE_TODOS_PATH,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkOperationResult> completeTodos() {
+        return ResponseEntity.ok(new BulkOperationResult(todoService.completeTodos()));
+    }
+
+    /**
+     * Clears completed todos. Only {@code completed=true} is accepted, so that a mistyped request cannot delete every
+     * pending todo.
+     */
+    @DeleteMapping(
+            path = TODOS_PATH,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkOperationResult> deleteTodos(@RequestParam Boolean completed) {
+        if (!completed) {
+            throw new BadRequestException("Only completed todos can be deleted in bulk");
+        }
+
+        return ResponseEntity.ok(new BulkOperationResult(todoService.deleteTodos(true)));
+    }
+
+    private static boolean isRespondAsync(String prefer) {
+        return prefer != null
+                && Arrays.stream(prefer.split("[,;]"))
+                        .map(String::trim)
+                        .anyMatch(RESPOND_ASYNC::equalsIgnoreCase);
+    }
 }
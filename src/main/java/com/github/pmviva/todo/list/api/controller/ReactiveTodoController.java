@@ -0,0 +1,23 @@
+package com.github.pmviva.todo.list.api.controller;
+
+import com.github.pmviva.todo.list.api.model.Todo;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTodoController {
+
+    Mono<ResponseEntity<Void>> createTodo(Todo todo, UriComponentsBuilder uriComponentsBuilder);
+
+    Mono<ResponseEntity<PagedModel<Todo>>> getTodos(Pageable pageable, Optional<Boolean> completed);
+
+    Mono<ResponseEntity<Todo>> getTodo(UUID id);
+
+    Mono<ResponseEntity<Todo>> updateTodo(UUID id, Todo todo);
+
+    Mono<ResponseEntity<Void>> deleteTodo(UUID id);
+}
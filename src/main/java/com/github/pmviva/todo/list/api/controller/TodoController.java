@@ -1,21 +1,46 @@
 package com.github.pmviva.todo.list.api.controller;
 
+import com.github.pmviva.todo.list.api.dto.BatchGetRequest;
+import com.github.pmviva.todo.list.api.dto.BatchGetResult;
+import com.github.pmviva.todo.list.api.dto.BulkOperationResult;
+import com.github.pmviva.todo.list.api.dto.HistoryPage;
+import com.github.pmviva.todo.list.api.dto.OperationStatus;
 import com.github.pmviva.todo.list.api.model.Todo;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 
 public interface TodoController {
 
-    ResponseEntity<Todo> createTodo(Todo todo);
+    ResponseEntity<Todo> createTodo(Todo todo, String prefer);
 
-    ResponseEntity<Page<Todo>> getTodos(Pageable pageable, Optional<Boolean> completed);
+    ResponseEntity<?> getTodos(
+            Pageable pageable,
+            Optional<Boolean> completed,
+            boolean archived,
+            List<String> fields,
+            HttpServletResponse response)
+            throws IOException;
 
-    ResponseEntity<Todo> getTodo(UUID id);
+    ResponseEntity<BatchGetResult> getTodosByIds(List<UUID> ids);
+
+    ResponseEntity<BatchGetResult> batchGetTodos(BatchGetRequest request);
+
+    ResponseEntity<?> getTodo(UUID id, boolean archived, List<String> fields);
+
+    ResponseEntity<OperationStatus> getTodoStatus(UUID id);
+
+    ResponseEntity<HistoryPage> getTodoHistory(UUID id, long after, int size);
 
     ResponseEntity<Todo> updateTodo(UUID id, Todo todo);
 
     ResponseEntity<Void> deleteTodo(UUID id);
+
+    ResponseEntity<BulkOperationResult> completeTodos();
+
+    ResponseEntity<BulkOperationResult> deleteTodos(Boolean completed);
 }
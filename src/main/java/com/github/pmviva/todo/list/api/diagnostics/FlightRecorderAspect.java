@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.diagnostics;
+
+import com.github.pmviva.todo.list.api.dto.BatchGetResult;
+import com.github.pmviva.todo.list.api.dto.HistoryPage;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.BaseStream;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Records a flight recorder event for each todo service operation and each repository method. Nothing is recorded,
+ * beyond the event allocation, when no recording enables the events, and fields are only filled in for events that
+ * pass the recording threshold.
+ */
+@Aspect
+public class FlightRecorderAspect {
+
+    static final long UNKNOWN_ROWS = -1;
+
+    @Around("execution(* com.github.pmviva.todo.list.api.service.TodoService+.*(..))")
+    public Object recordServiceOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        TodoServiceEvent event = new TodoServiceEvent();
+
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        Object result = null;
+        boolean failed = true;
+
+        event.begin();
+
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+
+            return result;
+        } finally {
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getName();
+                event.todoId = todoId(joinPoint.getArgs());
+                event.rows = failed ? 0 : rows(joinPoint, result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object recordRepositoryQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        TodoRepositoryEvent event = new TodoRepositoryEvent();
+
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        Object result = null;
+        boolean failed = true;
+
+        event.begin();
+
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+
+            return result;
+        } finally {
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.repository = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.rows = failed ? 0 : rows(joinPoint, result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private static String todoId(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof UUID id) {
+                return id.toString();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Counts the rows a result stands for: the elements of pages, collections and batch results, the affected rows
+     * of modifying queries and one for a single entity. Streams and void methods do not tell.
+     */
+    static long rows(ProceedingJoinPoint joinPoint, Object result) {
+        if (joinPoint.getSignature() instanceof MethodSignature signature && signature.getReturnType() == void.class) {
+            return UNKNOWN_ROWS;
+        }
+
+        return switch (result) {
+            case null -> 0;
+            case Number number -> number.longValue();
+            case Boolean found -> found ? 1 : 0;
+            case Optional<?> optional -> optional.isPresent() ? 1 : 0;
+            case Slice<?> slice -> slice.getNumberOfElements();
+            case Collection<?> collection -> collection.size();
+            case BatchGetResult batch -> batch.todos().size();
+            case HistoryPage page -> page.content().size();
+            case Map<?, ?> ignored -> 1;
+            case Iterable<?> ignored -> UNKNOWN_ROWS;
+            case BaseStream<?, ?> ignored -> UNKNOWN_ROWS;
+            default -> 1;
+        };
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.edge;
+
+import com.github.pmviva.todo.list.api.model.ArchivedTodo;
+import com.github.pmviva.todo.list.api.repository.ArchivedTodoRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Edge deployments keep no archive, since archiving moves todos between Postgres partitions.
+ */
+public class EmptyArchivedTodoRepository implements ArchivedTodoRepository {
+
+    @Override
+    public Iterable<ArchivedTodo> findAll(Sort sort) {
+        return List.of();
+    }
+
+    @Override
+    public Page<ArchivedTodo> findAll(Pageable pageable) {
+        return Page.empty(pageable);
+    }
+
+    @Override
+    public Page<ArchivedTodo> findByCompleted(Pageable pageable, Boolean completed) {
+        return Page.empty(pageable);
+    }
+
+    @Override
+    public Optional<ArchivedTodo> findById(UUID id) {
+        return Optional.empty();
+    }
+}
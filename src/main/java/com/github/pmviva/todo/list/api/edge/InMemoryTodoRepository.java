@@ -0,0 +1,387 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.edge;
+
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.model.TodoField;
+import com.github.pmviva.todo.list.api.repository.TodoRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.StreamSupport;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * A {@link TodoRepository} for edge deployments without Postgres, backed by a {@link TodoStore}. It mirrors the JPA
+ * repository: pages in creation time order are read from the creation time indexes, pages in any other order from a
+ * sorted scan, and deleted todos are gone for good since there is nothing to purge them from. Backed by a
+ * {@link PersistentTodoStore}, every write returns once it is durable.
+ */
+public class InMemoryTodoRepository implements TodoRepository {
+
+    private static final String CREATED_AT_PROPERTY = "createdAt";
+
+    private static final String UPDATED_AT_PROPERTY = "updatedAt";
+
+    private static final String ID_PROPERTY = "id";
+
+    private static final String DESCRIPTION_PROPERTY = "description";
+
+    private static final String COMPLETED_PROPERTY = "completed";
+
+    private static final Comparator<StoredTodo> ID_ORDER = (left, right) -> {
+        int result = Long.compareUnsigned(left.mostSignificantBits(), right.mostSignificantBits());
+
+        return result != 0
+                ? result
+                : Long.compareUnsigned(left.leastSignificantBits(), right.leastSignificantBits());
+    };
+
+    private final TodoStore store;
+
+    private final Clock clock;
+
+    public InMemoryTodoRepository(int stripes, Clock clock) {
+        this.store = new TodoStore(stripes);
+        this.clock = clock;
+    }
+
+    public InMemoryTodoRepository(PersistentTodoStore persistentTodoStore, Clock clock) {
+        this.store = persistentTodoStore.store();
+        this.clock = clock;
+    }
+
+    @Override
+    public <S extends Todo> S save(S entity) {
+        UUID id = entity.getId() != null ? entity.getId() : UUID.randomUUID();
+        long now = clock.millis();
+
+        StoredTodo previous = store.update(
+                id.getMostSignificantBits(),
+                id.getLeastSignificantBits(),
+                current -> new StoredTodo(
+                        id.getMostSignificantBits(),
+                        id.getLeastSignificantBits(),
+                        entity.getDescription(),
+                        Boolean.TRUE.equals(entity.getCompleted()),
+                        current != null ? current.createdAt() : now,
+                        now));
+
+        entity.setId(id);
+        entity.setCreatedAt(Instant.ofEpochMilli(previous != null ? previous.createdAt() : now));
+        entity.setUpdatedAt(Instant.ofEpochMilli(now));
+
+        return entity;
+    }
+
+    @Override
+    public <S extends Todo> Iterable<S> saveAll(Iterable<S> entities) {
+        List<S> result = new ArrayList<>();
+        entities.forEach(entity -> result.add(save(entity)));
+
+        return result;
+    }
+
+    @Override
+    public Optional<Todo> findById(UUID id) {
+        return Optional.ofNullable(store.get(id.getMostSignificantBits(), id.getLeastSignificantBits()))
+                .map(InMemoryTodoRepository::toTodo);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return store.get(id.getMostSignificantBits(), id.getLeastSignificantBits()) != null;
+    }
+
+    @Override
+    public List<Todo> findAll() {
+        return store.scan(todo -> true).stream().map(InMemoryTodoRepository::toTodo).toList();
+    }
+
+    @Override
+    public List<Todo> findAll(Sort sort) {
+        return page(Pageable.unpaged(sort), null).getContent();
+    }
+
+    @Override
+    public Page<Todo> findAll(Pageable pageable) {
+        return page(pageable, null);
+    }
+
+    @Override
+    public Page<Todo> findByCompleted(Pageable pageable, Boolean completed) {
+        return page(pageable, completed);
+    }
+
+    @Override
+    public Iterable<Todo> findAllById(Iterable<UUID> ids) {
+        return findAllByIdIn(StreamSupport.stream(ids.spliterator(), false).toArray(UUID[]::new));
+    }
+
+    @Override
+    public List<Todo> findAllByIdIn(UUID[] ids) {
+        return Arrays.stream(ids)
+                .distinct()
+                .map(id -> store.get(id.getMostSignificantBits(), id.getLeastSignificantBits()))
+                .filter(Objects::nonNull)
+                .map(InMemoryTodoRepository::toTodo)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return store.count();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        store.update(id.getMostSignificantBits(), id.getLeastSignificantBits(), current -> null);
+    }
+
+    @Override
+    public void delete(Todo entity) {
+        deleteById(entity.getId());
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends UUID> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Todo> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        for (IndexKey key : store.createdAtIndex(null)) {
+            store.update(key.mostSignificantBits(), key.leastSignificantBits(), current -> null);
+        }
+    }
+
+    @Override
+    public List<UUID> completeTodos(int limit) {
+        long now = clock.millis();
+        List<UUID> affected = new ArrayList<>();
+
+        for (IndexKey key : store.createdAtIndex(false)) {
+            if (affected.size() == limit) {
+                break;
+            }
+
+            StoredTodo previous = store.update(
+                    key.mostSignificantBits(),
+                    key.leastSignificantBits(),
+                    current -> current != null && !current.completed()
+                            ? new StoredTodo(
+                                    current.mostSignificantBits(),
+                                    current.leastSignificantBits(),
+                                    current.description(),
+                                    true,
+                                    current.createdAt(),
+                                    now)
+                            : current);
+
+            if (previous != null && !previous.completed()) {
+                affected.add(new UUID(key.mostSignificantBits(), key.leastSignificantBits()));
+            }
+        }
+
+        return affected;
+    }
+
+    @Override
+    public List<UUID> deleteTodosByCompleted(boolean completed, int limit) {
+        List<UUID> affected = new ArrayList<>();
+
+        for (IndexKey key : store.createdAtIndex(completed)) {
+            if (affected.size() == limit) {
+                break;
+            }
+
+            StoredTodo previous = store.update(
+                    key.mostSignificantBits(),
+                    key.leastSignificantBits(),
+                    current -> current != null && current.completed() == completed ? null : current);
+
+            if (previous != null && previous.completed() == completed) {
+                affected.add(new UUID(key.mostSignificantBits(), key.leastSignificantBits()));
+            }
+        }
+
+        return affected;
+    }
+
+    @Override
+    public Page<Map<String, Object>> findAllProjected(
+            Set<TodoField> fields, Pageable pageable, Optional<Boolean> completed) {
+        return page(pageable, completed.orElse(null)).map(todo -> project(todo, fields));
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findProjectedById(UUID id, Set<TodoField> fields) {
+        return findById(id).map(todo -> project(todo, fields));
+    }
+
+    private Page<Todo> page(Pageable pageable, Boolean completed) {
+        Sort sort = pageable.getSort();
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        long limit = pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE;
+        long total = completed == null ? store.count() : store.count(completed);
+        List<StoredTodo> content;
+
+        if (sort.isUnsorted() || isIndexOrder(sort)) {
+            NavigableSet<IndexKey> index = store.createdAtIndex(completed);
+
+            if (sort.isSorted() && sort.toList().getFirst().isDescending()) {
+                index = index.descendingSet();
+            }
+
+            content = read(index, completed, offset, limit);
+        } else {
+            content = store.scan(todo -> completed == null || todo.completed() == completed).stream()
+                    .sorted(comparator(sort))
+                    .skip(offset)
+                    .limit(limit)
+                    .toList();
+        }
+
+        return new PageImpl<>(content.stream().map(InMemoryTodoRepository::toTodo).toList(), pageable, total);
+    }
+
+    /**
+     * Returns whether the sort is the order of the creation time indexes: by creation time, then by id in the same
+     * direction if at all.
+     */
+    private static boolean isIndexOrder(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        Sort.Order first = orders.getFirst();
+
+        if (!CREATED_AT_PROPERTY.equals(first.getProperty())) {
+            return false;
+        }
+
+        return orders.size() == 1
+                || (orders.size() == 2
+                        && ID_PROPERTY.equals(orders.get(1).getProperty())
+                        && orders.get(1).getDirection() == first.getDirection());
+    }
+
+    /**
+     * Compares todos by every order of the sort in turn, and by id last so that pages do not overlap.
+     */
+    private static Comparator<StoredTodo> comparator(Sort sort) {
+        Comparator<StoredTodo> result = null;
+
+        for (Sort.Order order : sort) {
+            Comparator<StoredTodo> comparator =
+                    switch (order.getProperty()) {
+                        case CREATED_AT_PROPERTY -> Comparator.comparingLong(StoredTodo::createdAt);
+                        case UPDATED_AT_PROPERTY -> Comparator.comparingLong(StoredTodo::updatedAt);
+                        case ID_PROPERTY -> ID_ORDER;
+                        case DESCRIPTION_PROPERTY -> Comparator.comparing(StoredTodo::description);
+                        case COMPLETED_PROPERTY -> Comparator.comparing(StoredTodo::completed);
+                        default -> throw new IllegalArgumentException(
+                                String.format("Unsupported sort: %s", order.getProperty()));
+                    };
+
+            if (order.isDescending()) {
+                comparator = comparator.reversed();
+            }
+
+            result = result == null ? comparator : result.thenComparing(comparator);
+        }
+
+        return result.thenComparing(ID_ORDER);
+    }
+
+    /**
+     * Walks an index, skipping entries whose todo was removed or changed state since the entry was read.
+     */
+    private List<StoredTodo> read(Iterable<IndexKey> index, Boolean completed, long offset, long limit) {
+        List<StoredTodo> content = new ArrayList<>();
+        long skipped = 0;
+
+        for (IndexKey key : index) {
+            if (content.size() == limit) {
+                break;
+            }
+
+            StoredTodo todo = store.get(key.mostSignificantBits(), key.leastSignificantBits());
+
+            if (todo == null || (completed != null && todo.completed() != completed)) {
+                continue;
+            }
+
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                content.add(todo);
+            }
+        }
+
+        return content;
+    }
+
+    private static Map<String, Object> project(Todo todo, Set<TodoField> fields) {
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        for (TodoField field : fields) {
+            result.put(
+                    field.fieldName(),
+                    switch (field) {
+                        case ID -> todo.getId();
+                        case DESCRIPTION -> todo.getDescription();
+                        case COMPLETED -> todo.getCompleted();
+                        case CREATED_AT -> todo.getCreatedAt();
+                        case UPDATED_AT -> todo.getUpdatedAt();
+                    });
+        }
+
+        return result;
+    }
+
+    private static Todo toTodo(StoredTodo stored) {
+        Todo todo = new Todo(stored.description(), stored.completed());
+        todo.setId(new UUID(stored.mostSignificantBits(), stored.leastSignificantBits()));
+        todo.setCreatedAt(Instant.ofEpochMilli(stored.createdAt()));
+        todo.setUpdatedAt(Instant.ofEpochMilli(stored.updatedAt()));
+
+        return todo;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.edge;
+
+/**
+ * A creation time index entry. Ties are broken by id, compared unsigned so that the order matches the one Postgres
+ * gives to uuid columns.
+ */
+record IndexKey(long createdAt, long mostSignificantBits, long leastSignificantBits)
+        implements Comparable<IndexKey> {
+
+    static IndexKey of(StoredTodo todo) {
+        return new IndexKey(todo.createdAt(), todo.mostSignificantBits(), todo.leastSignificantBits());
+    }
+
+    @Override
+    public int compareTo(IndexKey other) {
+        int result = Long.compare(createdAt, other.createdAt);
+
+        if (result == 0) {
+            result = Long.compareUnsigned(mostSignificantBits, other.mostSignificantBits);
+        }
+
+        if (result == 0) {
+            result = Long.compareUnsigned(leastSignificantBits, other.leastSignificantBits);
+        }
+
+        return result;
+    }
+}
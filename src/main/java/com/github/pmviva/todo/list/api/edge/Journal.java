@@ -0,0 +1,57 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.edge;
+
+/**
+ * Receives the changes of a {@link TodoStore} before they are applied.
+ */
+interface Journal {
+
+    /**
+     * The position of a change that does not need to be waited for.
+     */
+    long NO_POSITION = -1;
+
+    Journal NONE = new Journal() {
+
+        @Override
+        public long append(long mostSignificantBits, long leastSignificantBits, StoredTodo todo) {
+            return NO_POSITION;
+        }
+
+        @Override
+        public void awaitDurable(long position) {}
+    };
+
+    /**
+     * Records that the todo with the given id now has the given state, or was removed when the state is null, and
+     * returns the position to wait for. Called under the stripe write lock of the todo, so it should not wait for I/O.
+     */
+    long append(long mostSignificantBits, long leastSignificantBits, StoredTodo todo);
+
+    /**
+     * Waits until every change up to the given position is durable.
+     */
+    void awaitDurable(long position);
+}
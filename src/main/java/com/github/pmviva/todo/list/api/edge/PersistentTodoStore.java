@@ -0,0 +1,196 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.edge;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * A {@link TodoStore} made durable by a memory-mapped {@link TodoLog} and periodic {@link TodoStoreSnapshot}s. The
+ * store is recovered when it is created, from the latest snapshot and the log written after it, so it is complete
+ * before the first request. While running, a background thread writes a snapshot once per snapshot interval when
+ * the store has changed, and deletes the log segments and snapshots it makes obsolete.
+ */
+public class PersistentTodoStore implements SmartLifecycle, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistentTodoStore.class);
+
+    private final Path directory;
+
+    private final Duration snapshotInterval;
+
+    private final TodoStore store;
+
+    private final TodoLog log;
+
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+
+    private long checkpointed;
+
+    private volatile boolean running;
+
+    private CountDownLatch stopping;
+
+    private Thread thread;
+
+    public PersistentTodoStore(
+            Path directory,
+            int stripes,
+            int segmentSize,
+            Duration syncInterval,
+            boolean awaitSync,
+            Duration snapshotInterval) {
+        this.directory = directory;
+        this.snapshotInterval = snapshotInterval;
+        this.store = new TodoStore(stripes);
+        this.log = new TodoLog(directory, segmentSize, syncInterval, awaitSync);
+
+        long started = System.nanoTime();
+
+        try {
+            Files.createDirectories(directory);
+            log.open(TodoStoreSnapshot.load(directory, store), store);
+        } catch (IOException exception) {
+            throw new IllegalStateException(
+                    String.format("Failed to recover the edge todo store in %s", directory), exception);
+        }
+
+        store.attach(log);
+
+        logger.info(
+                "Recovered {} todos in {} ms, replaying {} log records",
+                store.count(),
+                Duration.ofNanos(System.nanoTime() - started).toMillis(),
+                log.replayed());
+    }
+
+    TodoStore store() {
+        return store;
+    }
+
+    /**
+     * Writes a snapshot unless nothing has changed since the last one, then deletes the log segments and snapshots
+     * it covers.
+     */
+    public void checkpoint() throws IOException {
+        checkpointLock.lock();
+
+        try {
+            long appended = log.appended();
+
+            if (appended == checkpointed) {
+                return;
+            }
+
+            long started = System.nanoTime();
+            long sequence = log.rotate();
+            long count = TodoStoreSnapshot.write(directory, sequence, store);
+
+            log.deleteSegmentsBefore(sequence);
+            TodoStoreSnapshot.deleteBefore(directory, sequence);
+            checkpointed = appended;
+
+            logger.info(
+                    "Wrote a snapshot of {} todos in {} ms",
+                    count,
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        log.start();
+        running = true;
+
+        if (!snapshotInterval.isZero()) {
+            CountDownLatch latch = new CountDownLatch(1);
+
+            stopping = latch;
+            thread = Thread.ofPlatform().name("todo-edge-snapshot").start(() -> run(latch));
+        }
+    }
+
+    /**
+     * Stops the snapshot thread, letting a snapshot in progress complete, and the group commit, forcing every change
+     * made so far.
+     */
+    @Override
+    public synchronized void stop() {
+        running = false;
+
+        if (thread != null) {
+            stopping.countDown();
+
+            try {
+                thread.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+
+            thread = null;
+        }
+
+        log.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void close() throws IOException {
+        log.close();
+    }
+
+    private void run(CountDownLatch latch) {
+        while (running) {
+            try {
+                if (latch.await(snapshotInterval.toNanos(), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            try {
+                checkpoint();
+            } catch (IOException exception) {
+                logger.warn("Failed to write an edge todo snapshot, retrying in {}", snapshotInterval, exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,494 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.edge;
+
+import com.github.pmviva.todo.list.api.exception.ServiceUnavailableException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Memory-mapped write-ahead log of a {@link TodoStore}. Records are appended to fixed-size segments mapped into
+ * memory, so an append is a copy into the page cache, and a change is durable once the mapping has been forced. With
+ * a sync interval, a background thread forces the current segment once per interval and releases every writer
+ * waiting for a change up to that point with the same force; with a zero interval, waiting writers force the log
+ * themselves and share the forces that overlap. Writers that do not wait trade the changes of the last sync interval
+ * on a crash for latency.
+ *
+ * <p>Each record is framed by its length and a CRC32C checksum. On recovery, the segments from the snapshot on are
+ * replayed in order; a segment ends at the first empty or torn record, which is where appending resumes.
+ */
+final class TodoLog implements Journal, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoLog.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    static final int HEADER_SIZE = 8;
+
+    private static final byte PUT = 1;
+
+    private static final byte REMOVE = 2;
+
+    private static final int REMOVE_SIZE = 1 + 2 * Long.BYTES;
+
+    private static final int PUT_SIZE = REMOVE_SIZE + 1 + 2 * Long.BYTES + Integer.BYTES;
+
+    private static final byte[] ZEROES = new byte[64 * 1024];
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final Duration syncInterval;
+
+    private final boolean awaitSync;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition synced = lock.newCondition();
+
+    private final ReentrantLock forceLock = new ReentrantLock();
+
+    private long sequence;
+
+    private FileChannel channel;
+
+    private MappedByteBuffer buffer;
+
+    private int offset;
+
+    private volatile long appended;
+
+    private volatile long durable;
+
+    private volatile boolean syncing;
+
+    private long replayed;
+
+    private Thread thread;
+
+    TodoLog(Path directory, int segmentSize, Duration syncInterval, boolean awaitSync) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncInterval = syncInterval;
+        this.awaitSync = awaitSync;
+    }
+
+    /**
+     * Replays every segment from the given sequence on into the store, deletes the older segments, which a snapshot
+     * already covers, and opens the last segment for appending.
+     */
+    void open(long fromSequence, TodoStore store) throws IOException {
+        Files.createDirectories(directory);
+        deleteSegmentsBefore(fromSequence);
+
+        List<Path> paths = segments();
+
+        for (int index = 0; index < paths.size(); index++) {
+            Path path = paths.get(index);
+            int end;
+
+            try (FileChannel segment = FileChannel.open(path, StandardOpenOption.READ)) {
+                end = replay(segment.map(FileChannel.MapMode.READ_ONLY, 0, segment.size()), store);
+            }
+
+            if (index == paths.size() - 1) {
+                openSegment(sequenceOf(path), end);
+            }
+        }
+
+        if (buffer == null) {
+            openSegment(fromSequence, 0);
+        }
+    }
+
+    long replayed() {
+        return replayed;
+    }
+
+    long appended() {
+        return appended;
+    }
+
+    @Override
+    public long append(long mostSignificantBits, long leastSignificantBits, StoredTodo todo) {
+        byte[] record = encode(mostSignificantBits, leastSignificantBits, todo);
+
+        if (record.length > segmentSize) {
+            throw new IllegalArgumentException(String.format(
+                    "Todo record of %d bytes does not fit a log segment of %d bytes", record.length, segmentSize));
+        }
+
+        lock.lock();
+
+        try {
+            if (offset + record.length > buffer.capacity()) {
+                roll();
+            }
+
+            buffer.put(offset, record);
+            offset += record.length;
+            appended += record.length;
+
+            return appended;
+        } catch (IOException exception) {
+            throw new ServiceUnavailableException("Edge todo log is not writable", exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void awaitDurable(long position) {
+        if (position == NO_POSITION || durable >= position || (!awaitSync && syncing)) {
+            return;
+        }
+
+        if (syncing) {
+            lock.lock();
+
+            try {
+                while (durable < position && syncing) {
+                    synced.awaitUninterruptibly();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        sync(position);
+    }
+
+    /**
+     * Forces the log up to at least the given position. Callers that arrive while a force is in progress wait for it
+     * and return without forcing again when it covered their position.
+     */
+    void sync(long position) {
+        forceLock.lock();
+
+        try {
+            if (durable >= position) {
+                return;
+            }
+
+            MappedByteBuffer target;
+            long end;
+
+            lock.lock();
+
+            try {
+                target = buffer;
+                end = appended;
+            } finally {
+                lock.unlock();
+            }
+
+            target.force();
+            markDurable(end);
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    /**
+     * Starts the group commit thread when a sync interval is configured.
+     */
+    synchronized void start() {
+        if (syncInterval.isZero()) {
+            return;
+        }
+
+        syncing = true;
+
+        thread = Thread.ofPlatform().name("todo-edge-log-sync").start(this::run);
+    }
+
+    /**
+     * Stops the group commit thread and forces everything appended so far. Writers arriving later force the log
+     * themselves.
+     */
+    synchronized void stop() {
+        syncing = false;
+
+        if (thread != null) {
+            thread.interrupt();
+
+            try {
+                thread.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+
+            thread = null;
+        }
+
+        lock.lock();
+
+        try {
+            synced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        sync(appended);
+    }
+
+    /**
+     * Seals the current segment and opens the next one, returning its sequence. Every record appended before the
+     * call is in an older segment.
+     */
+    long rotate() throws IOException {
+        lock.lock();
+
+        try {
+            roll();
+
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void deleteSegmentsBefore(long fromSequence) throws IOException {
+        for (Path path : segments()) {
+            if (sequenceOf(path) >= fromSequence) {
+                break;
+            }
+
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+
+        try {
+            if (channel != null) {
+                buffer.force();
+                channel.close();
+                channel = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        while (syncing) {
+            try {
+                Thread.sleep(syncInterval);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            try {
+                sync(appended);
+            } catch (RuntimeException exception) {
+                logger.error("Failed to force the edge todo log", exception);
+            }
+        }
+    }
+
+    private void roll() throws IOException {
+        buffer.force();
+        markDurable(appended);
+        channel.close();
+        openSegment(sequence + 1, 0);
+        syncDirectory(directory);
+    }
+
+    private void openSegment(long segmentSequence, int end) throws IOException {
+        Path path = directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, segmentSequence, SEGMENT_SUFFIX));
+
+        channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), segmentSize));
+        sequence = segmentSequence;
+        offset = end;
+
+        if (end + HEADER_SIZE <= buffer.capacity() && buffer.getInt(end) != 0) {
+            logger.warn("Discarding the torn tail of edge todo log segment {} from offset {}", path, end);
+
+            for (int position = end; position < buffer.capacity(); position += ZEROES.length) {
+                buffer.put(position, ZEROES, 0, Math.min(ZEROES.length, buffer.capacity() - position));
+            }
+
+            buffer.force();
+        }
+    }
+
+    private void markDurable(long position) {
+        lock.lock();
+
+        try {
+            if (position > durable) {
+                durable = position;
+            }
+
+            synced.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int replay(ByteBuffer segment, TodoStore store) {
+        int position = 0;
+
+        while (position + HEADER_SIZE <= segment.limit()) {
+            int length = segment.getInt(position);
+
+            if (length < REMOVE_SIZE || length > segment.limit() - position - HEADER_SIZE) {
+                break;
+            }
+
+            ByteBuffer body = segment.slice(position + HEADER_SIZE, length);
+
+            if (checksum(body) != segment.getInt(position + Integer.BYTES)) {
+                break;
+            }
+
+            restore(body, store);
+            position += HEADER_SIZE + length;
+            replayed++;
+        }
+
+        return position;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream.filter(path -> isSegment(path.getFileName().toString()))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Encodes a change as a framed record: the body length, the CRC32C of the body and the body, which holds the
+     * record type, the todo id and, unless the todo was removed, its state.
+     */
+    static byte[] encode(long mostSignificantBits, long leastSignificantBits, StoredTodo todo) {
+        byte[] description = todo != null && todo.description() != null
+                ? todo.description().getBytes(StandardCharsets.UTF_8)
+                : null;
+        int length = todo != null
+                ? PUT_SIZE + (description != null ? description.length : 0)
+                : REMOVE_SIZE;
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + length);
+
+        record.putInt(length).putInt(0);
+        record.put(todo != null ? PUT : REMOVE).putLong(mostSignificantBits).putLong(leastSignificantBits);
+
+        if (todo != null) {
+            record.put((byte) (todo.completed() ? 1 : 0)).putLong(todo.createdAt()).putLong(todo.updatedAt());
+            record.putInt(description != null ? description.length : -1);
+
+            if (description != null) {
+                record.put(description);
+            }
+        }
+
+        record.putInt(Integer.BYTES, checksum(record.slice(HEADER_SIZE, length)));
+
+        return record.array();
+    }
+
+    /**
+     * Applies the change held by a record body to the store.
+     */
+    static void restore(ByteBuffer body, TodoStore store) {
+        byte type = body.get();
+        long mostSignificantBits = body.getLong();
+        long leastSignificantBits = body.getLong();
+
+        if (type == REMOVE) {
+            store.restore(mostSignificantBits, leastSignificantBits, null);
+            return;
+        }
+
+        if (type != PUT) {
+            throw new IllegalStateException(String.format("Unknown edge todo log record type %d", type));
+        }
+
+        boolean completed = body.get() != 0;
+        long createdAt = body.getLong();
+        long updatedAt = body.getLong();
+        int length = body.getInt();
+        String description = null;
+
+        if (length >= 0) {
+            byte[] bytes = new byte[length];
+            body.get(bytes);
+            description = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        store.restore(
+                mostSignificantBits,
+                leastSignificantBits,
+                new StoredTodo(
+                        mostSignificantBits, leastSignificantBits, description, completed, createdAt, updatedAt));
+    }
+
+    static int checksum(ByteBuffer body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+
+        return (int) crc.getValue();
+    }
+
+    static void syncDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private static boolean isSegment(String fileName) {
+        return fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long sequenceOf(Path path) {
+        String fileName = path.getFileName().toString();
+
+        return Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+}
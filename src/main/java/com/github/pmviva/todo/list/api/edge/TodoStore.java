@@ -0,0 +1,460 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.edge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * An in-memory todo table. Todos are spread over lock stripes, each an open-addressing hash table keyed by the two
+ * halves of the todo id, so lookups compare primitives instead of {@link java.util.UUID} objects. Reads are
+ * optimistic and only fall back to the stripe read lock when they race with a write to the same stripe; writes take
+ * the stripe write lock.
+ *
+ * <p>Creation time is indexed over all todos and per completion state. Index entries are added and removed under the
+ * stripe write lock of their todo but read without locks, so readers check every entry they find against the table.
+ *
+ * <p>Once a {@link Journal} is attached, every change is appended to it under the stripe write lock before it is
+ * applied, so the changes to one todo reach the journal in the order they are applied, and the writer waits for the
+ * change to be durable after releasing the lock.
+ */
+final class TodoStore {
+
+    private static final int INITIAL_STRIPE_CAPACITY = 64;
+
+    private final Stripe[] stripes;
+
+    private final int stripeMask;
+
+    private final int stripeShift;
+
+    private final NavigableSet<IndexKey> createdAtIndex = new ConcurrentSkipListSet<>();
+
+    private final NavigableSet<IndexKey> completedIndex = new ConcurrentSkipListSet<>();
+
+    private final NavigableSet<IndexKey> pendingIndex = new ConcurrentSkipListSet<>();
+
+    private final AtomicLong completedCount = new AtomicLong();
+
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    private volatile Journal journal = Journal.NONE;
+
+    TodoStore(int stripeCount) {
+        if (Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException(String.format("Stripe count %d is not a power of two", stripeCount));
+        }
+
+        this.stripes = new Stripe[stripeCount];
+        this.stripeMask = stripeCount - 1;
+        this.stripeShift = Integer.numberOfLeadingZeros(stripeMask);
+
+        for (int index = 0; index < stripeCount; index++) {
+            stripes[index] = new Stripe();
+        }
+    }
+
+    StoredTodo get(long mostSignificantBits, long leastSignificantBits) {
+        int hash = hash(mostSignificantBits, leastSignificantBits);
+
+        return stripe(hash).get(mostSignificantBits, leastSignificantBits, hash);
+    }
+
+    /**
+     * Atomically replaces the todo with the given id by the result of the remapping function, which receives the
+     * current todo or null, and returns the replaced todo or null. A null result removes the todo.
+     */
+    StoredTodo update(long mostSignificantBits, long leastSignificantBits, UnaryOperator<StoredTodo> remapping) {
+        Journal current = journal;
+        int hash = hash(mostSignificantBits, leastSignificantBits);
+        Stripe stripe = stripe(hash);
+        StoredTodo previous;
+        long position = Journal.NO_POSITION;
+        long stamp = stripe.lock.writeLock();
+
+        try {
+            previous = stripe.find(mostSignificantBits, leastSignificantBits, hash);
+            StoredTodo next = remapping.apply(previous);
+
+            if (next != previous) {
+                position = current.append(mostSignificantBits, leastSignificantBits, next);
+                apply(stripe, hash, mostSignificantBits, leastSignificantBits, previous, next);
+            }
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+
+        current.awaitDurable(position);
+
+        return previous;
+    }
+
+    /**
+     * Applies a change read back from a journal or a snapshot, without journaling it again.
+     */
+    void restore(long mostSignificantBits, long leastSignificantBits, StoredTodo next) {
+        int hash = hash(mostSignificantBits, leastSignificantBits);
+        Stripe stripe = stripe(hash);
+        long stamp = stripe.lock.writeLock();
+
+        try {
+            StoredTodo previous = stripe.find(mostSignificantBits, leastSignificantBits, hash);
+
+            apply(stripe, hash, mostSignificantBits, leastSignificantBits, previous, next);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Journals every change from now on. Attached once, after the store has been restored.
+     */
+    void attach(Journal journal) {
+        this.journal = journal;
+    }
+
+    long count() {
+        return completedCount.get() + pendingCount.get();
+    }
+
+    long count(boolean completed) {
+        return completed ? completedCount.get() : pendingCount.get();
+    }
+
+    /**
+     * Returns the index over all todos, or over the todos in the given completion state, by creation time.
+     */
+    NavigableSet<IndexKey> createdAtIndex(Boolean completed) {
+        if (completed == null) {
+            return createdAtIndex;
+        }
+
+        return completed ? completedIndex : pendingIndex;
+    }
+
+    /**
+     * Returns a snapshot of the todos matching the filter, in no particular order.
+     */
+    List<StoredTodo> scan(Predicate<StoredTodo> filter) {
+        List<StoredTodo> result = new ArrayList<>();
+
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+
+            try {
+                for (StoredTodo todo : stripe.table.values) {
+                    if (todo != null && filter.test(todo)) {
+                        result.add(todo);
+                    }
+                }
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Passes every todo to the action, one stripe at a time. Each stripe is copied under its read lock, so the action
+     * sees every change applied to the stripe before the copy and runs without holding the lock.
+     */
+    void forEach(Consumer<StoredTodo> action) {
+        for (Stripe stripe : stripes) {
+            List<StoredTodo> values;
+            long stamp = stripe.lock.readLock();
+
+            try {
+                values = new ArrayList<>(stripe.size);
+
+                for (StoredTodo todo : stripe.table.values) {
+                    if (todo != null) {
+                        values.add(todo);
+                    }
+                }
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+
+            values.forEach(action);
+        }
+    }
+
+    private void apply(
+            Stripe stripe,
+            int hash,
+            long mostSignificantBits,
+            long leastSignificantBits,
+            StoredTodo previous,
+            StoredTodo next) {
+        if (next == null) {
+            if (previous != null) {
+                stripe.remove(mostSignificantBits, leastSignificantBits, hash);
+            }
+        } else {
+            stripe.put(next, hash);
+        }
+
+        reindex(previous, next);
+    }
+
+    private void reindex(StoredTodo previous, StoredTodo next) {
+        if (previous != null && (next == null || previous.completed() != next.completed())) {
+            if (next == null) {
+                createdAtIndex.remove(IndexKey.of(previous));
+            }
+
+            stateIndex(previous.completed()).remove(IndexKey.of(previous));
+            stateCount(previous.completed()).decrementAndGet();
+        }
+
+        if (next != null && (previous == null || previous.completed() != next.completed())) {
+            if (previous == null) {
+                createdAtIndex.add(IndexKey.of(next));
+            }
+
+            stateIndex(next.completed()).add(IndexKey.of(next));
+            stateCount(next.completed()).incrementAndGet();
+        }
+    }
+
+    private NavigableSet<IndexKey> stateIndex(boolean completed) {
+        return completed ? completedIndex : pendingIndex;
+    }
+
+    private AtomicLong stateCount(boolean completed) {
+        return completed ? completedCount : pendingCount;
+    }
+
+    /**
+     * Returns the average number of slots probed to find a todo, over all todos.
+     */
+    double averageProbeLength() {
+        long probes = 0;
+        long todos = 0;
+
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+
+            try {
+                Table current = stripe.table;
+
+                for (int slot = 0; slot < current.values.length; slot++) {
+                    if (current.values[slot] != null) {
+                        int home = hash(current.mostSignificantBits[slot], current.leastSignificantBits[slot])
+                                & current.mask;
+
+                        probes += ((slot - home) & current.mask) + 1;
+                        todos++;
+                    }
+                }
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+
+        return todos == 0 ? 0 : (double) probes / todos;
+    }
+
+    /**
+     * Picks the stripe from the top bits of the hash, since the tables take their slots from the bottom bits. Bits
+     * shared by both would be constant within a stripe and leave most home slots of a large table unused.
+     */
+    private Stripe stripe(int hash) {
+        return stripes[(hash >>> stripeShift) & stripeMask];
+    }
+
+    private static int hash(long mostSignificantBits, long leastSignificantBits) {
+        long hash = (mostSignificantBits ^ leastSignificantBits) * 0x9E3779B97F4A7C15L;
+
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * A linear probing hash table. Removal shifts the following entries back instead of leaving tombstones, so a
+     * probe ends at the first empty slot.
+     */
+    private static final class Table {
+
+        private final long[] mostSignificantBits;
+
+        private final long[] leastSignificantBits;
+
+        private final StoredTodo[] values;
+
+        private final int mask;
+
+        private Table(int capacity) {
+            this.mostSignificantBits = new long[capacity];
+            this.leastSignificantBits = new long[capacity];
+            this.values = new StoredTodo[capacity];
+            this.mask = capacity - 1;
+        }
+    }
+
+    private static final class Stripe {
+
+        private final StampedLock lock = new StampedLock();
+
+        private volatile Table table = new Table(INITIAL_STRIPE_CAPACITY);
+
+        private int size;
+
+        private StoredTodo get(long mostSignificantBits, long leastSignificantBits, int hash) {
+            long stamp = lock.tryOptimisticRead();
+
+            if (stamp != 0) {
+                StoredTodo result = find(mostSignificantBits, leastSignificantBits, hash);
+
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            }
+
+            stamp = lock.readLock();
+
+            try {
+                return find(mostSignificantBits, leastSignificantBits, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * Probes the table for the given id. Under an optimistic read the table may be changing underneath, so the
+         * probe is bounded by the capacity and its result is only trusted once the stamp is validated.
+         */
+        private StoredTodo find(long mostSignificantBits, long leastSignificantBits, int hash) {
+            Table current = table;
+            int slot = hash & current.mask;
+
+            for (int probe = 0; probe <= current.mask; probe++) {
+                StoredTodo value = current.values[slot];
+
+                if (value == null) {
+                    return null;
+                }
+
+                if (current.mostSignificantBits[slot] == mostSignificantBits
+                        && current.leastSignificantBits[slot] == leastSignificantBits) {
+                    return value;
+                }
+
+                slot = (slot + 1) & current.mask;
+            }
+
+            return null;
+        }
+
+        private void put(StoredTodo todo, int hash) {
+            if ((size + 1) * 4 > table.values.length * 3) {
+                resize();
+            }
+
+            Table current = table;
+            int slot = hash & current.mask;
+
+            while (current.values[slot] != null
+                    && !(current.mostSignificantBits[slot] == todo.mostSignificantBits()
+                            && current.leastSignificantBits[slot] == todo.leastSignificantBits())) {
+                slot = (slot + 1) & current.mask;
+            }
+
+            if (current.values[slot] == null) {
+                size++;
+            }
+
+            current.mostSignificantBits[slot] = todo.mostSignificantBits();
+            current.leastSignificantBits[slot] = todo.leastSignificantBits();
+            current.values[slot] = todo;
+        }
+
+        private void remove(long mostSignificantBits, long leastSignificantBits, int hash) {
+            Table current = table;
+            int slot = hash & current.mask;
+
+            while (current.values[slot] != null) {
+                if (current.mostSignificantBits[slot] == mostSignificantBits
+                        && current.leastSignificantBits[slot] == leastSignificantBits) {
+                    shiftBack(current, slot);
+                    size--;
+                    return;
+                }
+
+                slot = (slot + 1) & current.mask;
+            }
+        }
+
+        private static void shiftBack(Table current, int emptied) {
+            int gap = emptied;
+            int slot = (gap + 1) & current.mask;
+
+            while (current.values[slot] != null) {
+                int home = hash(current.mostSignificantBits[slot], current.leastSignificantBits[slot]) & current.mask;
+
+                // The entry can fill the gap unless its home slot lies cyclically after the gap and up to the entry
+                if (((slot - home) & current.mask) >= ((slot - gap) & current.mask)) {
+                    current.mostSignificantBits[gap] = current.mostSignificantBits[slot];
+                    current.leastSignificantBits[gap] = current.leastSignificantBits[slot];
+                    current.values[gap] = current.values[slot];
+                    gap = slot;
+                }
+
+                slot = (slot + 1) & current.mask;
+            }
+
+            current.values[gap] = null;
+        }
+
+        private void resize() {
+            Table current = table;
+            Table resized = new Table(current.values.length * 2);
+
+            for (int slot = 0; slot < current.values.length; slot++) {
+                StoredTodo value = current.values[slot];
+
+                if (value != null) {
+                    int target = hash(value.mostSignificantBits(), value.leastSignificantBits()) & resized.mask;
+
+                    while (resized.values[target] != null) {
+                        target = (target + 1) & resized.mask;
+                    }
+
+                    resized.mostSignificantBits[target] = value.mostSignificantBits();
+                    resized.leastSignificantBits[target] = value.leastSignificantBits();
+                    resized.values[target] = value;
+                }
+            }
+
+            table = resized;
+        }
+    }
+}
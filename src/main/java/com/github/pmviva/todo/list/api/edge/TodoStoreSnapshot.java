@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.edge;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Compacted snapshots of a {@link TodoStore}. A snapshot holds one log record per todo and is named after the first
+ * log segment it does not cover, so recovery loads the latest snapshot and replays the log from that segment on.
+ * Changes made while the snapshot is written may be in both, which is harmless since every record carries the whole
+ * state of its todo. Snapshots are written to a temporary file and renamed once forced, so a snapshot that exists is
+ * complete.
+ */
+final class TodoStoreSnapshot {
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+
+    private static final String SNAPSHOT_SUFFIX = ".dat";
+
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private TodoStoreSnapshot() {}
+
+    /**
+     * Writes a snapshot of the store covering the log segments before the given sequence and returns the number of
+     * todos written.
+     */
+    static long write(Path directory, long sequence, TodoStore store) throws IOException {
+        Path path = path(directory, sequence);
+        Path temporary = path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+        long[] count = new long[1];
+
+        try (DataOutputStream output =
+                new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            store.forEach(todo -> {
+                try {
+                    output.write(TodoLog.encode(todo.mostSignificantBits(), todo.leastSignificantBits(), todo));
+                    count[0]++;
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+
+            output.writeInt(0);
+            output.writeLong(count[0]);
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+        TodoLog.syncDirectory(directory);
+
+        return count[0];
+    }
+
+    /**
+     * Loads the latest snapshot into the store and returns the sequence of the first log segment to replay, or zero
+     * when there is no snapshot.
+     */
+    static long load(Path directory, TodoStore store) throws IOException {
+        Optional<Path> latest = snapshots(directory).stream().reduce((first, second) -> second);
+
+        if (latest.isEmpty()) {
+            return 0;
+        }
+
+        long count = 0;
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(latest.get())))) {
+            int length;
+
+            while ((length = input.readInt()) != 0) {
+                int checksum = input.readInt();
+                ByteBuffer body = ByteBuffer.allocate(length);
+                input.readFully(body.array());
+
+                if (TodoLog.checksum(body) != checksum) {
+                    throw new IOException(String.format("Corrupt edge todo snapshot %s", latest.get()));
+                }
+
+                TodoLog.restore(body, store);
+                count++;
+            }
+
+            if (input.readLong() != count) {
+                throw new IOException(String.format("Incomplete edge todo snapshot %s", latest.get()));
+            }
+        }
+
+        return sequenceOf(latest.get());
+    }
+
+    /**
+     * Deletes the snapshots older than the given sequence, together with temporary files left by a crash.
+     */
+    static void deleteBefore(Path directory, long sequence) throws IOException {
+        for (Path path : snapshots(directory)) {
+            if (sequenceOf(path) < sequence) {
+                Files.deleteIfExists(path);
+            }
+        }
+
+        try (Stream<Path> stream = Files.list(directory)) {
+            for (Path path : stream.filter(path -> path.getFileName().toString().endsWith(TEMPORARY_SUFFIX))
+                    .toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static List<Path> snapshots(Path directory) throws IOException {
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream.filter(path -> {
+                        String fileName = path.getFileName().toString();
+
+                        return fileName.startsWith(SNAPSHOT_PREFIX) && fileName.endsWith(SNAPSHOT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static Path path(Path directory, long sequence) {
+        return directory.resolve(String.format("%s%019d%s", SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX));
+    }
+
+    private static long sequenceOf(Path path) {
+        String fileName = path.getFileName().toString();
+
+        return Long.parseLong(
+                fileName.substring(SNAPSHOT_PREFIX.length(), fileName.length() - SNAPSHOT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.event;
+
+import com.github.pmviva.todo.list.api.audit.TodoHistoryRecorder;
+import com.github.pmviva.todo.list.api.cache.TodoCacheInvalidationPublisher;
+import com.github.pmviva.todo.list.api.outbox.TodoOutboxWriter;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+/**
+ * Carries out the side effects of the todo changes made on the reactive stack, whose R2DBC transactions the
+ * transactional event listeners of the servlet stack take no part in. The outbox message and the cache invalidation
+ * notification are written inside the changing transaction, as their listeners do, and the change is handed to the
+ * history recorder once it is committed, on behalf of the authenticated principal. Each side effect is carried out
+ * only when its listener is configured.
+ */
+public class ReactiveTodoChangePublisher {
+
+    private static final String OUTBOX_INSERT_QUERY =
+            """
+            INSERT INTO todo_outbox (partition_key, todo_id, change_type, change_count, todo_ids)
+            VALUES (:partition, :todoId, :type, :count, :todoIds)
+            """;
+
+    private static final String NOTIFY_QUERY = "SELECT pg_notify(:channel, :payload)";
+
+    private final DatabaseClient databaseClient;
+
+    private final TransactionalOperator transactionalOperator;
+
+    private final Optional<TodoOutboxWriter> todoOutboxWriter;
+
+    private final Optional<TodoCacheInvalidationPublisher> todoCacheInvalidationPublisher;
+
+    private final Optional<TodoHistoryRecorder> todoHistoryRecorder;
+
+    public ReactiveTodoChangePublisher(
+            DatabaseClient databaseClient,
+            TransactionalOperator transactionalOperator,
+            Optional<TodoOutboxWriter> todoOutboxWriter,
+            Optional<TodoCacheInvalidationPublisher> todoCacheInvalidationPublisher,
+            Optional<TodoHistoryRecorder> todoHistoryRecorder) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.todoOutboxWriter = todoOutboxWriter;
+        this.todoCacheInvalidationPublisher = todoCacheInvalidationPublisher;
+        this.todoHistoryRecorder = todoHistoryRecorder;
+    }
+
+    /**
+     * Runs a change in a transaction together with the writes of its event, and records the event once committed. A
+     * change that completes empty commits nothing and publishes no event.
+     */
+    public <T> Mono<T> publish(Mono<T> change, Function<T, TodoChangedEvent> event) {
+        return change.flatMap(result -> {
+                    TodoChangedEvent changedEvent = event.apply(result);
+
+                    return beforeCommit(changedEvent).thenReturn(Tuples.of(result, changedEvent));
+                })
+                .as(transactionalOperator::transactional)
+                .flatMap(committed -> afterCommit(committed.getT2()).thenReturn(committed.getT1()));
+    }
+
+    private Mono<Void> beforeCommit(TodoChangedEvent event) {
+        Mono<Void> outbox = todoOutboxWriter
+                .map(writer -> Flux.fromIterable(writer.messages(event).entrySet())
+                        .concatMap(message -> outboxInsert(message.getKey(), message.getValue()))
+                        .then())
+                .orElseGet(Mono::empty);
+        Mono<Void> notification = todoCacheInvalidationPublisher
+                .map(publisher -> databaseClient
+                        .sql(NOTIFY_QUERY)
+                        .bind("channel", publisher.getChannel())
+                        .bind("payload", TodoCacheInvalidationPublisher.payload(event))
+                        .then())
+                .orElseGet(Mono::empty);
+
+        return outbox.then(notification);
+    }
+
+    private Mono<Long> outboxInsert(int partition, TodoChangedEvent event) {
+        GenericExecuteSpec spec = databaseClient
+                .sql(OUTBOX_INSERT_QUERY)
+                .bind("partition", partition)
+                .bind("type", event.type().name())
+                .bind("count", event.count());
+
+        spec = event.todoId() != null ? spec.bind("todoId", event.todoId()) : spec.bindNull("todoId", UUID.class);
+        spec = event.todoIds().isEmpty()
+                ? spec.bindNull("todoIds", UUID[].class)
+                : spec.bind("todoIds", event.todoIds().toArray(UUID[]::new));
+
+        return spec.fetch().rowsUpdated();
+    }
+
+    private Mono<Void> afterCommit(TodoChangedEvent event) {
+        if (todoHistoryRecorder.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return ReactiveSecurityContextHolder.getContext()
+                .mapNotNull(SecurityContext::getAuthentication)
+                .mapNotNull(Authentication::getName)
+                .defaultIfEmpty(TodoHistoryRecorder.SYSTEM_PRINCIPAL)
+                .doOnNext(principal -> todoHistoryRecorder.get().record(event, principal))
+                .then();
+    }
+}
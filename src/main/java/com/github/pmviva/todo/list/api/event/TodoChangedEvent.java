@@ -0,0 +1,60 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published by the service layer inside the transaction that changes todos. Single-todo changes carry the todo id and,
+ * when known, the state of the todo before and after the change; bulk changes carry the ids of the affected todos
+ * instead. Listeners that must take part in the change (cache invalidation, outbox) use {@code BEFORE_COMMIT}, the rest
+ * {@code AFTER_COMMIT}. Changes published away from the thread of the request that asked for them, such as todos
+ * created by the write-behind writer, carry the principal of that request; the rest leave it {@code null}.
+ */
+public record TodoChangedEvent(
+        TodoChangeType type,
+        UUID todoId,
+        long count,
+        TodoSnapshot before,
+        TodoSnapshot after,
+        List<UUID> todoIds,
+        String principal) {
+
+    public TodoChangedEvent(TodoChangeType type, UUID todoId) {
+        this(type, todoId, null, null);
+    }
+
+    public TodoChangedEvent(TodoChangeType type, UUID todoId, TodoSnapshot before, TodoSnapshot after) {
+        this(type, todoId, 1, before, after, List.of(), null);
+    }
+
+    public static TodoChangedEvent bulk(TodoChangeType type, List<UUID> todoIds) {
+        return new TodoChangedEvent(type, null, todoIds.size(), null, null, List.copyOf(todoIds), null);
+    }
+
+    public TodoChangedEvent withPrincipal(String principal) {
+        return new TodoChangedEvent(type, todoId, count, before, after, todoIds, principal);
+    }
+}
@@ -25,6 +25,9 @@ package com.github.pmviva.todo.list.api.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -34,10 +37,37 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Void> handleBadRequestException(BadRequestException exception) {
+        logger.error("Handling BadRequestException", exception);
+
+        return ResponseEntity.badRequest().build();
+    }
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<Void> handleNotFoundException(NotFoundException exception) {
         logger.error("Handling NotFoundException", exception);
 
         return ResponseEntity.notFound().build();
     }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Void> handleServiceUnavailableException(ServiceUnavailableException exception) {
+        logger.warn("Handling ServiceUnavailableException: {}", exception.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+    }
+
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<Void> handleQueryTimeoutException(QueryTimeoutException exception) {
+        logger.warn("Handling QueryTimeoutException: {}", exception.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+    }
 }
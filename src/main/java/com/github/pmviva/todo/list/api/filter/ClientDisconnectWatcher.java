@@ -0,0 +1,264 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Notices clients that close their connection while their request is still running, which the servlet container does
+ * not report: it only finds out when it writes the response, whether the request is synchronous or asynchronous. The
+ * kernel does know, as the server side of the connection moves to CLOSE_WAIT once the client's FIN arrives, so the
+ * watcher polls the TCP socket tables under {@code /proc/net} and runs the disconnect action of every watched request
+ * whose connection is in that state. Only requests that have run for a whole poll interval are looked up, so short
+ * requests never cost a read of the tables. Where the tables cannot be read, as off Linux, or where a proxy rewrites
+ * the addresses of the request, nothing is noticed and the request runs until it completes or times out.
+ */
+public class ClientDisconnectWatcher implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientDisconnectWatcher.class);
+
+    static final List<Path> SOCKET_TABLES = List.of(Path.of("/proc/net/tcp"), Path.of("/proc/net/tcp6"));
+
+    private static final String CLOSE_WAIT_STATE = "08";
+
+    private final List<Path> socketTables;
+
+    private final Duration pollInterval;
+
+    private final Set<Watch> watches = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong disconnects = new AtomicLong();
+
+    private volatile boolean running;
+
+    private Thread thread;
+
+    public ClientDisconnectWatcher(Duration pollInterval) {
+        this(SOCKET_TABLES, pollInterval);
+    }
+
+    ClientDisconnectWatcher(List<Path> socketTables, Duration pollInterval) {
+        this.socketTables = List.copyOf(socketTables);
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Watches the connection of a request until the returned watch is closed. Once the client closes the connection the
+     * action runs on every poll until it reports that it acted, as the request may be between two statements.
+     */
+    public Watch watch(HttpServletRequest request, BooleanSupplier onDisconnect) {
+        Watch watch = new Watch(connection(request), onDisconnect, System.nanoTime());
+
+        if (watch.connection != null) {
+            watches.add(watch);
+        }
+
+        return watch;
+    }
+
+    /**
+     * Runs the disconnect action of every request that has been watched for a whole poll interval and whose client has
+     * closed its connection, and stops watching the requests whose action acted.
+     */
+    void poll() {
+        long threshold = System.nanoTime() - pollInterval.toNanos();
+        List<Watch> due = watches.stream()
+                .filter(watch -> watch.startedNanos - threshold <= 0)
+                .toList();
+
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Set<Connection> closing = closingConnections();
+
+        for (Watch watch : due) {
+            if (closing.contains(watch.connection) && watch.onDisconnect.getAsBoolean() && watches.remove(watch)) {
+                disconnects.incrementAndGet();
+            }
+        }
+    }
+
+    public long getDisconnects() {
+        return disconnects.get();
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+
+        thread = Thread.ofPlatform().name("client-disconnect-watcher").daemon().start(this::run);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+
+        if (thread != null) {
+            LockSupport.unpark(thread);
+
+            try {
+                thread.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+
+            thread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            LockSupport.parkNanos(pollInterval.toNanos());
+
+            try {
+                poll();
+            } catch (RuntimeException exception) {
+                logger.warn("Failed to poll client connections", exception);
+            }
+        }
+    }
+
+    private Set<Connection> closingConnections() {
+        Set<Connection> closing = new HashSet<>();
+
+        for (Path socketTable : socketTables) {
+            try (BufferedReader reader = Files.newBufferedReader(socketTable, StandardCharsets.US_ASCII)) {
+                String line = reader.readLine();
+
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.trim().split("\\s+");
+
+                    if (fields.length > 3 && CLOSE_WAIT_STATE.equals(fields[3])) {
+                        closing.add(parseConnection(fields[1], fields[2]));
+                    }
+                }
+            } catch (NoSuchFileException exception) {
+                // Not every host has both tables, and hosts other than Linux have neither
+            } catch (IOException | IllegalArgumentException exception) {
+                logger.debug("Unable to read the socket table {}", socketTable, exception);
+            }
+        }
+
+        return closing;
+    }
+
+    /**
+     * Parses the local and remote addresses of a socket table entry, written as hexadecimal address and port pairs with
+     * the address in the byte order of the host, which is little-endian per 32-bit word on the platforms served.
+     */
+    static Connection parseConnection(String local, String remote) {
+        String[] localParts = local.split(":");
+        String[] remoteParts = remote.split(":");
+
+        if (localParts.length != 2 || remoteParts.length != 2) {
+            throw new IllegalArgumentException(String.format("Malformed socket table addresses %s %s", local, remote));
+        }
+
+        int localPort = Integer.parseInt(localParts[1], 16);
+        int remotePort = Integer.parseInt(remoteParts[1], 16);
+
+        return new Connection(localPort, parseAddress(remoteParts[0]), remotePort);
+    }
+
+    private static InetAddress parseAddress(String hex) {
+        if (hex.length() != 8 && hex.length() != 32) {
+            throw new IllegalArgumentException(String.format("Malformed socket table address %s", hex));
+        }
+
+        byte[] bytes = new byte[hex.length() / 2];
+
+        for (int word = 0; word < bytes.length / 4; word++) {
+            for (int index = 0; index < 4; index++) {
+                int offset = word * 8 + (3 - index) * 2;
+
+                bytes[word * 4 + index] = (byte) Integer.parseInt(hex.substring(offset, offset + 2), 16);
+            }
+        }
+
+        try {
+            return InetAddress.getByAddress(bytes);
+        } catch (UnknownHostException exception) {
+            throw new IllegalArgumentException(String.format("Malformed socket table address %s", hex), exception);
+        }
+    }
+
+    private static Connection connection(HttpServletRequest request) {
+        try {
+            return new Connection(
+                    request.getLocalPort(), InetAddress.getByName(request.getRemoteAddr()), request.getRemotePort());
+        } catch (UnknownHostException exception) {
+            return null;
+        }
+    }
+
+    record Connection(int localPort, InetAddress remoteAddress, int remotePort) {}
+
+    /**
+     * The watch of a request, closed once the request completes.
+     */
+    public final class Watch implements AutoCloseable {
+
+        private final Connection connection;
+
+        private final BooleanSupplier onDisconnect;
+
+        private final long startedNanos;
+
+        private Watch(Connection connection, BooleanSupplier onDisconnect, long startedNanos) {
+            this.connection = connection;
+            this.onDisconnect = onDisconnect;
+            this.startedNanos = startedNanos;
+        }
+
+        @Override
+        public void close() {
+            watches.remove(this);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.filter;
+
+import com.github.pmviva.todo.list.api.limit.EndpointClass;
+import com.github.pmviva.todo.list.api.limit.RateLimitResult;
+import com.github.pmviva.todo.list.api.limit.RateLimiter;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Applies per-principal rate limits once the bearer token has been authenticated. The principal is the first of the
+ * configured claims present in the token; unauthenticated requests are left for the authorization filter to reject.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String RATE_LIMIT_LIMIT = "RateLimit-Limit";
+
+    public static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+
+    public static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+
+    private final RateLimiter rateLimiter;
+
+    private final List<String> keyClaims;
+
+    public RateLimitFilter(RateLimiter rateLimiter, List<String> keyClaims) {
+        this.rateLimiter = rateLimiter;
+        this.keyClaims = List.copyOf(keyClaims);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @Nonnull HttpServletRequest request,
+            @Nonnull HttpServletResponse response,
+            @Nonnull FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = resolveKey(SecurityContextHolder.getContext().getAuthentication());
+
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitResult result = rateLimiter.tryConsume(key, EndpointClass.of(request));
+        String reset = String.valueOf(Math.max(1, (long) Math.ceil(result.reset().toMillis() / 1000.0)));
+
+        response.setHeader(RATE_LIMIT_LIMIT, String.valueOf(result.limit()));
+        response.setHeader(RATE_LIMIT_REMAINING, String.valueOf(result.remaining()));
+        response.setHeader(RATE_LIMIT_RESET, reset);
+
+        if (result.allowed()) {
+            filterChain.doFilter(request, response);
+        } else {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, reset);
+        }
+    }
+
+    private String resolveKey(Authentication authentication) {
+        if (authentication instanceof JwtAuthenticationToken token) {
+            for (String claim : keyClaims) {
+                String value = token.getToken().getClaimAsString(claim);
+
+                if (value != null && !value.isBlank()) {
+                    return value;
+                }
+            }
+        }
+
+        return null;
+    }
+}
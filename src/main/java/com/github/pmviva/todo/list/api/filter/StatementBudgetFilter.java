@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.filter;
+
+import com.github.pmviva.todo.list.api.sql.StatementCapture;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the SQL statements each request runs and flags the requests that run more than the statement budget, which
+ * usually points at an N+1 query or a redundant lookup. Flagged requests are logged with their statements and counted.
+ * Asynchronous requests are checked once they complete.
+ */
+public class StatementBudgetFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementBudgetFilter.class);
+
+    private final int budget;
+
+    private final AtomicLong overBudget = new AtomicLong();
+
+    public StatementBudgetFilter(int budget) {
+        this.budget = budget;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @Nonnull HttpServletRequest request,
+            @Nonnull HttpServletResponse response,
+            @Nonnull FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCapture capture = StatementCapture.open();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                capture.detach();
+                request.getAsyncContext().addListener(new CompletionListener(() -> {
+                    capture.close();
+                    check(request, capture);
+                }));
+            } else {
+                capture.close();
+                check(request, capture);
+            }
+        }
+    }
+
+    private void check(HttpServletRequest request, StatementCapture capture) {
+        if (capture.count() > budget) {
+            overBudget.incrementAndGet();
+
+            logger.warn(
+                    "{} {} ran {} SQL statements in {} ms, over the budget of {}:\n{}",
+                    request.getMethod(),
+                    path(request),
+                    capture.count(),
+                    capture.elapsed().toMillis(),
+                    budget,
+                    capture.describe());
+        }
+    }
+
+    public long getOverBudget() {
+        return overBudget.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("todo.sql.over-budget", this, StatementBudgetFilter::getOverBudget)
+                .description("Requests that ran more SQL statements than the statement budget")
+                .register(registry);
+    }
+
+    private static String path(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.filter;
+
+import com.github.pmviva.todo.list.api.sql.StatementTimeoutClass;
+import com.github.pmviva.todo.list.api.sql.StatementTimeoutScope;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Bounds the SQL statements of every request by the statement timeout of its endpoint class, and cancels the statement
+ * in flight once the client closes its connection. The servlet container does not report such a disconnect before the
+ * response is written, so the connection is watched by the {@link ClientDisconnectWatcher} for as long as the request
+ * runs. A request that goes asynchronous keeps its scope and its watch until it completes, its statements run within
+ * the scope on the thread of its callable through {@code StatementCallableInterceptor}, and the statement in flight is
+ * also cancelled when the container reports an error or a timeout for it.
+ */
+public class StatementTimeoutFilter extends OncePerRequestFilter {
+
+    private final Map<StatementTimeoutClass, Duration> timeouts;
+
+    private final ClientDisconnectWatcher clientDisconnectWatcher;
+
+    public StatementTimeoutFilter(
+            Map<StatementTimeoutClass, Duration> timeouts, ClientDisconnectWatcher clientDisconnectWatcher) {
+        this.timeouts = new EnumMap<>(timeouts);
+        this.clientDisconnectWatcher = clientDisconnectWatcher;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @Nonnull HttpServletRequest request,
+            @Nonnull HttpServletResponse response,
+            @Nonnull FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementTimeoutClass timeoutClass = StatementTimeoutClass.of(request);
+
+        StatementTimeoutScope scope = StatementTimeoutScope.open(timeoutClass, timeouts.get(timeoutClass));
+        ClientDisconnectWatcher.Watch watch = clientDisconnectWatcher.watch(request, scope::cancel);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.detach();
+
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CancellingAsyncListener(scope, watch));
+            } else {
+                watch.close();
+                scope.close();
+            }
+        }
+    }
+
+    private record CancellingAsyncListener(StatementTimeoutScope scope, ClientDisconnectWatcher.Watch watch)
+            implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            watch.close();
+            scope.close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            scope.cancel();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            scope.cancel();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {}
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.boot.jackson.JsonComponent;
+import org.springframework.data.web.PagedModel;
+
+/**
+ * Hand-written serializer for the page DTO every listing is returned as. Pages hold a single type of element, so the
+ * element serializer is looked up once per page instead of once per element.
+ */
+@JsonComponent
+public class PagedModelJsonComponent {
+
+    static final SerializableString CONTENT = new SerializedString("content");
+
+    static final SerializableString PAGE = new SerializedString("page");
+
+    static final SerializableString SIZE = new SerializedString("size");
+
+    static final SerializableString NUMBER = new SerializedString("number");
+
+    static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+
+    static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+
+    @SuppressWarnings("rawtypes")
+    public static class Serializer extends StdSerializer<PagedModel> {
+
+        public Serializer() {
+            super(PagedModel.class);
+        }
+
+        @Override
+        public void serialize(PagedModel model, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject(model);
+            generator.writeFieldName(CONTENT);
+            writeContent(model.getContent(), generator, provider);
+            generator.writeFieldName(PAGE);
+            writeMetadata(model.getMetadata(), generator);
+            generator.writeEndObject();
+        }
+
+        private static void writeContent(List<?> content, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartArray(content, content.size());
+
+            Class<?> elementType = null;
+            JsonSerializer<Object> serializer = null;
+
+            for (Object element : content) {
+                if (element == null) {
+                    provider.defaultSerializeNull(generator);
+                    continue;
+                }
+
+                if (element.getClass() != elementType) {
+                    elementType = element.getClass();
+                    serializer = provider.findContentValueSerializer(elementType, null);
+                }
+
+                serializer.serialize(element, generator, provider);
+            }
+
+            generator.writeEndArray();
+        }
+
+        private static void writeMetadata(PagedModel.PageMetadata metadata, JsonGenerator generator)
+                throws IOException {
+            if (metadata == null) {
+                generator.writeNull();
+                return;
+            }
+
+            generator.writeStartObject(metadata);
+            generator.writeFieldName(SIZE);
+            generator.writeNumber(metadata.size());
+            generator.writeFieldName(NUMBER);
+            generator.writeNumber(metadata.number());
+            generator.writeFieldName(TOTAL_ELEMENTS);
+            generator.writeNumber(metadata.totalElements());
+            generator.writeFieldName(TOTAL_PAGES);
+            generator.writeNumber(metadata.totalPages());
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.github.pmviva.todo.list.api.model.ArchivedTodo;
+import com.github.pmviva.todo.list.api.model.Todo;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * Hand-written serializers for todos, which are written and read on every request. They replace the bean serializers
+ * Jackson would build by introspection, write the property names from pre-encoded strings and keep the timestamp
+ * format of {@link TodoTimestamps}. Every other {@link Instant}, such as the timestamps of sparse fieldsets and of the
+ * history, is written and read through {@link TodoTimestamps} as well, so clients are given a single format.
+ */
+@JsonComponent
+public class TodoJsonComponent {
+
+    static final SerializableString ID = new SerializedString("id");
+
+    static final SerializableString DESCRIPTION = new SerializedString("description");
+
+    static final SerializableString COMPLETED = new SerializedString("completed");
+
+    static final SerializableString CREATED_AT = new SerializedString("createdAt");
+
+    static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    static final SerializableString ARCHIVED_AT = new SerializedString("archivedAt");
+
+    public static class Serializer extends StdSerializer<Todo> {
+
+        public Serializer() {
+            super(Todo.class);
+        }
+
+        @Override
+        public void serialize(Todo todo, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject(todo);
+            writeId(generator, todo.getId());
+            generator.writeFieldName(DESCRIPTION);
+            generator.writeString(todo.getDescription());
+            generator.writeFieldName(COMPLETED);
+            writeBoolean(generator, todo.getCompleted());
+            generator.writeFieldName(CREATED_AT);
+            TodoTimestamps.write(generator, todo.getCreatedAt());
+            generator.writeFieldName(UPDATED_AT);
+            TodoTimestamps.write(generator, todo.getUpdatedAt());
+            generator.writeEndObject();
+        }
+    }
+
+    public static class Deserializer extends StdDeserializer<Todo> {
+
+        public Deserializer() {
+            super(Todo.class);
+        }
+
+        @Override
+        public Todo deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonToken token = parser.currentToken();
+
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            } else if (token != JsonToken.FIELD_NAME) {
+                return (Todo) context.handleUnexpectedToken(Todo.class, parser);
+            }
+
+            Todo todo = new Todo();
+
+            for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+
+                switch (fieldName) {
+                    case "id" -> todo.setId(readId(parser, context));
+                    case "description" -> todo.setDescription(readString(parser, context));
+                    case "completed" -> todo.setCompleted(readBoolean(parser, context));
+                    case "createdAt" -> todo.setCreatedAt(readTimestamp(parser, context));
+                    case "updatedAt" -> todo.setUpdatedAt(readTimestamp(parser, context));
+                    default -> handleUnknownProperty(parser, context, todo, fieldName);
+                }
+            }
+
+            return todo;
+        }
+
+        private static UUID readId(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken() != JsonToken.VALUE_STRING) {
+                return context.readValue(parser, UUID.class);
+            }
+
+            String text = parser.getText();
+
+            try {
+                return UUID.fromString(text);
+            } catch (IllegalArgumentException exception) {
+                return (UUID) context.handleWeirdStringValue(UUID.class, text, exception.getMessage());
+            }
+        }
+
+        private static Boolean readBoolean(JsonParser parser, DeserializationContext context) throws IOException {
+            return switch (parser.currentToken()) {
+                case VALUE_TRUE -> Boolean.TRUE;
+                case VALUE_FALSE -> Boolean.FALSE;
+                case VALUE_NULL -> null;
+                default -> context.readValue(parser, Boolean.class);
+            };
+        }
+
+        private static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+            return switch (parser.currentToken()) {
+                case VALUE_STRING -> parser.getText();
+                case VALUE_NULL -> null;
+                default -> context.readValue(parser, String.class);
+            };
+        }
+    }
+
+    public static class ArchivedSerializer extends StdSerializer<ArchivedTodo> {
+
+        public ArchivedSerializer() {
+            super(ArchivedTodo.class);
+        }
+
+        @Override
+        public void serialize(ArchivedTodo todo, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject(todo);
+            writeId(generator, todo.getId());
+            generator.writeFieldName(DESCRIPTION);
+            generator.writeString(todo.getDescription());
+            generator.writeFieldName(COMPLETED);
+            writeBoolean(generator, todo.getCompleted());
+            generator.writeFieldName(CREATED_AT);
+            TodoTimestamps.write(generator, todo.getCreatedAt());
+            generator.writeFieldName(UPDATED_AT);
+            TodoTimestamps.write(generator, todo.getUpdatedAt());
+            generator.writeFieldName(ARCHIVED_AT);
+            TodoTimestamps.write(generator, todo.getArchivedAt());
+            generator.writeEndObject();
+        }
+    }
+
+    public static class TimestampSerializer extends StdSerializer<Instant> {
+
+        public TimestampSerializer() {
+            super(Instant.class);
+        }
+
+        @Override
+        public void serialize(Instant timestamp, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            TodoTimestamps.write(generator, timestamp);
+        }
+    }
+
+    public static class TimestampDeserializer extends StdDeserializer<Instant> {
+
+        public TimestampDeserializer() {
+            super(Instant.class);
+        }
+
+        @Override
+        public Instant deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return readTimestamp(parser, context);
+        }
+    }
+
+    private static void writeId(JsonGenerator generator, UUID id) throws IOException {
+        generator.writeFieldName(ID);
+
+        if (id == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(id.toString());
+        }
+    }
+
+    private static void writeBoolean(JsonGenerator generator, Boolean value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeBoolean(value);
+        }
+    }
+
+    private static Instant readTimestamp(JsonParser parser, DeserializationContext context) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> Instant.ofEpochMilli(parser.getLongValue());
+            case VALUE_STRING -> {
+                String text = parser.getText().trim();
+
+                try {
+                    yield TodoTimestamps.parse(text);
+                } catch (DateTimeParseException exception) {
+                    yield (Instant) context.handleWeirdStringValue(Instant.class, text, exception.getMessage());
+                }
+            }
+            default -> (Instant) context.handleUnexpectedToken(Instant.class, parser);
+        };
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Formats and parses todo timestamps. Todos are written like Jackson's {@code StdDateFormat} writes dates in UTC, for
+ * instance {@code 2025-01-01T12:30:00.000+00:00}, which is the format clients have always been given.
+ */
+public final class TodoTimestamps {
+
+    public static final int LENGTH = "yyyy-MM-ddTHH:mm:ss.SSS+00:00".length();
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private TodoTimestamps() {}
+
+    /**
+     * Writes the timestamp as a string, or a null when there is none.
+     */
+    public static void write(JsonGenerator generator, Instant timestamp) throws IOException {
+        if (timestamp == null) {
+            generator.writeNull();
+        } else {
+            char[] buffer = new char[LENGTH];
+            format(timestamp.toEpochMilli(), buffer);
+            generator.writeString(buffer, 0, LENGTH);
+        }
+    }
+
+    /**
+     * Formats epoch milliseconds into the first {@link #LENGTH} characters of the buffer. The date is derived with the
+     * days-to-civil algorithm, so nothing is allocated.
+     */
+    public static void format(long epochMillis, char[] buffer) {
+        long days = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+        long millisOfDay = Math.floorMod(epochMillis, MILLIS_PER_DAY);
+
+        long shifted = days + 719_468;
+        long era = Math.floorDiv(shifted, 146_097);
+        long dayOfEra = shifted - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * monthIndex + 2) / 5 + 1;
+        long month = monthIndex < 10 ? monthIndex + 3 : monthIndex - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, month, 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, day, 2);
+        buffer[10] = 'T';
+        writeDigits(buffer, 11, millisOfDay / 3_600_000, 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, millisOfDay / 60_000 % 60, 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, millisOfDay / 1_000 % 60, 2);
+        buffer[19] = '.';
+        writeDigits(buffer, 20, millisOfDay % 1_000, 3);
+        "+00:00".getChars(0, 6, buffer, 23);
+    }
+
+    /**
+     * Parses the ISO-8601 forms {@code StdDateFormat} accepted: a date-time with an offset, a date-time without one,
+     * which is taken as UTC, or a bare date, which is the start of that day in UTC. The format todos are written in is
+     * parsed without a formatter.
+     *
+     * @throws DateTimeParseException if the text is none of them
+     */
+    public static Instant parse(String text) {
+        if (isFormatted(text)) {
+            return Instant.ofEpochMilli(parseFormatted(text));
+        }
+
+        try {
+            return OffsetDateTime.parse(text).toInstant();
+        } catch (DateTimeParseException offsetException) {
+            try {
+                return LocalDateTime.parse(text).toInstant(ZoneOffset.UTC);
+            } catch (DateTimeParseException localException) {
+                return LocalDate.parse(text).atStartOfDay(ZoneOffset.UTC).toInstant();
+            }
+        }
+    }
+
+    private static boolean isFormatted(String text) {
+        if (text.length() != LENGTH || !text.endsWith("+00:00")) {
+            return false;
+        }
+
+        for (int index = 0; index < LENGTH - 6; index++) {
+            char character = text.charAt(index);
+            boolean valid = switch (index) {
+                case 4, 7 -> character == '-';
+                case 10 -> character == 'T';
+                case 13, 16 -> character == ':';
+                case 19 -> character == '.';
+                default -> character >= '0' && character <= '9';
+            };
+
+            if (!valid) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long parseFormatted(String text) {
+        long year = readDigits(text, 0, 4);
+        long month = readDigits(text, 5, 2);
+        long day = readDigits(text, 8, 2);
+        long hour = readDigits(text, 11, 2);
+        long minute = readDigits(text, 14, 2);
+        long second = readDigits(text, 17, 2);
+
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month) || hour > 23 || minute > 59
+                || second > 59) {
+            throw new DateTimeParseException(String.format("Invalid timestamp: %s", text), text, 0);
+        }
+
+        long shiftedYear = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(shiftedYear, 400);
+        long yearOfEra = shiftedYear - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        long days = era * 146_097 + dayOfEra - 719_468;
+
+        return days * MILLIS_PER_DAY + hour * 3_600_000 + minute * 60_000 + second * 1_000 + readDigits(text, 20, 3);
+    }
+
+    private static long lengthOfMonth(long year, long month) {
+        return switch ((int) month) {
+            case 2 -> year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static long readDigits(String text, int offset, int length) {
+        long value = 0;
+
+        for (int index = offset; index < offset + length; index++) {
+            value = value * 10 + (text.charAt(index) - '0');
+        }
+
+        return value;
+    }
+
+    private static void writeDigits(char[] buffer, int offset, long value, int length) {
+        for (int index = offset + length - 1; index >= offset; index--) {
+            buffer[index] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.limit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Locale;
+import org.springframework.http.HttpMethod;
+
+public enum EndpointClass {
+    READ,
+    WRITE,
+    BULK;
+
+    private static final String COLLECTION_SUFFIX = "/todos";
+
+    private static final char CUSTOM_METHOD_SEPARATOR = ':';
+
+    private static final String BATCH_GET_METHOD = ":batchGet";
+
+    /**
+     * Classifies a request by the amount of work it may trigger: collection-level custom methods (such as
+     * {@code /todos:complete}) and collection deletes are bulk operations, safe methods and batch gets are reads and
+     * the rest single-resource writes.
+     */
+    public static EndpointClass of(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        String path = request.getRequestURI();
+        String lastSegment = path.substring(path.lastIndexOf('/') + 1);
+
+        if (lastSegment.endsWith(BATCH_GET_METHOD)) {
+            return READ;
+        } else if (lastSegment.indexOf(CUSTOM_METHOD_SEPARATOR) >= 0
+                || (HttpMethod.DELETE.equals(method) && path.endsWith(COLLECTION_SUFFIX))) {
+            return BULK;
+        } else if (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method)) {
+            return READ;
+        } else {
+            return WRITE;
+        }
+    }
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.limit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Keeps one token bucket per principal and endpoint class in concurrent maps, whose bin-level locking stripes bucket
+ * creation while consumption itself is lock-free. Buckets not used within the idle timeout are evicted periodically,
+ * an evicted principal simply starts again with a full bucket.
+ */
+public class InMemoryRateLimiter implements RateLimiter, MeterBinder {
+
+    private final Map<EndpointClass, RateLimit> rateLimits;
+
+    private final Map<EndpointClass, ConcurrentHashMap<String, TokenBucket>> buckets;
+
+    private final long idleTimeoutNanos;
+
+    private final LongSupplier nanoTime;
+
+    public InMemoryRateLimiter(Map<EndpointClass, RateLimit> rateLimits, Duration idleTimeout) {
+        this(rateLimits, idleTimeout, System::nanoTime);
+    }
+
+    InMemoryRateLimiter(Map<EndpointClass, RateLimit> rateLimits, Duration idleTimeout, LongSupplier nanoTime) {
+        this.rateLimits = new EnumMap<>(rateLimits);
+        this.buckets = new EnumMap<>(EndpointClass.class);
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoTime = nanoTime;
+
+        for (EndpointClass endpointClass : rateLimits.keySet()) {
+            buckets.put(endpointClass, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public RateLimitResult tryConsume(String key, EndpointClass endpointClass) {
+        RateLimit rateLimit = rateLimits.get(endpointClass);
+
+        if (rateLimit == null) {
+            return new RateLimitResult(true, Long.MAX_VALUE, Long.MAX_VALUE, Duration.ZERO);
+        }
+
+        long now = nanoTime.getAsLong();
+
+        return buckets.get(endpointClass)
+                .computeIfAbsent(key, ignored -> new TokenBucket(rateLimit, now))
+                .tryConsume(rateLimit, now);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = nanoTime.getAsLong();
+
+        for (ConcurrentHashMap<String, TokenBucket> map : buckets.values()) {
+            map.values().removeIf(bucket -> now - bucket.getAccessedAtNanos() > idleTimeoutNanos);
+        }
+    }
+
+    public int size() {
+        return buckets.values().stream().mapToInt(Map::size).sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.rate.limit.buckets", this, InMemoryRateLimiter::size)
+                .description("Rate limit buckets held in memory")
+                .register(registry);
+    }
+}
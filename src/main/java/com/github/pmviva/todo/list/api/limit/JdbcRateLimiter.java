@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.limit;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Cluster-wide token buckets kept in Postgres. Refill and consumption happen in a single upsert, whose conditional
+ * update leaves the row untouched, and returns nothing, when the bucket is empty.
+ */
+public class JdbcRateLimiter implements RateLimiter {
+
+    private static final String CONSUME_QUERY =
+            """
+            INSERT INTO rate_limit_buckets AS bucket (bucket_key, tokens, refilled_at)
+            VALUES (?, ? - 1, now())
+            ON CONFLICT (bucket_key) DO UPDATE
+            SET tokens = LEAST(?, bucket.tokens + EXTRACT(EPOCH FROM now() - bucket.refilled_at) * ?) - 1,
+                refilled_at = now()
+            WHERE LEAST(?, bucket.tokens + EXTRACT(EPOCH FROM now() - bucket.refilled_at) * ?) >= 1
+            RETURNING tokens
+            """;
+
+    private static final String EVICT_QUERY =
+            "DELETE FROM rate_limit_buckets WHERE refilled_at < now() - make_interval(secs => ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<EndpointClass, RateLimit> rateLimits;
+
+    private final Duration idleTimeout;
+
+    public JdbcRateLimiter(JdbcTemplate jdbcTemplate, Map<EndpointClass, RateLimit> rateLimits, Duration idleTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rateLimits = new EnumMap<>(rateLimits);
+        this.idleTimeout = idleTimeout;
+    }
+
+    @Override
+    public RateLimitResult tryConsume(String key, EndpointClass endpointClass) {
+        RateLimit rateLimit = rateLimits.get(endpointClass);
+
+        if (rateLimit == null) {
+            return new RateLimitResult(true, Long.MAX_VALUE, Long.MAX_VALUE, Duration.ZERO);
+        }
+
+        double limit = rateLimit.limit();
+        double rate = rateLimit.tokensPerSecond();
+
+        List<Double> result = jdbcTemplate.queryForList(
+                CONSUME_QUERY,
+                Double.class,
+                String.format("%s:%s", endpointClass.tag(), key),
+                limit,
+                limit,
+                rate,
+                limit,
+                rate);
+
+        if (result.isEmpty()) {
+            return new RateLimitResult(false, rateLimit.limit(), 0, rateLimit.timeToRefill(1));
+        }
+
+        double tokens = result.getFirst();
+
+        return new RateLimitResult(
+                true, rateLimit.limit(), (long) tokens, rateLimit.timeToRefill(rateLimit.limit() - tokens));
+    }
+
+    @Scheduled(fixedDelayString = "${todo.rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        jdbcTemplate.update(EVICT_QUERY, (double) idleTimeout.toSeconds());
+    }
+}
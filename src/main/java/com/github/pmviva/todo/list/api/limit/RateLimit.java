@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.limit;
+
+import java.time.Duration;
+
+/**
+ * A token bucket policy: up to {@code limit} requests in a burst, refilled at {@code limit} tokens per {@code window}.
+ */
+public record RateLimit(long limit, Duration window) {
+
+    public RateLimit {
+        if (limit < 1 || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException(String.format("Invalid rate limit %d per %s", limit, window));
+        }
+    }
+
+    public double tokensPerNanosecond() {
+        return (double) limit / window.toNanos();
+    }
+
+    public double tokensPerSecond() {
+        return limit / (window.toNanos() / 1_000_000_000.0);
+    }
+
+    public Duration timeToRefill(double tokens) {
+        return Duration.ofNanos((long) Math.ceil(Math.max(0, tokens) * window.toNanos() / limit));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.limit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket: the token count and the last refill time are swapped together with a compare and set, so
+ * concurrent requests of the same principal never block each other.
+ */
+final class TokenBucket {
+
+    private final AtomicReference<State> state;
+
+    private volatile long accessedAtNanos;
+
+    TokenBucket(RateLimit rateLimit, long nowNanos) {
+        this.state = new AtomicReference<>(new State(rateLimit.limit(), nowNanos));
+        this.accessedAtNanos = nowNanos;
+    }
+
+    RateLimitResult tryConsume(RateLimit rateLimit, long nowNanos) {
+        accessedAtNanos = nowNanos;
+
+        while (true) {
+            State current = state.get();
+
+            double tokens = Math.min(
+                    rateLimit.limit(),
+                    current.tokens() + (nowNanos - current.refilledAtNanos()) * rateLimit.tokensPerNanosecond());
+
+            if (tokens < 1) {
+                return new RateLimitResult(false, rateLimit.limit(), 0, rateLimit.timeToRefill(1 - tokens));
+            }
+
+            if (state.compareAndSet(current, new State(tokens - 1, nowNanos))) {
+                return new RateLimitResult(
+                        true,
+                        rateLimit.limit(),
+                        (long) (tokens - 1),
+                        rateLimit.timeToRefill(rateLimit.limit() - tokens + 1));
+            }
+        }
+    }
+
+    long getAccessedAtNanos() {
+        return accessedAtNanos;
+    }
+
+    private record State(double tokens, long refilledAtNanos) {}
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.migration;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import liquibase.changelog.ChangeLogParameters;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.exception.LiquibaseException;
+import liquibase.parser.ChangeLogParser;
+import liquibase.parser.ChangeLogParserFactory;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import liquibase.resource.ResourceAccessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Verifies at startup that every change set of the master changelog has already been applied, without taking the
+ * Liquibase lock or touching checksums. Used in server mode, where migrations are applied by a separate run of the
+ * application with the {@code migrate} profile.
+ */
+public class SchemaVersionValidator implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaVersionValidator.class);
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    private static final String APPLIED_CHANGE_SETS_QUERY = "SELECT id, author FROM databasechangelog";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String changeLog;
+
+    public SchemaVersionValidator(JdbcTemplate jdbcTemplate, String changeLog) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeLog = changeLog;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Set<String> expected = getExpectedChangeSets();
+        Set<String> applied = getAppliedChangeSets();
+
+        Set<String> missing = new LinkedHashSet<>(expected);
+        missing.removeAll(applied);
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException(String.format(
+                    "Database schema is behind the changelog, missing change sets %s; "
+                            + "apply them by running the application with the migrate profile",
+                    missing));
+        }
+
+        logger.info("Database schema matches the changelog ({} change sets)", expected.size());
+    }
+
+    Set<String> getExpectedChangeSets() {
+        String location = changeLog.startsWith(CLASSPATH_PREFIX)
+                ? changeLog.substring(CLASSPATH_PREFIX.length())
+                : changeLog;
+
+        if (location.startsWith("/")) {
+            location = location.substring(1);
+        }
+
+        try (ClassLoaderResourceAccessor resourceAccessor =
+                new ClassLoaderResourceAccessor(getClass().getClassLoader())) {
+            DatabaseChangeLog databaseChangeLog = parse(location, resourceAccessor);
+
+            Set<String> result = new LinkedHashSet<>();
+
+            for (ChangeSet changeSet : databaseChangeLog.getChangeSets()) {
+                result.add(toKey(changeSet.getId(), changeSet.getAuthor()));
+            }
+
+            return result;
+        } catch (Exception exception) {
+            throw new IllegalStateException(String.format("Unable to parse changelog %s", changeLog), exception);
+        }
+    }
+
+    Set<String> getAppliedChangeSets() {
+        try {
+            return new HashSet<>(jdbcTemplate.query(
+                    APPLIED_CHANGE_SETS_QUERY,
+                    (resultSet, rowNum) -> toKey(resultSet.getString("id"), resultSet.getString("author"))));
+        } catch (DataAccessException exception) {
+            throw new IllegalStateException(
+                    "Unable to read the applied change sets; has the migrate profile been run?", exception);
+        }
+    }
+
+    private DatabaseChangeLog parse(String location, ResourceAccessor resourceAccessor) throws LiquibaseException {
+        ChangeLogParser parser = ChangeLogParserFactory.getInstance().getParser(location, resourceAccessor);
+
+        return parser.parse(location, new ChangeLogParameters(), resourceAccessor);
+    }
+
+    private static String toKey(String id, String author) {
+        return String.format("%s::%s", id, author);
+    }
+}
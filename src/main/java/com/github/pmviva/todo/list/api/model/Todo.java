@@ -23,27 +23,56 @@
 
 package com.github.pmviva.todo.list.api.model;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import java.util.Calendar;
+import java.time.Instant;
 import java.util.UUID;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.SQLSelect;
+import org.hibernate.annotations.SQLUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+/**
+ * A todo, stored in the todos table partitioned by month of creation. The todo ids table maps every id to its creation
+ * time, so loading, updating and deleting a todo by id look the creation time up first and the statement only touches
+ * the partition that holds the todo. Listings sorted by creation time read the partitions newest first and stop at the
+ * page limit, whereas listings sorted by update time and the counts of pages read every partition.
+ */
 @Entity
 @Table(name = "todos")
+@EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@SQLSelect(sql = "SELECT id, description, completed, created_at, updated_at FROM todos WHERE " + Todo.BY_ID
+        + " AND deleted_at IS NULL")
+@SQLUpdate(sql = "UPDATE todos SET completed = ?, description = ?, updated_at = ? WHERE " + Todo.BY_ID)
+@SQLDelete(sql = "UPDATE todos SET deleted_at = now() WHERE " + Todo.BY_ID + " AND deleted_at IS NULL")
+@SQLRestriction("deleted_at IS NULL")
 public class Todo {
 
+    /**
+     * Matches the todo with the id bound to its single parameter, resolving its partition key through the todo ids
+     * table so that the partition is pruned when the statement runs.
+     */
+    public static final String BY_ID =
+            "(id, created_at) = (SELECT todo_ids.id, todo_ids.created_at FROM todo_ids WHERE todo_ids.id = ?)";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -55,12 +84,12 @@ public class Todo {
     private Boolean completed;
 
     @CreatedDate
-    @Column(name = "created_at")
-    private Calendar createdAt;
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
 
     @LastModifiedDate
     @Column(name = "updated_at")
-    private Calendar updatedAt;
+    private Instant updatedAt;
 
     public Todo() {}
 
@@ -93,23 +122,19 @@ public class Todo {
         this.completed = completed;
     }
 
-    @SuppressFBWarnings({"EI_EXPOSE_REP2", "EI_EXPOSE_REP"})
-    public Calendar getCreatedAt() {
+    public Instant getCreatedAt() {
         return createdAt;
     }
 
-    @SuppressFBWarnings({"EI_EXPOSE_REP2", "EI_EXPOSE_REP"})
-    public void setCreatedAt(Calendar createdAt) {
+    public void setCreatedAt(Instant createdAt) {
         this.createdAt = createdAt;
     }
 
-    @SuppressFBWarnings({"EI_EXPOSE_REP2", "EI_EXPOSE_REP"})
-    public Calendar getUpdatedAt() {
+    public Instant getUpdatedAt() {
         return updatedAt;
     }
 
-    @SuppressFBWarnings({"EI_EXPOSE_REP2", "EI_EXPOSE_REP"})
-    public void setUpdatedAt(Calendar updatedAt) {
+    public void setUpdatedAt(Instant updatedAt) {
         this.updatedAt = updatedAt;
     }
 
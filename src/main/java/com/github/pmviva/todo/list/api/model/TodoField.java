@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.model;
+
+import com.github.pmviva.todo.list.api.exception.BadRequestException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of a {@link Todo} that can be requested through a sparse fieldset. The name of each field is both the JSON
+ * property and the entity attribute it is selected from. Projections hold the attribute values as they are selected,
+ * so timestamps stay {@link java.time.Instant}s and are written by the same serializer as full todos.
+ */
+public enum TodoField {
+    ID("id"),
+    DESCRIPTION("description"),
+    COMPLETED("completed"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private static final Map<String, TodoField> BY_NAME =
+            Arrays.stream(values()).collect(Collectors.toUnmodifiableMap(TodoField::fieldName, Function.identity()));
+
+    private final String fieldName;
+
+    TodoField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Parses the requested field names, rejecting unknown names and empty selections.
+     */
+    public static Set<TodoField> parse(Collection<String> fieldNames) {
+        EnumSet<TodoField> fields = EnumSet.noneOf(TodoField.class);
+
+        for (String fieldName : fieldNames) {
+            TodoField field = BY_NAME.get(fieldName.trim());
+
+            if (field == null) {
+                throw new BadRequestException(String.format("Unknown field: %s", fieldName));
+            }
+
+            fields.add(field);
+        }
+
+        if (fields.isEmpty()) {
+            throw new BadRequestException("At least one field must be requested");
+        }
+
+        return fields;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.model;
+
+import com.github.pmviva.todo.list.api.event.TodoChangeType;
+import com.github.pmviva.todo.list.api.event.TodoSnapshot;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * One change of a todo, as recorded by the history recorder. History entries are written in batches over JDBC and
+ * only ever read through JPA.
+ */
+@Entity
+@Immutable
+@Table(name = "todo_history")
+public class TodoHistory {
+
+    @Id
+    private Long id;
+
+    @Column(name = "todo_id")
+    private UUID todoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type")
+    private TodoChangeType changeType;
+
+    private String principal;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "before_state")
+    private TodoSnapshot before;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "after_state")
+    private TodoSnapshot after;
+
+    @Column(name = "changed_at")
+    private Instant changedAt;
+
+    protected TodoHistory() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public UUID getTodoId() {
+        return todoId;
+    }
+
+    public TodoChangeType getChangeType() {
+        return changeType;
+    }
+
+    public String getPrincipal() {
+        return principal;
+    }
+
+    public TodoSnapshot getBefore() {
+        return before;
+    }
+
+    public TodoSnapshot getAfter() {
+        return after;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("id", getId())
+                .append("todoId", getTodoId())
+                .append("changeType", getChangeType())
+                .append("principal", getPrincipal())
+                .append("before", getBefore())
+                .append("after", getAfter())
+                .append("changedAt", getChangedAt())
+                .toString();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.model;
+
+import com.github.pmviva.todo.list.api.exception.BadRequestException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Sort orders accepted on todo listings. Each one is backed by a composite index ending in the id column, so sorting by
+ * the field plus the id tiebreaker is served by an index scan instead of a sort.
+ */
+public enum TodoSortField {
+    CREATED_AT("createdAt", "created_at"),
+    UPDATED_AT("updatedAt", "updated_at");
+
+    public static final String ID_PROPERTY = "id";
+
+    public static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, CREATED_AT.property);
+
+    private final String property;
+
+    private final String columnName;
+
+    TodoSortField(String property, String columnName) {
+        this.property = property;
+        this.columnName = columnName;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public String columnName() {
+        return columnName;
+    }
+
+    /**
+     * Validates the sort of the given pageable against the whitelist and appends the id tiebreaker in the same
+     * direction, so the order is total and a single index can be scanned in either direction.
+     */
+    public static Pageable validate(Pageable pageable) {
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : DEFAULT_SORT;
+        List<Sort.Order> orders = sort.toList();
+
+        if (orders.size() != 1) {
+            throw new BadRequestException("Exactly one sort order is supported");
+        }
+
+        Sort.Order order = orders.getFirst();
+
+        TodoSortField field = fromProperty(order.getProperty())
+                .orElseThrow(() -> new BadRequestException(String.format("Unsupported sort: %s", order.getProperty())));
+
+        if (order.isIgnoreCase() || order.getNullHandling() != Sort.NullHandling.NATIVE) {
+            throw new BadRequestException(String.format("Unsupported sort options for: %s", field.property));
+        }
+
+        Sort validated = Sort.by(order.getDirection(), field.property, ID_PROPERTY);
+
+        return pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), validated)
+                : Pageable.unpaged(validated);
+    }
+
+    public static Optional<TodoSortField> fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst();
+    }
+}
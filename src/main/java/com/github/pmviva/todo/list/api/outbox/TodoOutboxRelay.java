@@ -0,0 +1,199 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.outbox;
+
+import com.github.pmviva.todo.list.api.event.TodoChangeType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.Array;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Relays outbox messages to the sink. Each partition is relayed by at most one node at a time, which holds a
+ * transaction-scoped advisory lock on it, and its messages are read in id order, so changes to the same todo are
+ * delivered in commit order. A batch is read with {@code FOR UPDATE SKIP LOCKED}, published and deleted with a single
+ * statement in one transaction; a failure rolls the batch back for redelivery, giving at-least-once delivery.
+ */
+public class TodoOutboxRelay implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoOutboxRelay.class);
+
+    static final String LOCK_NAME = "todo_outbox_relay";
+
+    private static final String LOCK_QUERY = "SELECT pg_try_advisory_xact_lock(hashtext(?), ?)";
+
+    private static final String SELECT_QUERY =
+            """
+            SELECT id, todo_id, change_type, change_count, todo_ids, created_at FROM todo_outbox
+            WHERE partition_key = ?
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE_QUERY = "DELETE FROM todo_outbox WHERE id = ANY(?)";
+
+    private static final String OLDEST_QUERY = "SELECT min(created_at) FROM todo_outbox";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionOperations transactionOperations;
+
+    private final OutboxSink sink;
+
+    private final int partitions;
+
+    private final int batchSize;
+
+    private final Clock clock;
+
+    private final AtomicLong relayed = new AtomicLong();
+
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public TodoOutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            OutboxSink sink,
+            int partitions,
+            int batchSize,
+            Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.sink = sink;
+        this.partitions = partitions;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.outbox.interval:PT1S}")
+    public void relay() {
+        for (int partition = 0; partition < partitions; partition++) {
+            try {
+                int count;
+
+                do {
+                    count = relayBatch(partition);
+                } while (count == batchSize);
+            } catch (RuntimeException exception) {
+                logger.warn("Failed to relay outbox partition {}, retrying later", partition, exception);
+            }
+        }
+
+        refreshLag();
+    }
+
+    int relayBatch(int partition) {
+        Integer result = transactionOperations.execute(status -> {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_QUERY, Boolean.class, LOCK_NAME, partition))) {
+                return 0;
+            }
+
+            List<OutboxMessage> messages = jdbcTemplate.query(
+                    SELECT_QUERY,
+                    (resultSet, rowNum) -> new OutboxMessage(
+                            resultSet.getLong("id"),
+                            resultSet.getObject("todo_id", UUID.class),
+                            TodoChangeType.valueOf(resultSet.getString("change_type")),
+                            resultSet.getLong("change_count"),
+                            todoIds(resultSet.getArray("todo_ids")),
+                            resultSet.getTimestamp("created_at").toInstant()),
+                    partition,
+                    batchSize);
+
+            if (messages.isEmpty()) {
+                return 0;
+            }
+
+            sink.publish(messages);
+
+            Long[] ids = messages.stream().map(OutboxMessage::id).toArray(Long[]::new);
+
+            jdbcTemplate.update(DELETE_QUERY, preparedStatement -> preparedStatement.setArray(
+                    1, preparedStatement.getConnection().createArrayOf("bigint", ids)));
+
+            return messages.size();
+        });
+
+        relayed.addAndGet(result);
+
+        return result;
+    }
+
+    private static List<UUID> todoIds(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+
+        try {
+            return List.of((UUID[]) array.getArray());
+        } finally {
+            array.free();
+        }
+    }
+
+    void refreshLag() {
+        try {
+            Timestamp oldest = jdbcTemplate.queryForObject(OLDEST_QUERY, Timestamp.class);
+
+            lagMillis.set(
+                    oldest == null ? 0 : Math.max(0, Duration.between(oldest.toInstant(), clock.instant()).toMillis()));
+        } catch (DataAccessException exception) {
+            logger.warn("Failed to measure outbox lag", exception);
+        }
+    }
+
+    public long getRelayed() {
+        return relayed.get();
+    }
+
+    public double getLagSeconds() {
+        return lagMillis.get() / 1000.0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("todo.outbox.relayed", this, TodoOutboxRelay::getRelayed)
+                .description("Todo change messages delivered to the outbox sink")
+                .register(registry);
+        Gauge.builder("todo.outbox.lag", this, TodoOutboxRelay::getLagSeconds)
+                .description("Age of the oldest undelivered todo change message")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+}
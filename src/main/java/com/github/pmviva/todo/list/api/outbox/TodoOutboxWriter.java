@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.outbox;
+
+import com.github.pmviva.todo.list.api.event.TodoChangedEvent;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Records every todo change in the outbox table inside the changing transaction, so a change is relayed if and only if
+ * it is committed. Messages are spread over partitions by todo id, and every message about a todo goes to the same
+ * partition, so changes to a todo are relayed in commit order. A bulk change is split into one message per partition,
+ * each carrying the ids of the affected todos that belong to that partition.
+ */
+public class TodoOutboxWriter {
+
+    private static final String INSERT_QUERY =
+            """
+            INSERT INTO todo_outbox (partition_key, todo_id, change_type, change_count, todo_ids)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int partitions;
+
+    public TodoOutboxWriter(JdbcTemplate jdbcTemplate, int partitions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitions = partitions;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        messages(event).forEach(this::insert);
+    }
+
+    /**
+     * Returns the messages a change is written as, by partition. A single-todo change is one message in the partition
+     * of its todo, and a bulk change one message per partition of its todos.
+     */
+    public Map<Integer, TodoChangedEvent> messages(TodoChangedEvent event) {
+        if (event.todoId() != null) {
+            return Map.of(partition(event.todoId()), event);
+        }
+
+        if (event.todoIds().isEmpty()) {
+            return Map.of(0, event);
+        }
+
+        Map<Integer, List<UUID>> todoIds = new TreeMap<>();
+
+        for (UUID todoId : event.todoIds()) {
+            todoIds.computeIfAbsent(partition(todoId), partition -> new ArrayList<>()).add(todoId);
+        }
+
+        Map<Integer, TodoChangedEvent> messages = new TreeMap<>();
+
+        todoIds.forEach((partition, ids) -> messages.put(
+                partition, TodoChangedEvent.bulk(event.type(), ids).withPrincipal(event.principal())));
+
+        return messages;
+    }
+
+    /**
+     * Returns the partition the messages about a todo go to.
+     */
+    public int partition(UUID todoId) {
+        return Math.floorMod(todoId.hashCode(), partitions);
+    }
+
+    private void insert(int partition, TodoChangedEvent message) {
+        jdbcTemplate.update(INSERT_QUERY, preparedStatement -> {
+            preparedStatement.setInt(1, partition);
+            preparedStatement.setObject(2, message.todoId());
+            preparedStatement.setString(3, message.type().name());
+            preparedStatement.setLong(4, message.count());
+
+            if (message.todoIds().isEmpty()) {
+                preparedStatement.setNull(5, Types.ARRAY);
+            } else {
+                UUID[] todoIds = message.todoIds().toArray(UUID[]::new);
+
+                preparedStatement.setArray(5, preparedStatement.getConnection().createArrayOf("uuid", todoIds));
+            }
+        });
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.partition;
+
+import com.github.pmviva.todo.list.api.event.TodoChangeType;
+import com.github.pmviva.todo.list.api.event.TodoChangedEvent;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Moves completed todos not updated within the retention period from the partitioned todos table to the archive table.
+ * Rows are moved in batches, each one a single DELETE ... RETURNING feeding an INSERT in its own transaction, so locks
+ * stay short and a run can be interrupted at any point. Nodes coordinate through a transaction-scoped advisory lock.
+ * Archived todos keep their entry in the todo ids table, so a new todo can never take the id of an archived one.
+ */
+public class TodoArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoArchiver.class);
+
+    static final String LOCK_NAME = "todos_archiver";
+
+    private static final String LOCK_QUERY = "SELECT pg_try_advisory_xact_lock(hashtext(?))";
+
+    private static final String ARCHIVE_QUERY =
+            """
+            WITH archived AS (
+                DELETE FROM todos
+                WHERE (id, created_at) IN (
+                    SELECT id, created_at FROM todos
+                    WHERE completed = true AND updated_at < ? AND deleted_at IS NULL
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING id, description, completed, created_at, updated_at)
+            INSERT INTO todos_archive (id, description, completed, created_at, updated_at)
+            SELECT id, description, completed, created_at, updated_at FROM archived
+            RETURNING id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionOperations transactionOperations;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Duration retention;
+
+    private final int batchSize;
+
+    private final int maxBatches;
+
+    private final Clock clock;
+
+    public TodoArchiver(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            ApplicationEventPublisher eventPublisher,
+            Duration retention,
+            int batchSize,
+            int maxBatches,
+            Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.partitioning.archive.interval:PT5M}")
+    public void archiveTodos() {
+        long archived = archive();
+
+        if (archived > 0) {
+            logger.info("Archived {} completed todos", archived);
+        }
+    }
+
+    long archive() {
+        Timestamp cutoff = Timestamp.from(clock.instant().minus(retention));
+        long total = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer moved = transactionOperations.execute(status -> {
+                if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_QUERY, Boolean.class, LOCK_NAME))) {
+                    return -1;
+                }
+
+                List<UUID> result = jdbcTemplate.queryForList(ARCHIVE_QUERY, UUID.class, cutoff, batchSize);
+
+                if (!result.isEmpty()) {
+                    eventPublisher.publishEvent(TodoChangedEvent.bulk(TodoChangeType.BULK_ARCHIVED, result));
+                }
+
+                return result.size();
+            });
+
+            if (moved < 0) {
+                break;
+            }
+
+            total += moved;
+
+            if (moved < batchSize) {
+                break;
+            }
+        }
+
+        return total;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.partition;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Creates the monthly partitions of the todos table ahead of time, so new rows never land in the default partition.
+ * Partition boundaries are UTC month starts, matching the partitions created by the migration. Nodes coordinate
+ * through a transaction-scoped advisory lock, and each partition is created in its own transaction so one failure does
+ * not prevent the others.
+ */
+public class TodoPartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoPartitionManager.class);
+
+    static final String LOCK_NAME = "todos_partition_manager";
+
+    private static final String LOCK_QUERY = "SELECT pg_try_advisory_xact_lock(hashtext(?))";
+
+    private static final String CREATE_PARTITION_QUERY =
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF todos FOR VALUES FROM ('%s') TO ('%s')";
+
+    private static final DateTimeFormatter PARTITION_NAME_FORMATTER = DateTimeFormatter.ofPattern("'todos_p'yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionOperations transactionOperations;
+
+    private final int monthsAhead;
+
+    private final Clock clock;
+
+    public TodoPartitionManager(
+            JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations, int monthsAhead, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.monthsAhead = monthsAhead;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.partitioning.interval:PT1H}")
+    public void createPartitions() {
+        YearMonth current = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(current.plusMonths(i));
+        }
+    }
+
+    boolean createPartition(YearMonth month) {
+        String name = partitionName(month);
+
+        try {
+            return Boolean.TRUE.equals(transactionOperations.execute(status -> {
+                if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_QUERY, Boolean.class, LOCK_NAME))) {
+                    return false;
+                }
+
+                jdbcTemplate.execute(
+                        String.format(CREATE_PARTITION_QUERY, name, lowerBound(month), lowerBound(month.plusMonths(1))));
+
+                return true;
+            }));
+        } catch (DataAccessException exception) {
+            logger.warn("Failed to create todos partition {}", name, exception);
+
+            return false;
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_NAME_FORMATTER.format(month);
+    }
+
+    private static String lowerBound(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC).toString();
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.pool;
+
+import com.github.pmviva.todo.list.api.sql.StatementRecorder;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Resizes the Hikari pool within bounds from what the pool and the database went through since the last resize. When
+ * requests waited for connections the pool grows, unless statements got slow as well: a saturated database does not
+ * answer faster with more connections, so the pool keeps its size. Otherwise the pool shrinks towards the connections
+ * in use, computed from the connection usage time by Little's law, plus headroom. Sizes change by at most one step per
+ * resize and are reserved from the pool budget, which may hold them below the wanted size.
+ *
+ * <p>The pool keeps the minimum size idle, so that Hikari opens connections on demand up to the pool size and retires
+ * the idle ones after the idle timeout.
+ */
+public class AdaptivePoolSizer implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+    private static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    private static final String USAGE_TIMER = "hikaricp.connections.usage";
+
+    private static final String POOL_TAG = "pool";
+
+    private final HikariDataSource dataSource;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Optional<StatementRecorder> statementRecorder;
+
+    private final PoolBudget poolBudget;
+
+    private final int minSize;
+
+    private final int maxSize;
+
+    private final int step;
+
+    private final double headroom;
+
+    private final double acquireThresholdMillis;
+
+    private final double statementThresholdMillis;
+
+    private final Map<PoolSizingDecision, AtomicLong> decisions = new EnumMap<>(PoolSizingDecision.class);
+
+    private long sampledAt;
+
+    private long acquireCount;
+
+    private double acquireNanos;
+
+    private double usageNanos;
+
+    private long statements;
+
+    private long statementMillis;
+
+    private volatile int targetSize;
+
+    private volatile double busyConnections;
+
+    public AdaptivePoolSizer(
+            HikariDataSource dataSource,
+            MeterRegistry meterRegistry,
+            Optional<StatementRecorder> statementRecorder,
+            PoolBudget poolBudget,
+            int minSize,
+            int maxSize,
+            int step,
+            double headroom,
+            Duration acquireThreshold,
+            Duration statementThreshold) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.statementRecorder = statementRecorder;
+        this.poolBudget = poolBudget;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.step = step;
+        this.headroom = headroom;
+        this.acquireThresholdMillis = acquireThreshold.toNanos() / 1e6;
+        this.statementThresholdMillis = statementThreshold.toNanos() / 1e6;
+        this.sampledAt = System.nanoTime();
+
+        for (PoolSizingDecision decision : PoolSizingDecision.values()) {
+            decisions.put(decision, new AtomicLong());
+        }
+
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        config.setMaximumPoolSize(Math.clamp(config.getMaximumPoolSize(), minSize, maxSize));
+        config.setMinimumIdle(minSize);
+
+        this.targetSize = config.getMaximumPoolSize();
+    }
+
+    @Scheduled(fixedDelayString = "${todo.pool-sizing.interval:PT5S}")
+    public synchronized void resize() {
+        Sample sample = sample();
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        int current = config.getMaximumPoolSize();
+
+        Resize resize = decide(current, sample);
+        PoolSizingDecision decision;
+        int size;
+
+        try {
+            size = poolBudget.reserve(resize.size(), minSize);
+            decision = size < resize.size() ? PoolSizingDecision.CAPPED : resize.decision();
+        } catch (RuntimeException exception) {
+            logger.warn("Unable to reserve {} connections from the pool budget", resize.size(), exception);
+            size = current;
+            decision = PoolSizingDecision.HOLD;
+        }
+
+        decisions.get(decision).incrementAndGet();
+        targetSize = resize.size();
+        busyConnections = sample.busy();
+
+        if (size != current) {
+            config.setMaximumPoolSize(size);
+
+            logger.info(
+                    "Resized the connection pool from {} to {} ({}): {} waiting, {} ms acquire, {} ms statements, "
+                            + "{} busy",
+                    current,
+                    size,
+                    decision.tag(),
+                    sample.waiting(),
+                    String.format("%.1f", sample.acquireMillis()),
+                    String.format("%.1f", sample.statementMillis()),
+                    String.format("%.1f", sample.busy()));
+        }
+    }
+
+    /**
+     * Reserves the current pool size from the pool budget and applies the granted size, so that a starting instance
+     * holds its lease before its pool opens connections rather than from its first resize. Returns the granted size,
+     * or the current size when the budget cannot be reached.
+     */
+    public synchronized int reserve() {
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        int current = config.getMaximumPoolSize();
+        int size;
+
+        try {
+            size = poolBudget.reserve(current, minSize);
+        } catch (RuntimeException exception) {
+            logger.warn("Unable to reserve {} connections from the pool budget", current, exception);
+
+            return current;
+        }
+
+        if (size != current) {
+            config.setMaximumPoolSize(size);
+
+            logger.info("Reserved {} of {} connections from the pool budget", size, current);
+        }
+
+        return size;
+    }
+
+    public int getSize() {
+        return dataSource.getHikariConfigMXBean().getMaximumPoolSize();
+    }
+
+    public int getTargetSize() {
+        return targetSize;
+    }
+
+    public double getBusyConnections() {
+        return busyConnections;
+    }
+
+    public long getDecisions(PoolSizingDecision decision) {
+        return decisions.get(decision).get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.pool.size", this, AdaptivePoolSizer::getSize)
+                .description("Maximum size of the connection pool")
+                .register(registry);
+        Gauge.builder("todo.pool.target", this, AdaptivePoolSizer::getTargetSize)
+                .description("Pool size wanted by the last resize, before the pool budget")
+                .register(registry);
+        Gauge.builder("todo.pool.busy", this, AdaptivePoolSizer::getBusyConnections)
+                .description("Average connections in use since the previous resize")
+                .register(registry);
+
+        for (PoolSizingDecision decision : PoolSizingDecision.values()) {
+            FunctionCounter.builder("todo.pool.decisions", this, sizer -> sizer.getDecisions(decision))
+                    .description("Pool resize decisions")
+                    .tag("decision", decision.tag())
+                    .register(registry);
+        }
+    }
+
+    Resize decide(int current, Sample sample) {
+        if (sample.waiting() > 0 || sample.acquireMillis() > acquireThresholdMillis) {
+            if (sample.statementMillis() > statementThresholdMillis) {
+                return new Resize(PoolSizingDecision.SATURATED, current);
+            }
+
+            return current < maxSize
+                    ? new Resize(PoolSizingDecision.GROW, Math.min(maxSize, current + step))
+                    : new Resize(PoolSizingDecision.HOLD, current);
+        }
+
+        int wanted = Math.clamp((long) Math.ceil(sample.busy() * headroom), minSize, maxSize);
+
+        return wanted < current
+                ? new Resize(PoolSizingDecision.SHRINK, Math.max(wanted, current - step))
+                : new Resize(PoolSizingDecision.HOLD, current);
+    }
+
+    /**
+     * Samples the pool and the statements since the previous sample. The acquire and usage timers are recorded by the
+     * Hikari metrics tracker and are missing until the pool has been used.
+     */
+    private Sample sample() {
+        long now = System.nanoTime();
+        double elapsedNanos = Math.max(1, now - sampledAt);
+
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        int waiting = pool != null ? pool.getThreadsAwaitingConnection() : 0;
+
+        Timer acquire = timer(ACQUIRE_TIMER);
+        long currentAcquireCount = acquire != null ? acquire.count() : acquireCount;
+        double currentAcquireNanos = acquire != null ? acquire.totalTime(TimeUnit.NANOSECONDS) : acquireNanos;
+
+        Timer usage = timer(USAGE_TIMER);
+        double currentUsageNanos = usage != null ? usage.totalTime(TimeUnit.NANOSECONDS) : usageNanos;
+
+        long currentStatements = statementRecorder.map(StatementRecorder::getStatements).orElse(0L);
+        long currentStatementMillis =
+                statementRecorder.map(StatementRecorder::getStatementMillis).orElse(0L);
+
+        Sample sample = new Sample(
+                waiting,
+                mean(currentAcquireNanos - acquireNanos, currentAcquireCount - acquireCount) / 1e6,
+                mean(currentStatementMillis - statementMillis, currentStatements - statements),
+                (currentUsageNanos - usageNanos) / elapsedNanos);
+
+        sampledAt = now;
+        acquireCount = currentAcquireCount;
+        acquireNanos = currentAcquireNanos;
+        usageNanos = currentUsageNanos;
+        statements = currentStatements;
+        statementMillis = currentStatementMillis;
+
+        return sample;
+    }
+
+    private Timer timer(String name) {
+        String poolName = dataSource.getPoolName();
+
+        return poolName != null ? meterRegistry.find(name).tag(POOL_TAG, poolName).timer() : null;
+    }
+
+    private static double mean(double total, long count) {
+        return count > 0 ? total / count : 0;
+    }
+
+    record Sample(int waiting, double acquireMillis, double statementMillis, double busy) {}
+
+    record Resize(PoolSizingDecision decision, int size) {}
+}
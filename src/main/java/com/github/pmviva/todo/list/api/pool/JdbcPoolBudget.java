@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.pool;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+
+/**
+ * Shares a global connection budget between the replicas through a lease table in Postgres. Every replica renews the
+ * lease of its pool size under a transaction-scoped advisory lock, so that concurrent renewals see each other, and the
+ * leases that were not renewed within the lease timeout no longer count. A replica is always granted its minimum pool
+ * size, even when that oversubscribes the budget.
+ *
+ * <p>Leases are renewed on a dedicated connection outside the pool being sized. When the pool needs to grow, requests
+ * are already queueing for its connections, and the renewal would wait behind them.
+ */
+public class JdbcPoolBudget implements PoolBudget {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcPoolBudget.class);
+
+    private static final long LOCK_KEY = 0x746f646f706f6f6cL;
+
+    private static final String LOCK_QUERY = "SELECT pg_advisory_xact_lock(?)";
+
+    private static final String EXPIRE_QUERY =
+            "DELETE FROM connection_pool_leases WHERE renewed_at < now() - make_interval(secs => ?)";
+
+    private static final String RESERVED_QUERY =
+            "SELECT coalesce(sum(connections), 0) FROM connection_pool_leases WHERE instance_id <> ?";
+
+    private static final String RENEW_QUERY =
+            """
+            INSERT INTO connection_pool_leases (instance_id, connections, renewed_at) VALUES (?, ?, now())
+            ON CONFLICT (instance_id) DO UPDATE SET connections = excluded.connections, renewed_at = excluded.renewed_at
+            """;
+
+    private static final String RELEASE_QUERY = "DELETE FROM connection_pool_leases WHERE instance_id = ?";
+
+    private final JdbcConnectionDetails connectionDetails;
+
+    private final String instanceId;
+
+    private final int connections;
+
+    private final Duration leaseTimeout;
+
+    private Connection connection;
+
+    public JdbcPoolBudget(
+            JdbcConnectionDetails connectionDetails, String instanceId, int connections, Duration leaseTimeout) {
+        this.connectionDetails = connectionDetails;
+        this.instanceId = instanceId;
+        this.connections = connections;
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    @Override
+    public synchronized int reserve(int desired, int minimum) {
+        try {
+            Connection current = connection();
+
+            try {
+                int size = renew(current, desired, minimum);
+                current.commit();
+
+                return size;
+            } catch (SQLException exception) {
+                current.rollback();
+                throw exception;
+            }
+        } catch (SQLException exception) {
+            close();
+            throw new IllegalStateException(
+                    String.format("Unable to reserve %d connections from the pool budget", desired), exception);
+        }
+    }
+
+    /**
+     * Gives the lease of this replica back, so that the other replicas can use its connections right away, and closes
+     * the dedicated connection.
+     */
+    public synchronized void release() {
+        try (PreparedStatement statement = connection().prepareStatement(RELEASE_QUERY)) {
+            statement.setString(1, instanceId);
+            statement.executeUpdate();
+            connection.commit();
+        } catch (SQLException exception) {
+            logger.warn("Unable to release the pool budget lease of {}", instanceId, exception);
+        } finally {
+            close();
+        }
+    }
+
+    private int renew(Connection current, int desired, int minimum) throws SQLException {
+        try (PreparedStatement statement = current.prepareStatement(LOCK_QUERY)) {
+            statement.setLong(1, LOCK_KEY);
+            statement.execute();
+        }
+
+        try (PreparedStatement statement = current.prepareStatement(EXPIRE_QUERY)) {
+            statement.setDouble(1, leaseTimeout.toSeconds());
+            statement.executeUpdate();
+        }
+
+        long reserved;
+
+        try (PreparedStatement statement = current.prepareStatement(RESERVED_QUERY)) {
+            statement.setString(1, instanceId);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                reserved = resultSet.getLong(1);
+            }
+        }
+
+        int size = (int) Math.max(minimum, Math.min(desired, connections - reserved));
+
+        try (PreparedStatement statement = current.prepareStatement(RENEW_QUERY)) {
+            statement.setString(1, instanceId);
+            statement.setInt(2, size);
+            statement.executeUpdate();
+        }
+
+        return size;
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null) {
+            connection = DriverManager.getConnection(
+                    connectionDetails.getJdbcUrl(), connectionDetails.getUsername(), connectionDetails.getPassword());
+            connection.setAutoCommit(false);
+        }
+
+        return connection;
+    }
+
+    private void close() {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException exception) {
+                logger.debug("Unable to close the pool budget connection", exception);
+            }
+
+            connection = null;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.purge;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Hard-deletes soft-deleted todos once their grace period has elapsed. Each run deletes at most a fixed number of small
+ * batches, each in its own transaction, which caps purge throughput at batch size times batches per run per interval
+ * and spreads vacuum work over time. Runs outside the configured windows are skipped, and nodes coordinate through a
+ * transaction-scoped advisory lock.
+ */
+public class TodoPurger implements MeterBinder {
+
+    static final String LOCK_NAME = "todos_purger";
+
+    private static final String LOCK_QUERY = "SELECT pg_try_advisory_xact_lock(hashtext(?))";
+
+    /**
+     * Deletes a batch of todos together with their entries in the todo ids table, which frees their ids. The count of
+     * deleted entries is the count of purged todos.
+     */
+    private static final String PURGE_QUERY =
+            """
+            WITH purged AS (
+                DELETE FROM todos
+                WHERE (id, created_at) IN (
+                    SELECT id, created_at FROM todos
+                    WHERE deleted_at < ?
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING id)
+            DELETE FROM todo_ids WHERE id IN (SELECT id FROM purged)
+            """;
+
+    private static final String BACKLOG_QUERY = "SELECT count(*) FROM todos WHERE deleted_at IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionOperations transactionOperations;
+
+    private final Duration gracePeriod;
+
+    private final int batchSize;
+
+    private final int batchesPerRun;
+
+    private final List<PurgeWindow> windows;
+
+    private final ZoneId zone;
+
+    private final Clock clock;
+
+    private final AtomicLong purged = new AtomicLong();
+
+    private final AtomicLong backlog = new AtomicLong();
+
+    public TodoPurger(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            Duration gracePeriod,
+            int batchSize,
+            int batchesPerRun,
+            List<PurgeWindow> windows,
+            ZoneId zone,
+            Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.gracePeriod = gracePeriod;
+        this.batchSize = batchSize;
+        this.batchesPerRun = batchesPerRun;
+        this.windows = List.copyOf(windows);
+        this.zone = zone;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.purge.interval:PT1S}")
+    public void purgeTodos() {
+        if (isWithinWindow()) {
+            purge();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${todo.purge.backlog-interval:PT1M}")
+    public void refreshBacklog() {
+        Long result = jdbcTemplate.queryForObject(BACKLOG_QUERY, Long.class);
+
+        backlog.set(result == null ? 0 : result);
+    }
+
+    boolean isWithinWindow() {
+        LocalTime now = LocalTime.now(clock.withZone(zone));
+
+        return windows.isEmpty() || windows.stream().anyMatch(window -> window.contains(now));
+    }
+
+    long purge() {
+        Timestamp cutoff = Timestamp.from(clock.instant().minus(gracePeriod));
+        long total = 0;
+
+        for (int batch = 0; batch < batchesPerRun; batch++) {
+            Integer deleted = transactionOperations.execute(status -> {
+                if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_QUERY, Boolean.class, LOCK_NAME))) {
+                    return -1;
+                }
+
+                return jdbcTemplate.update(PURGE_QUERY, cutoff, batchSize);
+            });
+
+            if (deleted < 0) {
+                break;
+            }
+
+            total += deleted;
+            purged.addAndGet(deleted);
+            backlog.getAndUpdate(value -> Math.max(0, value - deleted));
+
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+
+        return total;
+    }
+
+    public long getPurged() {
+        return purged.get();
+    }
+
+    public long getBacklog() {
+        return backlog.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("todo.purge.deleted", this, TodoPurger::getPurged)
+                .description("Soft-deleted todos permanently deleted by the purger")
+                .register(registry);
+        Gauge.builder("todo.purge.backlog", this, TodoPurger::getBacklog)
+                .description("Soft-deleted todos waiting to be purged")
+                .register(registry);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.repository;
+
+import com.github.pmviva.todo.list.api.model.Todo;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import reactor.core.publisher.Mono;
+
+public class ReactiveTodoPageRepositoryImpl implements ReactiveTodoPageRepository {
+
+    private static final String TABLE_NAME = "todos";
+
+    private final R2dbcEntityTemplate entityTemplate;
+
+    public ReactiveTodoPageRepositoryImpl(R2dbcEntityTemplate entityTemplate) {
+        this.entityTemplate = entityTemplate;
+    }
+
+    /**
+     * Reads the page and counts the matching todos concurrently, on two connections.
+     */
+    @Override
+    public Mono<Page<Todo>> findPage(Pageable pageable, Optional<Boolean> completed) {
+        Criteria criteria = Criteria.where("deleted_at").isNull();
+
+        if (completed.isPresent()) {
+            criteria = criteria.and("completed").is(completed.get());
+        }
+
+        Query query = Query.query(criteria);
+
+        Mono<Long> count = entityTemplate
+                .select(Todo.class)
+                .from(TABLE_NAME)
+                .matching(query)
+                .count();
+
+        return entityTemplate
+                .select(Todo.class)
+                .from(TABLE_NAME)
+                .matching(query.with(pageable))
+                .all()
+                .collectList()
+                .zipWith(count, (content, total) -> new PageImpl<>(content, pageable, total));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.repository;
+
+import com.github.pmviva.todo.list.api.model.Todo;
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking access to the todos table for the reactive stack. {@link Todo} is mapped for JPA, so the statements
+ * are spelled out here and honor soft deletes the way the Hibernate restriction does.
+ */
+@Repository
+public interface ReactiveTodoRepository extends R2dbcRepository<Todo, UUID>, ReactiveTodoPageRepository {
+
+    /**
+     * Matches the todo with the given id through its partition key, as {@link Todo#BY_ID} does.
+     */
+    String BY_ID =
+            "(id, created_at) = (SELECT todo_ids.id, todo_ids.created_at FROM todo_ids WHERE todo_ids.id = :id)";
+
+    @Query("SELECT * FROM todos WHERE " + BY_ID + " AND deleted_at IS NULL")
+    Mono<Todo> findActiveById(@Param("id") UUID id);
+
+    /**
+     * Reads a todo and locks it until the end of the transaction, so the state it returns is the one a following
+     * update replaces.
+     */
+    @Query("SELECT * FROM todos WHERE " + BY_ID + " AND deleted_at IS NULL FOR UPDATE")
+    Mono<Todo> findActiveByIdForUpdate(@Param("id") UUID id);
+
+    @Query(
+            """
+            INSERT INTO todos (id, description, completed, created_at, updated_at)
+            VALUES (:id, :description, :completed, now(), now())
+            RETURNING *
+            """)
+    Mono<Todo> insert(
+            @Param("id") UUID id, @Param("description") String description, @Param("completed") Boolean completed);
+
+    @Query(
+            """
+            UPDATE todos SET description = :description, completed = :completed, updated_at = now()
+            WHERE (id, created_at) = (SELECT todo_ids.id, todo_ids.created_at FROM todo_ids WHERE todo_ids.id = :id)
+            AND deleted_at IS NULL
+            RETURNING *
+            """)
+    Mono<Todo> update(
+            @Param("id") UUID id, @Param("description") String description, @Param("completed") Boolean completed);
+
+    /**
+     * Soft deletes a todo and returns it as it was before, empty when there is no such todo.
+     */
+    @Query("UPDATE todos SET deleted_at = now() WHERE " + BY_ID + " AND deleted_at IS NULL RETURNING *")
+    Mono<Todo> softDeleteById(@Param("id") UUID id);
+}
@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.repository;
+
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.model.TodoField;
+import com.github.pmviva.todo.list.api.model.TodoIdEntry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+public class TodoProjectionRepositoryImpl implements TodoProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findAllProjected(
+            Set<TodoField> fields, Pageable pageable, Optional<Boolean> completed) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Todo> root = query.from(Todo.class);
+
+        query.multiselect(selections(root, fields));
+        completed.ifPresent(value -> query.where(builder.equal(root.get("completed"), value)));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        TypedQuery<Tuple> typedQuery = cacheable(entityManager.createQuery(query));
+
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Map<String, Object>> content = typedQuery.getResultList().stream()
+                .map(tuple -> toMap(tuple, fields))
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(completed));
+    }
+
+    /**
+     * Reads the fields of one todo. The creation time of the todo is looked up in the todo ids table within the same
+     * statement, so only the partition that holds the todo is read.
+     */
+    @Override
+    public Optional<Map<String, Object>> findProjectedById(UUID id, Set<TodoField> fields) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Todo> root = query.from(Todo.class);
+
+        Subquery<Instant> createdAt = query.subquery(Instant.class);
+        Root<TodoIdEntry> entry = createdAt.from(TodoIdEntry.class);
+        createdAt.select(entry.get("createdAt")).where(builder.equal(entry.get("id"), id));
+
+        query.multiselect(selections(root, fields));
+        query.where(builder.equal(root.get("id"), id), builder.equal(root.get("createdAt"), createdAt));
+
+        return cacheable(entityManager.createQuery(query)).getResultList().stream()
+                .findFirst()
+                .map(tuple -> toMap(tuple, fields));
+    }
+
+    private long count(Optional<Boolean> completed) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Todo> root = query.from(Todo.class);
+
+        query.select(builder.count(root));
+        completed.ifPresent(value -> query.where(builder.equal(root.get("completed"), value)));
+
+        return cacheable(entityManager.createQuery(query)).getSingleResult();
+    }
+
+    private static List<Selection<?>> selections(Root<Todo> root, Set<TodoField> fields) {
+        return fields.stream()
+                .<Selection<?>>map(field -> root.get(field.fieldName()).alias(field.fieldName()))
+                .toList();
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple, Set<TodoField> fields) {
+        Map<String, Object> result = LinkedHashMap.newLinkedHashMap(fields.size());
+
+        for (TodoField field : fields) {
+            result.put(field.fieldName(), tuple.get(field.fieldName()));
+        }
+
+        return result;
+    }
+
+    private static <T> TypedQuery<T> cacheable(TypedQuery<T> query) {
+        return query.setHint(AvailableHints.HINT_CACHEABLE, true);
+    }
+}
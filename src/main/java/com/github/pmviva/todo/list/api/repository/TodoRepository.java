@@ -24,15 +24,75 @@
 package com.github.pmviva.todo.list.api.repository;
 
 import com.github.pmviva.todo.list.api.model.Todo;
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import java.util.UUID;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.ListPagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface TodoRepository extends CrudRepository<Todo, UUID>, ListPagingAndSortingRepository<Todo, UUID> {
+public interface TodoRepository
+        extends CrudRepository<Todo, UUID>, ListPagingAndSortingRepository<Todo, UUID>, TodoProjectionRepository {
 
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    Page<Todo> findAll(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Page<Todo> findByCompleted(Pageable pageable, Boolean completed);
+
+    /**
+     * Reads many todos with a single array-bound statement, so the statement and its plan are the same whatever the
+     * number of ids. The partition keys of the ids are looked up first, so only the partitions holding the todos are
+     * read. Returns the found todos in no particular order.
+     */
+    @Query(
+            value =
+                    """
+                    SELECT * FROM todos
+                    WHERE (id, created_at) IN (SELECT id, created_at FROM todo_ids WHERE id = ANY(:ids))
+                    AND deleted_at IS NULL
+                    """,
+            nativeQuery = true)
+    List<Todo> findAllByIdIn(@Param("ids") UUID[] ids);
+
+    /**
+     * Completes up to {@code limit} pending todos with a single statement and returns the ids of the completed todos,
+     * so the change can be published per todo. The statement returns rows, so it runs as a query rather than a
+     * {@code @Modifying} update.
+     */
+    @Transactional
+    @Query(
+            value =
+                    """
+                    UPDATE todos SET completed = true, updated_at = now()
+                    WHERE id IN (
+                        SELECT id FROM todos WHERE completed = false AND deleted_at IS NULL LIMIT :limit)
+                    RETURNING id
+                    """,
+            nativeQuery = true)
+    List<UUID> completeTodos(@Param("limit") int limit);
+
+    /**
+     * Soft deletes up to {@code limit} todos with the given completion state and returns the ids of the deleted todos.
+     */
+    @Transactional
+    @Query(
+            value =
+                    """
+                    UPDATE todos SET deleted_at = now()
+                    WHERE id IN (
+                        SELECT id FROM todos WHERE completed = :completed AND deleted_at IS NULL LIMIT :limit)
+                    RETURNING id
+                    """,
+            nativeQuery = true)
+    List<UUID> deleteTodosByCompleted(@Param("completed") boolean completed, @Param("limit") int limit);
 }
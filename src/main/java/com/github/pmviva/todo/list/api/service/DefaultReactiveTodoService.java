@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.service;
+
+import com.github.pmviva.todo.list.api.event.ReactiveTodoChangePublisher;
+import com.github.pmviva.todo.list.api.event.TodoChangeType;
+import com.github.pmviva.todo.list.api.event.TodoChangedEvent;
+import com.github.pmviva.todo.list.api.event.TodoSnapshot;
+import com.github.pmviva.todo.list.api.exception.NotFoundException;
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.repository.ReactiveTodoRepository;
+import jakarta.annotation.Nonnull;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Every write runs in an R2DBC transaction together with the outbox message and the cache invalidation notification
+ * of its change, and the change is recorded in the history once committed, as on the servlet stack.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class DefaultReactiveTodoService implements ReactiveTodoService {
+
+    private static final String TODO_NOT_FOUND = "Todo not found";
+
+    private final ReactiveTodoRepository reactiveTodoRepository;
+
+    private final ReactiveTodoChangePublisher changePublisher;
+
+    @Autowired
+    public DefaultReactiveTodoService(
+            ReactiveTodoRepository reactiveTodoRepository, ReactiveTodoChangePublisher changePublisher) {
+        this.reactiveTodoRepository = reactiveTodoRepository;
+        this.changePublisher = changePublisher;
+    }
+
+    @Override
+    public Mono<Todo> createTodo(@Nonnull Todo todo) {
+        return changePublisher.publish(
+                reactiveTodoRepository.insert(UUID.randomUUID(), todo.getDescription(), todo.getCompleted()),
+                result -> new TodoChangedEvent(TodoChangeType.CREATED, result.getId(), null, TodoSnapshot.of(result)));
+    }
+
+    @Override
+    public Mono<Page<Todo>> getTodos(@Nonnull Pageable pageable, @Nonnull Optional<Boolean> completed) {
+        return reactiveTodoRepository.findPage(pageable, completed);
+    }
+
+    @Override
+    public Mono<Todo> getTodo(@Nonnull UUID id) {
+        return reactiveTodoRepository
+                .findActiveById(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException(TODO_NOT_FOUND)));
+    }
+
+    @Override
+    public Mono<Todo> updateTodo(@Nonnull UUID id, @Nonnull Todo todo) {
+        Mono<Update> update = reactiveTodoRepository
+                .findActiveByIdForUpdate(id)
+                .flatMap(existing -> reactiveTodoRepository
+                        .update(id, todo.getDescription(), todo.getCompleted())
+                        .map(result -> new Update(TodoSnapshot.of(existing), result)));
+
+        return changePublisher
+                .publish(
+                        update,
+                        result -> new TodoChangedEvent(
+                                TodoChangeType.UPDATED, id, result.before(), TodoSnapshot.of(result.after())))
+                .map(Update::after)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException(TODO_NOT_FOUND)));
+    }
+
+    @Override
+    public Mono<Void> deleteTodo(@Nonnull UUID id) {
+        return changePublisher
+                .publish(
+                        reactiveTodoRepository.softDeleteById(id),
+                        deleted -> new TodoChangedEvent(TodoChangeType.DELETED, id, TodoSnapshot.of(deleted), null))
+                .switchIfEmpty(Mono.error(() -> new NotFoundException(TODO_NOT_FOUND)))
+                .then();
+    }
+
+    private record Update(TodoSnapshot before, Todo after) {}
+}
@@ -23,32 +23,95 @@
 
 package com.github.pmviva.todo.list.api.service;
 
+import com.github.pmviva.todo.list.api.config.BulkProperties;
+import com.github.pmviva.todo.list.api.dto.BatchGetResult;
+import com.github.pmviva.todo.list.api.dto.HistoryPage;
+import com.github.pmviva.todo.list.api.event.TodoChangeType;
+import com.github.pmviva.todo.list.api.event.TodoChangedEvent;
+import com.github.pmviva.todo.list.api.event.TodoSnapshot;
+import com.github.pmviva.todo.list.api.exception.BadRequestException;
 import com.github.pmviva.todo.list.api.exception.NotFoundException;
+import com.github.pmviva.todo.list.api.model.ArchivedTodo;
 import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.model.TodoField;
+import com.github.pmviva.todo.list.api.model.TodoHistory;
+import com.github.pmviva.todo.list.api.repository.ArchivedTodoRepository;
+import com.github.pmviva.todo.list.api.repository.TodoHistoryRepository;
 import com.github.pmviva.todo.list.api.repository.TodoRepository;
+import com.github.pmviva.todo.list.api.stream.TodoPageWriter;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Service
+@Observed(name = "todo.service")
 public class DefaultTodoService implements TodoService {
 
     private static final String TODO_NOT_FOUND = "Todo not found";
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
 
+    private final ArchivedTodoRepository archivedTodoRepository;
+
+    private final TodoHistoryRepository todoHistoryRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TransactionOperations transactionOperations;
+
+    private final BulkProperties bulkProperties;
+
+    private final Optional<TodoPageWriter> todoPageWriter;
+
     @Autowired
-    public DefaultTodoService(TodoRepository todoRepository) {
+    public DefaultTodoService(
+            TodoRepository todoRepository,
+            ArchivedTodoRepository archivedTodoRepository,
+            TodoHistoryRepository todoHistoryRepository,
+            ApplicationEventPublisher eventPublisher,
+            TransactionOperations transactionOperations,
+            BulkProperties bulkProperties,
+            ObjectProvider<TodoPageWriter> todoPageWriter) {
         this.todoRepository = todoRepository;
+        this.archivedTodoRepository = archivedTodoRepository;
+        this.todoHistoryRepository = todoHistoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionOperations = transactionOperations;
+        this.bulkProperties = bulkProperties;
+        this.todoPageWriter = Optional.ofNullable(todoPageWriter.getIfAvailable());
     }
 
     @Override
+    @Transactional
     public Todo createTodo(@Nonnull Todo todo) {
-        return todoRepository.save(todo);
+        Todo result = todoRepository.save(todo);
+
+        eventPublisher.publishEvent(
+                new TodoChangedEvent(TodoChangeType.CREATED, result.getId(), null, TodoSnapshot.of(result)));
+
+        return result;
     }
 
     @Override
@@ -60,6 +123,36 @@ public class DefaultTodoService implements TodoService {
         }
     }
 
+    @Override
+    public Page<Map<String, Object>> getTodos(
+            @Nonnull Pageable pageable, @Nonnull Optional<Boolean> completed, @Nonnull Set<TodoField> fields) {
+        return todoRepository.findAllProjected(fields, pageable, completed);
+    }
+
+    /**
+     * Streams the page through the {@link TodoPageWriter}, so the listing is observed and recorded like every other
+     * service operation. The writer reads through JDBC rather than the entity repository: the Hibernate query cache is
+     * not consulted and no repository flight recorder event is recorded, while its statements are still captured by
+     * the SQL listeners. Only pages the writer deems large enough are streamed, so small pages keep the query cache.
+     */
+    @Override
+    public void writeTodos(
+            @Nonnull Pageable pageable, @Nonnull Optional<Boolean> completed, @Nonnull OutputStream outputStream)
+            throws IOException {
+        todoPageWriter
+                .orElseThrow(() -> new IllegalStateException("Todo streaming is disabled"))
+                .write(pageable, completed, outputStream);
+    }
+
+    @Override
+    public Page<ArchivedTodo> getArchivedTodos(@Nonnull Pageable pageable, @Nonnull Optional<Boolean> completed) {
+        if (completed.isPresent()) {
+            return archivedTodoRepository.findByCompleted(pageable, completed.get());
+        } else {
+            return archivedTodoRepository.findAll(pageable);
+        }
+    }
+
     @Override
     public Todo getTodo(@Nonnull UUID id) {
         Optional<Todo> optionalTodo = todoRepository.findById(id);
@@ -72,24 +165,145 @@ public class DefaultTodoService implements TodoService {
     }
 
     @Override
+    public ArchivedTodo getArchivedTodo(@Nonnull UUID id) {
+        return archivedTodoRepository.findById(id).orElseThrow(() -> new NotFoundException(TODO_NOT_FOUND));
+    }
+
+    /**
+     * Reads many todos in one query. Duplicate ids are collapsed, the found todos keep the order of the requested ids
+     * and the ids that were not found are reported rather than failing the request.
+     */
+    @Override
+    public BatchGetResult getTodos(@Nonnull List<UUID> ids) {
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+
+        if (requested.isEmpty() || requested.size() > bulkProperties.maxBatchGetSize()) {
+            throw new BadRequestException(String.format(
+                    "Between 1 and %d todo ids must be requested", bulkProperties.maxBatchGetSize()));
+        }
+
+        Map<UUID, Todo> found = todoRepository.findAllByIdIn(requested.toArray(UUID[]::new)).stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+
+        List<Todo> todos = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+
+        for (UUID id : requested) {
+            Todo todo = found.get(id);
+
+            if (todo != null) {
+                todos.add(todo);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        return new BatchGetResult(todos, missing);
+    }
+
+    @Override
+    public Map<String, Object> getTodo(@Nonnull UUID id, @Nonnull Set<TodoField> fields) {
+        return todoRepository.findProjectedById(id, fields).orElseThrow(() -> new NotFoundException(TODO_NOT_FOUND));
+    }
+
+    /**
+     * Reads the history of a todo with keyset pagination. One extra entry is fetched to tell whether a next page
+     * exists without counting.
+     */
+    @Override
+    public HistoryPage getTodoHistory(@Nonnull UUID id, long after, int size) {
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new BadRequestException(
+                    String.format("History page size must be between 1 and %d", MAX_HISTORY_PAGE_SIZE));
+        }
+
+        List<TodoHistory> entries =
+                todoHistoryRepository.findByTodoIdAndIdGreaterThanOrderByIdAsc(id, after, Limit.of(size + 1));
+
+        if (entries.size() > size) {
+            List<TodoHistory> content = entries.subList(0, size);
+
+            return new HistoryPage(content, content.getLast().getId());
+        }
+
+        return new HistoryPage(entries, null);
+    }
+
+    @Override
+    @Transactional
     public Todo updateTodo(@Nonnull UUID id, @Nonnull Todo todo) {
         Optional<Todo> optionalTodo = todoRepository.findById(id);
 
         if (optionalTodo.isPresent()) {
-            return todoRepository.save(todo);
+            Todo existing = optionalTodo.get();
+            TodoSnapshot before = TodoSnapshot.of(existing);
+
+            existing.setDescription(todo.getDescription());
+            existing.setCompleted(todo.getCompleted());
+
+            Todo result = todoRepository.save(existing);
+
+            eventPublisher.publishEvent(
+                    new TodoChangedEvent(TodoChangeType.UPDATED, id, before, TodoSnapshot.of(result)));
+
+            return result;
         } else {
             throw new NotFoundException(TODO_NOT_FOUND);
         }
     }
 
     @Override
+    @Transactional
     public void deleteTodo(@Nonnull UUID id) {
         Optional<Todo> optionalTodo = todoRepository.findById(id);
 
         if (optionalTodo.isPresent()) {
             todoRepository.deleteById(id);
+
+            eventPublisher.publishEvent(
+                    new TodoChangedEvent(TodoChangeType.DELETED, id, TodoSnapshot.of(optionalTodo.get()), null));
         } else {
             throw new NotFoundException(TODO_NOT_FOUND);
         }
     }
+
+    @Override
+    public long completeTodos() {
+        return runInChunks(
+                TodoChangeType.BULK_COMPLETED, () -> todoRepository.completeTodos(bulkProperties.chunkSize()));
+    }
+
+    @Override
+    public long deleteTodos(boolean completed) {
+        return runInChunks(
+                TodoChangeType.BULK_DELETED,
+                () -> todoRepository.deleteTodosByCompleted(completed, bulkProperties.chunkSize()));
+    }
+
+    /**
+     * Runs a set-based statement chunk by chunk, each in its own transaction to keep row locks short, until a chunk
+     * affects fewer rows than the chunk size. Every chunk that changed todos publishes its own event within its
+     * transaction, so the chunks committed before a failing one are still relayed, recorded and invalidated.
+     */
+    private long runInChunks(TodoChangeType type, Supplier<List<UUID>> chunk) {
+        long total = 0;
+
+        while (true) {
+            Integer affected = transactionOperations.execute(status -> {
+                List<UUID> result = chunk.get();
+
+                if (!result.isEmpty()) {
+                    eventPublisher.publishEvent(TodoChangedEvent.bulk(type, result));
+                }
+
+                return result.size();
+            });
+
+            total += affected;
+
+            if (affected < bulkProperties.chunkSize()) {
+                return total;
+            }
+        }
+    }
 }
@@ -1,8 +1,17 @@
 package com.github.pmviva.todo.list.api.service;
 
+import com.github.pmviva.todo.list.api.dto.BatchGetResult;
+import com.github.pmviva.todo.list.api.dto.HistoryPage;
+import com.github.pmviva.todo.list.api.model.ArchivedTodo;
 import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.model.TodoField;
 import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,9 +22,34 @@ public interface TodoService {
 
     Page<Todo> getTodos(@Nonnull Pageable pageable, @Nonnull Optional<Boolean> completed);
 
+    Page<Map<String, Object>> getTodos(
+            @Nonnull Pageable pageable, @Nonnull Optional<Boolean> completed, @Nonnull Set<TodoField> fields);
+
+    /**
+     * Writes a page of todos as JSON straight from the result set to the output stream. Only available when todo
+     * streaming is enabled.
+     */
+    void writeTodos(
+            @Nonnull Pageable pageable, @Nonnull Optional<Boolean> completed, @Nonnull OutputStream outputStream)
+            throws IOException;
+
+    Page<ArchivedTodo> getArchivedTodos(@Nonnull Pageable pageable, @Nonnull Optional<Boolean> completed);
+
     Todo getTodo(@Nonnull UUID id);
 
+    ArchivedTodo getArchivedTodo(@Nonnull UUID id);
+
+    BatchGetResult getTodos(@Nonnull List<UUID> ids);
+
+    Map<String, Object> getTodo(@Nonnull UUID id, @Nonnull Set<TodoField> fields);
+
+    HistoryPage getTodoHistory(@Nonnull UUID id, long after, int size);
+
     Todo updateTodo(@Nonnull UUID id, @Nonnull Todo todo);
 
     void deleteTodo(@Nonnull UUID id);
+
+    long completeTodos();
+
+    long deleteTodos(boolean completed);
 }
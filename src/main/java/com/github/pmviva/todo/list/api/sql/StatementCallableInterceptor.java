@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.sql;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+import java.util.concurrent.Callable;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+/**
+ * Hands the statement timeout scope and the statement captures of a request over to the thread that runs its
+ * {@link Callable}, so the statements run there are bounded, cancellable and counted as if they ran on the request
+ * thread.
+ */
+public class StatementCallableInterceptor implements CallableProcessingInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = StatementCallableInterceptor.class.getName() + ".scope";
+
+    private static final String CAPTURE_ATTRIBUTE = StatementCallableInterceptor.class.getName() + ".capture";
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        StatementTimeoutScope scope = StatementTimeoutScope.current();
+        StatementCapture capture = StatementCapture.current();
+
+        if (scope != null) {
+            request.setAttribute(SCOPE_ATTRIBUTE, scope, SCOPE_REQUEST);
+        }
+
+        if (capture != null) {
+            request.setAttribute(CAPTURE_ATTRIBUTE, capture, SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE, SCOPE_REQUEST) instanceof StatementTimeoutScope scope) {
+            scope.attach();
+        }
+
+        if (request.getAttribute(CAPTURE_ATTRIBUTE, SCOPE_REQUEST) instanceof StatementCapture capture) {
+            capture.attach();
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE, SCOPE_REQUEST) instanceof StatementTimeoutScope scope) {
+            scope.detach();
+        }
+
+        StatementCapture.unbind();
+    }
+}
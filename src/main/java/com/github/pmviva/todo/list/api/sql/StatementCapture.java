@@ -0,0 +1,181 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.sql;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts and times the SQL statements run on the current thread while it is open. Captures nest: a statement counts
+ * towards every capture open on the thread, so a test can pin the statements of a request that the statement budget
+ * filter is capturing as well. A capture is bound to the thread that opens it; an asynchronous request detaches it
+ * from that thread and attaches it to the thread that runs the rest of the request.
+ */
+public final class StatementCapture implements AutoCloseable {
+
+    static final int MAX_RECORDED_STATEMENTS = 100;
+
+    private static final ThreadLocal<StatementCapture> CURRENT = new ThreadLocal<>();
+
+    private final StatementCapture parent;
+
+    private final List<String> statements = new ArrayList<>();
+
+    private int count;
+
+    private long elapsedMillis;
+
+    private boolean closed;
+
+    private StatementCapture(StatementCapture parent) {
+        this.parent = parent;
+    }
+
+    public static StatementCapture open() {
+        StatementCapture capture = new StatementCapture(CURRENT.get());
+        CURRENT.set(capture);
+
+        return capture;
+    }
+
+    /**
+     * Returns the innermost capture bound to the current thread, if any.
+     */
+    public static StatementCapture current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the capture to the current thread, which then records its statements into the capture and the captures it
+     * is nested in.
+     */
+    public void attach() {
+        CURRENT.set(this);
+    }
+
+    /**
+     * Unbinds every capture from the current thread, once it is done running statements on behalf of a request that
+     * went asynchronous.
+     */
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Unbinds the capture from the thread that opened it while leaving it open, handing the thread back to the capture
+     * it is nested in.
+     */
+    public void detach() {
+        if (CURRENT.get() != this) {
+            return;
+        }
+
+        StatementCapture current = parent;
+
+        while (current != null && current.closed) {
+            current = current.parent;
+        }
+
+        if (current == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(current);
+        }
+    }
+
+    /**
+     * Records statements that ran together in one execution, such as a batch, against every open capture of the
+     * current thread.
+     */
+    static void record(List<String> queries, long elapsedMillis) {
+        for (StatementCapture capture = CURRENT.get(); capture != null; capture = capture.parent) {
+            if (capture.closed) {
+                continue;
+            }
+
+            capture.count += queries.size();
+            capture.elapsedMillis += elapsedMillis;
+
+            for (String query : queries) {
+                if (capture.statements.size() < MAX_RECORDED_STATEMENTS) {
+                    capture.statements.add(query);
+                }
+            }
+        }
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public Duration elapsed() {
+        return Duration.ofMillis(elapsedMillis);
+    }
+
+    /**
+     * Returns the recorded statements in execution order, up to the first {@value #MAX_RECORDED_STATEMENTS}.
+     */
+    public List<String> statements() {
+        return List.copyOf(statements);
+    }
+
+    /**
+     * Describes the recorded statements one per line, for log and assertion messages.
+     */
+    public String describe() {
+        StringBuilder description = new StringBuilder();
+
+        for (String statement : statements) {
+            description.append(statement).append('\n');
+        }
+
+        if (count > statements.size()) {
+            description.append(String.format("... and %d more%n", count - statements.size()));
+        }
+
+        return description.toString();
+    }
+
+    /**
+     * Stops capturing. Captures closed out of order stay on the thread until every capture opened after them is closed
+     * as well, but no longer record anything.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        StatementCapture current = CURRENT.get();
+
+        while (current != null && current.closed) {
+            current = current.parent;
+        }
+
+        if (current == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(current);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.sql;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counts and times every SQL statement run through the proxied data source and records it in the statement captures of
+ * the running thread. Statements slower than the threshold are logged with their bind parameters and, for statements
+ * Postgres can explain, their plan. The plan is read on the statement's own connection inside a savepoint, so a failed
+ * EXPLAIN cannot abort the surrounding transaction.
+ */
+public class StatementRecorder implements QueryExecutionListener, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementRecorder.class);
+
+    private static final Pattern EXPLAINABLE =
+            Pattern.compile("^\\s*(SELECT|INSERT|UPDATE|DELETE|WITH)\\b", Pattern.CASE_INSENSITIVE);
+
+    private final long slowThresholdMillis;
+
+    private final boolean logParameters;
+
+    private final boolean explain;
+
+    private final AtomicLong statements = new AtomicLong();
+
+    private final AtomicLong statementMillis = new AtomicLong();
+
+    private final AtomicLong slowStatements = new AtomicLong();
+
+    public StatementRecorder(Duration slowThreshold, boolean logParameters, boolean explain) {
+        this.slowThresholdMillis = slowThreshold.toMillis();
+        this.logParameters = logParameters;
+        this.explain = explain;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {}
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<String> queries = new ArrayList<>(queryInfoList.size());
+
+        for (QueryInfo queryInfo : queryInfoList) {
+            queries.add(queryInfo.getQuery());
+        }
+
+        statements.addAndGet(queries.size());
+        statementMillis.addAndGet(execInfo.getElapsedTime());
+        StatementCapture.record(queries, execInfo.getElapsedTime());
+
+        if (execInfo.getElapsedTime() >= slowThresholdMillis) {
+            slowStatements.addAndGet(queries.size());
+
+            for (QueryInfo queryInfo : queryInfoList) {
+                logSlowStatement(execInfo, queryInfo);
+            }
+        }
+    }
+
+    public long getStatements() {
+        return statements.get();
+    }
+
+    public long getStatementMillis() {
+        return statementMillis.get();
+    }
+
+    public long getSlowStatements() {
+        return slowStatements.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("todo.sql.statements", this, StatementRecorder::getStatements)
+                .description("SQL statements run through the data source")
+                .register(registry);
+        FunctionCounter.builder("todo.sql.slow", this, StatementRecorder::getSlowStatements)
+                .description("SQL statements that took longer than the slow statement threshold")
+                .register(registry);
+    }
+
+    private void logSlowStatement(ExecutionInfo execInfo, QueryInfo queryInfo) {
+        List<ParameterSetOperation> parameters =
+                queryInfo.getParametersList().isEmpty() ? List.of() : queryInfo.getParametersList().getFirst();
+
+        logger.warn(
+                "Slow SQL statement took {} ms{}: {}{}{}",
+                execInfo.getElapsedTime(),
+                execInfo.isBatch() ? String.format(" for a batch of %d", execInfo.getBatchSize()) : "",
+                queryInfo.getQuery(),
+                logParameters ? " with parameters " + describe(parameters) : "",
+                plan(execInfo, queryInfo.getQuery(), parameters));
+    }
+
+    /**
+     * Explains a slow statement with the parameters it ran with. Batches are not explained, as every entry of a batch
+     * may take a different plan.
+     */
+    private String plan(ExecutionInfo execInfo, String query, List<ParameterSetOperation> parameters) {
+        if (!explain || !execInfo.isSuccess() || execInfo.isBatch() || !EXPLAINABLE.matcher(query).find()) {
+            return "";
+        }
+
+        try {
+            StringJoiner plan = new StringJoiner("\n", "\n", "");
+
+            for (String line : explain(execInfo.getStatement().getConnection(), query, parameters)) {
+                plan.add(line);
+            }
+
+            return plan.toString();
+        } catch (SQLException | ReflectiveOperationException exception) {
+            logger.debug("Unable to explain slow SQL statement", exception);
+
+            return "";
+        }
+    }
+
+    private static List<String> explain(Connection connection, String query, List<ParameterSetOperation> parameters)
+            throws SQLException, ReflectiveOperationException {
+        Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query)) {
+            for (ParameterSetOperation parameter : parameters) {
+                parameter.getMethod().invoke(statement, parameter.getArgs());
+            }
+
+            List<String> plan = new ArrayList<>();
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+            }
+
+            if (savepoint != null) {
+                connection.releaseSavepoint(savepoint);
+            }
+
+            return plan;
+        } catch (SQLException | ReflectiveOperationException exception) {
+            if (savepoint != null) {
+                connection.rollback(savepoint);
+            }
+
+            throw exception;
+        }
+    }
+
+    private static String describe(List<ParameterSetOperation> parameters) {
+        StringJoiner description = new StringJoiner(", ", "[", "]");
+
+        for (ParameterSetOperation parameter : parameters) {
+            Object[] args = parameter.getArgs();
+
+            if (args == null || args.length == 0) {
+                continue;
+            }
+
+            Object value = "setNull".equals(parameter.getMethod().getName()) || args.length < 2 ? null : args[1];
+
+            description.add(args[0] + "=" + value);
+        }
+
+        return description.toString();
+    }
+}
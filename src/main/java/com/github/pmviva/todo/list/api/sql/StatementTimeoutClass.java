@@ -0,0 +1,58 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.sql;
+
+import com.github.pmviva.todo.list.api.limit.EndpointClass;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Locale;
+import org.springframework.http.HttpMethod;
+
+public enum StatementTimeoutClass {
+    LIST,
+    READ,
+    WRITE,
+    BULK;
+
+    private static final String COLLECTION_SUFFIX = "/todos";
+
+    /**
+     * Classifies a request by the statements it runs: collection reads are listings, which may page deep or sort large
+     * result sets, and every other request keeps its endpoint class.
+     */
+    public static StatementTimeoutClass of(HttpServletRequest request) {
+        if (HttpMethod.GET.matches(request.getMethod()) && request.getRequestURI().endsWith(COLLECTION_SUFFIX)) {
+            return LIST;
+        }
+
+        return switch (EndpointClass.of(request)) {
+            case READ -> READ;
+            case WRITE -> WRITE;
+            case BULK -> BULK;
+        };
+    }
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.sql;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies the statement timeout of the running request to every statement it runs, unless the statement already has
+ * a shorter one, and counts the statements that Postgres cancelled because they timed out or because the request was
+ * abandoned.
+ */
+public class StatementTimeoutListener implements QueryExecutionListener, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementTimeoutListener.class);
+
+    private static final String QUERY_CANCELED_STATE = "57014";
+
+    private final Map<StatementTimeoutClass, AtomicLong> timeouts = new EnumMap<>(StatementTimeoutClass.class);
+
+    private final AtomicLong cancellations = new AtomicLong();
+
+    public StatementTimeoutListener() {
+        for (StatementTimeoutClass timeoutClass : StatementTimeoutClass.values()) {
+            timeouts.put(timeoutClass, new AtomicLong());
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        StatementTimeoutScope scope = StatementTimeoutScope.current();
+
+        if (scope == null) {
+            return;
+        }
+
+        Statement statement = execInfo.getStatement();
+        int remaining = scope.remainingSeconds();
+
+        try {
+            int timeout = statement.getQueryTimeout();
+
+            if (timeout == 0 || timeout > remaining) {
+                statement.setQueryTimeout(remaining);
+            }
+        } catch (SQLException exception) {
+            logger.debug("Unable to set SQL statement timeout", exception);
+        }
+
+        scope.begin(statement);
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        StatementTimeoutScope scope = StatementTimeoutScope.current();
+
+        if (scope == null) {
+            return;
+        }
+
+        scope.end();
+
+        if (!execInfo.isSuccess()
+                && execInfo.getThrowable() instanceof SQLException exception
+                && QUERY_CANCELED_STATE.equals(exception.getSQLState())) {
+            if (scope.isCancelled()) {
+                cancellations.incrementAndGet();
+            } else {
+                timeouts.get(scope.timeoutClass()).incrementAndGet();
+            }
+        }
+    }
+
+    public long getTimeouts(StatementTimeoutClass timeoutClass) {
+        return timeouts.get(timeoutClass).get();
+    }
+
+    public long getCancellations() {
+        return cancellations.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (StatementTimeoutClass timeoutClass : StatementTimeoutClass.values()) {
+            FunctionCounter.builder("todo.sql.timeouts", this, listener -> listener.getTimeouts(timeoutClass))
+                    .description("SQL statements cancelled because they ran past the statement timeout")
+                    .tag("endpoint", timeoutClass.tag())
+                    .register(registry);
+        }
+
+        FunctionCounter.builder("todo.sql.cancellations", this, StatementTimeoutListener::getCancellations)
+                .description("SQL statements cancelled because the client went away")
+                .register(registry);
+    }
+}
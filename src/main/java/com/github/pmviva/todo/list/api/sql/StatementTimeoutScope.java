@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.sql;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounds the SQL statements a request runs on its thread by the time budget of its endpoint class. Every statement is
+ * given the time left until the deadline, and the statement in flight can be cancelled from another thread once the
+ * request is abandoned. A scope is bound to the thread that opens it, and can be handed over to the thread that runs
+ * the rest of an asynchronous request with {@link #detach()} and {@link #attach()}.
+ */
+public final class StatementTimeoutScope implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementTimeoutScope.class);
+
+    private static final ThreadLocal<StatementTimeoutScope> CURRENT = new ThreadLocal<>();
+
+    private final StatementTimeoutClass timeoutClass;
+
+    private final long deadline;
+
+    private Statement inFlight;
+
+    private boolean cancelled;
+
+    private boolean closed;
+
+    private StatementTimeoutScope(StatementTimeoutClass timeoutClass, Duration timeout) {
+        this.timeoutClass = timeoutClass;
+        this.deadline = System.nanoTime() + timeout.toNanos();
+    }
+
+    public static StatementTimeoutScope open(StatementTimeoutClass timeoutClass, Duration timeout) {
+        StatementTimeoutScope scope = new StatementTimeoutScope(timeoutClass, timeout);
+        CURRENT.set(scope);
+
+        return scope;
+    }
+
+    public static StatementTimeoutScope current() {
+        return CURRENT.get();
+    }
+
+    public StatementTimeoutClass timeoutClass() {
+        return timeoutClass;
+    }
+
+    /**
+     * Returns the whole seconds left until the deadline, at least one since JDBC reads zero as no timeout.
+     */
+    int remainingSeconds() {
+        long remaining = deadline - System.nanoTime();
+
+        return (int) Math.max(1, Math.ceilDiv(remaining, 1_000_000_000L));
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Cancels the statement in flight, if any, and returns whether one was cancelled.
+     */
+    public synchronized boolean cancel() {
+        if (closed || inFlight == null) {
+            return false;
+        }
+
+        cancelled = true;
+
+        try {
+            inFlight.cancel();
+        } catch (SQLException exception) {
+            logger.debug("Unable to cancel SQL statement", exception);
+        }
+
+        return true;
+    }
+
+    synchronized void begin(Statement statement) {
+        inFlight = statement;
+    }
+
+    synchronized void end() {
+        inFlight = null;
+    }
+
+    /**
+     * Binds the scope to the current thread, which then runs its statements within the scope.
+     */
+    public void attach() {
+        CURRENT.set(this);
+    }
+
+    /**
+     * Unbinds the scope from the current thread while leaving it open, so a request that went asynchronous can still
+     * cancel the statements bound to it.
+     */
+    public void detach() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        inFlight = null;
+
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+}
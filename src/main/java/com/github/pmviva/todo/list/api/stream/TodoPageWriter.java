@@ -0,0 +1,231 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.stream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.pmviva.todo.list.api.exception.BadRequestException;
+import com.github.pmviva.todo.list.api.json.TodoTimestamps;
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.model.TodoSortField;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Writes a page of todos as JSON straight from the JDBC result set, without building entities, a {@code Page} or a
+ * {@link PagedModel} first. The output is byte for byte what the object mapper writes for the {@link PagedModel} of
+ * the same page: the todo properties in the order of {@link Todo}, timestamps as {@link TodoTimestamps} formats them,
+ * and the page metadata computed the way Spring Data does, counting only when the page does not tell the total.
+ * Per row, only the id and description strings are allocated; timestamps are read as epoch milliseconds and formatted
+ * into a buffer reused across rows, and the generator recycles its own buffers. When a query fails, the generator is
+ * left as it is rather than closed: the output stops where the failure hit, without the closing brackets or the page
+ * metadata, so a client that already received part of the page cannot take it for a complete one.
+ */
+public class TodoPageWriter {
+
+    private static final String SELECT_QUERY =
+            """
+            SELECT id, description, completed,
+                floor(extract(epoch FROM created_at) * 1000)::bigint AS created_at,
+                floor(extract(epoch FROM updated_at) * 1000)::bigint AS updated_at
+            FROM todos WHERE deleted_at IS NULL
+            """;
+
+    private static final String COUNT_QUERY = "SELECT count(*) FROM todos WHERE deleted_at IS NULL";
+
+    private static final String COMPLETED_CONDITION = " AND completed = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final JsonFactory jsonFactory;
+
+    private final int minPageSize;
+
+    public TodoPageWriter(JdbcTemplate jdbcTemplate, JsonFactory jsonFactory, int minPageSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonFactory = jsonFactory;
+        this.minPageSize = minPageSize;
+    }
+
+    /**
+     * Tells whether a page is large enough to be streamed. Smaller pages are cheap to build as entities and are served
+     * from the query cache, which streaming bypasses.
+     */
+    public boolean streams(Pageable pageable) {
+        return pageable.isUnpaged() || pageable.getPageSize() >= minPageSize;
+    }
+
+    /**
+     * Writes the page of todos, optionally filtered by completion state, to the output stream. The pageable must have
+     * been validated against {@link TodoSortField}.
+     */
+    public void write(Pageable pageable, Optional<Boolean> completed, OutputStream outputStream) throws IOException {
+        List<Object> arguments = new ArrayList<>(3);
+        StringBuilder query = new StringBuilder(SELECT_QUERY);
+
+        if (completed.isPresent()) {
+            query.append(COMPLETED_CONDITION);
+            arguments.add(completed.get());
+        }
+
+        query.append(orderBy(pageable.getSort()));
+
+        if (pageable.isPaged()) {
+            query.append(" LIMIT ? OFFSET ?");
+            arguments.add(pageable.getPageSize());
+            arguments.add(pageable.getOffset());
+        }
+
+        JsonGenerator generator = jsonFactory
+                .createGenerator(StreamUtils.nonClosing(outputStream), JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        char[] timestamp = new char[TodoTimestamps.LENGTH];
+        long[] rows = new long[1];
+
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("content");
+
+        try {
+            jdbcTemplate.query(
+                    query.toString(),
+                    resultSet -> {
+                        writeTodo(generator, resultSet, timestamp);
+                        rows[0]++;
+                    },
+                    arguments.toArray());
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+
+        generator.writeEndArray();
+        writePageMetadata(generator, pageable, completed, rows[0]);
+        generator.writeEndObject();
+        generator.close();
+    }
+
+    private void writePageMetadata(
+            JsonGenerator generator, Pageable pageable, Optional<Boolean> completed, long rows) throws IOException {
+        long size = pageable.isPaged() ? pageable.getPageSize() : rows;
+        long total = total(pageable, completed, rows);
+
+        generator.writeObjectFieldStart("page");
+        generator.writeNumberField("size", size);
+        generator.writeNumberField("number", pageable.isPaged() ? pageable.getPageNumber() : 0);
+        generator.writeNumberField("totalElements", total);
+        generator.writeNumberField("totalPages", size == 0 ? 1 : (long) Math.ceil((double) total / (double) size));
+        generator.writeEndObject();
+    }
+
+    /**
+     * Works out the total like {@code PageableExecutionUtils}: a first page or a non-empty last page that is not full
+     * tells the total, anything else needs a count.
+     */
+    private long total(Pageable pageable, Optional<Boolean> completed, long rows) {
+        if (pageable.isUnpaged()) {
+            return rows;
+        }
+
+        if ((pageable.getOffset() == 0 || rows > 0) && pageable.getPageSize() > rows) {
+            return pageable.getOffset() + rows;
+        }
+
+        Long count = completed.isPresent()
+                ? jdbcTemplate.queryForObject(COUNT_QUERY + COMPLETED_CONDITION, Long.class, completed.get())
+                : jdbcTemplate.queryForObject(COUNT_QUERY, Long.class);
+
+        return count != null ? count : 0;
+    }
+
+    private static void writeTodo(JsonGenerator generator, ResultSet resultSet, char[] timestamp)
+            throws SQLException {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("id", resultSet.getString(1));
+            generator.writeStringField("description", resultSet.getString(2));
+
+            boolean completed = resultSet.getBoolean(3);
+            generator.writeFieldName("completed");
+
+            if (resultSet.wasNull()) {
+                generator.writeNull();
+            } else {
+                generator.writeBoolean(completed);
+            }
+
+            writeTimestamp(generator, "createdAt", resultSet, 4, timestamp);
+            writeTimestamp(generator, "updatedAt", resultSet, 5, timestamp);
+            generator.writeEndObject();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static void writeTimestamp(
+            JsonGenerator generator, String fieldName, ResultSet resultSet, int column, char[] timestamp)
+            throws SQLException, IOException {
+        long epochMillis = resultSet.getLong(column);
+
+        generator.writeFieldName(fieldName);
+
+        if (resultSet.wasNull()) {
+            generator.writeNull();
+        } else {
+            TodoTimestamps.format(epochMillis, timestamp);
+            generator.writeString(timestamp, 0, timestamp.length);
+        }
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+
+        return sort.stream()
+                .map(order -> columnName(order.getProperty()) + " " + order.getDirection().name())
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+
+    private static String columnName(String property) {
+        if (TodoSortField.ID_PROPERTY.equals(property)) {
+            return TodoSortField.ID_PROPERTY;
+        }
+
+        return TodoSortField.fromProperty(property)
+                .map(TodoSortField::columnName)
+                .orElseThrow(() -> new BadRequestException(String.format("Unsupported sort: %s", property)));
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.tracing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides whether to export a trace once its local root span ends, when its duration and outcome are known. Spans
+ * that end before the root are held per trace; the trace is kept when the root took at least the slow threshold or
+ * ended with an error, and otherwise with the sample probability. Kept spans are handed to the delegate processor,
+ * which exports them. Spans ending after the decision follow it for as long as the decision is remembered, and traces
+ * whose root never ends here are discarded after the pending timeout.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor, MeterBinder {
+
+    private static final int EVICTION_PERIOD = 1024;
+
+    private final SpanProcessor delegate;
+
+    private final long slowThresholdNanos;
+
+    private final double sampleProbability;
+
+    private final int maxPendingTraces;
+
+    private final long pendingTimeoutNanos;
+
+    private final Map<String, PendingTrace> pending = new ConcurrentHashMap<>();
+
+    private final Map<String, Boolean> decisions;
+
+    private final AtomicLong decided = new AtomicLong();
+
+    private final AtomicLong kept = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final AtomicLong evicted = new AtomicLong();
+
+    public TailSamplingSpanProcessor(
+            SpanProcessor delegate,
+            Duration slowThreshold,
+            double sampleProbability,
+            int maxPendingTraces,
+            Duration pendingTimeout) {
+        this.delegate = delegate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleProbability = sampleProbability;
+        this.maxPendingTraces = maxPendingTraces;
+        this.pendingTimeoutNanos = pendingTimeout.toNanos();
+        this.decisions = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxPendingTraces;
+            }
+        });
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        String traceId = span.getSpanContext().getTraceId();
+        Boolean decision = decisions.get(traceId);
+
+        if (decision != null) {
+            if (decision) {
+                delegate.onEnd(span);
+            }
+        } else if (isLocalRoot(span)) {
+            decide(traceId, span);
+        } else {
+            hold(traceId, span);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        pending.clear();
+
+        return delegate.shutdown();
+    }
+
+    public long getKept() {
+        return kept.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getEvicted() {
+        return evicted.get();
+    }
+
+    public int getPending() {
+        return pending.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.tracing.pending", this, TailSamplingSpanProcessor::getPending)
+                .description("Traces waiting for their root span to end")
+                .register(registry);
+        FunctionCounter.builder("todo.tracing.kept", this, TailSamplingSpanProcessor::getKept)
+                .description("Traces kept by tail sampling and exported")
+                .register(registry);
+        FunctionCounter.builder("todo.tracing.dropped", this, TailSamplingSpanProcessor::getDropped)
+                .description("Traces dropped by tail sampling")
+                .register(registry);
+        FunctionCounter.builder("todo.tracing.evicted", this, TailSamplingSpanProcessor::getEvicted)
+                .description("Traces discarded because their root span did not end in time or too many were pending")
+                .register(registry);
+    }
+
+    /**
+     * The decision is published before the held spans are taken, and spans are held atomically with respect to that,
+     * so a span held concurrently is either taken with them or sees the decision when it checks again.
+     */
+    private void decide(String traceId, ReadableSpan root) {
+        boolean keep = root.getLatencyNanos() >= slowThresholdNanos
+                || root.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR
+                || ThreadLocalRandom.current().nextDouble() < sampleProbability;
+
+        decisions.put(traceId, keep);
+        PendingTrace trace = pending.remove(traceId);
+
+        if (keep) {
+            kept.incrementAndGet();
+            forward(trace);
+            delegate.onEnd(root);
+        } else {
+            dropped.incrementAndGet();
+        }
+
+        if (decided.incrementAndGet() % EVICTION_PERIOD == 0) {
+            evictStale();
+        }
+    }
+
+    private void hold(String traceId, ReadableSpan span) {
+        if (pending.size() >= maxPendingTraces && !pending.containsKey(traceId)) {
+            evicted.incrementAndGet();
+            return;
+        }
+
+        pending.compute(traceId, (id, trace) -> {
+            PendingTrace held = trace != null ? trace : new PendingTrace(System.nanoTime());
+            held.spans().add(span);
+
+            return held;
+        });
+
+        Boolean decision = decisions.get(traceId);
+
+        if (decision != null) {
+            PendingTrace trace = pending.remove(traceId);
+
+            if (decision) {
+                forward(trace);
+            }
+        }
+    }
+
+    private void forward(PendingTrace trace) {
+        if (trace != null) {
+            trace.spans().forEach(delegate::onEnd);
+        }
+    }
+
+    private void evictStale() {
+        long now = System.nanoTime();
+
+        pending.values().removeIf(trace -> {
+            boolean stale = now - trace.started() > pendingTimeoutNanos;
+
+            if (stale) {
+                evicted.incrementAndGet();
+            }
+
+            return stale;
+        });
+    }
+
+    private static boolean isLocalRoot(ReadableSpan span) {
+        SpanContext parent = span.getParentSpanContext();
+
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    private static final class PendingTrace {
+
+        private final long started;
+
+        private final List<ReadableSpan> spans = new ArrayList<>();
+
+        PendingTrace(long started) {
+            this.started = started;
+        }
+
+        long started() {
+            return started;
+        }
+
+        List<ReadableSpan> spans() {
+            return spans;
+        }
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.pmviva.todo.list.api.exception.NotFoundException;
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.model.TodoField;
+import com.github.pmviva.todo.list.api.model.TodoSortField;
+import com.github.pmviva.todo.list.api.pool.AdaptivePoolSizer;
+import com.github.pmviva.todo.list.api.service.TodoService;
+import com.github.pmviva.todo.list.api.stream.TodoPageWriter;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * Warms the application up before it reports ready. Application runners complete before the readiness state changes
+ * to accepting traffic, so the first requests of a new instance find the idle connections of the pool open, the
+ * signing keys of the resource server fetched, and the read paths and JSON serialization compiled and their query
+ * plans and caches populated. Warming up is best effort: a failing step is logged and skipped, and it never delays
+ * readiness for longer than the timeout.
+ */
+public class TodoWarmUp implements ApplicationRunner, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoWarmUp.class);
+
+    private static final UUID MISSING_ID = new UUID(0, 0);
+
+    private static final String WARM_UP_KEY_ID = "todo-warm-up";
+
+    private static final String SYNTHETIC_TODO_JSON =
+            """
+            {"id":"00000000-0000-0000-0000-000000000001","description":"Warm up","completed":false,\
+            "createdAt":"2025-01-01T00:00:00.000+00:00","updatedAt":"2025-01-01T00:00:00.000+00:00"}
+            """;
+
+    private final TodoService todoService;
+
+    private final ObjectMapper objectMapper;
+
+    private final Optional<HikariDataSource> dataSource;
+
+    private final Optional<AdaptivePoolSizer> poolSizer;
+
+    private final Optional<Consumer<String>> jwtDecoder;
+
+    private final Optional<TodoPageWriter> todoPageWriter;
+
+    private final int iterations;
+
+    private final long timeoutNanos;
+
+    private final Pageable pageable;
+
+    private volatile long durationNanos;
+
+    private volatile long firstIterationNanos;
+
+    private volatile long lastIterationNanos;
+
+    private volatile int completedIterations;
+
+    private volatile int openedConnections;
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    public TodoWarmUp(
+            TodoService todoService,
+            ObjectMapper objectMapper,
+            Optional<HikariDataSource> dataSource,
+            Optional<AdaptivePoolSizer> poolSizer,
+            Optional<Consumer<String>> jwtDecoder,
+            Optional<TodoPageWriter> todoPageWriter,
+            int iterations,
+            Duration timeout,
+            int pageSize) {
+        this.todoService = todoService;
+        this.objectMapper = objectMapper;
+        this.dataSource = dataSource;
+        this.poolSizer = poolSizer;
+        this.jwtDecoder = jwtDecoder;
+        this.todoPageWriter = todoPageWriter;
+        this.iterations = iterations;
+        this.timeoutNanos = timeout.toNanos();
+        this.pageable = TodoSortField.validate(PageRequest.of(0, pageSize));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+
+        dataSource.ifPresent(this::fillPool);
+        jwtDecoder.ifPresent(this::fetchKeys);
+        exercise(start + timeoutNanos);
+
+        durationNanos = System.nanoTime() - start;
+
+        logger.info(
+                "Warmed up in {} ms: {} pool connections, {} iterations, first iteration {} us, last iteration {} us, "
+                        + "{} failures",
+                TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                openedConnections,
+                completedIterations,
+                TimeUnit.NANOSECONDS.toMicros(firstIterationNanos),
+                TimeUnit.NANOSECONDS.toMicros(lastIterationNanos),
+                failures.get());
+    }
+
+    public double getDuration() {
+        return durationNanos;
+    }
+
+    public double getFirstIteration() {
+        return firstIterationNanos;
+    }
+
+    public double getLastIteration() {
+        return lastIterationNanos;
+    }
+
+    public int getIterations() {
+        return completedIterations;
+    }
+
+    public int getConnections() {
+        return openedConnections;
+    }
+
+    public int getFailures() {
+        return failures.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("todo.warmup.duration", this, TimeUnit.NANOSECONDS, TodoWarmUp::getDuration)
+                .description("Time spent warming up before reporting ready")
+                .register(registry);
+        TimeGauge.builder("todo.warmup.first-iteration", this, TimeUnit.NANOSECONDS, TodoWarmUp::getFirstIteration)
+                .description("Time taken by the first warm-up iteration, with cold code, caches and query plans")
+                .register(registry);
+        TimeGauge.builder("todo.warmup.last-iteration", this, TimeUnit.NANOSECONDS, TodoWarmUp::getLastIteration)
+                .description("Time taken by the last warm-up iteration")
+                .register(registry);
+        Gauge.builder("todo.warmup.iterations", this, TodoWarmUp::getIterations)
+                .description("Warm-up iterations of the read paths and JSON serialization")
+                .register(registry);
+        Gauge.builder("todo.warmup.connections", this, TodoWarmUp::getConnections)
+                .description("Connections opened in the pool during warm-up")
+                .register(registry);
+        Gauge.builder("todo.warmup.failures", this, TodoWarmUp::getFailures)
+                .description("Warm-up steps that failed")
+                .register(registry);
+    }
+
+    /**
+     * Holds the minimum idle connections of the pool, so that they are opened now rather than by the first requests.
+     * The pool size is reserved from the pool budget first, and the connections above the minimum idle size are left
+     * to open on demand: a rolling restart would otherwise open the full pool size on every replica at once, the burst
+     * the budget is there to prevent.
+     */
+    private void fillPool(HikariDataSource hikariDataSource) {
+        int size = poolSizer.map(AdaptivePoolSizer::reserve).orElseGet(hikariDataSource::getMaximumPoolSize);
+        int target = Math.clamp(hikariDataSource.getMinimumIdle(), 0, size);
+        List<Connection> connections = new ArrayList<>(target);
+
+        try {
+            while (connections.size() < target) {
+                connections.add(hikariDataSource.getConnection());
+            }
+        } catch (SQLException exception) {
+            failed("fill the connection pool", exception);
+        } finally {
+            openedConnections = connections.size();
+
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException exception) {
+                    logger.debug("Unable to release warm-up connection", exception);
+                }
+            }
+        }
+    }
+
+    /**
+     * Decodes a token signed with a throwaway key under an unknown key id. The decoder fetches the signing keys to look
+     * for the key id and rejects the token, leaving the keys cached for the first real request.
+     */
+    private void fetchKeys(Consumer<String> decoder) {
+        try {
+            decoder.accept(warmUpToken());
+        } catch (JwtException exception) {
+            logger.debug("Warm-up token rejected as expected", exception);
+        } catch (NoSuchAlgorithmException | JOSEException | RuntimeException exception) {
+            failed("fetch the signing keys", exception);
+        }
+    }
+
+    private void exercise(long deadline) {
+        Set<TodoField> fields = EnumSet.allOf(TodoField.class);
+        int completed = 0;
+
+        while (completed < iterations && System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+
+            try {
+                iterate(fields);
+            } catch (IOException | RuntimeException exception) {
+                failed("exercise the read paths", exception);
+                break;
+            }
+
+            long elapsed = System.nanoTime() - start;
+
+            if (completed == 0) {
+                firstIterationNanos = elapsed;
+            }
+
+            lastIterationNanos = elapsed;
+            completedIterations = ++completed;
+        }
+    }
+
+    private void iterate(Set<TodoField> fields) throws IOException {
+        Page<Todo> page = todoService.getTodos(pageable, Optional.empty());
+        objectMapper.writeValueAsBytes(new PagedModel<>(page));
+
+        Page<Map<String, Object>> projected = todoService.getTodos(pageable, Optional.of(false), fields);
+        objectMapper.writeValueAsBytes(new PagedModel<>(projected));
+
+        try {
+            todoService.getTodo(MISSING_ID);
+        } catch (NotFoundException exception) {
+            // The lookup of a missing todo is the cheapest way to exercise the read by id
+        }
+
+        Todo todo = objectMapper.readValue(SYNTHETIC_TODO_JSON, Todo.class);
+        objectMapper.writeValueAsBytes(todo);
+
+        if (todoPageWriter.isPresent()) {
+            todoService.writeTodos(pageable, Optional.empty(), OutputStream.nullOutputStream());
+        }
+    }
+
+    private void failed(String step, Exception exception) {
+        failures.incrementAndGet();
+        logger.warn("Unable to {} during warm-up", step, exception);
+    }
+
+    private static String warmUpToken() throws NoSuchAlgorithmException, JOSEException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(WARM_UP_KEY_ID).build(),
+                new JWTClaimsSet.Builder().subject(WARM_UP_KEY_ID).build());
+        jwt.sign(new RSASSASigner(generator.generateKeyPair().getPrivate()));
+
+        return jwt.serialize();
+    }
+}
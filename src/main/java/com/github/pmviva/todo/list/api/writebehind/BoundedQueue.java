@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.writebehind;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lock-free bounded queue. Producers reserve a slot with a compare-and-set on the size before doing any work for an
+ * element, so a full queue is detected without blocking and without allocating.
+ */
+class BoundedQueue<E> {
+
+    private final ConcurrentLinkedQueue<E> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final int capacity;
+
+    BoundedQueue(int capacity) {
+        this.capacity = capacity;
+    }
+
+    boolean tryReserve() {
+        while (true) {
+            int current = size.get();
+
+            if (current >= capacity) {
+                return false;
+            }
+
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void cancelReservation() {
+        size.decrementAndGet();
+    }
+
+    /**
+     * Adds an element for which a slot was reserved.
+     */
+    void put(E element) {
+        queue.add(element);
+    }
+
+    /**
+     * Adds an element regardless of capacity, used when replaying elements that were already accepted.
+     */
+    void forcePut(E element) {
+        size.incrementAndGet();
+        queue.add(element);
+    }
+
+    int drainTo(Collection<? super E> collection, int maxElements) {
+        int drained = 0;
+
+        while (drained < maxElements) {
+            E element = queue.poll();
+
+            if (element == null) {
+                break;
+            }
+
+            size.decrementAndGet();
+            collection.add(element);
+            drained++;
+        }
+
+        return drained;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    boolean isEmpty() {
+        return queue.isEmpty();
+    }
+}
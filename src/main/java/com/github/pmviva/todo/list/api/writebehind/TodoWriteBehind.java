@@ -0,0 +1,393 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.writebehind;
+
+import com.github.pmviva.todo.list.api.event.TodoChangeType;
+import com.github.pmviva.todo.list.api.event.TodoChangedEvent;
+import com.github.pmviva.todo.list.api.event.TodoSnapshot;
+import com.github.pmviva.todo.list.api.exception.ServiceUnavailableException;
+import com.github.pmviva.todo.list.api.model.Todo;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Accepts todos without waiting for the database. Each accepted todo gets its id and timestamps assigned here, is
+ * forced to the journal and put on a bounded queue, and a single writer thread drains the queue in multi-row INSERTs.
+ * Inserts ignore conflicts, so replaying the journal after a crash never duplicates a todo. Each todo a flush actually
+ * inserts is published as its own {@code CREATED} change, as the synchronous path does, carrying the principal that
+ * enqueued it, since the writer thread has no security context. When the queue is full, new todos are rejected instead
+ * of growing memory without bound.
+ */
+public class TodoWriteBehind implements SmartLifecycle, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoWriteBehind.class);
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES ";
+
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SUFFIX = " ON CONFLICT DO NOTHING RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionOperations transactionOperations;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final WriteBehindJournal journal;
+
+    private final BoundedQueue<WriteBehindJournal.Entry> queue;
+
+    private final int batchSize;
+
+    private final Duration flushInterval;
+
+    private final Duration retryDelay;
+
+    private final Duration failedRetention;
+
+    private final Clock clock;
+
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    private final Map<UUID, Instant> failed = new ConcurrentHashMap<>();
+
+    private final AtomicLong written = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private final AtomicLong failures = new AtomicLong();
+
+    private volatile boolean running;
+
+    private Thread thread;
+
+    public TodoWriteBehind(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            ApplicationEventPublisher eventPublisher,
+            Path journalDirectory,
+            long journalSegmentSize,
+            int capacity,
+            int batchSize,
+            Duration flushInterval,
+            Duration retryDelay,
+            Duration failedRetention,
+            Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.journal = new WriteBehindJournal(journalDirectory, journalSegmentSize);
+        this.queue = new BoundedQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.retryDelay = retryDelay;
+        this.failedRetention = failedRetention;
+        this.clock = clock;
+    }
+
+    /**
+     * Accepts a todo for asynchronous creation and returns it with its id assigned. The todo is durable once this
+     * method returns.
+     */
+    public Todo enqueue(Todo todo) {
+        if (!running) {
+            throw new ServiceUnavailableException("Write-behind queue is not running");
+        }
+
+        if (!queue.tryReserve()) {
+            rejected.incrementAndGet();
+            throw new ServiceUnavailableException("Write-behind queue is full");
+        }
+
+        Instant now = Instant.ofEpochMilli(clock.millis());
+
+        Todo accepted = new Todo(todo.getDescription(), todo.getCompleted());
+        accepted.setId(UUID.randomUUID());
+        accepted.setCreatedAt(now);
+        accepted.setUpdatedAt(now);
+
+        try {
+            String principal = currentPrincipal();
+            WriteBehindJournal.Segment segment = journal.append(accepted, principal);
+
+            pending.add(accepted.getId());
+            queue.put(new WriteBehindJournal.Entry(accepted, principal, segment));
+        } catch (IOException exception) {
+            queue.cancelReservation();
+            throw new ServiceUnavailableException("Write-behind journal is not writable", exception);
+        }
+
+        return accepted;
+    }
+
+    /**
+     * Returns the state of a todo accepted by this node, if it is still pending or recently failed. Todos that were
+     * written are no longer tracked.
+     */
+    public Optional<OperationState> getState(UUID id) {
+        if (pending.contains(id)) {
+            return Optional.of(OperationState.PENDING);
+        } else if (failed.containsKey(id)) {
+            return Optional.of(OperationState.FAILED);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        try {
+            for (WriteBehindJournal.Entry entry : journal.open()) {
+                pending.add(entry.todo().getId());
+                queue.forcePut(entry);
+            }
+        } catch (IOException exception) {
+            throw new IllegalStateException("Failed to open the write-behind journal", exception);
+        }
+
+        if (queue.size() > 0) {
+            logger.info("Replaying {} todos from the write-behind journal", queue.size());
+        }
+
+        running = true;
+
+        thread = Thread.ofPlatform().name("todo-write-behind").start(this::drain);
+    }
+
+    /**
+     * Stops accepting todos and waits for the writer to drain the queue.
+     */
+    @Override
+    public synchronized void stop() {
+        running = false;
+
+        if (thread != null) {
+            LockSupport.unpark(thread);
+
+            try {
+                thread.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+
+            thread = null;
+        }
+
+        try {
+            journal.close();
+        } catch (IOException exception) {
+            logger.warn("Failed to close the write-behind journal", exception);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server, so todos accepted by in-flight requests are still written.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getWritten() {
+        return written.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.write.behind.queue.size", this, TodoWriteBehind::getQueueSize)
+                .description("Todos accepted and waiting to be written")
+                .register(registry);
+        FunctionCounter.builder("todo.write.behind.written", this, TodoWriteBehind::getWritten)
+                .description("Todos written by the write-behind writer")
+                .register(registry);
+        FunctionCounter.builder("todo.write.behind.rejected", this, TodoWriteBehind::getRejected)
+                .description("Todos rejected because the write-behind queue was full")
+                .register(registry);
+        FunctionCounter.builder("todo.write.behind.failed", this, TodoWriteBehind::getFailures)
+                .description("Accepted todos that could not be written")
+                .register(registry);
+    }
+
+    private void drain() {
+        List<WriteBehindJournal.Entry> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            queue.drainTo(batch, batchSize - batch.size());
+
+            if (batch.isEmpty()) {
+                expireFailed();
+                LockSupport.parkNanos(flushInterval.toNanos());
+                continue;
+            }
+
+            try {
+                write(batch);
+                complete(batch);
+                batch.clear();
+            } catch (DataIntegrityViolationException exception) {
+                batch = writeIndividually(batch);
+            } catch (DataAccessException exception) {
+                if (!running) {
+                    logger.warn("Failed to write todos while stopping, leaving them in the journal", exception);
+                    break;
+                }
+
+                logger.warn("Failed to write {} todos, retrying", batch.size(), exception);
+                LockSupport.parkNanos(retryDelay.toNanos());
+            }
+        }
+    }
+
+    private void write(List<WriteBehindJournal.Entry> entries) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(entries.size() * 5);
+
+        for (WriteBehindJournal.Entry entry : entries) {
+            Todo todo = entry.todo();
+
+            if (!args.isEmpty()) {
+                sql.append(", ");
+            }
+
+            sql.append(INSERT_ROW);
+            args.add(todo.getId());
+            args.add(todo.getDescription());
+            args.add(todo.getCompleted());
+            args.add(Timestamp.from(todo.getCreatedAt()));
+            args.add(Timestamp.from(todo.getUpdatedAt()));
+        }
+
+        sql.append(INSERT_SUFFIX);
+
+        transactionOperations.executeWithoutResult(status -> {
+            Set<UUID> inserted = new HashSet<>(jdbcTemplate.queryForList(sql.toString(), UUID.class, args.toArray()));
+
+            for (WriteBehindJournal.Entry entry : entries) {
+                Todo todo = entry.todo();
+
+                if (inserted.contains(todo.getId())) {
+                    eventPublisher.publishEvent(
+                            new TodoChangedEvent(TodoChangeType.CREATED, todo.getId(), null, TodoSnapshot.of(todo))
+                                    .withPrincipal(entry.principal()));
+                }
+            }
+        });
+    }
+
+    /**
+     * Isolates the rows that make a batch fail. Rows rejected by the database are recorded as failed and dropped,
+     * while rows that failed for any other reason are returned to be retried.
+     */
+    private List<WriteBehindJournal.Entry> writeIndividually(List<WriteBehindJournal.Entry> entries) {
+        List<WriteBehindJournal.Entry> remaining = new ArrayList<>(batchSize);
+
+        for (WriteBehindJournal.Entry entry : entries) {
+            try {
+                write(List.of(entry));
+                complete(List.of(entry));
+            } catch (DataIntegrityViolationException exception) {
+                logger.error("Dropping todo {} rejected by the database", entry.todo().getId(), exception);
+
+                failed.put(entry.todo().getId(), clock.instant());
+                failures.incrementAndGet();
+                pending.remove(entry.todo().getId());
+                entry.segment().acknowledge();
+            } catch (DataAccessException exception) {
+                remaining.add(entry);
+            }
+        }
+
+        return remaining;
+    }
+
+    private void complete(List<WriteBehindJournal.Entry> entries) {
+        for (WriteBehindJournal.Entry entry : entries) {
+            pending.remove(entry.todo().getId());
+            entry.segment().acknowledge();
+        }
+
+        written.addAndGet(entries.size());
+    }
+
+    private void expireFailed() {
+        if (!failed.isEmpty()) {
+            Instant threshold = clock.instant().minus(failedRetention);
+
+            failed.values().removeIf(instant -> instant.isBefore(threshold));
+        }
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        return authentication != null ? authentication.getName() : null;
+    }
+}
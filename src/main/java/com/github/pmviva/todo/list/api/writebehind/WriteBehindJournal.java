@@ -0,0 +1,313 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.writebehind;
+
+import com.github.pmviva.todo.list.api.model.Todo;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only spill file for todos accepted by the write-behind queue. A todo is acknowledged to the client only after
+ * its record is forced to disk; concurrent appends share a single force, so the cost of durability is amortized under
+ * load. The journal is split into segments, and a segment is deleted once it is sealed and every todo it holds has been
+ * written to the database. On startup, surviving segments are replayed.
+ */
+class WriteBehindJournal implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindJournal.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final String SEPARATOR = "|";
+
+    private final Path directory;
+
+    private final long segmentSize;
+
+    private long sequence;
+
+    private Segment current;
+
+    WriteBehindJournal(Path directory, long segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Reads the todos of every existing segment, seals those segments and opens a new one for appending. Truncated
+     * records left by a crash in the middle of an append are skipped.
+     */
+    synchronized List<Entry> open() throws IOException {
+        Files.createDirectories(directory);
+
+        List<Path> paths;
+
+        try (Stream<Path> stream = Files.list(directory)) {
+            paths = stream.filter(path -> isSegment(path.getFileName().toString()))
+                    .sorted()
+                    .toList();
+        }
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (Path path : paths) {
+            Segment segment = new Segment(path, null);
+            List<Entry> read = read(path, segment);
+
+            segment.pending.set(read.size());
+            entries.addAll(read);
+            segment.seal();
+
+            sequence = Math.max(sequence, sequenceOf(path.getFileName().toString()) + 1);
+        }
+
+        current = newSegment();
+
+        return entries;
+    }
+
+    /**
+     * Appends a todo together with the principal that created it, if any, and returns once it is durable.
+     */
+    Segment append(Todo todo, String principal) throws IOException {
+        ByteBuffer record = ByteBuffer.wrap(encode(todo, principal).getBytes(StandardCharsets.US_ASCII));
+
+        Segment segment;
+        long position;
+
+        synchronized (this) {
+            if (current.written >= segmentSize) {
+                current.seal();
+                current = newSegment();
+            }
+
+            segment = current;
+            segment.pending.incrementAndGet();
+
+            try {
+                position = segment.write(record);
+            } catch (IOException exception) {
+                segment.acknowledge();
+                throw exception;
+            }
+        }
+
+        try {
+            segment.force(position);
+        } catch (IOException exception) {
+            segment.acknowledge();
+            throw exception;
+        }
+
+        return segment;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (current != null) {
+            current.seal();
+            current.close();
+        }
+    }
+
+    private Segment newSegment() throws IOException {
+        Path path = directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, sequence++, SEGMENT_SUFFIX));
+
+        return new Segment(
+                path,
+                FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+    }
+
+    static String encode(Todo todo, String principal) {
+        return String.join(
+                        SEPARATOR,
+                        todo.getId().toString(),
+                        todo.getCompleted().toString(),
+                        Long.toString(todo.getCreatedAt().toEpochMilli()),
+                        Base64.getEncoder()
+                                .encodeToString(todo.getDescription().getBytes(StandardCharsets.UTF_8)),
+                        principal != null
+                                ? Base64.getEncoder().encodeToString(principal.getBytes(StandardCharsets.UTF_8))
+                                : "")
+                + "\n";
+    }
+
+    /**
+     * Decodes a record. Records written before principals were journaled have no principal field and decode without
+     * one.
+     */
+    static Entry decode(String line, Segment segment) {
+        String[] fields = line.split("\\" + SEPARATOR, -1);
+
+        if (fields.length != 4 && fields.length != 5) {
+            throw new IllegalArgumentException("Malformed write-behind journal record");
+        }
+
+        Instant createdAt = Instant.ofEpochMilli(Long.parseLong(fields[2]));
+
+        Todo todo = new Todo(
+                new String(Base64.getDecoder().decode(fields[3]), StandardCharsets.UTF_8),
+                Boolean.parseBoolean(fields[1]));
+        todo.setId(UUID.fromString(fields[0]));
+        todo.setCreatedAt(createdAt);
+        todo.setUpdatedAt(createdAt);
+
+        String principal = fields.length == 5 && !fields[4].isEmpty()
+                ? new String(Base64.getDecoder().decode(fields[4]), StandardCharsets.UTF_8)
+                : null;
+
+        return new Entry(todo, principal, segment);
+    }
+
+    private static List<Entry> read(Path path, Segment segment) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.US_ASCII)) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                try {
+                    entries.add(decode(line, segment));
+                } catch (IllegalArgumentException exception) {
+                    logger.warn("Skipping truncated write-behind journal record in {}", path);
+                }
+            }
+        }
+
+        return entries;
+    }
+
+    private static boolean isSegment(String fileName) {
+        return fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long sequenceOf(String fileName) {
+        return Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    record Entry(Todo todo, String principal, Segment segment) {}
+
+    static final class Segment {
+
+        private final Path path;
+
+        private final FileChannel channel;
+
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private final AtomicBoolean deleted = new AtomicBoolean();
+
+        private final Object forceLock = new Object();
+
+        private volatile boolean sealed;
+
+        private volatile long written;
+
+        private volatile long forced;
+
+        private Segment(Path path, FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+
+        /**
+         * Marks that one todo of this segment has been written to the database.
+         */
+        void acknowledge() {
+            if (pending.decrementAndGet() == 0 && sealed) {
+                delete();
+            }
+        }
+
+        private long write(ByteBuffer record) throws IOException {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+
+            written = channel.position();
+
+            return written;
+        }
+
+        private void force(long position) throws IOException {
+            if (forced >= position) {
+                return;
+            }
+
+            synchronized (forceLock) {
+                if (forced >= position) {
+                    return;
+                }
+
+                long target = written;
+                channel.force(false);
+                forced = target;
+            }
+        }
+
+        private void seal() {
+            sealed = true;
+
+            if (pending.get() == 0) {
+                delete();
+            }
+        }
+
+        private void close() throws IOException {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+
+        private void delete() {
+            if (deleted.compareAndSet(false, true)) {
+                try {
+                    close();
+                    Files.deleteIfExists(path);
+                } catch (IOException exception) {
+                    logger.warn("Failed to delete write-behind journal segment {}", path, exception);
+                }
+            }
+        }
+    }
+}
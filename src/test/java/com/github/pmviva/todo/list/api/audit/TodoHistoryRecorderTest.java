@@ -0,0 +1,206 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.pmviva.todo.list.api.config.TestcontainersConfiguration;
+import com.github.pmviva.todo.list.api.event.TodoChangeType;
+import com.github.pmviva.todo.list.api.event.TodoChangedEvent;
+import com.github.pmviva.todo.list.api.event.TodoSnapshot;
+import com.github.pmviva.todo.list.api.model.TodoHistory;
+import com.github.pmviva.todo.list.api.repository.TodoHistoryRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+
+@Import(TestcontainersConfiguration.class)
+@Transactional
+@DataJpaTest
+public class TodoHistoryRecorderTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TodoHistoryRepository todoHistoryRepository;
+
+    @TempDir
+    private Path spillDirectory;
+
+    private TodoHistoryRecorder todoHistoryRecorder;
+
+    @BeforeEach
+    public void beforeEach() {
+        todoHistoryRecorder = generateRecorder(10);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Rollback
+    @Test
+    public void testFlushWritesChangesInOrder() {
+        UUID id = UUID.randomUUID();
+        TodoSnapshot created = new TodoSnapshot("DESCRIPTION", false);
+        TodoSnapshot updated = new TodoSnapshot("DESCRIPTION", true);
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", null));
+
+        todoHistoryRecorder.onTodoChanged(new TodoChangedEvent(TodoChangeType.CREATED, id, null, created));
+        todoHistoryRecorder.onTodoChanged(new TodoChangedEvent(TodoChangeType.UPDATED, id, created, updated));
+        todoHistoryRecorder.onTodoChanged(TodoChangedEvent.bulk(TodoChangeType.BULK_COMPLETED, List.of(id)));
+
+        assertThat(todoHistoryRecorder.getBuffered()).isEqualTo(3);
+        assertThat(todoHistoryRecorder.flush()).isEqualTo(3);
+
+        List<TodoHistory> history =
+                todoHistoryRepository.findByTodoIdAndIdGreaterThanOrderByIdAsc(id, 0L, Limit.of(10));
+
+        assertThat(history)
+                .extracting(TodoHistory::getChangeType)
+                .containsExactly(TodoChangeType.CREATED, TodoChangeType.UPDATED, TodoChangeType.BULK_COMPLETED);
+        assertThat(history).extracting(TodoHistory::getPrincipal).containsOnly("user");
+        assertThat(history.get(0).getBefore()).isNull();
+        assertThat(history.get(1).getBefore()).isEqualTo(created);
+        assertThat(history.get(1).getAfter()).isEqualTo(updated);
+        assertThat(todoHistoryRecorder.getFlushed()).isEqualTo(3);
+        assertThat(todoHistoryRecorder.getBuffered()).isZero();
+    }
+
+    @Rollback
+    @Test
+    public void testBulkChangesAreRecordedForEveryTodo() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", null));
+
+        todoHistoryRecorder.onTodoChanged(TodoChangedEvent.bulk(TodoChangeType.BULK_DELETED, List.of(first, second)));
+
+        assertThat(todoHistoryRecorder.flush()).isEqualTo(2);
+
+        for (UUID id : List.of(first, second)) {
+            List<TodoHistory> history =
+                    todoHistoryRepository.findByTodoIdAndIdGreaterThanOrderByIdAsc(id, 0L, Limit.of(10));
+
+            assertThat(history).extracting(TodoHistory::getChangeType).containsExactly(TodoChangeType.BULK_DELETED);
+            assertThat(history).extracting(TodoHistory::getPrincipal).containsExactly("user");
+            assertThat(history.getFirst().getBefore()).isNull();
+            assertThat(history.getFirst().getAfter()).isNull();
+        }
+    }
+
+    @Rollback
+    @Test
+    public void testChangesCarryingAPrincipalAreRecordedAsIt() {
+        UUID id = UUID.randomUUID();
+
+        todoHistoryRecorder.onTodoChanged(
+                new TodoChangedEvent(TodoChangeType.CREATED, id, null, new TodoSnapshot("DESCRIPTION", false))
+                        .withPrincipal("user"));
+        todoHistoryRecorder.flush();
+
+        assertThat(todoHistoryRepository.findByTodoIdAndIdGreaterThanOrderByIdAsc(id, 0L, Limit.of(10)))
+                .extracting(TodoHistory::getPrincipal)
+                .containsExactly("user");
+    }
+
+    @Rollback
+    @Test
+    public void testChangesWithoutAuthenticationAreRecordedAsSystem() {
+        UUID id = UUID.randomUUID();
+
+        todoHistoryRecorder.onTodoChanged(new TodoChangedEvent(TodoChangeType.DELETED, id));
+        todoHistoryRecorder.flush();
+
+        assertThat(todoHistoryRepository.findByTodoIdAndIdGreaterThanOrderByIdAsc(id, 0L, Limit.of(10)))
+                .extracting(TodoHistory::getPrincipal)
+                .containsExactly(TodoHistoryRecorder.SYSTEM_PRINCIPAL);
+    }
+
+    @Rollback
+    @Test
+    public void testChangesAreSpilledWhenBufferIsFull() {
+        UUID id = UUID.randomUUID();
+        todoHistoryRecorder = generateRecorder(1);
+
+        todoHistoryRecorder.onTodoChanged(new TodoChangedEvent(TodoChangeType.CREATED, id));
+        todoHistoryRecorder.onTodoChanged(new TodoChangedEvent(TodoChangeType.UPDATED, id));
+        todoHistoryRecorder.onTodoChanged(new TodoChangedEvent(TodoChangeType.DELETED, id));
+
+        assertThat(todoHistoryRecorder.getBuffered()).isEqualTo(1);
+        assertThat(todoHistoryRecorder.getSpilled()).isEqualTo(2);
+        assertThat(todoHistoryRecorder.flush()).isEqualTo(3);
+        assertThat(todoHistoryRepository.findByTodoIdAndIdGreaterThanOrderByIdAsc(id, 0L, Limit.of(10)))
+                .extracting(TodoHistory::getChangeType)
+                .containsExactly(TodoChangeType.CREATED, TodoChangeType.UPDATED, TodoChangeType.DELETED);
+        assertThat(spillDirectory).isEmptyDirectory();
+        assertThat(todoHistoryRecorder.getDropped()).isZero();
+    }
+
+    @Test
+    public void testChangesAreDroppedWhenBufferIsFullAndSpillingFails() throws IOException {
+        spillDirectory = Files.createFile(spillDirectory.resolve("file"));
+        todoHistoryRecorder = generateRecorder(1);
+
+        todoHistoryRecorder.onTodoChanged(new TodoChangedEvent(TodoChangeType.CREATED, UUID.randomUUID()));
+        todoHistoryRecorder.onTodoChanged(new TodoChangedEvent(TodoChangeType.CREATED, UUID.randomUUID()));
+
+        assertThat(todoHistoryRecorder.getBuffered()).isEqualTo(1);
+        assertThat(todoHistoryRecorder.getDropped()).isEqualTo(1);
+    }
+
+    private TodoHistoryRecorder generateRecorder(int capacity) {
+        return new TodoHistoryRecorder(
+                jdbcTemplate,
+                JsonMapper.builder().findAndAddModules().build(),
+                capacity,
+                2,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(1),
+                spillDirectory,
+                Clock.systemUTC());
+    }
+}
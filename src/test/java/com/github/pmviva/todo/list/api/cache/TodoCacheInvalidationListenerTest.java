@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.pmviva.todo.list.api.config.TodoCacheProperties;
+import com.github.pmviva.todo.list.api.model.Todo;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.UUID;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoCacheInvalidationListenerTest {
+
+    @Mock
+    private JdbcConnectionDetails connectionDetails;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache cache;
+
+    private TodoCacheInvalidationListener listener;
+
+    @BeforeEach
+    public void beforeEach() {
+        listener = new TodoCacheInvalidationListener(
+                connectionDetails, entityManagerFactory, generateProperties("todos_changed"));
+    }
+
+    @Test
+    public void testHandleTodoId() {
+        UUID id = UUID.randomUUID();
+
+        doReturn(sessionFactory).when(entityManagerFactory).unwrap(SessionFactory.class);
+        doReturn(cache).when(sessionFactory).getCache();
+
+        listener.handle(id.toString());
+
+        verify(cache, times(1)).evictEntityData(Todo.class, id);
+        verify(cache, times(1)).evictQueryRegions();
+    }
+
+    @Test
+    public void testHandleAll() {
+        doReturn(sessionFactory).when(entityManagerFactory).unwrap(SessionFactory.class);
+        doReturn(cache).when(sessionFactory).getCache();
+
+        listener.handle(TodoCacheInvalidationPublisher.ALL);
+
+        verify(cache, times(1)).evictEntityData(Todo.class);
+        verify(cache, times(1)).evictQueryRegions();
+    }
+
+    @Test
+    public void testHandleInvalidPayload() {
+        doReturn(sessionFactory).when(entityManagerFactory).unwrap(SessionFactory.class);
+        doReturn(cache).when(sessionFactory).getCache();
+
+        listener.handle("INVALID");
+
+        verify(cache, never()).evictEntityData(any(Class.class), any());
+        verify(cache, never()).evictQueryRegions();
+    }
+
+    @Test
+    public void testConstructorThrowsIllegalArgumentExceptionWithInvalidChannel() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new TodoCacheInvalidationListener(
+                        connectionDetails, entityManagerFactory, generateProperties("todos; DROP TABLE todos")));
+    }
+
+    private TodoCacheProperties.Invalidation generateProperties(String channel) {
+        return new TodoCacheProperties.Invalidation(true, channel, Duration.ofSeconds(1), Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.csrf;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockJwt;
+
+import com.github.pmviva.todo.list.api.config.ReactiveConfiguration;
+import com.github.pmviva.todo.list.api.config.ReactiveSecurityConfiguration;
+import com.github.pmviva.todo.list.api.exception.NotFoundException;
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.service.ReactiveTodoService;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+@Import({ReactiveConfiguration.class, ReactiveSecurityConfiguration.class})
+@WebFluxTest(DefaultReactiveTodoController.class)
+public class DefaultReactiveTodoControllerTest {
+
+    @MockitoBean
+    private ReactiveTodoService reactiveTodoService;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    public void testCreateTodo() {
+        Todo todo = generateTodo();
+        todo.setId(UUID.fromString("033feb09-fd25-49ff-b1af-d65ce5740eea"));
+
+        doReturn(Mono.just(todo)).when(reactiveTodoService).createTodo(any(Todo.class));
+
+        webTestClient
+                .mutateWith(mockJwt())
+                .mutateWith(csrf())
+                .post()
+                .uri("/api/v1/todos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(generateTodo())
+                .exchange()
+                .expectStatus()
+                .isCreated()
+                .expectHeader()
+                .value(HttpHeaders.LOCATION, location -> location.endsWith(
+                        "/api/v1/todos/033feb09-fd25-49ff-b1af-d65ce5740eea"));
+    }
+
+    @Test
+    public void testCreateTodoWithoutAuthentication() {
+        webTestClient
+                .mutateWith(csrf())
+                .post()
+                .uri("/api/v1/todos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(generateTodo())
+                .exchange()
+                .expectStatus()
+                .isUnauthorized();
+
+        verify(reactiveTodoService, times(0)).createTodo(any(Todo.class));
+    }
+
+    @Test
+    public void testGetTodos() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+
+        doReturn(Mono.just(new PageImpl<>(List.of(generateTodo()), pageable, 1)))
+                .when(reactiveTodoService)
+                .getTodos(eq(pageable), eq(Optional.of(Boolean.FALSE)));
+
+        webTestClient
+                .mutateWith(mockJwt())
+                .get()
+                .uri("/api/v1/todos?completed=false")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.content[0].description")
+                .isEqualTo("DESCRIPTION")
+                .jsonPath("$.page.totalElements")
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void testGetTodosWithUnsupportedSort() {
+        webTestClient
+                .mutateWith(mockJwt())
+                .get()
+                .uri("/api/v1/todos?sort=description")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .exchange()
+                .expectStatus()
+                .isBadRequest();
+
+        verify(reactiveTodoService, times(0)).getTodos(any(Pageable.class), any());
+    }
+
+    @Test
+    public void testGetTodoThrowsNotFoundException() {
+        UUID id = UUID.fromString("033feb09-fd25-49ff-b1af-d65ce5740eea");
+
+        doReturn(Mono.error(new NotFoundException("Todo not found")))
+                .when(reactiveTodoService)
+                .getTodo(id);
+
+        webTestClient
+                .mutateWith(mockJwt())
+                .get()
+                .uri("/api/v1/todos/033feb09-fd25-49ff-b1af-d65ce5740eea")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .exchange()
+                .expectStatus()
+                .isNotFound();
+    }
+
+    @Test
+    public void testDeleteTodo() {
+        UUID id = UUID.fromString("033feb09-fd25-49ff-b1af-d65ce5740eea");
+
+        doReturn(Mono.empty()).when(reactiveTodoService).deleteTodo(id);
+
+        webTestClient
+                .mutateWith(mockJwt())
+                .mutateWith(csrf())
+                .delete()
+                .uri("/api/v1/todos/033feb09-fd25-49ff-b1af-d65ce5740eea")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .exchange()
+                .expectStatus()
+                .isNoContent();
+
+        verify(reactiveTodoService, times(1)).deleteTodo(id);
+    }
+
+    private Todo generateTodo() {
+        return new Todo("DESCRIPTION", false);
+    }
+}
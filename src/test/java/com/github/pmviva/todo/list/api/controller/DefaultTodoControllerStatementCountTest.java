@@ -0,0 +1,149 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.github.pmviva.todo.list.api.config.TestcontainersConfiguration;
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.repository.TodoRepository;
+import com.github.pmviva.todo.list.api.sql.StatementCapture;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Pins the number of SQL statements every endpoint runs, so that an extra lookup or an N+1 query fails the build. The
+ * second-level cache is disabled to count the statements a cold cache runs. Writes run the change itself, the outbox
+ * insert and the cache invalidation notification.
+ */
+@Import(TestcontainersConfiguration.class)
+@AutoConfigureMockMvc
+@SpringBootTest(
+        properties = {
+            "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+            "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+        })
+public class DefaultTodoControllerStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID first;
+
+    private UUID second;
+
+    @BeforeEach
+    public void beforeEach() {
+        jdbcTemplate.update("DELETE FROM todos");
+
+        first = todoRepository.save(new Todo("First todo", false)).getId();
+        second = todoRepository.save(new Todo("Second todo", true)).getId();
+    }
+
+    @Test
+    public void testCreateTodo() throws Exception {
+        assertStatements(
+                3,
+                post("/api/v1/todos").content("{\"description\":\"Created todo\",\"completed\":false}"),
+                status().isCreated());
+    }
+
+    @Test
+    public void testGetTodos() throws Exception {
+        assertStatements(1, get("/api/v1/todos"), status().isOk());
+    }
+
+    @Test
+    public void testGetProjectedTodos() throws Exception {
+        assertStatements(1, get("/api/v1/todos").param("fields", "id,description"), status().isOk());
+    }
+
+    @Test
+    public void testGetTodosByIds() throws Exception {
+        assertStatements(
+                1,
+                post("/api/v1/todos:batchGet").content(String.format("{\"ids\":[\"%s\",\"%s\"]}", first, second)),
+                status().isOk());
+    }
+
+    @Test
+    public void testGetTodo() throws Exception {
+        assertStatements(1, get("/api/v1/todos/{id}", first), status().isOk());
+    }
+
+    @Test
+    public void testGetTodoHistory() throws Exception {
+        assertStatements(1, get("/api/v1/todos/{id}/history", first), status().isOk());
+    }
+
+    @Test
+    public void testUpdateTodo() throws Exception {
+        assertStatements(
+                4,
+                put("/api/v1/todos/{id}", first).content("{\"description\":\"Updated todo\",\"completed\":true}"),
+                status().isOk());
+    }
+
+    @Test
+    public void testDeleteTodo() throws Exception {
+        assertStatements(4, delete("/api/v1/todos/{id}", first), status().isNoContent());
+    }
+
+    @Test
+    public void testCompleteTodos() throws Exception {
+        assertStatements(3, post("/api/v1/todos:complete"), status().isOk());
+    }
+
+    private void assertStatements(int expected, MockHttpServletRequestBuilder request, ResultMatcher matcher)
+            throws Exception {
+        try (StatementCapture capture = StatementCapture.open()) {
+            mockMvc.perform(request.contentType(MediaType.APPLICATION_JSON).with(jwt()))
+                    .andExpect(matcher);
+
+            assertThat(capture.count()).as(capture.describe()).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.github.pmviva.todo.list.api.config.DataWebConfiguration;
+import com.github.pmviva.todo.list.api.config.SecurityConfiguration;
+import com.github.pmviva.todo.list.api.config.StreamingConfiguration;
+import com.github.pmviva.todo.list.api.exception.ResponseAbortedException;
+import com.github.pmviva.todo.list.api.model.TodoField;
+import com.github.pmviva.todo.list.api.service.TodoService;
+import com.github.pmviva.todo.list.api.stream.TodoPageWriter;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@Import({DataWebConfiguration.class, SecurityConfiguration.class, StreamingConfiguration.class})
+@WebMvcTest(DefaultTodoController.class)
+public class DefaultTodoControllerStreamingTest {
+
+    private static final String PAGE_JSON =
+            "{\"content\":[],\"page\":{\"size\":5,\"number\":1,\"totalElements\":0,\"totalPages\":0}}";
+
+    @MockitoBean
+    private TodoService todoService;
+
+    @MockitoBean
+    private TodoPageWriter todoPageWriter;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void beforeEach() {
+        doReturn(true).when(todoPageWriter).streams(any(Pageable.class));
+    }
+
+    @Test
+    public void testGetTodosStreamsPage() throws Exception {
+        Pageable expected = PageRequest.of(1, 5, Sort.by(Sort.Direction.ASC, "updatedAt", "id"));
+
+        doAnswer(invocation -> {
+                    invocation.getArgument(2, OutputStream.class).write(PAGE_JSON.getBytes(StandardCharsets.UTF_8));
+                    return null;
+                })
+                .when(todoService)
+                .writeTodos(eq(expected), eq(Optional.of(Boolean.TRUE)), any(OutputStream.class));
+
+        mockMvc.perform(get("/api/v1/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("page", "1")
+                        .param("size", "5")
+                        .param("sort", "updatedAt,asc")
+                        .param("completed", "true")
+                        .with(jwt()))
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentType(MediaType.APPLICATION_JSON),
+                        content().json(PAGE_JSON, true));
+
+        verify(todoService, times(1))
+                .writeTodos(eq(expected), eq(Optional.of(Boolean.TRUE)), any(OutputStream.class));
+        verify(todoService, times(0)).getTodos(any(Pageable.class), any());
+        verify(todoPageWriter, times(0)).write(any(), any(), any());
+    }
+
+    @Test
+    public void testGetTodosAbortsResponseWhenStreamingFailsAfterCommit() throws Exception {
+        doAnswer(invocation -> {
+                    invocation.getArgument(2, OutputStream.class).write(new byte[16 * 1024]);
+                    throw new QueryTimeoutException("Cancelled");
+                })
+                .when(todoService)
+                .writeTodos(any(Pageable.class), eq(Optional.empty()), any(OutputStream.class));
+
+        assertThatThrownBy(() -> mockMvc.perform(
+                        get("/api/v1/todos").contentType(MediaType.APPLICATION_JSON).with(jwt())))
+                .cause()
+                .isInstanceOf(ResponseAbortedException.class)
+                .hasCauseInstanceOf(QueryTimeoutException.class);
+    }
+
+    @Test
+    public void testGetTodosKeepsErrorWhenStreamingFailsBeforeCommit() throws Exception {
+        doThrow(new QueryTimeoutException("Cancelled"))
+                .when(todoService)
+                .writeTodos(any(Pageable.class), eq(Optional.empty()), any(OutputStream.class));
+
+        mockMvc.perform(get("/api/v1/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(jwt()))
+                .andExpectAll(status().isServiceUnavailable(), header().exists("Retry-After"));
+    }
+
+    @Test
+    public void testGetTodosDoesNotStreamSmallPages() throws Exception {
+        doReturn(false).when(todoPageWriter).streams(any(Pageable.class));
+        doAnswer(invocation -> Page.empty(invocation.getArgument(0)))
+                .when(todoService)
+                .getTodos(any(Pageable.class), eq(Optional.empty()));
+
+        mockMvc.perform(get("/api/v1/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(jwt()))
+                .andExpect(status().isOk());
+
+        verify(todoService, times(0)).writeTodos(any(), any(), any());
+        verify(todoService, times(1)).getTodos(any(Pageable.class), eq(Optional.empty()));
+    }
+
+    @Test
+    public void testGetTodosWithFieldsDoesNotStream() throws Exception {
+        doAnswer(invocation -> Page.empty(invocation.getArgument(0)))
+                .when(todoService)
+                .getTodos(any(Pageable.class), eq(Optional.empty()), eq(Set.of(TodoField.ID)));
+
+        mockMvc.perform(get("/api/v1/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("fields", "id")
+                        .with(jwt()))
+                .andExpect(status().isOk());
+
+        verify(todoService, times(0)).writeTodos(any(), any(), any());
+        verify(todoService, times(1)).getTodos(any(Pageable.class), eq(Optional.empty()), eq(Set.of(TodoField.ID)));
+    }
+}
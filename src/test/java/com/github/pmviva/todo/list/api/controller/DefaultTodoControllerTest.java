@@ -26,6 +26,7 @@ package com.github.pmviva.todo.list.api.controller;
 import static org.hamcrest.Matchers.blankOrNullString;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
@@ -39,15 +40,23 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.github.pmviva.todo.list.api.config.DataWebConfiguration;
 import com.github.pmviva.todo.list.api.config.SecurityConfiguration;
+import com.github.pmviva.todo.list.api.dto.BatchGetResult;
+import com.github.pmviva.todo.list.api.dto.HistoryPage;
 import com.github.pmviva.todo.list.api.exception.NotFoundException;
+import com.github.pmviva.todo.list.api.exception.ServiceUnavailableException;
 import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.model.TodoField;
 import com.github.pmviva.todo.list.api.service.TodoService;
+import com.github.pmviva.todo.list.api.writebehind.OperationState;
+import com.github.pmviva.todo.list.api.writebehind.TodoWriteBehind;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -61,7 +70,9 @@ import org.springframework.context.annotation.Import;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -75,6 +86,9 @@ public class DefaultTodoControllerTest {
     @MockitoBean
     private TodoService todoService;
 
+    @MockitoBean
+    private TodoWriteBehind todoWriteBehind;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -105,6 +119,143 @@ public class DefaultTodoControllerTest {
         verify(todoService, times(1)).createTodo(any(Todo.class));
     }
 
+    @Test
+    public void testCreateTodoAsync() throws Exception {
+        Resource jsonResource = resourceLoader.getResource("classpath:json/controllers/todo/json-01.json");
+        String json = IOUtils.toString(jsonResource.getInputStream(), StandardCharsets.UTF_8);
+
+        Todo todo = generateTodoWithId();
+
+        doReturn(todo).when(todoWriteBehind).enqueue(any(Todo.class));
+
+        mockMvc.perform(post("/api/v1/todos")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Prefer", "respond-async")
+                        .with(jwt().jwt(generateJWT()))
+                        .content(json))
+                .andExpectAll(
+                        status().isAccepted(),
+                        header().string("Preference-Applied", "respond-async"),
+                        header().string(
+                                        HttpHeaders.LOCATION,
+                                        containsString(String.format("/api/v1/todos/%s/status", todo.getId()))));
+
+        verify(todoWriteBehind, times(1)).enqueue(any(Todo.class));
+        verify(todoService, times(0)).createTodo(any(Todo.class));
+    }
+
+    @Test
+    public void testCreateTodoAsyncWhenQueueIsFull() throws Exception {
+        Resource jsonResource = resourceLoader.getResource("classpath:json/controllers/todo/json-01.json");
+        String json = IOUtils.toString(jsonResource.getInputStream(), StandardCharsets.UTF_8);
+
+        doThrow(new ServiceUnavailableException("Write-behind queue is full"))
+                .when(todoWriteBehind)
+                .enqueue(any(Todo.class));
+
+        mockMvc.perform(post("/api/v1/todos")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Prefer", "respond-async")
+                        .with(jwt().jwt(generateJWT()))
+                        .content(json))
+                .andExpectAll(status().isServiceUnavailable(), header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    public void testGetTodoStatusPending() throws Exception {
+        UUID id = UUID.fromString("033feb09-fd25-49ff-b1af-d65ce5740eea");
+
+        doReturn(Optional.of(OperationState.PENDING)).when(todoWriteBehind).getState(id);
+
+        mockMvc.perform(get("/api/v1/todos/033feb09-fd25-49ff-b1af-d65ce5740eea/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(jwt().jwt(generateJWT())))
+                .andExpectAll(status().isOk(), jsonPath("$.state").value("PENDING"));
+
+        verify(todoService, times(0)).getTodo(any(UUID.class));
+    }
+
+    @Test
+    public void testGetTodoStatusCompleted() throws Exception {
+        UUID id = UUID.fromString("033feb09-fd25-49ff-b1af-d65ce5740eea");
+
+        doReturn(Optional.empty()).when(todoWriteBehind).getState(id);
+        doReturn(generateTodo()).when(todoService).getTodo(id);
+
+        mockMvc.perform(get("/api/v1/todos/033feb09-fd25-49ff-b1af-d65ce5740eea/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(jwt().jwt(generateJWT())))
+                .andExpectAll(status().isOk(), jsonPath("$.state").value("COMPLETED"));
+    }
+
+    @Test
+    public void testGetTodosByIds() throws Exception {
+        UUID found = UUID.fromString("033feb09-fd25-49ff-b1af-d65ce5740eea");
+        UUID missing = UUID.fromString("7c0e6f5e-5f7b-4e5a-9a43-2b1b0f8d6a11");
+        Todo todo = generateTodo();
+        todo.setId(found);
+
+        doReturn(new BatchGetResult(List.of(todo), List.of(missing)))
+                .when(todoService)
+                .getTodos(List.of(found, missing));
+
+        mockMvc.perform(get("/api/v1/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("ids", found.toString(), missing.toString())
+                        .with(jwt().jwt(generateJWT())))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.todos[0].id").value(found.toString()),
+                        jsonPath("$.missing[0]").value(missing.toString()));
+
+        verify(todoService, times(0)).getTodos(any(Pageable.class), any());
+    }
+
+    @Test
+    public void testBatchGetTodos() throws Exception {
+        UUID missing = UUID.fromString("7c0e6f5e-5f7b-4e5a-9a43-2b1b0f8d6a11");
+
+        doReturn(new BatchGetResult(List.of(), List.of(missing))).when(todoService).getTodos(List.of(missing));
+
+        mockMvc.perform(post("/api/v1/todos:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"7c0e6f5e-5f7b-4e5a-9a43-2b1b0f8d6a11\"]}")
+                        .with(jwt().jwt(generateJWT())))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.todos").isEmpty(),
+                        jsonPath("$.missing[0]").value(missing.toString()));
+    }
+
+    @Test
+    public void testBatchGetTodosWithNullId() throws Exception {
+        mockMvc.perform(post("/api/v1/todos:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[null]}")
+                        .with(jwt().jwt(generateJWT())))
+                .andExpect(status().isBadRequest());
+
+        verify(todoService, times(0)).getTodos(anyList());
+    }
+
+    @Test
+    public void testGetTodoHistory() throws Exception {
+        UUID id = UUID.fromString("033feb09-fd25-49ff-b1af-d65ce5740eea");
+
+        doReturn(new HistoryPage(List.of(), null)).when(todoService).getTodoHistory(id, 42L, 10);
+
+        mockMvc.perform(get("/api/v1/todos/033feb09-fd25-49ff-b1af-d65ce5740eea/history")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("after", "42")
+                        .param("size", "10")
+                        .with(jwt().jwt(generateJWT())))
+                .andExpectAll(status().isOk(), jsonPath("$.content").isEmpty(), jsonPath("$.next").isEmpty());
+
+        verify(todoService, times(1)).getTodoHistory(id, 42L, 10);
+    }
+
     @Test
     public void testGetTodosWithCompleted() throws Exception {
         Resource jsonResource = resourceLoader.getResource("classpath:json/controllers/todo/json-02.json");
@@ -155,6 +306,101 @@ public class DefaultTodoControllerTest {
         verify(todoService, times(1)).getTodo(any(UUID.class));
     }
 
+    @Test
+    public void testGetTodosWithSort() throws Exception {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "updatedAt", "id"));
+
+        doReturn(new PageImpl<>(generateTodoList())).when(todoService).getTodos(pageable, Optional.empty());
+
+        mockMvc.perform(get("/api/v1/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("sort", "updatedAt,asc")
+                        .with(jwt().jwt(generateJWT())))
+                .andExpect(status().isOk());
+
+        verify(todoService, times(1)).getTodos(pageable, Optional.empty());
+    }
+
+    @Test
+    public void testGetTodosWithUnsupportedSort() throws Exception {
+        mockMvc.perform(get("/api/v1/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("sort", "description")
+                        .with(jwt().jwt(generateJWT())))
+                .andExpectAll(status().isBadRequest(), content().string(blankOrNullString()));
+
+        verify(todoService, times(0)).getTodos(any(Pageable.class), any());
+    }
+
+    @Test
+    public void testGetArchivedTodos() throws Exception {
+        doReturn(PageImpl.empty()).when(todoService).getArchivedTodos(any(Pageable.class), eq(Optional.empty()));
+
+        mockMvc.perform(get("/api/v1/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("archived", "true")
+                        .with(jwt().jwt(generateJWT())))
+                .andExpectAll(status().isOk(), jsonPath("$.content").isEmpty());
+
+        verify(todoService, times(1)).getArchivedTodos(any(Pageable.class), eq(Optional.empty()));
+        verify(todoService, times(0)).getTodos(any(Pageable.class), any());
+    }
+
+    @Test
+    public void testGetTodosWithFields() throws Exception {
+        PageImpl<Map<String, Object>> page = new PageImpl<>(
+                List.of(Map.of("description", "DESCRIPTION 01"), Map.of("description", "DESCRIPTION 02")));
+
+        doReturn(page)
+                .when(todoService)
+                .getTodos(any(Pageable.class), eq(Optional.empty()), eq(EnumSet.of(TodoField.DESCRIPTION)));
+
+        mockMvc.perform(get("/api/v1/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("fields", "description")
+                        .with(jwt().jwt(generateJWT())))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.content[0].description").value("DESCRIPTION 01"),
+                        jsonPath("$.content[0].completed").doesNotExist());
+
+        verify(todoService, times(1))
+                .getTodos(any(Pageable.class), eq(Optional.empty()), eq(EnumSet.of(TodoField.DESCRIPTION)));
+        verify(todoService, times(0)).getTodos(any(Pageable.class), any());
+    }
+
+    @Test
+    public void testGetTodosWithUnknownField() throws Exception {
+        mockMvc.perform(get("/api/v1/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("fields", "description,owner")
+                        .with(jwt().jwt(generateJWT())))
+                .andExpectAll(status().isBadRequest(), content().string(blankOrNullString()));
+
+        verify(todoService, times(0)).getTodos(any(Pageable.class), any(), any());
+    }
+
+    @Test
+    public void testGetTodoWithFields() throws Exception {
+        UUID id = UUID.fromString("033feb09-fd25-49ff-b1af-d65ce5740eea");
+
+        doReturn(Map.of("id", id, "completed", false))
+                .when(todoService)
+                .getTodo(id, EnumSet.of(TodoField.ID, TodoField.COMPLETED));
+
+        mockMvc.perform(get("/api/v1/todos/033feb09-fd25-49ff-b1af-d65ce5740eea")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("fields", "id,completed")
+                        .with(jwt().jwt(generateJWT())))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.id").value(id.toString()),
+                        jsonPath("$.completed").value(false),
+                        jsonPath("$.description").doesNotExist());
+
+        verify(todoService, times(1)).getTodo(id, EnumSet.of(TodoField.ID, TodoField.COMPLETED));
+    }
+
     @Test
     public void testGetTodoThrowsNotFoundException() throws Exception {
         doThrow(new NotFoundException("Todo not found")).when(todoService).getTodo(any(UUID.class));
@@ -167,6 +413,32 @@ public class DefaultTodoControllerTest {
         verify(todoService, times(1)).getTodo(any(UUID.class));
     }
 
+    @Test
+    public void testGetArchivedTodoThrowsNotFoundException() throws Exception {
+        doThrow(new NotFoundException("Todo not found")).when(todoService).getArchivedTodo(any(UUID.class));
+
+        mockMvc.perform(get("/api/v1/todos/033feb09-fd25-49ff-b1af-d65ce5740eea")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("archived", "true")
+                        .with(jwt().jwt(generateJWT())))
+                .andExpectAll(status().isNotFound(), content().string(blankOrNullString()));
+
+        verify(todoService, times(1)).getArchivedTodo(any(UUID.class));
+        verify(todoService, times(0)).getTodo(any(UUID.class));
+    }
+
+    @Test
+    public void testGetArchivedTodoWithFields() throws Exception {
+        mockMvc.perform(get("/api/v1/todos/033feb09-fd25-49ff-b1af-d65ce5740eea")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("archived", "true")
+                        .param("fields", "id")
+                        .with(jwt().jwt(generateJWT())))
+                .andExpectAll(status().isBadRequest(), content().string(blankOrNullString()));
+
+        verify(todoService, times(0)).getArchivedTodo(any(UUID.class));
+    }
+
     @Test
     public void testUpdateTodo() throws Exception {
         Resource jsonResource = resourceLoader.getResource("classpath:json/controllers/todo/json-01.json");
@@ -223,6 +495,52 @@ public class DefaultTodoControllerTest {
         verify(todoService, times(1)).deleteTodo(any(UUID.class));
     }
 
+    @Test
+    public void testCompleteTodos() throws Exception {
+        doReturn(3L).when(todoService).completeTodos();
+
+        mockMvc.perform(post("/api/v1/todos:complete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(jwt().jwt(generateJWT())))
+                .andExpectAll(status().isOk(), jsonPath("$.affected").value(3));
+
+        verify(todoService, times(1)).completeTodos();
+    }
+
+    @Test
+    public void testDeleteTodos() throws Exception {
+        doReturn(2L).when(todoService).deleteTodos(true);
+
+        mockMvc.perform(delete("/api/v1/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("completed", "true")
+                        .with(jwt().jwt(generateJWT())))
+                .andExpectAll(status().isOk(), jsonPath("$.affected").value(2));
+
+        verify(todoService, times(1)).deleteTodos(true);
+    }
+
+    @Test
+    public void testDeleteTodosWithoutCompleted() throws Exception {
+        mockMvc.perform(delete("/api/v1/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(jwt().jwt(generateJWT())))
+                .andExpect(status().isBadRequest());
+
+        verify(todoService, times(0)).deleteTodos(any(Boolean.class));
+    }
+
+    @Test
+    public void testDeleteTodosRejectsPendingTodos() throws Exception {
+        mockMvc.perform(delete("/api/v1/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("completed", "false")
+                        .with(jwt().jwt(generateJWT())))
+                .andExpect(status().isBadRequest());
+
+        verify(todoService, times(0)).deleteTodos(any(Boolean.class));
+    }
+
     private Todo generateTodo() {
         return new Todo("DESCRIPTION", false);
     }
@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.github.pmviva.todo.list.api.exception.NotFoundException;
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.service.TodoService;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+public class FlightRecorderAspectTest {
+
+    private static final String SERVICE_EVENT = "com.github.pmviva.todo.list.ServiceOperation";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testRecordServiceOperation() throws IOException {
+        UUID id = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        TodoService todoService = mock(TodoService.class);
+        when(todoService.getTodo(id)).thenReturn(new Todo("DESCRIPTION", Boolean.FALSE));
+        when(todoService.getTodo(missing)).thenThrow(new NotFoundException("Todo not found"));
+        when(todoService.completeTodos()).thenReturn(3L);
+
+        TodoService proxy = createProxy(todoService);
+        List<RecordedEvent> events;
+
+        try (Recording recording = new Recording()) {
+            recording.enable(SERVICE_EVENT);
+            recording.start();
+
+            proxy.getTodo(id);
+            assertThrows(NotFoundException.class, () -> proxy.getTodo(missing));
+            proxy.completeTodos();
+            proxy.deleteTodo(id);
+
+            recording.stop();
+            events = read(recording);
+        }
+
+        assertThat(events).hasSize(4);
+        assertEvent(events.get(0), "getTodo", id.toString(), 1, false);
+        assertEvent(events.get(1), "getTodo", missing.toString(), 0, true);
+        assertEvent(events.get(2), "completeTodos", null, 3, false);
+        assertEvent(events.get(3), "deleteTodo", id.toString(), FlightRecorderAspect.UNKNOWN_ROWS, false);
+    }
+
+    @Test
+    public void testSkipDisabledEvents() throws IOException {
+        UUID id = UUID.randomUUID();
+        TodoService todoService = mock(TodoService.class);
+        when(todoService.getTodo(id)).thenReturn(new Todo("DESCRIPTION", Boolean.FALSE));
+
+        TodoService proxy = createProxy(todoService);
+        List<RecordedEvent> events;
+
+        try (Recording recording = new Recording()) {
+            recording.disable(SERVICE_EVENT);
+            recording.start();
+
+            assertThat(proxy.getTodo(id).getDescription()).isEqualTo("DESCRIPTION");
+
+            recording.stop();
+            events = read(recording);
+        }
+
+        assertThat(events).isEmpty();
+    }
+
+    private static TodoService createProxy(TodoService todoService) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(todoService);
+        proxyFactory.addAspect(new FlightRecorderAspect());
+
+        return proxyFactory.getProxy();
+    }
+
+    private List<RecordedEvent> read(Recording recording) throws IOException {
+        Path file = directory.resolve("recording.jfr");
+        recording.dump(file);
+
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> SERVICE_EVENT.equals(event.getEventType().getName()))
+                .toList();
+    }
+
+    private static void assertEvent(RecordedEvent event, String operation, String todoId, long rows, boolean failed) {
+        assertThat(event.getString("operation")).isEqualTo(operation);
+        assertThat(event.getString("todoId")).isEqualTo(todoId);
+        assertThat(event.getLong("rows")).isEqualTo(rows);
+        assertThat(event.getBoolean("failed")).isEqualTo(failed);
+    }
+}
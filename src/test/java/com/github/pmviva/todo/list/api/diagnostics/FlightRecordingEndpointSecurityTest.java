@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.diagnostics;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.github.pmviva.todo.list.api.config.DiagnosticsConfiguration;
+import com.github.pmviva.todo.list.api.config.TestcontainersConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+@Import(TestcontainersConfiguration.class)
+@AutoConfigureMockMvc
+@SpringBootTest
+public class FlightRecordingEndpointSecurityTest {
+
+    private static final String JFR_PATH = "/actuator/jfr";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void testRecordWithoutTokenIsUnauthorized() throws Exception {
+        mockMvc.perform(post(JFR_PATH).with(csrf())).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testRecordWithApiTokenIsForbidden() throws Exception {
+        mockMvc.perform(post(JFR_PATH).with(csrf()).with(jwt())).andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void testRecordWithDiagnosticsScopeIsAuthorized() throws Exception {
+        // An invalid duration is rejected by the endpoint itself, which shows the request got past authorization
+        mockMvc.perform(post(JFR_PATH)
+                        .param("duration", "PT0S")
+                        .with(csrf())
+                        .with(jwt().authorities(
+                                new SimpleGrantedAuthority(DiagnosticsConfiguration.DIAGNOSTICS_AUTHORITY))))
+                .andExpect(status().isBadRequest());
+    }
+}
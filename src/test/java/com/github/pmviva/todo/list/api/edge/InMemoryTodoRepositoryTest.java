@@ -0,0 +1,202 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.edge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.model.TodoField;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+public class InMemoryTodoRepositoryTest {
+
+    private MutableClock clock;
+
+    private InMemoryTodoRepository todoRepository;
+
+    @BeforeEach
+    public void beforeEach() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        todoRepository = new InMemoryTodoRepository(4, clock);
+
+        for (int index = 1; index <= 20; index++) {
+            todoRepository.save(new Todo(String.format("DESCRIPTION %02d", index), index % 2 == 0));
+            clock.advance(Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    public void testFindAllSortedByCreatedAt() {
+        Page<Todo> result = todoRepository.findAll(
+                PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "createdAt", "id")));
+
+        assertThat(result.getTotalElements()).isEqualTo(20);
+        assertThat(result.getContent())
+                .extracting(Todo::getDescription)
+                .containsExactly(
+                        "DESCRIPTION 15", "DESCRIPTION 14", "DESCRIPTION 13", "DESCRIPTION 12", "DESCRIPTION 11");
+    }
+
+    @Test
+    public void testFindByCompleted() {
+        Page<Todo> result = todoRepository.findByCompleted(
+                PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "createdAt", "id")), Boolean.TRUE);
+
+        assertThat(result.getTotalElements()).isEqualTo(10);
+        assertThat(result.getContent())
+                .extracting(Todo::getDescription)
+                .containsExactly("DESCRIPTION 02", "DESCRIPTION 04", "DESCRIPTION 06");
+    }
+
+    @Test
+    public void testFindAllSortedByUpdatedAt() {
+        Todo todo = todoRepository
+                .findByCompleted(PageRequest.of(0, 1, Sort.by("createdAt")), Boolean.FALSE)
+                .getContent()
+                .getFirst();
+
+        clock.advance(Duration.ofMinutes(1));
+        todo.setDescription("DESCRIPTION UPDATED");
+        todoRepository.save(todo);
+
+        Page<Todo> result = todoRepository.findAll(
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "updatedAt", "id")));
+
+        assertThat(result.getContent())
+                .extracting(Todo::getDescription)
+                .containsExactly("DESCRIPTION UPDATED", "DESCRIPTION 20");
+    }
+
+    @Test
+    public void testSaveKeepsCreatedAt() {
+        Todo todo = todoRepository.save(new Todo("DESCRIPTION", false));
+        UUID id = todo.getId();
+
+        clock.advance(Duration.ofMinutes(1));
+        Todo updated = new Todo("DESCRIPTION UPDATED", true);
+        updated.setId(id);
+        todoRepository.save(updated);
+
+        Todo result = todoRepository.findById(id).orElseThrow();
+
+        assertThat(result.getDescription()).isEqualTo("DESCRIPTION UPDATED");
+        assertThat(result.getCompleted()).isTrue();
+        assertThat(result.getCreatedAt()).isEqualTo(todo.getCreatedAt());
+        assertThat(result.getUpdatedAt()).isAfter(todo.getCreatedAt());
+        assertThat(todoRepository.findByCompleted(PageRequest.of(0, 100), Boolean.TRUE).getTotalElements())
+                .isEqualTo(11);
+    }
+
+    @Test
+    public void testDeleteById() {
+        Todo todo = todoRepository.save(new Todo("DESCRIPTION", false));
+
+        todoRepository.deleteById(todo.getId());
+        todoRepository.deleteById(UUID.randomUUID());
+
+        assertThat(todoRepository.findById(todo.getId())).isEmpty();
+        assertThat(todoRepository.count()).isEqualTo(20);
+    }
+
+    @Test
+    public void testCompleteTodos() {
+        assertThat(todoRepository.completeTodos(5)).hasSize(5);
+        assertThat(todoRepository.completeTodos(100)).hasSize(5);
+        assertThat(todoRepository.completeTodos(100)).isEmpty();
+        assertThat(todoRepository.findByCompleted(PageRequest.of(0, 5), Boolean.FALSE)).isEmpty();
+    }
+
+    @Test
+    public void testDeleteTodosByCompleted() {
+        assertThat(todoRepository.deleteTodosByCompleted(true, 4)).hasSize(4);
+        assertThat(todoRepository.deleteTodosByCompleted(true, 100)).hasSize(6);
+        assertThat(todoRepository.findByCompleted(PageRequest.of(0, 5), Boolean.TRUE)).isEmpty();
+        assertThat(todoRepository.count()).isEqualTo(10);
+    }
+
+    @Test
+    public void testFindAllByIdIn() {
+        Todo first = todoRepository.save(new Todo("DESCRIPTION 01", false));
+        Todo second = todoRepository.save(new Todo("DESCRIPTION 02", true));
+
+        List<Todo> result =
+                todoRepository.findAllByIdIn(new UUID[] {first.getId(), UUID.randomUUID(), second.getId()});
+
+        assertThat(result).extracting(Todo::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    @Test
+    public void testFindAllProjected() {
+        Page<Map<String, Object>> result = todoRepository.findAllProjected(
+                EnumSet.of(TodoField.DESCRIPTION, TodoField.COMPLETED),
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "createdAt", "id")),
+                Optional.of(Boolean.FALSE));
+
+        assertThat(result.getTotalElements()).isEqualTo(10);
+        assertThat(result.getContent())
+                .containsExactly(Map.of("description", "DESCRIPTION 01", "completed", false));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
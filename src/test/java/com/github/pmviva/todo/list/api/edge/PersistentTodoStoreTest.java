@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.edge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.pmviva.todo.list.api.model.Todo;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentTodoStoreTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testRecoversFromLog() throws IOException {
+        UUID updatedId;
+        UUID deletedId;
+
+        try (PersistentTodoStore persistentTodoStore = open(Duration.ZERO)) {
+            InMemoryTodoRepository todoRepository = new InMemoryTodoRepository(persistentTodoStore, Clock.systemUTC());
+
+            Todo updated = todoRepository.save(new Todo("DESCRIPTION 01", false));
+            Todo deleted = todoRepository.save(new Todo("DESCRIPTION 02", false));
+            updated.setCompleted(true);
+            todoRepository.save(updated);
+            todoRepository.deleteById(deleted.getId());
+
+            updatedId = updated.getId();
+            deletedId = deleted.getId();
+        }
+
+        try (PersistentTodoStore persistentTodoStore = open(Duration.ZERO)) {
+            InMemoryTodoRepository todoRepository = new InMemoryTodoRepository(persistentTodoStore, Clock.systemUTC());
+
+            assertThat(todoRepository.count()).isEqualTo(1);
+            assertThat(todoRepository.findById(updatedId))
+                    .hasValueSatisfying(todo -> assertThat(todo.getCompleted()).isTrue());
+            assertThat(todoRepository.findById(deletedId)).isEmpty();
+        }
+    }
+
+    @Test
+    public void testRecoversFromSnapshotAndLogTail() throws IOException {
+        List<UUID> ids = new ArrayList<>();
+
+        try (PersistentTodoStore persistentTodoStore = open(Duration.ofMillis(1))) {
+            persistentTodoStore.start();
+            InMemoryTodoRepository todoRepository = new InMemoryTodoRepository(persistentTodoStore, Clock.systemUTC());
+
+            for (int index = 0; index < 200; index++) {
+                ids.add(todoRepository.save(new Todo("DESCRIPTION", false)).getId());
+            }
+
+            persistentTodoStore.checkpoint();
+
+            for (int index = 0; index < 10; index++) {
+                ids.add(todoRepository.save(new Todo("DESCRIPTION", true)).getId());
+            }
+
+            persistentTodoStore.stop();
+        }
+
+        assertThat(files("snapshot-")).hasSize(1);
+        assertThat(files("segment-")).hasSize(1);
+
+        try (PersistentTodoStore persistentTodoStore = open(Duration.ZERO)) {
+            InMemoryTodoRepository todoRepository = new InMemoryTodoRepository(persistentTodoStore, Clock.systemUTC());
+
+            assertThat(todoRepository.count()).isEqualTo(210);
+            assertThat(ids).allSatisfy(id -> assertThat(todoRepository.existsById(id)).isTrue());
+        }
+    }
+
+    @Test
+    public void testDiscardsTornRecord() throws IOException {
+        UUID id;
+
+        try (PersistentTodoStore persistentTodoStore = open(Duration.ZERO)) {
+            id = new InMemoryTodoRepository(persistentTodoStore, Clock.systemUTC())
+                    .save(new Todo("DESCRIPTION", false))
+                    .getId();
+        }
+
+        Path segment = files("segment-").getFirst();
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer torn = ByteBuffer.allocate(TodoLog.HEADER_SIZE + 4).putInt(100).putInt(42).putInt(7);
+            channel.write(torn.flip(), end(channel));
+        }
+
+        UUID appendedId;
+
+        try (PersistentTodoStore persistentTodoStore = open(Duration.ZERO)) {
+            InMemoryTodoRepository todoRepository = new InMemoryTodoRepository(persistentTodoStore, Clock.systemUTC());
+
+            assertThat(todoRepository.count()).isEqualTo(1);
+            appendedId = todoRepository.save(new Todo("DESCRIPTION", false)).getId();
+        }
+
+        try (PersistentTodoStore persistentTodoStore = open(Duration.ZERO)) {
+            InMemoryTodoRepository todoRepository = new InMemoryTodoRepository(persistentTodoStore, Clock.systemUTC());
+
+            assertThat(todoRepository.existsById(id)).isTrue();
+            assertThat(todoRepository.existsById(appendedId)).isTrue();
+        }
+    }
+
+    private PersistentTodoStore open(Duration syncInterval) {
+        return new PersistentTodoStore(directory, 4, SEGMENT_SIZE, syncInterval, true, Duration.ZERO);
+    }
+
+    private List<Path> files(String prefix) throws IOException {
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream.filter(path -> path.getFileName().toString().startsWith(prefix))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long end(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        long position = 0;
+
+        while (true) {
+            channel.read(header.clear(), position);
+            int length = header.flip().getInt();
+
+            if (length == 0) {
+                return position;
+            }
+
+            position += TodoLog.HEADER_SIZE + length;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.edge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+public class TodoStoreTest {
+
+    @Test
+    public void testUpdateMatchesMapUnderRandomInsertsAndRemovals() {
+        TodoStore store = new TodoStore(1);
+        Map<UUID, StoredTodo> expected = new HashMap<>();
+        List<UUID> ids = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int index = 0; index < 2_000; index++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        for (int step = 0; step < 20_000; step++) {
+            UUID id = ids.get(random.nextInt(ids.size()));
+            StoredTodo next = random.nextInt(3) == 0 ? null : generateTodo(id, random.nextBoolean(), step);
+
+            StoredTodo previous =
+                    store.update(id.getMostSignificantBits(), id.getLeastSignificantBits(), current -> next);
+
+            assertThat(previous).isEqualTo(next == null ? expected.remove(id) : expected.put(id, next));
+        }
+
+        for (UUID id : ids) {
+            assertThat(store.get(id.getMostSignificantBits(), id.getLeastSignificantBits()))
+                    .isEqualTo(expected.get(id));
+        }
+
+        long completed =
+                expected.values().stream().filter(StoredTodo::completed).count();
+
+        assertThat(store.count()).isEqualTo(expected.size());
+        assertThat(store.count(true)).isEqualTo(completed);
+        assertThat(store.createdAtIndex(null)).hasSize(expected.size());
+        assertThat(store.createdAtIndex(true)).hasSize((int) completed);
+        assertThat(store.createdAtIndex(false)).hasSize(expected.size() - (int) completed);
+    }
+
+    @Test
+    public void testConcurrentWritersOnDifferentStripes() throws InterruptedException {
+        TodoStore store = new TodoStore(8);
+        int writers = 8;
+        int todosPerWriter = 5_000;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(writers)) {
+            for (int writer = 0; writer < writers; writer++) {
+                executor.execute(() -> {
+                    for (int index = 0; index < todosPerWriter; index++) {
+                        UUID id = UUID.randomUUID();
+                        StoredTodo todo = generateTodo(id, index % 2 == 0, index);
+
+                        store.update(id.getMostSignificantBits(), id.getLeastSignificantBits(), current -> todo);
+                        assertThat(store.get(id.getMostSignificantBits(), id.getLeastSignificantBits()))
+                                .isEqualTo(todo);
+                    }
+                });
+            }
+        }
+
+        assertThat(store.count()).isEqualTo((long) writers * todosPerWriter);
+        assertThat(store.count(true)).isEqualTo((long) writers * todosPerWriter / 2);
+        assertThat(store.scan(todo -> true)).hasSize(writers * todosPerWriter);
+    }
+
+    @Test
+    public void testProbeLengthStaysShortInLargeStripes() {
+        TodoStore store = new TodoStore(4);
+
+        for (int index = 0; index < 4 * 150_000; index++) {
+            UUID id = UUID.randomUUID();
+
+            store.update(
+                    id.getMostSignificantBits(),
+                    id.getLeastSignificantBits(),
+                    current -> generateTodo(id, false, 0));
+        }
+
+        assertThat(store.count()).isEqualTo(4 * 150_000);
+        assertThat(store.averageProbeLength()).isLessThan(3.0);
+    }
+
+    @Test
+    public void testStripeCountMustBePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new TodoStore(12));
+    }
+
+    private StoredTodo generateTodo(UUID id, boolean completed, long createdAt) {
+        return new StoredTodo(
+                id.getMostSignificantBits(),
+                id.getLeastSignificantBits(),
+                "DESCRIPTION",
+                completed,
+                createdAt,
+                createdAt);
+    }
+}
@@ -27,6 +27,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -39,6 +41,16 @@ public class GlobalExceptionHandlerTest {
         handler = new GlobalExceptionHandler();
     }
 
+    @Test
+    public void testHandleBadRequestException() {
+        BadRequestException exception = new BadRequestException("Bad request");
+
+        ResponseEntity<Void> response = handler.handleBadRequestException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNull();
+    }
+
     @Test
     public void testHandleNotFoundException() {
         NotFoundException exception = new NotFoundException("Not found");
@@ -48,4 +60,15 @@ public class GlobalExceptionHandlerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
         assertThat(response.getBody()).isNull();
     }
+
+    @Test
+    public void testHandleQueryTimeoutException() {
+        QueryTimeoutException exception = new QueryTimeoutException("Query timed out");
+
+        ResponseEntity<Void> response = handler.handleQueryTimeoutException(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNull();
+    }
 }
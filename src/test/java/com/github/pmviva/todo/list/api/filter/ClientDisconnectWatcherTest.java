@@ -0,0 +1,181 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class ClientDisconnectWatcherTest {
+
+    private static final String HEADER =
+            "  sl  local_address rem_address   st tx_queue rx_queue tr tm->when retrnsmt   uid  timeout inode";
+
+    @TempDir
+    private Path directory;
+
+    private Path tcp;
+
+    private Path tcp6;
+
+    @BeforeEach
+    public void beforeEach() {
+        tcp = directory.resolve("tcp");
+        tcp6 = directory.resolve("tcp6");
+    }
+
+    @Test
+    public void testParseConnection() throws Exception {
+        ClientDisconnectWatcher.Connection connection =
+                ClientDisconnectWatcher.parseConnection("0100007F:1F90", "0100007F:D431");
+
+        assertThat(connection)
+                .isEqualTo(new ClientDisconnectWatcher.Connection(
+                        8080, InetAddress.getByName("127.0.0.1"), 54321));
+    }
+
+    @Test
+    public void testParseConnectionWithMappedAddress() throws Exception {
+        ClientDisconnectWatcher.Connection connection = ClientDisconnectWatcher.parseConnection(
+                "00000000000000000000000000000000:1F90", "0000000000000000FFFF00000100007F:D431");
+
+        assertThat(connection)
+                .isEqualTo(new ClientDisconnectWatcher.Connection(
+                        8080, InetAddress.getByName("127.0.0.1"), 54321));
+    }
+
+    @Test
+    public void testPollRunsActionOfClosedConnection() throws Exception {
+        writeTable(tcp, "0100007F:1F90 0100007F:D431 08");
+        writeTable(tcp6, "00000000000000000000000000000000:1F90 00000000000000000000000000000000:0000 0A");
+
+        ClientDisconnectWatcher watcher = new ClientDisconnectWatcher(List.of(tcp, tcp6), Duration.ofNanos(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        watcher.watch(request(54321), () -> calls.incrementAndGet() > 0);
+        Thread.sleep(1);
+        watcher.poll();
+        watcher.poll();
+
+        assertThat(calls).hasValue(1);
+        assertThat(watcher.getDisconnects()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPollIgnoresOpenConnection() throws Exception {
+        writeTable(tcp, "0100007F:1F90 0100007F:D431 01");
+
+        ClientDisconnectWatcher watcher = new ClientDisconnectWatcher(List.of(tcp, tcp6), Duration.ofNanos(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        watcher.watch(request(54321), () -> calls.incrementAndGet() > 0);
+        Thread.sleep(1);
+        watcher.poll();
+
+        assertThat(calls).hasValue(0);
+        assertThat(watcher.getDisconnects()).isZero();
+    }
+
+    @Test
+    public void testPollRetriesActionUntilItActs() throws Exception {
+        writeTable(tcp, "0100007F:1F90 0100007F:D431 08");
+
+        ClientDisconnectWatcher watcher = new ClientDisconnectWatcher(List.of(tcp), Duration.ofNanos(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        watcher.watch(request(54321), () -> calls.incrementAndGet() > 1);
+        Thread.sleep(1);
+        watcher.poll();
+
+        assertThat(watcher.getDisconnects()).isZero();
+
+        watcher.poll();
+        watcher.poll();
+
+        assertThat(calls).hasValue(2);
+        assertThat(watcher.getDisconnects()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPollSkipsRecentAndClosedWatches() throws Exception {
+        writeTable(tcp, "0100007F:1F90 0100007F:D431 08");
+
+        ClientDisconnectWatcher watcher = new ClientDisconnectWatcher(List.of(tcp), Duration.ofHours(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        watcher.watch(request(54321), () -> calls.incrementAndGet() > 0);
+        watcher.poll();
+
+        ClientDisconnectWatcher closedWatcher = new ClientDisconnectWatcher(List.of(tcp), Duration.ofNanos(1));
+
+        closedWatcher.watch(request(54321), () -> calls.incrementAndGet() > 0).close();
+        Thread.sleep(1);
+        closedWatcher.poll();
+
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    public void testPollWithoutSocketTables() throws Exception {
+        ClientDisconnectWatcher watcher = new ClientDisconnectWatcher(List.of(tcp, tcp6), Duration.ofNanos(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        watcher.watch(request(54321), () -> calls.incrementAndGet() > 0);
+        Thread.sleep(1);
+        watcher.poll();
+
+        assertThat(calls).hasValue(0);
+    }
+
+    private static MockHttpServletRequest request(int remotePort) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/todos");
+        request.setLocalPort(8080);
+        request.setRemoteAddr("127.0.0.1");
+        request.setRemotePort(remotePort);
+
+        return request;
+    }
+
+    private static void writeTable(Path path, String... entries) throws IOException {
+        StringBuilder table = new StringBuilder(HEADER).append('\n');
+
+        for (int index = 0; index < entries.length; index++) {
+            table.append(String.format(
+                    "%4d: %s 00000000:00000000 00:00000000 00000000  1000        0 12345%n", index, entries[index]));
+        }
+
+        Files.writeString(path, table, StandardCharsets.US_ASCII);
+    }
+}
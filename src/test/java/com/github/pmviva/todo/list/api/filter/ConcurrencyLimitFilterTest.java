@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.pmviva.todo.list.api.limit.AdaptiveConcurrencyLimiter;
+import com.github.pmviva.todo.list.api.limit.EndpointClass;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ConcurrencyLimitFilterTest {
+
+    private AdaptiveConcurrencyLimiter readLimiter;
+
+    private AdaptiveConcurrencyLimiter writeLimiter;
+
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    public void beforeEach() {
+        readLimiter = new AdaptiveConcurrencyLimiter("read", 1, 1, 10, 0.5, Duration.ofMinutes(1));
+        writeLimiter = new AdaptiveConcurrencyLimiter("write", 1, 1, 10, 0.5, Duration.ofMinutes(1));
+        filter = new ConcurrencyLimitFilter(
+                Map.of(EndpointClass.READ, readLimiter, EndpointClass.WRITE, writeLimiter), Duration.ofSeconds(2));
+    }
+
+    @Test
+    public void testDoFilterWithinLimit() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/todos"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(readLimiter.getInFlight()).isZero();
+        assertThat(readLimiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void testDoFilterOverLimit() throws Exception {
+        readLimiter.tryAcquire().orElseThrow();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/todos"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(readLimiter.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDoFilterUsesSeparateLimitsForReadsAndWrites() throws Exception {
+        readLimiter.tryAcquire().orElseThrow();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/todos"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(writeLimiter.getRejected()).isZero();
+    }
+
+    @Test
+    public void testDoFilterHoldsPermitUntilAsyncCompletes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/todos");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertThat(readLimiter.getInFlight()).isEqualTo(1);
+
+        request.getAsyncContext().complete();
+
+        assertThat(readLimiter.getInFlight()).isZero();
+        assertThat(readLimiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void testDoFilterDropsAsyncRequestOnError() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/todos");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onError(new AsyncEvent(asyncContext, request, response, new IOException("Connection reset")));
+        }
+
+        asyncContext.complete();
+
+        assertThat(readLimiter.getInFlight()).isZero();
+        assertThat(readLimiter.getLimit()).isEqualTo(1);
+    }
+}
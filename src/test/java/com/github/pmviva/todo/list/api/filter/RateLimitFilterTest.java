@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.pmviva.todo.list.api.limit.EndpointClass;
+import com.github.pmviva.todo.list.api.limit.RateLimitResult;
+import com.github.pmviva.todo.list.api.limit.RateLimiter;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitFilterTest {
+
+    private static final String SUBJECT = "3476e3ae-2d26-4111-b667-c564c51ad409";
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    public void beforeEach() {
+        filter = new RateLimitFilter(rateLimiter, List.of("sub", "azp"));
+    }
+
+    @AfterEach
+    public void afterEach() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testDoFilterAllowed() throws Exception {
+        authenticate();
+
+        doReturn(new RateLimitResult(true, 100, 99, Duration.ofMillis(10)))
+                .when(rateLimiter)
+                .tryConsume(SUBJECT, EndpointClass.READ);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/todos"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(RateLimitFilter.RATE_LIMIT_LIMIT)).isEqualTo("100");
+        assertThat(response.getHeader(RateLimitFilter.RATE_LIMIT_REMAINING)).isEqualTo("99");
+        assertThat(response.getHeader(RateLimitFilter.RATE_LIMIT_RESET)).isEqualTo("1");
+    }
+
+    @Test
+    public void testDoFilterRejected() throws Exception {
+        authenticate();
+
+        doReturn(new RateLimitResult(false, 10, 0, Duration.ofSeconds(6)))
+                .when(rateLimiter)
+                .tryConsume(SUBJECT, EndpointClass.BULK);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(
+                new MockHttpServletRequest("POST", "/api/v1/todos:complete"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("6");
+        assertThat(response.getHeader(RateLimitFilter.RATE_LIMIT_REMAINING)).isEqualTo("0");
+
+        verify(rateLimiter, times(1)).tryConsume(SUBJECT, EndpointClass.BULK);
+    }
+
+    @Test
+    public void testDoFilterUnauthenticated() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/todos"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(RateLimitFilter.RATE_LIMIT_LIMIT)).isNull();
+
+        verify(rateLimiter, never()).tryConsume(anyString(), eq(EndpointClass.READ));
+    }
+
+    private void authenticate() {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("sub", SUBJECT)
+                .claim("azp", "todo-list")
+                .build();
+
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+}
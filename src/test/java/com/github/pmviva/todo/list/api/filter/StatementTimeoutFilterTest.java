@@ -0,0 +1,210 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+
+import com.github.pmviva.todo.list.api.config.TestcontainersConfiguration;
+import com.github.pmviva.todo.list.api.service.TodoService;
+import com.github.pmviva.todo.list.api.sql.StatementCallableInterceptor;
+import com.github.pmviva.todo.list.api.sql.StatementTimeoutListener;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Drops the client of a todo listing while its query runs, over a real connection and through the asynchronous
+ * error reported by the servlet container, and checks that the statement in flight is cancelled on the database well
+ * before its timeout.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"todo.sql.timeouts.list=30s", "todo.sql.timeouts.disconnect-poll-interval=100ms"})
+public class StatementTimeoutFilterTest {
+
+    private static final String QUERY_CANCELED_STATE = "57014";
+
+    private static final String SLEEP_QUERY = "SELECT pg_sleep(30)";
+
+    @LocalServerPort
+    private int port;
+
+    @MockitoBean
+    private JwtDecoder jwtDecoder;
+
+    @MockitoBean
+    private TodoService todoService;
+
+    @Autowired
+    private StatementTimeoutFilter filter;
+
+    @Autowired
+    private StatementTimeoutListener listener;
+
+    @Autowired
+    private ClientDisconnectWatcher clientDisconnectWatcher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    public void testClosedConnectionCancelsStatement() throws Exception {
+        doReturn(Jwt.withTokenValue("token").header("alg", "none").subject("test").build())
+                .when(jwtDecoder)
+                .decode(anyString());
+        doAnswer(invocation -> {
+                    jdbcTemplate.queryForObject(SLEEP_QUERY, String.class);
+                    return Page.empty();
+                })
+                .when(todoService)
+                .getTodos(any(Pageable.class), any());
+
+        long cancellations = listener.getCancellations();
+        long disconnects = clientDisconnectWatcher.getDisconnects();
+        long started = System.nanoTime();
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write(("GET /api/v1/todos HTTP/1.1\r\n"
+                            + "Host: localhost\r\n"
+                            + "Authorization: Bearer token\r\n"
+                            + "Content-Type: application/json\r\n"
+                            + "Accept: application/json\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            outputStream.flush();
+
+            awaitActive();
+        }
+
+        for (int attempt = 0; attempt < 100 && listener.getCancellations() == cancellations; attempt++) {
+            Thread.sleep(100);
+        }
+
+        assertThat(listener.getCancellations()).isEqualTo(cancellations + 1);
+        assertThat(clientDisconnectWatcher.getDisconnects()).isEqualTo(disconnects + 1);
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(15));
+    }
+
+    @Test
+    public void testAsyncErrorCancelsStatement() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/todos");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        StatementCallableInterceptor interceptor = new StatementCallableInterceptor();
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        Callable<Void> task = () -> null;
+        CompletableFuture<DataAccessException> worker = new CompletableFuture<>();
+        long cancellations = listener.getCancellations();
+        long started = System.nanoTime();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.startAsync();
+            interceptor.beforeConcurrentHandling(webRequest, task);
+
+            Thread.ofPlatform().start(() -> {
+                interceptor.preProcess(webRequest, task);
+
+                try {
+                    jdbcTemplate.queryForObject(SLEEP_QUERY, String.class);
+                    worker.complete(null);
+                } catch (DataAccessException exception) {
+                    worker.complete(exception);
+                } finally {
+                    interceptor.postProcess(webRequest, task, null);
+                }
+            });
+        });
+
+        awaitActive();
+
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+
+        for (AsyncListener asyncListener : asyncContext.getListeners()) {
+            asyncListener.onError(
+                    new AsyncEvent(asyncContext, request, response, new IOException("Connection reset by peer")));
+        }
+
+        DataAccessException exception = worker.get(5, TimeUnit.SECONDS);
+        asyncContext.complete();
+
+        assertThat(exception).isNotNull();
+        assertThat(exception.getMostSpecificCause())
+                .asInstanceOf(InstanceOfAssertFactories.type(SQLException.class))
+                .extracting(SQLException::getSQLState)
+                .isEqualTo(QUERY_CANCELED_STATE);
+        assertThat(listener.getCancellations()).isEqualTo(cancellations + 1);
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    private void awaitActive() throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            Integer active = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_stat_activity WHERE state = 'active' AND query = ?",
+                    Integer.class,
+                    SLEEP_QUERY);
+
+            if (active != null && active > 0) {
+                return;
+            }
+
+            Thread.sleep(50);
+        }
+
+        throw new AssertionError("The query never started");
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.model.TodoField;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+
+@JsonTest
+public class TodoJsonComponentTest {
+
+    private static final UUID ID = UUID.fromString("0195e2a4-3c1b-7d2e-8f40-5a6b7c8d9e0f");
+
+    private static final Instant CREATED_AT = Instant.parse("2025-03-01T10:15:30.123456Z");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void testSerializeTodo() throws JsonProcessingException {
+        Todo todo = generateTodo();
+
+        String result = objectMapper.writeValueAsString(todo);
+
+        assertThat(result)
+                .isEqualTo("{\"id\":\"0195e2a4-3c1b-7d2e-8f40-5a6b7c8d9e0f\",\"description\":\"DESCRIPTION \\\"1\\\"\","
+                        + "\"completed\":false,\"createdAt\":\"2025-03-01T10:15:30.123+00:00\",\"updatedAt\":null}");
+    }
+
+    @Test
+    public void testSerializePagedModel() throws JsonProcessingException {
+        PagedModel<Todo> model = new PagedModel<>(new PageImpl<>(List.of(generateTodo()), PageRequest.of(1, 1), 3));
+
+        String result = objectMapper.writeValueAsString(model);
+
+        assertThat(result)
+                .isEqualTo("{\"content\":[" + objectMapper.writeValueAsString(generateTodo()) + "],"
+                        + "\"page\":{\"size\":1,\"number\":1,\"totalElements\":3,\"totalPages\":3}}");
+    }
+
+    @Test
+    public void testSerializeProjection() throws JsonProcessingException {
+        Map<String, Object> projection = new LinkedHashMap<>();
+        projection.put(TodoField.ID.fieldName(), ID);
+        projection.put(TodoField.CREATED_AT.fieldName(), CREATED_AT);
+        projection.put(TodoField.UPDATED_AT.fieldName(), null);
+
+        String result = objectMapper.writeValueAsString(projection);
+
+        assertThat(result)
+                .isEqualTo("{\"id\":\"0195e2a4-3c1b-7d2e-8f40-5a6b7c8d9e0f\","
+                        + "\"createdAt\":\"2025-03-01T10:15:30.123+00:00\",\"updatedAt\":null}");
+    }
+
+    @Test
+    public void testDeserializeTodo() throws JsonProcessingException {
+        Todo result = objectMapper.readValue(
+                "{\"unknown\":{\"nested\":[1,2]},\"id\":\"0195e2a4-3c1b-7d2e-8f40-5a6b7c8d9e0f\","
+                        + "\"description\":\"DESCRIPTION\",\"completed\":\"true\","
+                        + "\"createdAt\":\"2025-03-01T10:15:30.123+00:00\",\"updatedAt\":\"2025-03-01T11:15:30Z\"}",
+                Todo.class);
+
+        assertThat(result.getId()).isEqualTo(ID);
+        assertThat(result.getDescription()).isEqualTo("DESCRIPTION");
+        assertThat(result.getCompleted()).isTrue();
+        assertThat(result.getCreatedAt()).isEqualTo(Instant.parse("2025-03-01T10:15:30.123Z"));
+        assertThat(result.getUpdatedAt()).isEqualTo(Instant.parse("2025-03-01T11:15:30Z"));
+    }
+
+    @Test
+    public void testDeserializeTimestampForms() throws JsonProcessingException {
+        assertThat(readCreatedAt("1740824130123")).isEqualTo(Instant.parse("2025-03-01T10:15:30.123Z"));
+        assertThat(readCreatedAt("\"2025-03-01T10:15:30.123\"")).isEqualTo(Instant.parse("2025-03-01T10:15:30.123Z"));
+        assertThat(readCreatedAt("\"2025-03-01\"")).isEqualTo(Instant.parse("2025-03-01T00:00:00Z"));
+        assertThat(readCreatedAt("\"2025-03-01T12:15:30+02:00\"")).isEqualTo(Instant.parse("2025-03-01T10:15:30Z"));
+        assertThat(readCreatedAt("null")).isNull();
+    }
+
+    @Test
+    public void testDeserializeInvalidTimestamp() {
+        assertThrows(InvalidFormatException.class, () -> readCreatedAt("\"yesterday\""));
+    }
+
+    @Test
+    public void testSerializeTimestamp() throws JsonProcessingException {
+        assertThat(objectMapper.writeValueAsString(CREATED_AT)).isEqualTo("\"2025-03-01T10:15:30.123+00:00\"");
+        assertThat(objectMapper.readValue("\"2025-03-01T10:15:30.123+00:00\"", Instant.class))
+                .isEqualTo(Instant.parse("2025-03-01T10:15:30.123Z"));
+    }
+
+    @Test
+    public void testFormatTimestamp() {
+        char[] buffer = new char[TodoTimestamps.LENGTH];
+
+        TodoTimestamps.format(0, buffer);
+        assertThat(new String(buffer)).isEqualTo("1970-01-01T00:00:00.000+00:00");
+
+        TodoTimestamps.format(-1, buffer);
+        assertThat(new String(buffer)).isEqualTo("1969-12-31T23:59:59.999+00:00");
+
+        TodoTimestamps.format(951_827_696_789L, buffer);
+        assertThat(new String(buffer)).isEqualTo("2000-02-29T12:34:56.789+00:00");
+    }
+
+    private Instant readCreatedAt(String value) throws JsonProcessingException {
+        return objectMapper
+                .readValue("{\"description\":\"DESCRIPTION\",\"createdAt\":" + value + "}", Todo.class)
+                .getCreatedAt();
+    }
+
+    private Todo generateTodo() {
+        Todo todo = new Todo("DESCRIPTION \"1\"", Boolean.FALSE);
+        todo.setId(ID);
+        todo.setCreatedAt(CREATED_AT);
+
+        return todo;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    public void testTryAcquireRejectsOverLimit() {
+        AdaptiveConcurrencyLimiter limiter = generateLimiter(2);
+
+        Optional<AdaptiveConcurrencyLimiter.Permit> permit1 = limiter.tryAcquire();
+        Optional<AdaptiveConcurrencyLimiter.Permit> permit2 = limiter.tryAcquire();
+        Optional<AdaptiveConcurrencyLimiter.Permit> permit3 = limiter.tryAcquire();
+
+        assertThat(permit1).isPresent();
+        assertThat(permit2).isPresent();
+        assertThat(permit3).isEmpty();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    public void testOnSuccessIncreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = generateLimiter(2);
+
+        limiter.tryAcquire().orElseThrow().onSuccess();
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    public void testOnDroppedDecreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = generateLimiter(10);
+
+        limiter.tryAcquire().orElseThrow().onDropped();
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    public void testOnDroppedDoesNotDecreaseBelowMinLimit() {
+        AdaptiveConcurrencyLimiter limiter = generateLimiter(2);
+
+        limiter.tryAcquire().orElseThrow().onDropped();
+        limiter.tryAcquire().orElseThrow().onDropped();
+
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void testReleaseIsIdempotent() {
+        AdaptiveConcurrencyLimiter limiter = generateLimiter(2);
+
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire().orElseThrow();
+        limiter.tryAcquire().orElseThrow();
+
+        permit.onSuccess();
+        permit.onSuccess();
+
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    public void testConstructorThrowsIllegalArgumentExceptionWithInvalidLimits() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter("read", 1, 2, 10, 0.5, Duration.ofSeconds(1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter("read", 2, 2, 10, 1.5, Duration.ofSeconds(1)));
+    }
+
+    private AdaptiveConcurrencyLimiter generateLimiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter("read", initialLimit, 2, 100, 0.5, Duration.ofMinutes(1));
+    }
+}
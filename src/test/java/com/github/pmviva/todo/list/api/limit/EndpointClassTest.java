@@ -0,0 +1,52 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class EndpointClassTest {
+
+    @Test
+    public void testOf() {
+        assertThat(EndpointClass.of(new MockHttpServletRequest("GET", "/api/v1/todos")))
+                .isEqualTo(EndpointClass.READ);
+        assertThat(EndpointClass.of(new MockHttpServletRequest("GET", "/api/v1/todos/033feb09-fd25-49ff-b1af-d65ce5740eea")))
+                .isEqualTo(EndpointClass.READ);
+        assertThat(EndpointClass.of(new MockHttpServletRequest("POST", "/api/v1/todos")))
+                .isEqualTo(EndpointClass.WRITE);
+        assertThat(EndpointClass.of(new MockHttpServletRequest("PUT", "/api/v1/todos/033feb09-fd25-49ff-b1af-d65ce5740eea")))
+                .isEqualTo(EndpointClass.WRITE);
+        assertThat(EndpointClass.of(new MockHttpServletRequest("DELETE", "/api/v1/todos/033feb09-fd25-49ff-b1af-d65ce5740eea")))
+                .isEqualTo(EndpointClass.WRITE);
+        assertThat(EndpointClass.of(new MockHttpServletRequest("DELETE", "/api/v1/todos")))
+                .isEqualTo(EndpointClass.BULK);
+        assertThat(EndpointClass.of(new MockHttpServletRequest("POST", "/api/v1/todos:complete")))
+                .isEqualTo(EndpointClass.BULK);
+        assertThat(EndpointClass.of(new MockHttpServletRequest("POST", "/api/v1/todos:batchGet")))
+                .isEqualTo(EndpointClass.READ);
+    }
+}
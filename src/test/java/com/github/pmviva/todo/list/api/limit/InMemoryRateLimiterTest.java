@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InMemoryRateLimiterTest {
+
+    private AtomicLong clock;
+
+    private InMemoryRateLimiter rateLimiter;
+
+    @BeforeEach
+    public void beforeEach() {
+        clock = new AtomicLong();
+        rateLimiter = new InMemoryRateLimiter(
+                Map.of(
+                        EndpointClass.READ, new RateLimit(2, Duration.ofSeconds(1)),
+                        EndpointClass.WRITE, new RateLimit(1, Duration.ofSeconds(1))),
+                Duration.ofMinutes(1),
+                clock::get);
+    }
+
+    @Test
+    public void testTryConsume() {
+        RateLimitResult result;
+
+        result = rateLimiter.tryConsume("client", EndpointClass.READ);
+        assertThat(result.allowed()).isTrue();
+        assertThat(result.limit()).isEqualTo(2);
+        assertThat(result.remaining()).isEqualTo(1);
+
+        result = rateLimiter.tryConsume("client", EndpointClass.READ);
+        assertThat(result.allowed()).isTrue();
+        assertThat(result.remaining()).isZero();
+
+        result = rateLimiter.tryConsume("client", EndpointClass.READ);
+        assertThat(result.allowed()).isFalse();
+        assertThat(result.reset()).isEqualTo(Duration.ofMillis(500));
+    }
+
+    @Test
+    public void testTryConsumeRefills() {
+        rateLimiter.tryConsume("client", EndpointClass.WRITE);
+
+        assertThat(rateLimiter.tryConsume("client", EndpointClass.WRITE).allowed())
+                .isFalse();
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertThat(rateLimiter.tryConsume("client", EndpointClass.WRITE).allowed())
+                .isTrue();
+    }
+
+    @Test
+    public void testTryConsumeKeepsSeparateBuckets() {
+        rateLimiter.tryConsume("client", EndpointClass.WRITE);
+
+        assertThat(rateLimiter.tryConsume("other", EndpointClass.WRITE).allowed())
+                .isTrue();
+        assertThat(rateLimiter.tryConsume("client", EndpointClass.READ).allowed())
+                .isTrue();
+    }
+
+    @Test
+    public void testTryConsumeWithoutLimit() {
+        assertThat(rateLimiter.tryConsume("client", EndpointClass.BULK).allowed())
+                .isTrue();
+        assertThat(rateLimiter.size()).isZero();
+    }
+
+    @Test
+    public void testEvictIdleBuckets() {
+        rateLimiter.tryConsume("client", EndpointClass.READ);
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        rateLimiter.tryConsume("other", EndpointClass.READ);
+
+        assertThat(rateLimiter.size()).isEqualTo(2);
+
+        clock.addAndGet(Duration.ofSeconds(45).toNanos());
+        rateLimiter.evictIdleBuckets();
+
+        assertThat(rateLimiter.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+public class SchemaVersionValidatorTest {
+
+    private static final String CHANGE_LOG = "classpath:/db/changelog/db.changelog-master.yaml";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SchemaVersionValidator validator;
+
+    @BeforeEach
+    public void beforeEach() {
+        validator = new SchemaVersionValidator(jdbcTemplate, CHANGE_LOG);
+    }
+
+    @Test
+    public void testGetExpectedChangeSets() {
+        Set<String> result = validator.getExpectedChangeSets();
+
+        assertThat(result).isNotEmpty();
+        assertThat(result).contains("1::Pablo Martin Viva");
+    }
+
+    @Test
+    public void testAfterPropertiesSet() {
+        doReturn(List.copyOf(validator.getExpectedChangeSets()))
+                .when(jdbcTemplate)
+                .query(anyString(), any(RowMapper.class));
+
+        assertDoesNotThrow(() -> validator.afterPropertiesSet());
+    }
+
+    @Test
+    public void testAfterPropertiesSetThrowsIllegalStateExceptionWhenChangeSetsAreMissing() {
+        doReturn(List.of()).when(jdbcTemplate).query(anyString(), any(RowMapper.class));
+
+        assertThrows(IllegalStateException.class, () -> validator.afterPropertiesSet());
+    }
+
+    @Test
+    public void testAfterPropertiesSetThrowsIllegalStateExceptionWhenChangeLogTableIsMissing() {
+        doThrow(new BadSqlGrammarException("query", "SELECT", new SQLException()))
+                .when(jdbcTemplate)
+                .query(anyString(), any(RowMapper.class));
+
+        assertThrows(IllegalStateException.class, () -> validator.afterPropertiesSet());
+    }
+}
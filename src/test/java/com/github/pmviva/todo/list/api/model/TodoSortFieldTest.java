@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.pmviva.todo.list.api.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+public class TodoSortFieldTest {
+
+    @Test
+    public void testValidateAppendsIdTiebreaker() {
+        Pageable result = TodoSortField.validate(PageRequest.of(2, 10, Sort.by(Sort.Direction.ASC, "updatedAt")));
+
+        assertThat(result.getPageNumber()).isEqualTo(2);
+        assertThat(result.getPageSize()).isEqualTo(10);
+        assertThat(result.getSort()).isEqualTo(Sort.by(Sort.Direction.ASC, "updatedAt", "id"));
+    }
+
+    @Test
+    public void testValidateAppliesDefaultSort() {
+        Pageable result = TodoSortField.validate(PageRequest.of(0, 20));
+
+        assertThat(result.getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+    }
+
+    @Test
+    public void testValidateRejectsUnindexedSort() {
+        assertThrows(
+                BadRequestException.class, () -> TodoSortField.validate(PageRequest.of(0, 20, Sort.by("description"))));
+    }
+
+    @Test
+    public void testValidateRejectsMultipleSorts() {
+        assertThrows(
+                BadRequestException.class,
+                () -> TodoSortField.validate(PageRequest.of(0, 20, Sort.by("createdAt", "updatedAt"))));
+    }
+
+    @Test
+    public void testValidateRejectsIgnoreCase() {
+        Sort sort = Sort.by(Sort.Order.asc("createdAt").ignoreCase());
+
+        assertThrows(BadRequestException.class, () -> TodoSortField.validate(PageRequest.of(0, 20, sort)));
+    }
+}
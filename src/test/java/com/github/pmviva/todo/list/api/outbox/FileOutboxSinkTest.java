@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.pmviva.todo.list.api.event.TodoChangeType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileOutboxSinkTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testPublishAppendsOneLinePerMessage() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        Path path = directory.resolve("outbox/todo-changes.jsonl");
+        FileOutboxSink sink = new FileOutboxSink(path, objectMapper);
+
+        OutboxMessage first =
+                new OutboxMessage(1, UUID.randomUUID(), TodoChangeType.CREATED, 1, List.of(), Instant.now());
+        OutboxMessage second = new OutboxMessage(
+                2,
+                null,
+                TodoChangeType.BULK_DELETED,
+                3,
+                List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()),
+                Instant.now());
+
+        sink.publish(List.of(first));
+        sink.publish(List.of(second));
+
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines.get(0), OutboxMessage.class)).isEqualTo(first);
+        assertThat(objectMapper.readValue(lines.get(1), OutboxMessage.class)).isEqualTo(second);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.pmviva.todo.list.api.config.TestcontainersConfiguration;
+import com.github.pmviva.todo.list.api.event.TodoChangeType;
+import com.github.pmviva.todo.list.api.event.TodoChangedEvent;
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Import(TestcontainersConfiguration.class)
+@Transactional
+@DataJpaTest
+public class TodoOutboxRelayTest {
+
+    private static final int PARTITIONS = 1;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryOutboxSink sink;
+
+    private TodoOutboxWriter todoOutboxWriter;
+
+    private TodoOutboxRelay todoOutboxRelay;
+
+    @BeforeEach
+    public void beforeEach() {
+        sink = new InMemoryOutboxSink();
+        todoOutboxWriter = new TodoOutboxWriter(jdbcTemplate, PARTITIONS);
+        todoOutboxRelay = new TodoOutboxRelay(
+                jdbcTemplate, new TransactionTemplate(transactionManager), sink, PARTITIONS, 2, Clock.systemUTC());
+    }
+
+    @Rollback
+    @Test
+    public void testRelayDeliversMessagesInOrderAndDeletesThem() {
+        UUID id = UUID.randomUUID();
+
+        todoOutboxWriter.onTodoChanged(new TodoChangedEvent(TodoChangeType.CREATED, id));
+        todoOutboxWriter.onTodoChanged(new TodoChangedEvent(TodoChangeType.UPDATED, id));
+        todoOutboxWriter.onTodoChanged(new TodoChangedEvent(TodoChangeType.DELETED, id));
+
+        todoOutboxRelay.relay();
+
+        List<OutboxMessage> messages = sink.getMessages();
+
+        assertThat(messages)
+                .extracting(OutboxMessage::type)
+                .containsExactly(TodoChangeType.CREATED, TodoChangeType.UPDATED, TodoChangeType.DELETED);
+        assertThat(messages).allMatch(message -> id.equals(message.todoId()));
+        assertThat(messages).extracting(OutboxMessage::id).isSorted();
+        assertThat(todoOutboxRelay.getRelayed()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM todo_outbox", Long.class))
+                .isZero();
+    }
+
+    @Rollback
+    @Test
+    public void testRelayDeliversBulkMessagesWithTodoIds() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        todoOutboxWriter.onTodoChanged(TodoChangedEvent.bulk(TodoChangeType.BULK_COMPLETED, ids));
+
+        todoOutboxRelay.relay();
+
+        assertThat(sink.getMessages()).singleElement().satisfies(message -> {
+            assertThat(message.type()).isEqualTo(TodoChangeType.BULK_COMPLETED);
+            assertThat(message.todoId()).isNull();
+            assertThat(message.count()).isEqualTo(3);
+            assertThat(message.todoIds()).containsExactlyElementsOf(ids);
+        });
+    }
+
+    @Rollback
+    @Test
+    public void testRelayKeepsBulkAndSingleChangesToTodoInOrder() {
+        int partitions = 4;
+        todoOutboxWriter = new TodoOutboxWriter(jdbcTemplate, partitions);
+        todoOutboxRelay = new TodoOutboxRelay(
+                jdbcTemplate, new TransactionTemplate(transactionManager), sink, partitions, 2, Clock.systemUTC());
+
+        UUID id = UUID.randomUUID();
+
+        while (todoOutboxWriter.partition(id) == 0) {
+            id = UUID.randomUUID();
+        }
+
+        List<UUID> ids = List.of(UUID.randomUUID(), id, UUID.randomUUID(), UUID.randomUUID());
+
+        todoOutboxWriter.onTodoChanged(TodoChangedEvent.bulk(TodoChangeType.BULK_COMPLETED, ids));
+        todoOutboxWriter.onTodoChanged(new TodoChangedEvent(TodoChangeType.UPDATED, id));
+
+        for (int partition = partitions - 1; partition >= 0; partition--) {
+            todoOutboxRelay.relayBatch(partition);
+        }
+
+        UUID changed = id;
+
+        assertThat(sink.getMessages())
+                .filteredOn(message -> changed.equals(message.todoId()) || message.todoIds().contains(changed))
+                .extracting(OutboxMessage::type)
+                .containsExactly(TodoChangeType.BULK_COMPLETED, TodoChangeType.UPDATED);
+        assertThat(sink.getMessages())
+                .filteredOn(message -> message.type() == TodoChangeType.BULK_COMPLETED)
+                .allSatisfy(message -> assertThat(message.todoIds())
+                        .allMatch(todoId -> todoOutboxWriter.partition(todoId)
+                                == todoOutboxWriter.partition(message.todoIds().getFirst())))
+                .flatMap(OutboxMessage::todoIds)
+                .containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Rollback
+    @Test
+    public void testRelayKeepsMessagesWhenSinkFails() {
+        todoOutboxRelay = new TodoOutboxRelay(
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                messages -> {
+                    throw new IllegalStateException("Sink unavailable");
+                },
+                PARTITIONS,
+                2,
+                Clock.systemUTC());
+
+        todoOutboxWriter.onTodoChanged(
+                TodoChangedEvent.bulk(TodoChangeType.BULK_COMPLETED, List.of(UUID.randomUUID(), UUID.randomUUID())));
+
+        todoOutboxRelay.relay();
+
+        assertThat(todoOutboxRelay.getRelayed()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM todo_outbox", Long.class))
+                .isEqualTo(1);
+        assertThat(todoOutboxRelay.getLagSeconds()).isGreaterThanOrEqualTo(0);
+    }
+}
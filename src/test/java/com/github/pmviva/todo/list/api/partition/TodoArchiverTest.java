@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.pmviva.todo.list.api.config.TestcontainersConfiguration;
+import com.github.pmviva.todo.list.api.event.TodoChangeType;
+import com.github.pmviva.todo.list.api.event.TodoChangedEvent;
+import com.github.pmviva.todo.list.api.model.ArchivedTodo;
+import com.github.pmviva.todo.list.api.repository.ArchivedTodoRepository;
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Import(TestcontainersConfiguration.class)
+@Transactional
+@DataJpaTest
+public class TodoArchiverTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ArchivedTodoRepository archivedTodoRepository;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    private TodoArchiver todoArchiver;
+
+    @BeforeEach
+    public void beforeEach() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        todoArchiver = new TodoArchiver(
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                eventPublisher,
+                Duration.ofDays(30),
+                2,
+                10,
+                Clock.systemUTC());
+    }
+
+    @Sql("classpath:sql/repositories/todo/script-02.sql")
+    @Rollback
+    @Test
+    public void testArchiveMovesCompletedTodosPastRetention() {
+        long result = todoArchiver.archive();
+
+        assertThat(result).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM todos", Long.class))
+                .isEqualTo(2);
+
+        Page<ArchivedTodo> archived = archivedTodoRepository.findAll(PageRequest.of(0, 10));
+
+        assertThat(archived.getTotalElements()).isEqualTo(3);
+        assertThat(archived).allMatch(todo -> Boolean.TRUE.equals(todo.getCompleted()));
+
+        ArgumentCaptor<TodoChangedEvent> events = ArgumentCaptor.forClass(TodoChangedEvent.class);
+
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+
+        assertThat(events.getAllValues()).extracting(TodoChangedEvent::type).containsOnly(TodoChangeType.BULK_ARCHIVED);
+        assertThat(events.getAllValues()).extracting(TodoChangedEvent::count).containsExactly(2L, 1L);
+        assertThat(events.getAllValues())
+                .flatExtracting(TodoChangedEvent::todoIds)
+                .containsExactlyInAnyOrderElementsOf(
+                        archived.map(ArchivedTodo::getId).toList());
+    }
+
+    @Sql("classpath:sql/repositories/todo/script-01.sql")
+    @Rollback
+    @Test
+    public void testArchiveWithoutExpiredTodos() {
+        assertThat(todoArchiver.archive()).isZero();
+        assertThat(archivedTodoRepository.findAll(PageRequest.of(0, 10))).isEmpty();
+    }
+}
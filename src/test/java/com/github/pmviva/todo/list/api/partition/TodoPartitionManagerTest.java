@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.pmviva.todo.list.api.config.TestcontainersConfiguration;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Import(TestcontainersConfiguration.class)
+@Transactional
+@DataJpaTest
+public class TodoPartitionManagerTest {
+
+    private static final String PARTITION_BOUNDS_QUERY =
+            """
+            SELECT pg_get_expr(c.relpartbound, c.oid)
+            FROM pg_class c JOIN pg_inherits i ON i.inhrelid = c.oid
+            WHERE i.inhparent = 'todos'::regclass AND c.relname = ?
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TodoPartitionManager todoPartitionManager;
+
+    @BeforeEach
+    public void beforeEach() {
+        todoPartitionManager =
+                new TodoPartitionManager(jdbcTemplate, new TransactionTemplate(transactionManager), 6, Clock.systemUTC());
+    }
+
+    @Rollback
+    @Test
+    public void testCreatePartitions() {
+        todoPartitionManager.createPartitions();
+
+        YearMonth month = YearMonth.now(ZoneOffset.UTC).plusMonths(6);
+
+        String bounds = jdbcTemplate.queryForObject(
+                PARTITION_BOUNDS_QUERY, String.class, TodoPartitionManager.partitionName(month));
+
+        assertThat(bounds).startsWith(String.format("FOR VALUES FROM ('%s-01", month));
+    }
+
+    @Rollback
+    @Test
+    public void testCreatePartitionIsIdempotent() {
+        YearMonth month = YearMonth.now(ZoneOffset.UTC).plusMonths(5);
+
+        assertThat(todoPartitionManager.createPartition(month)).isTrue();
+        assertThat(todoPartitionManager.createPartition(month)).isTrue();
+    }
+
+    @Rollback
+    @Test
+    public void testMigrationCreatedCurrentPartition() {
+        YearMonth month = YearMonth.now(ZoneOffset.UTC);
+
+        assertThat(jdbcTemplate.queryForObject(
+                        PARTITION_BOUNDS_QUERY, String.class, TodoPartitionManager.partitionName(month)))
+                .isNotNull();
+    }
+}
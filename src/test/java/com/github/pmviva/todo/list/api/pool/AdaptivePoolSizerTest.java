@@ -0,0 +1,192 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.pool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AdaptivePoolSizerTest {
+
+    private static final String POOL_NAME = "todo-pool";
+
+    private static final int MIN_SIZE = 2;
+
+    private static final int MAX_SIZE = 20;
+
+    private static final int STEP = 2;
+
+    private HikariDataSource dataSource;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void beforeEach() {
+        dataSource = new HikariDataSource();
+        dataSource.setPoolName(POOL_NAME);
+        dataSource.setMaximumPoolSize(10);
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        dataSource.close();
+    }
+
+    @Test
+    public void testPoolKeepsMinimumSizeIdle() {
+        dataSource.setMaximumPoolSize(50);
+
+        AdaptivePoolSizer adaptivePoolSizer = createSizer(PoolBudget.UNLIMITED);
+
+        assertThat(adaptivePoolSizer.getSize()).isEqualTo(MAX_SIZE);
+        assertThat(dataSource.getMinimumIdle()).isEqualTo(MIN_SIZE);
+    }
+
+    @Test
+    public void testDecideGrowsWhenRequestsWait() {
+        AdaptivePoolSizer adaptivePoolSizer = createSizer(PoolBudget.UNLIMITED);
+
+        assertThat(adaptivePoolSizer.decide(10, new AdaptivePoolSizer.Sample(3, 0, 5, 9)))
+                .isEqualTo(new AdaptivePoolSizer.Resize(PoolSizingDecision.GROW, 12));
+        assertThat(adaptivePoolSizer.decide(19, new AdaptivePoolSizer.Sample(0, 50, 5, 9)))
+                .isEqualTo(new AdaptivePoolSizer.Resize(PoolSizingDecision.GROW, MAX_SIZE));
+        assertThat(adaptivePoolSizer.decide(MAX_SIZE, new AdaptivePoolSizer.Sample(3, 50, 5, 9)))
+                .isEqualTo(new AdaptivePoolSizer.Resize(PoolSizingDecision.HOLD, MAX_SIZE));
+    }
+
+    @Test
+    public void testDecideHoldsWhenDatabaseIsSaturated() {
+        AdaptivePoolSizer adaptivePoolSizer = createSizer(PoolBudget.UNLIMITED);
+
+        assertThat(adaptivePoolSizer.decide(10, new AdaptivePoolSizer.Sample(3, 50, 500, 10)))
+                .isEqualTo(new AdaptivePoolSizer.Resize(PoolSizingDecision.SATURATED, 10));
+    }
+
+    @Test
+    public void testDecideShrinksTowardsBusyConnections() {
+        AdaptivePoolSizer adaptivePoolSizer = createSizer(PoolBudget.UNLIMITED);
+
+        assertThat(adaptivePoolSizer.decide(10, new AdaptivePoolSizer.Sample(0, 1, 5, 1)))
+                .isEqualTo(new AdaptivePoolSizer.Resize(PoolSizingDecision.SHRINK, 8));
+        assertThat(adaptivePoolSizer.decide(3, new AdaptivePoolSizer.Sample(0, 1, 5, 0)))
+                .isEqualTo(new AdaptivePoolSizer.Resize(PoolSizingDecision.SHRINK, MIN_SIZE));
+        assertThat(adaptivePoolSizer.decide(10, new AdaptivePoolSizer.Sample(0, 1, 5, 7)))
+                .isEqualTo(new AdaptivePoolSizer.Resize(PoolSizingDecision.HOLD, 10));
+    }
+
+    @Test
+    public void testResizeGrowsWhenAcquisitionIsSlow() {
+        AdaptivePoolSizer adaptivePoolSizer = createSizer(PoolBudget.UNLIMITED);
+
+        recordAcquisitions(Duration.ofMillis(50));
+        adaptivePoolSizer.resize();
+
+        assertThat(adaptivePoolSizer.getSize()).isEqualTo(12);
+        assertThat(adaptivePoolSizer.getDecisions(PoolSizingDecision.GROW)).isEqualTo(1);
+    }
+
+    @Test
+    public void testResizeIsCappedByBudget() {
+        AdaptivePoolSizer adaptivePoolSizer = createSizer((desired, minimum) -> 11);
+
+        recordAcquisitions(Duration.ofMillis(50));
+        adaptivePoolSizer.resize();
+
+        assertThat(adaptivePoolSizer.getSize()).isEqualTo(11);
+        assertThat(adaptivePoolSizer.getTargetSize()).isEqualTo(12);
+        assertThat(adaptivePoolSizer.getDecisions(PoolSizingDecision.CAPPED)).isEqualTo(1);
+    }
+
+    @Test
+    public void testResizeKeepsSizeWhenBudgetFails() {
+        AdaptivePoolSizer adaptivePoolSizer = createSizer((desired, minimum) -> {
+            throw new IllegalStateException("Database unavailable");
+        });
+
+        recordAcquisitions(Duration.ofMillis(50));
+        adaptivePoolSizer.resize();
+
+        assertThat(adaptivePoolSizer.getSize()).isEqualTo(10);
+        assertThat(adaptivePoolSizer.getDecisions(PoolSizingDecision.HOLD)).isEqualTo(1);
+    }
+
+    @Test
+    public void testReserveAppliesBudgetGrant() {
+        List<Integer> reserved = new ArrayList<>();
+        AdaptivePoolSizer adaptivePoolSizer = createSizer((desired, minimum) -> {
+            reserved.add(desired);
+            return 6;
+        });
+
+        assertThat(adaptivePoolSizer.reserve()).isEqualTo(6);
+        assertThat(adaptivePoolSizer.getSize()).isEqualTo(6);
+        assertThat(reserved).containsExactly(10);
+    }
+
+    @Test
+    public void testReserveKeepsSizeWhenBudgetFails() {
+        AdaptivePoolSizer adaptivePoolSizer = createSizer((desired, minimum) -> {
+            throw new IllegalStateException("Database unavailable");
+        });
+
+        assertThat(adaptivePoolSizer.reserve()).isEqualTo(10);
+        assertThat(adaptivePoolSizer.getSize()).isEqualTo(10);
+    }
+
+    private void recordAcquisitions(Duration duration) {
+        Timer timer = Timer.builder("hikaricp.connections.acquire")
+                .tag("pool", POOL_NAME)
+                .register(meterRegistry);
+
+        for (int i = 0; i < 10; i++) {
+            timer.record(duration);
+        }
+    }
+
+    private AdaptivePoolSizer createSizer(PoolBudget poolBudget) {
+        return new AdaptivePoolSizer(
+                dataSource,
+                meterRegistry,
+                Optional.empty(),
+                poolBudget,
+                MIN_SIZE,
+                MAX_SIZE,
+                STEP,
+                1.5,
+                Duration.ofMillis(10),
+                Duration.ofMillis(100));
+    }
+}
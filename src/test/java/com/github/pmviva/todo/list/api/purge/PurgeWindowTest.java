@@ -0,0 +1,53 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.purge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalTime;
+import org.junit.jupiter.api.Test;
+
+public class PurgeWindowTest {
+
+    @Test
+    public void testContains() {
+        PurgeWindow window = new PurgeWindow(LocalTime.of(2, 0), LocalTime.of(5, 0));
+
+        assertThat(window.contains(LocalTime.of(2, 0))).isTrue();
+        assertThat(window.contains(LocalTime.of(4, 59))).isTrue();
+        assertThat(window.contains(LocalTime.of(5, 0))).isFalse();
+        assertThat(window.contains(LocalTime.of(1, 59))).isFalse();
+    }
+
+    @Test
+    public void testContainsWrapsAroundMidnight() {
+        PurgeWindow window = new PurgeWindow(LocalTime.of(22, 0), LocalTime.of(6, 0));
+
+        assertThat(window.contains(LocalTime.of(23, 0))).isTrue();
+        assertThat(window.contains(LocalTime.of(0, 0))).isTrue();
+        assertThat(window.contains(LocalTime.of(5, 59))).isTrue();
+        assertThat(window.contains(LocalTime.of(6, 0))).isFalse();
+        assertThat(window.contains(LocalTime.of(12, 0))).isFalse();
+    }
+}
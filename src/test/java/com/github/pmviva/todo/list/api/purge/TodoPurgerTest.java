@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.purge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.pmviva.todo.list.api.config.TestcontainersConfiguration;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Import(TestcontainersConfiguration.class)
+@Transactional
+@DataJpaTest
+public class TodoPurgerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Sql("classpath:sql/repositories/todo/script-03.sql")
+    @Rollback
+    @Test
+    public void testPurgeDeletesExpiredTombstonesInBatches() {
+        TodoPurger todoPurger = createTodoPurger(2, 10, List.of(), Clock.systemUTC());
+
+        todoPurger.refreshBacklog();
+
+        assertThat(todoPurger.getBacklog()).isEqualTo(4);
+        assertThat(todoPurger.purge()).isEqualTo(3);
+        assertThat(todoPurger.getPurged()).isEqualTo(3);
+        assertThat(todoPurger.getBacklog()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM todos", Long.class))
+                .isEqualTo(2);
+    }
+
+    @Sql("classpath:sql/repositories/todo/script-03.sql")
+    @Rollback
+    @Test
+    public void testPurgeIsLimitedToBatchesPerRun() {
+        TodoPurger todoPurger = createTodoPurger(2, 1, List.of(), Clock.systemUTC());
+
+        assertThat(todoPurger.purge()).isEqualTo(2);
+        assertThat(todoPurger.purge()).isEqualTo(1);
+        assertThat(todoPurger.purge()).isZero();
+    }
+
+    @Test
+    public void testIsWithinWindow() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T03:00:00Z"), ZoneOffset.UTC);
+
+        assertThat(createTodoPurger(2, 1, List.of(), clock).isWithinWindow()).isTrue();
+        assertThat(createTodoPurger(2, 1, List.of(new PurgeWindow(LocalTime.of(22, 0), LocalTime.of(4, 0))), clock)
+                        .isWithinWindow())
+                .isTrue();
+        assertThat(createTodoPurger(2, 1, List.of(new PurgeWindow(LocalTime.of(4, 0), LocalTime.of(6, 0))), clock)
+                        .isWithinWindow())
+                .isFalse();
+    }
+
+    private TodoPurger createTodoPurger(int batchSize, int batchesPerRun, List<PurgeWindow> windows, Clock clock) {
+        return new TodoPurger(
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                Duration.ofMinutes(5),
+                batchSize,
+                batchesPerRun,
+                windows,
+                ZoneOffset.UTC,
+                clock);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.pmviva.todo.list.api.config.TestcontainersConfiguration;
+import com.github.pmviva.todo.list.api.model.TodoField;
+import com.github.pmviva.todo.list.api.model.TodoSortField;
+import com.github.pmviva.todo.list.api.service.TodoService;
+import com.github.pmviva.todo.list.api.sql.StatementCapture;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs every todo listing, count and lookup through the todo service, captures the SQL it generates and explains each
+ * captured statement. The statements are prepared with their placeholders and explained as generic plans, which hold
+ * whatever the bound values. Sequential scans and explicit sorts are disabled for the transaction, so any plan that
+ * still contains one has no index to fall back on. The caches are disabled so that every call reaches the database.
+ */
+@Import(TestcontainersConfiguration.class)
+@Transactional
+@SpringBootTest(
+        properties = {
+            "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+            "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+        })
+public class TodoQueryPlanTest {
+
+    private static final String PLAN_CHECK = "plan_check";
+
+    private static final List<Optional<Boolean>> COMPLETED_FILTERS =
+            List.of(Optional.empty(), Optional.of(true), Optional.of(false));
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void beforeEach() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("SET LOCAL enable_sort = off");
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+        jdbcTemplate.execute("ANALYZE todos");
+        jdbcTemplate.execute("ANALYZE todos_archive");
+        jdbcTemplate.execute("ANALYZE todo_ids");
+    }
+
+    @Sql({"classpath:sql/repositories/todo/script-01.sql", "classpath:sql/repositories/todo/script-04.sql"})
+    @Rollback
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queryShapes")
+    public void testQueryPlanUsesIndex(String name, int expectedStatements, QueryShape shape) throws IOException {
+        UUID todoId = jdbcTemplate.queryForObject("SELECT id FROM todos LIMIT 1", UUID.class);
+        UUID archivedTodoId = jdbcTemplate.queryForObject("SELECT id FROM todos_archive LIMIT 1", UUID.class);
+
+        List<String> statements;
+
+        try (StatementCapture capture = StatementCapture.open()) {
+            shape.run(todoService, todoId, archivedTodoId);
+
+            statements = capture.statements();
+
+            assertThat(statements).as(capture.describe()).hasSize(expectedStatements);
+        }
+
+        for (String statement : statements) {
+            List<String> plan = explain(statement);
+            String description = statement + "\n" + String.join("\n", plan);
+
+            assertThat(plan).as(description).noneMatch(line -> line.contains("Seq Scan"));
+            assertThat(plan).as(description).noneMatch(line -> line.matches(".*\\bSort\\s+\\(cost.*"));
+        }
+    }
+
+    /**
+     * Explains the generic plan of a captured statement. Its placeholders are numbered so that it can be prepared, and
+     * it is executed with nulls, which the generic plan does not depend on.
+     */
+    private List<String> explain(String statement) {
+        StringBuilder prepared = new StringBuilder();
+        int parameters = 0;
+
+        for (char character : statement.toCharArray()) {
+            if (character == '?') {
+                prepared.append('$').append(++parameters);
+            } else {
+                prepared.append(character);
+            }
+        }
+
+        jdbcTemplate.execute(String.format("PREPARE %s AS %s", PLAN_CHECK, prepared));
+
+        try {
+            String arguments = parameters == 0
+                    ? ""
+                    : String.format("(%s)", String.join(", ", Collections.nCopies(parameters, "NULL")));
+
+            return jdbcTemplate.queryForList(
+                    String.format("EXPLAIN EXECUTE %s%s", PLAN_CHECK, arguments), String.class);
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE " + PLAN_CHECK);
+        }
+    }
+
+    /**
+     * Every listing runs on the second page, so its count runs as well, for each whitelisted sort order and completion
+     * filter. Lookups by id run a single statement.
+     */
+    private static Stream<Arguments> queryShapes() {
+        List<Arguments> shapes = new ArrayList<>();
+        Set<TodoField> fields = EnumSet.allOf(TodoField.class);
+
+        for (TodoSortField field : TodoSortField.values()) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                Pageable pageable =
+                        TodoSortField.validate(PageRequest.of(1, 5, Sort.by(direction, field.property())));
+
+                for (Optional<Boolean> completed : COMPLETED_FILTERS) {
+                    String suffix = String.format(
+                            " by %s %s, completed %s",
+                            field.property(), direction, completed.map(String::valueOf).orElse("any"));
+
+                    shapes.add(shape("todos" + suffix, 2, (todoService, todoId, archivedTodoId) ->
+                            todoService.getTodos(pageable, completed)));
+                    shapes.add(shape("projected todos" + suffix, 2, (todoService, todoId, archivedTodoId) ->
+                            todoService.getTodos(pageable, completed, fields)));
+                    shapes.add(shape("streamed todos" + suffix, 2, (todoService, todoId, archivedTodoId) ->
+                            todoService.writeTodos(pageable, completed, OutputStream.nullOutputStream())));
+                    shapes.add(shape("archived todos" + suffix, 2, (todoService, todoId, archivedTodoId) ->
+                            todoService.getArchivedTodos(pageable, completed)));
+                }
+            }
+        }
+
+        shapes.add(shape("todo by id", 1, (todoService, todoId, archivedTodoId) -> todoService.getTodo(todoId)));
+        shapes.add(shape("projected todo by id", 1, (todoService, todoId, archivedTodoId) ->
+                todoService.getTodo(todoId, fields)));
+        shapes.add(shape("todos by ids", 1, (todoService, todoId, archivedTodoId) ->
+                todoService.getTodos(List.of(todoId, UUID.randomUUID()))));
+        shapes.add(shape("archived todo by id", 1, (todoService, todoId, archivedTodoId) ->
+                todoService.getArchivedTodo(archivedTodoId)));
+
+        return shapes.stream();
+    }
+
+    private static Arguments shape(String name, int expectedStatements, QueryShape shape) {
+        return Arguments.of(name, expectedStatements, shape);
+    }
+
+    @FunctionalInterface
+    interface QueryShape {
+
+        void run(TodoService todoService, UUID todoId, UUID archivedTodoId) throws IOException;
+    }
+}
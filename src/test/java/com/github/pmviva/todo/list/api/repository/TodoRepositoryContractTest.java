@@ -0,0 +1,201 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.model.TodoField;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * The behaviour every {@link TodoRepository} engine shares, run against the JPA repository on Postgres and against the
+ * in-memory repository of edge deployments. Each test starts from twelve pending and twelve completed todos.
+ */
+public abstract class TodoRepositoryContractTest {
+
+    protected static final int TODOS = 24;
+
+    protected abstract TodoRepository todoRepository();
+
+    /**
+     * Writes pending changes through to the engine and forgets the todos read so far, for engines that defer writes or
+     * keep read todos around.
+     */
+    protected void flush() {}
+
+    @BeforeEach
+    public void seedTodos() {
+        for (int index = 1; index <= TODOS; index++) {
+            todoRepository().save(new Todo(String.format("DESCRIPTION %02d", index), index % 2 == 0));
+        }
+
+        flush();
+    }
+
+    @Test
+    public void testFindByCompleted() {
+        Page<Todo> result;
+
+        result = todoRepository()
+                .findByCompleted(PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "createdAt", "id")), Boolean.FALSE);
+
+        assertThat(result).isNotEmpty();
+        assertThat(result.getNumberOfElements()).isEqualTo(5);
+        assertThat(result.getTotalElements()).isEqualTo(12);
+        assertThat(result.getTotalPages()).isEqualTo(3);
+        assertThat(result).allMatch(todo -> Boolean.FALSE.equals(todo.getCompleted()));
+
+        result = todoRepository()
+                .findByCompleted(PageRequest.of(1, 5, Sort.by(Sort.Direction.ASC, "updatedAt", "id")), Boolean.TRUE);
+
+        assertThat(result).isNotEmpty();
+        assertThat(result.getNumberOfElements()).isEqualTo(5);
+        assertThat(result.getTotalElements()).isEqualTo(12);
+        assertThat(result.getTotalPages()).isEqualTo(3);
+        assertThat(result).allMatch(todo -> Boolean.TRUE.equals(todo.getCompleted()));
+    }
+
+    @Test
+    public void testFindAllAppliesEverySortOrder() {
+        Sort sort = Sort.by(Sort.Order.asc("completed"), Sort.Order.desc("createdAt"), Sort.Order.asc("id"));
+
+        Page<Todo> result = todoRepository().findAll(PageRequest.of(0, TODOS, sort));
+
+        List<Todo> content = result.getContent();
+
+        assertThat(content).hasSize(TODOS);
+        assertThat(content.subList(0, 12)).allMatch(todo -> Boolean.FALSE.equals(todo.getCompleted()));
+        assertThat(content.subList(12, TODOS)).allMatch(todo -> Boolean.TRUE.equals(todo.getCompleted()));
+
+        for (int index = 1; index < TODOS; index++) {
+            Todo previous = content.get(index - 1);
+            Todo current = content.get(index);
+
+            if (previous.getCompleted().equals(current.getCompleted())) {
+                assertThat(current.getCreatedAt()).isBeforeOrEqualTo(previous.getCreatedAt());
+            }
+        }
+    }
+
+    @Test
+    public void testCompleteTodos() {
+        List<UUID> completed = todoRepository().completeTodos(5);
+        flush();
+
+        assertThat(completed).hasSize(5);
+        assertThat(todoRepository().findAllById(completed))
+                .hasSize(5)
+                .allMatch(todo -> Boolean.TRUE.equals(todo.getCompleted()));
+        assertThat(todoRepository().completeTodos(100)).hasSize(7);
+        assertThat(todoRepository().completeTodos(100)).isEmpty();
+    }
+
+    @Test
+    public void testDeleteTodosByCompleted() {
+        assertThat(todoRepository().deleteTodosByCompleted(true, 5)).hasSize(5);
+        assertThat(todoRepository().deleteTodosByCompleted(true, 100)).hasSize(7);
+        assertThat(todoRepository().deleteTodosByCompleted(true, 100)).isEmpty();
+        assertThat(todoRepository().findByCompleted(PageRequest.of(0, 5), Boolean.FALSE).getTotalElements())
+                .isEqualTo(12);
+    }
+
+    @Test
+    public void testDeleteTodosByCompletedHidesTodos() {
+        List<UUID> deleted = todoRepository().deleteTodosByCompleted(true, 100);
+        flush();
+
+        assertThat(deleted).hasSize(12);
+        assertThat(todoRepository().findByCompleted(PageRequest.of(0, 5), Boolean.TRUE)).isEmpty();
+        assertThat(todoRepository().findAllByIdIn(deleted.toArray(UUID[]::new))).isEmpty();
+        assertThat(todoRepository().count()).isEqualTo(12);
+    }
+
+    @Test
+    public void testFindAllProjected() {
+        Page<Map<String, Object>> result = todoRepository()
+                .findAllProjected(
+                        EnumSet.of(TodoField.ID, TodoField.COMPLETED),
+                        PageRequest.of(1, 5, Sort.by("description")),
+                        Optional.of(Boolean.TRUE));
+
+        assertThat(result.getNumberOfElements()).isEqualTo(5);
+        assertThat(result.getTotalElements()).isEqualTo(12);
+        assertThat(result).allMatch(row -> row.keySet().equals(Set.of("id", "completed")));
+        assertThat(result).allMatch(row -> Boolean.TRUE.equals(row.get("completed")));
+    }
+
+    @Test
+    public void testFindProjectedById() {
+        Todo todo = todoRepository().findAll(PageRequest.of(0, 1)).getContent().getFirst();
+
+        Optional<Map<String, Object>> result =
+                todoRepository().findProjectedById(todo.getId(), EnumSet.of(TodoField.DESCRIPTION));
+
+        assertThat(result).contains(Map.of("description", todo.getDescription()));
+    }
+
+    @Test
+    public void testDeleteByIdHidesTodo() {
+        Todo todo = todoRepository().save(new Todo("DESCRIPTION", false));
+        flush();
+
+        todoRepository().deleteById(todo.getId());
+        flush();
+
+        assertThat(todoRepository().findById(todo.getId())).isEmpty();
+        assertThat(todoRepository().existsById(todo.getId())).isFalse();
+        assertThat(todoRepository().count()).isEqualTo(TODOS);
+        assertThat(todoRepository().findAll(PageRequest.of(0, 100)).getTotalElements()).isEqualTo(TODOS);
+        assertThat(todoRepository().findByCompleted(PageRequest.of(0, 100), Boolean.FALSE))
+                .extracting(Todo::getId)
+                .doesNotContain(todo.getId());
+    }
+
+    @Test
+    public void testFindAllByIdIn() {
+        Todo first = todoRepository().save(new Todo("DESCRIPTION 01", false));
+        Todo second = todoRepository().save(new Todo("DESCRIPTION 02", true));
+        Todo deleted = todoRepository().save(new Todo("DESCRIPTION 03", false));
+        flush();
+
+        todoRepository().deleteById(deleted.getId());
+        flush();
+
+        List<Todo> result = todoRepository()
+                .findAllByIdIn(new UUID[] {first.getId(), second.getId(), deleted.getId(), UUID.randomUUID()});
+
+        assertThat(result).extracting(Todo::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+}
@@ -24,47 +24,112 @@
 package com.github.pmviva.todo.list.api.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.github.pmviva.todo.list.api.config.TestcontainersConfiguration;
 import com.github.pmviva.todo.list.api.model.Todo;
+import java.sql.Timestamp;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.Rollback;
-import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
 
 @Import(TestcontainersConfiguration.class)
 @Transactional
 @DataJpaTest
-public class TodoRepositoryTest {
+public class TodoRepositoryTest extends TodoRepositoryContractTest {
 
     @Autowired
     private TodoRepository todoRepository;
 
-    @Sql("classpath:sql/repositories/todo/script-01.sql")
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Override
+    protected TodoRepository todoRepository() {
+        return todoRepository;
+    }
+
+    /**
+     * Flushes the persistence context and forgets its todos and the cached ones, since the bulk statements update the
+     * table directly.
+     */
+    @Override
+    protected void flush() {
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManager().getEntityManagerFactory().getCache().evictAll();
+    }
+
     @Rollback
     @Test
-    public void testFindByCompleted() {
-        Page<Todo> result;
+    public void testDeleteByIdSoftDeletesTodo() {
+        Todo todo = todoRepository.save(new Todo("DESCRIPTION", false));
 
-        result = todoRepository.findByCompleted(PageRequest.of(1, 5), Boolean.FALSE);
+        todoRepository.deleteById(todo.getId());
+        entityManager.flush();
 
-        assertThat(result).isNotEmpty();
-        assertThat(result.getNumberOfElements()).isEqualTo(5);
-        assertThat(result.getTotalElements()).isEqualTo(12);
-        assertThat(result.getTotalPages()).isEqualTo(3);
-        assertThat(result).allMatch(todo -> Boolean.FALSE.equals(todo.getCompleted()));
+        assertThat(todoRepository.findAll(PageRequest.of(0, 100))).extracting(Todo::getId).doesNotContain(todo.getId());
+        assertThat(jdbcTemplate.queryForObject(
+                        "SELECT count(*) FROM todos WHERE id = ? AND deleted_at IS NOT NULL", Long.class, todo.getId()))
+                .isEqualTo(1);
+    }
 
-        result = todoRepository.findByCompleted(PageRequest.of(1, 5), Boolean.TRUE);
+    @Rollback
+    @Test
+    public void testDeleteTodosByCompletedSoftDeletesTodos() {
+        assertThat(todoRepository.deleteTodosByCompleted(true, 100)).hasSize(12);
+        assertThat(todoRepository.findByCompleted(PageRequest.of(0, 5), Boolean.TRUE)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM todos WHERE deleted_at IS NOT NULL", Long.class))
+                .isEqualTo(12);
+    }
+
+    @Rollback
+    @Test
+    public void testFindByIdAndUpdateResolveTodoThroughTodoIds() {
+        Todo todo = todoRepository.save(new Todo("DESCRIPTION", false));
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManager().getEntityManagerFactory().getCache().evictAll();
+
+        Todo found = todoRepository.findById(todo.getId()).orElseThrow();
+        found.setDescription("UPDATED");
+        found.setCompleted(true);
+        entityManager.flush();
+
+        assertThat(jdbcTemplate.queryForObject(
+                        "SELECT count(*) FROM todos WHERE id = ? AND description = 'UPDATED' AND completed = true",
+                        Long.class,
+                        todo.getId()))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                        "SELECT count(*) FROM todo_ids WHERE id = ? AND created_at = ?",
+                        Long.class,
+                        todo.getId(),
+                        Timestamp.from(found.getCreatedAt())))
+                .isEqualTo(1);
+    }
+
+    @Rollback
+    @Test
+    public void testInsertRejectsIdTakenInAnotherPartition() {
+        Todo todo = todoRepository.save(new Todo("DESCRIPTION", false));
+        entityManager.flush();
 
-        assertThat(result).isNotEmpty();
-        assertThat(result.getNumberOfElements()).isEqualTo(5);
-        assertThat(result.getTotalElements()).isEqualTo(12);
-        assertThat(result.getTotalPages()).isEqualTo(3);
-        assertThat(result).allMatch(todo -> Boolean.TRUE.equals(todo.getCompleted()));
+        assertThrows(
+                DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update(
+                        "INSERT INTO todos (id, description, completed, created_at) "
+                                + "VALUES (?, 'DUPLICATE', false, now() - interval '60 days')",
+                        todo.getId()));
     }
 }
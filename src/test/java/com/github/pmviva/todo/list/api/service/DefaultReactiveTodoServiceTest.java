@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.github.pmviva.todo.list.api.audit.TodoHistoryRecorder;
+import com.github.pmviva.todo.list.api.config.TestcontainersConfiguration;
+import com.github.pmviva.todo.list.api.event.TodoChangeType;
+import com.github.pmviva.todo.list.api.event.TodoChangedEvent;
+import com.github.pmviva.todo.list.api.event.TodoSnapshot;
+import com.github.pmviva.todo.list.api.exception.NotFoundException;
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.outbox.TodoOutboxRelay;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import reactor.test.StepVerifier;
+
+/**
+ * Runs the reactive stack against Postgres to check that its writes carry the same side effects as the servlet stack:
+ * an outbox message written with the change and a history entry once it is committed. The relay is replaced, so the
+ * outbox keeps the messages the tests look for.
+ */
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("reactive")
+@SpringBootTest
+public class DefaultReactiveTodoServiceTest {
+
+    private static final String OUTBOX_QUERY = "SELECT change_type FROM todo_outbox WHERE todo_id = ? ORDER BY id";
+
+    @Autowired
+    private ReactiveTodoService reactiveTodoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private TodoHistoryRecorder todoHistoryRecorder;
+
+    @MockitoBean
+    private TodoOutboxRelay todoOutboxRelay;
+
+    @BeforeEach
+    public void beforeEach() {
+        jdbcTemplate.update("DELETE FROM todo_outbox");
+        jdbcTemplate.update("DELETE FROM todos");
+    }
+
+    @Test
+    public void testCreateTodoWritesOutboxMessageAndHistory() {
+        Todo todo = reactiveTodoService.createTodo(new Todo("DESCRIPTION", false)).block();
+
+        assertThat(todo).isNotNull();
+        assertThat(outbox(todo.getId())).containsExactly(TodoChangeType.CREATED.name());
+
+        verify(todoHistoryRecorder)
+                .record(
+                        new TodoChangedEvent(
+                                TodoChangeType.CREATED, todo.getId(), null, new TodoSnapshot("DESCRIPTION", false)),
+                        TodoHistoryRecorder.SYSTEM_PRINCIPAL);
+    }
+
+    @Test
+    public void testUpdateTodoRecordsPreviousState() {
+        Todo todo = reactiveTodoService.createTodo(new Todo("DESCRIPTION", false)).block();
+
+        assertThat(todo).isNotNull();
+
+        StepVerifier.create(reactiveTodoService.updateTodo(todo.getId(), new Todo("UPDATED", true)))
+                .assertNext(updated -> assertThat(updated.getDescription()).isEqualTo("UPDATED"))
+                .verifyComplete();
+
+        assertThat(outbox(todo.getId()))
+                .containsExactly(TodoChangeType.CREATED.name(), TodoChangeType.UPDATED.name());
+
+        verify(todoHistoryRecorder)
+                .record(
+                        new TodoChangedEvent(
+                                TodoChangeType.UPDATED,
+                                todo.getId(),
+                                new TodoSnapshot("DESCRIPTION", false),
+                                new TodoSnapshot("UPDATED", true)),
+                        TodoHistoryRecorder.SYSTEM_PRINCIPAL);
+    }
+
+    @Test
+    public void testDeleteTodoRecordsDeletedState() {
+        Todo todo = reactiveTodoService.createTodo(new Todo("DESCRIPTION", true)).block();
+
+        assertThat(todo).isNotNull();
+
+        StepVerifier.create(reactiveTodoService.deleteTodo(todo.getId())).verifyComplete();
+
+        assertThat(outbox(todo.getId()))
+                .containsExactly(TodoChangeType.CREATED.name(), TodoChangeType.DELETED.name());
+
+        verify(todoHistoryRecorder)
+                .record(
+                        new TodoChangedEvent(
+                                TodoChangeType.DELETED, todo.getId(), new TodoSnapshot("DESCRIPTION", true), null),
+                        TodoHistoryRecorder.SYSTEM_PRINCIPAL);
+    }
+
+    @Test
+    public void testUpdateMissingTodoWritesNothing() {
+        UUID id = UUID.randomUUID();
+
+        StepVerifier.create(reactiveTodoService.updateTodo(id, new Todo("UPDATED", true)))
+                .verifyError(NotFoundException.class);
+
+        assertThat(outbox(id)).isEmpty();
+
+        verify(todoHistoryRecorder, never()).record(any(TodoChangedEvent.class), any());
+    }
+
+    private List<String> outbox(UUID todoId) {
+        return jdbcTemplate.queryForList(OUTBOX_QUERY, String.class, todoId);
+    }
+}
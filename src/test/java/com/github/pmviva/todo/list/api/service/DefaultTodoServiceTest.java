@@ -28,36 +28,95 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.github.pmviva.todo.list.api.config.BulkProperties;
+import com.github.pmviva.todo.list.api.dto.BatchGetResult;
+import com.github.pmviva.todo.list.api.dto.HistoryPage;
+import com.github.pmviva.todo.list.api.event.TodoChangeType;
+import com.github.pmviva.todo.list.api.event.TodoChangedEvent;
+import com.github.pmviva.todo.list.api.event.TodoSnapshot;
+import com.github.pmviva.todo.list.api.exception.BadRequestException;
 import com.github.pmviva.todo.list.api.exception.NotFoundException;
+import com.github.pmviva.todo.list.api.model.ArchivedTodo;
 import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.model.TodoHistory;
+import com.github.pmviva.todo.list.api.repository.ArchivedTodoRepository;
+import com.github.pmviva.todo.list.api.repository.TodoHistoryRepository;
 import com.github.pmviva.todo.list.api.repository.TodoRepository;
+import com.github.pmviva.todo.list.api.stream.TodoPageWriter;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
 public class DefaultTodoServiceTest {
 
-    @InjectMocks
+    private static final int CHUNK_SIZE = 10;
+
+    private static final int MAX_BATCH_GET_SIZE = 3;
+
     private DefaultTodoService todoService;
 
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private ArchivedTodoRepository archivedTodoRepository;
+
+    @Mock
+    private TodoHistoryRepository todoHistoryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionOperations transactionOperations;
+
+    @Mock
+    private TodoPageWriter todoPageWriter;
+
+    @Mock
+    private ObjectProvider<TodoPageWriter> todoPageWriterProvider;
+
+    @BeforeEach
+    public void beforeEach() {
+        doReturn(todoPageWriter).when(todoPageWriterProvider).getIfAvailable();
+
+        todoService = new DefaultTodoService(
+                todoRepository,
+                archivedTodoRepository,
+                todoHistoryRepository,
+                eventPublisher,
+                transactionOperations,
+                new BulkProperties(CHUNK_SIZE, MAX_BATCH_GET_SIZE),
+                todoPageWriterProvider);
+    }
+
     @Test
     public void testCreateTodo() {
         Todo todo = generateTodo();
@@ -70,6 +129,7 @@ public class DefaultTodoServiceTest {
         assertThat(result).isEqualTo(todo);
 
         verify(todoRepository, times(1)).save(any(Todo.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TodoChangedEvent.class));
     }
 
     @Test
@@ -140,6 +200,30 @@ public class DefaultTodoServiceTest {
 
         verify(todoRepository, times(1)).findById(any(UUID.class));
         verify(todoRepository, times(1)).save(any(Todo.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TodoChangedEvent.class));
+    }
+
+    @Test
+    public void testUpdateTodoAppliesChangesToExistingTodo() {
+        UUID id = UUID.randomUUID();
+        Todo existing = generateTodo();
+        existing.setId(id);
+
+        doReturn(Optional.of(existing)).when(todoRepository).findById(id);
+        doReturn(existing).when(todoRepository).save(existing);
+
+        Todo result = todoService.updateTodo(id, new Todo("DESCRIPTION UPDATED", true));
+
+        assertThat(result.getId()).isEqualTo(id);
+        assertThat(result.getDescription()).isEqualTo("DESCRIPTION UPDATED");
+        assertThat(result.getCompleted()).isTrue();
+
+        verify(eventPublisher, times(1))
+                .publishEvent(new TodoChangedEvent(
+                        TodoChangeType.UPDATED,
+                        id,
+                        new TodoSnapshot("DESCRIPTION", false),
+                        new TodoSnapshot("DESCRIPTION UPDATED", true)));
     }
 
     @Test
@@ -150,6 +234,7 @@ public class DefaultTodoServiceTest {
 
         verify(todoRepository, times(1)).findById(any(UUID.class));
         verify(todoRepository, times(0)).save(any(Todo.class));
+        verify(eventPublisher, times(0)).publishEvent(any(TodoChangedEvent.class));
     }
 
     @Test
@@ -161,6 +246,7 @@ public class DefaultTodoServiceTest {
 
         verify(todoRepository, times(1)).findById(any(UUID.class));
         verify(todoRepository, times(1)).deleteById(any(UUID.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TodoChangedEvent.class));
     }
 
     @Test
@@ -173,6 +259,209 @@ public class DefaultTodoServiceTest {
         verify(todoRepository, times(0)).deleteById(any(UUID.class));
     }
 
+    @Test
+    public void testGetArchivedTodos() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        doReturn(Page.<ArchivedTodo>empty(pageable)).when(archivedTodoRepository).findAll(pageable);
+
+        Page<ArchivedTodo> result = todoService.getArchivedTodos(pageable, Optional.empty());
+
+        assertThat(result).isEmpty();
+
+        verify(archivedTodoRepository, times(1)).findAll(pageable);
+        verify(todoRepository, times(0)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    public void testWriteTodos() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10);
+        OutputStream outputStream = OutputStream.nullOutputStream();
+
+        todoService.writeTodos(pageable, Optional.of(Boolean.TRUE), outputStream);
+
+        verify(todoPageWriter, times(1)).write(pageable, Optional.of(Boolean.TRUE), outputStream);
+        verify(todoRepository, times(0)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    public void testGetArchivedTodo() {
+        ArchivedTodo archivedTodo = mock(ArchivedTodo.class);
+        doReturn(Optional.of(archivedTodo)).when(archivedTodoRepository).findById(any(UUID.class));
+
+        ArchivedTodo result = todoService.getArchivedTodo(UUID.randomUUID());
+
+        assertThat(result).isSameAs(archivedTodo);
+
+        verify(archivedTodoRepository, times(1)).findById(any(UUID.class));
+        verify(todoRepository, times(0)).findById(any(UUID.class));
+    }
+
+    @Test
+    public void testGetArchivedTodoThrowsNotFoundException() {
+        doReturn(Optional.empty()).when(archivedTodoRepository).findById(any(UUID.class));
+
+        assertThrows(NotFoundException.class, () -> todoService.getArchivedTodo(UUID.randomUUID()));
+
+        verify(archivedTodoRepository, times(1)).findById(any(UUID.class));
+    }
+
+    @Test
+    public void testGetTodosByIds() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        Todo firstTodo = generateTodoWithId(first);
+        Todo secondTodo = generateTodoWithId(second);
+
+        doReturn(List.of(secondTodo, firstTodo)).when(todoRepository).findAllByIdIn(any(UUID[].class));
+
+        BatchGetResult result = todoService.getTodos(List.of(first, missing, second, first));
+
+        assertThat(result.todos()).containsExactly(firstTodo, secondTodo);
+        assertThat(result.missing()).containsExactly(missing);
+
+        verify(todoRepository, times(1)).findAllByIdIn(new UUID[] {first, missing, second});
+    }
+
+    @Test
+    public void testGetTodosByIdsThrowsBadRequestException() {
+        List<UUID> tooMany = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        assertThrows(BadRequestException.class, () -> todoService.getTodos(List.<UUID>of()));
+        assertThrows(BadRequestException.class, () -> todoService.getTodos(tooMany));
+
+        verify(todoRepository, times(0)).findAllByIdIn(any(UUID[].class));
+    }
+
+    @Test
+    public void testGetTodoHistoryWithNextPage() {
+        UUID id = UUID.randomUUID();
+        List<TodoHistory> entries = List.of(generateTodoHistory(4L), generateTodoHistory(7L), generateTodoHistory(9L));
+
+        doReturn(entries).when(todoHistoryRepository).findByTodoIdAndIdGreaterThanOrderByIdAsc(id, 0L, Limit.of(3));
+
+        HistoryPage result = todoService.getTodoHistory(id, 0L, 2);
+
+        assertThat(result.content()).extracting(TodoHistory::getId).containsExactly(4L, 7L);
+        assertThat(result.next()).isEqualTo(7L);
+    }
+
+    @Test
+    public void testGetTodoHistoryLastPage() {
+        UUID id = UUID.randomUUID();
+        List<TodoHistory> entries = List.of(generateTodoHistory(9L));
+
+        doReturn(entries).when(todoHistoryRepository).findByTodoIdAndIdGreaterThanOrderByIdAsc(id, 7L, Limit.of(3));
+
+        HistoryPage result = todoService.getTodoHistory(id, 7L, 2);
+
+        assertThat(result.content()).extracting(TodoHistory::getId).containsExactly(9L);
+        assertThat(result.next()).isNull();
+    }
+
+    @Test
+    public void testGetTodoHistoryThrowsBadRequestException() {
+        UUID id = UUID.randomUUID();
+
+        assertThrows(BadRequestException.class, () -> todoService.getTodoHistory(id, 0L, 0));
+        assertThrows(BadRequestException.class, () -> todoService.getTodoHistory(id, 0L, 101));
+    }
+
+    @Test
+    public void testCompleteTodos() {
+        mockTransactionOperations();
+
+        List<UUID> first = generateIds(CHUNK_SIZE);
+        List<UUID> second = generateIds(CHUNK_SIZE);
+        List<UUID> third = generateIds(3);
+
+        doReturn(first, second, third).when(todoRepository).completeTodos(CHUNK_SIZE);
+
+        long result = todoService.completeTodos();
+
+        assertThat(result).isEqualTo(23);
+
+        verify(todoRepository, times(3)).completeTodos(CHUNK_SIZE);
+        verify(transactionOperations, times(3)).execute(any());
+        verify(eventPublisher, times(1)).publishEvent(TodoChangedEvent.bulk(TodoChangeType.BULK_COMPLETED, first));
+        verify(eventPublisher, times(1)).publishEvent(TodoChangedEvent.bulk(TodoChangeType.BULK_COMPLETED, second));
+        verify(eventPublisher, times(1)).publishEvent(TodoChangedEvent.bulk(TodoChangeType.BULK_COMPLETED, third));
+    }
+
+    @Test
+    public void testCompleteTodosPublishesCommittedChunksWhenLaterChunkFails() {
+        mockTransactionOperations();
+
+        List<UUID> first = generateIds(CHUNK_SIZE);
+
+        doReturn(first)
+                .doThrow(new QueryTimeoutException("Query timed out"))
+                .when(todoRepository)
+                .completeTodos(CHUNK_SIZE);
+
+        assertThrows(QueryTimeoutException.class, () -> todoService.completeTodos());
+
+        verify(eventPublisher, times(1)).publishEvent(any(TodoChangedEvent.class));
+        verify(eventPublisher, times(1)).publishEvent(TodoChangedEvent.bulk(TodoChangeType.BULK_COMPLETED, first));
+    }
+
+    @Test
+    public void testCompleteTodosWithoutPendingTodos() {
+        mockTransactionOperations();
+
+        doReturn(List.of()).when(todoRepository).completeTodos(CHUNK_SIZE);
+
+        long result = todoService.completeTodos();
+
+        assertThat(result).isZero();
+
+        verify(todoRepository, times(1)).completeTodos(CHUNK_SIZE);
+        verify(eventPublisher, times(0)).publishEvent(any(TodoChangedEvent.class));
+    }
+
+    @Test
+    public void testDeleteTodos() {
+        mockTransactionOperations();
+
+        List<UUID> deleted = generateIds(CHUNK_SIZE);
+
+        doReturn(deleted, List.of()).when(todoRepository).deleteTodosByCompleted(eq(true), anyInt());
+
+        long result = todoService.deleteTodos(true);
+
+        assertThat(result).isEqualTo(CHUNK_SIZE);
+
+        verify(todoRepository, times(2)).deleteTodosByCompleted(true, CHUNK_SIZE);
+        verify(eventPublisher, times(1)).publishEvent(TodoChangedEvent.bulk(TodoChangeType.BULK_DELETED, deleted));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockTransactionOperations() {
+        doAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null))
+                .when(transactionOperations)
+                .execute(any());
+    }
+
+    private List<UUID> generateIds(int count) {
+        return Stream.generate(UUID::randomUUID).limit(count).toList();
+    }
+
+    private TodoHistory generateTodoHistory(long id) {
+        TodoHistory todoHistory = mock(TodoHistory.class);
+
+        doReturn(id).when(todoHistory).getId();
+
+        return todoHistory;
+    }
+
+    private Todo generateTodoWithId(UUID id) {
+        Todo todo = generateTodo();
+        todo.setId(id);
+
+        return todo;
+    }
+
     private Todo generateTodo() {
         return new Todo("DESCRIPTION", false);
     }
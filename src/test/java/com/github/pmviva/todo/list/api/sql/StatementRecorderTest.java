@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StatementRecorderTest {
+
+    private static final String SELECT_QUERY = "SELECT * FROM todos WHERE id = ?";
+
+    private static final String UPDATE_QUERY = "UPDATE todos SET completed = ? WHERE id = ?";
+
+    private StatementRecorder statementRecorder;
+
+    @BeforeEach
+    public void beforeEach() {
+        statementRecorder = new StatementRecorder(Duration.ofSeconds(1), true, false);
+    }
+
+    @Test
+    public void testCaptureCountsStatements() {
+        try (StatementCapture capture = StatementCapture.open()) {
+            run(SELECT_QUERY, 3);
+            run(UPDATE_QUERY, 4);
+
+            assertThat(capture.count()).isEqualTo(2);
+            assertThat(capture.elapsed()).isEqualTo(Duration.ofMillis(7));
+            assertThat(capture.statements()).containsExactly(SELECT_QUERY, UPDATE_QUERY);
+        }
+
+        assertThat(statementRecorder.getStatements()).isEqualTo(2);
+        assertThat(statementRecorder.getSlowStatements()).isZero();
+    }
+
+    @Test
+    public void testNestedCapturesCountStatements() {
+        try (StatementCapture outer = StatementCapture.open()) {
+            run(SELECT_QUERY, 1);
+
+            try (StatementCapture inner = StatementCapture.open()) {
+                run(UPDATE_QUERY, 1);
+
+                assertThat(inner.count()).isEqualTo(1);
+            }
+
+            run(SELECT_QUERY, 1);
+
+            assertThat(outer.count()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    public void testClosedCaptureStopsCounting() {
+        StatementCapture outer = StatementCapture.open();
+        StatementCapture inner = StatementCapture.open();
+
+        outer.close();
+        run(SELECT_QUERY, 1);
+        inner.close();
+        run(SELECT_QUERY, 1);
+
+        assertThat(outer.count()).isZero();
+        assertThat(inner.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testStatementsOutsideCaptureAreOnlyCounted() {
+        run(SELECT_QUERY, 1);
+
+        try (StatementCapture capture = StatementCapture.open()) {
+            assertThat(capture.count()).isZero();
+        }
+
+        assertThat(statementRecorder.getStatements()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCaptureKeepsFirstStatements() {
+        try (StatementCapture capture = StatementCapture.open()) {
+            for (int i = 0; i < StatementCapture.MAX_RECORDED_STATEMENTS + 5; i++) {
+                run(SELECT_QUERY, 0);
+            }
+
+            assertThat(capture.count()).isEqualTo(StatementCapture.MAX_RECORDED_STATEMENTS + 5);
+            assertThat(capture.statements()).hasSize(StatementCapture.MAX_RECORDED_STATEMENTS);
+            assertThat(capture.describe()).endsWith(String.format("... and 5 more%n"));
+        }
+    }
+
+    @Test
+    public void testSlowStatementsAreCounted() {
+        run(SELECT_QUERY, 1000);
+        run(SELECT_QUERY, 999);
+
+        assertThat(statementRecorder.getSlowStatements()).isEqualTo(1);
+    }
+
+    private void run(String query, long elapsedMillis) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setElapsedTime(elapsedMillis);
+        execInfo.setSuccess(true);
+
+        List<QueryInfo> queryInfoList = List.of(new QueryInfo(query));
+
+        statementRecorder.beforeQuery(execInfo, queryInfoList);
+        statementRecorder.afterQuery(execInfo, queryInfoList);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class StatementTimeoutListenerTest {
+
+    private static final String QUERY_CANCELED_STATE = "57014";
+
+    private StatementTimeoutListener listener;
+
+    private Statement statement;
+
+    private ExecutionInfo execInfo;
+
+    @BeforeEach
+    public void beforeEach() {
+        listener = new StatementTimeoutListener();
+        statement = mock(Statement.class);
+        execInfo = new ExecutionInfo();
+        execInfo.setStatement(statement);
+        execInfo.setSuccess(true);
+    }
+
+    @Test
+    public void testBeforeQuerySetsRemainingTimeout() throws SQLException {
+        try (StatementTimeoutScope ignored = open(StatementTimeoutClass.LIST, 10)) {
+            listener.beforeQuery(execInfo, List.of());
+        }
+
+        verify(statement).setQueryTimeout(10);
+    }
+
+    @Test
+    public void testBeforeQueryKeepsShorterTimeout() throws SQLException {
+        when(statement.getQueryTimeout()).thenReturn(3);
+
+        try (StatementTimeoutScope ignored = open(StatementTimeoutClass.LIST, 10)) {
+            listener.beforeQuery(execInfo, List.of());
+        }
+
+        verify(statement, never()).setQueryTimeout(10);
+    }
+
+    @Test
+    public void testBeforeQueryWithoutScopeLeavesTimeout() throws SQLException {
+        listener.beforeQuery(execInfo, List.of());
+
+        verify(statement, never()).setQueryTimeout(10);
+    }
+
+    @Test
+    public void testAfterQueryCountsTimeout() {
+        try (StatementTimeoutScope ignored = open(StatementTimeoutClass.BULK, 1)) {
+            listener.beforeQuery(execInfo, List.of());
+            fail(new SQLException("canceling statement due to statement timeout", QUERY_CANCELED_STATE));
+            listener.afterQuery(execInfo, List.of());
+        }
+
+        assertThat(listener.getTimeouts(StatementTimeoutClass.BULK)).isEqualTo(1);
+        assertThat(listener.getTimeouts(StatementTimeoutClass.LIST)).isZero();
+        assertThat(listener.getCancellations()).isZero();
+    }
+
+    @Test
+    public void testCancelCancelsStatementInFlight() throws SQLException {
+        try (StatementTimeoutScope scope = open(StatementTimeoutClass.LIST, 10)) {
+            listener.beforeQuery(execInfo, List.of());
+
+            assertThat(scope.cancel()).isTrue();
+
+            fail(new SQLException("canceling statement due to user request", QUERY_CANCELED_STATE));
+            listener.afterQuery(execInfo, List.of());
+
+            assertThat(scope.cancel()).isFalse();
+        }
+
+        verify(statement).cancel();
+        assertThat(listener.getCancellations()).isEqualTo(1);
+        assertThat(listener.getTimeouts(StatementTimeoutClass.LIST)).isZero();
+    }
+
+    @Test
+    public void testAfterQueryIgnoresOtherFailures() {
+        try (StatementTimeoutScope ignored = open(StatementTimeoutClass.READ, 2)) {
+            listener.beforeQuery(execInfo, List.of());
+            fail(new SQLException("duplicate key value violates unique constraint", "23505"));
+            listener.afterQuery(execInfo, List.of());
+        }
+
+        assertThat(listener.getTimeouts(StatementTimeoutClass.READ)).isZero();
+        assertThat(listener.getCancellations()).isZero();
+    }
+
+    @Test
+    public void testTimeoutClassOf() {
+        assertThat(StatementTimeoutClass.of(new MockHttpServletRequest("GET", "/api/v1/todos")))
+                .isEqualTo(StatementTimeoutClass.LIST);
+        assertThat(StatementTimeoutClass.of(
+                        new MockHttpServletRequest("GET", "/api/v1/todos/033feb09-fd25-49ff-b1af-d65ce5740eea")))
+                .isEqualTo(StatementTimeoutClass.READ);
+        assertThat(StatementTimeoutClass.of(new MockHttpServletRequest("POST", "/api/v1/todos")))
+                .isEqualTo(StatementTimeoutClass.WRITE);
+        assertThat(StatementTimeoutClass.of(new MockHttpServletRequest("POST", "/api/v1/todos:complete")))
+                .isEqualTo(StatementTimeoutClass.BULK);
+    }
+
+    private static StatementTimeoutScope open(StatementTimeoutClass timeoutClass, long seconds) {
+        return StatementTimeoutScope.open(timeoutClass, Duration.ofSeconds(seconds));
+    }
+
+    private void fail(SQLException exception) {
+        execInfo.setSuccess(false);
+        execInfo.setThrowable(exception);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.pmviva.todo.list.api.config.TestcontainersConfiguration;
+import com.github.pmviva.todo.list.api.json.PagedModelJsonComponent;
+import com.github.pmviva.todo.list.api.json.TodoJsonComponent;
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.model.TodoSortField;
+import com.github.pmviva.todo.list.api.repository.TodoRepository;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+@Import({TestcontainersConfiguration.class, TodoJsonComponent.class, PagedModelJsonComponent.class})
+@Transactional
+@AutoConfigureJson
+@DataJpaTest
+public class TodoPageWriterTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private TodoPageWriter todoPageWriter;
+
+    @BeforeEach
+    public void beforeEach() {
+        todoPageWriter = new TodoPageWriter(jdbcTemplate, objectMapper.getFactory(), 1);
+    }
+
+    @Sql("classpath:sql/streams/todo/script-01.sql")
+    @Rollback
+    @Test
+    public void testWriteMatchesPagedModel() throws IOException {
+        assertSameJson(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt")), Optional.empty());
+        assertSameJson(PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "createdAt")), Optional.empty());
+        assertSameJson(PageRequest.of(2, 5, Sort.by(Sort.Direction.ASC, "updatedAt")), Optional.empty());
+        assertSameJson(PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "createdAt")), Optional.empty());
+        assertSameJson(PageRequest.of(4, 5, Sort.by(Sort.Direction.ASC, "createdAt")), Optional.empty());
+        assertSameJson(PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "createdAt")), Optional.of(Boolean.TRUE));
+        assertSameJson(PageRequest.of(1, 4, Sort.by(Sort.Direction.DESC, "updatedAt")), Optional.of(Boolean.FALSE));
+    }
+
+    @Test
+    public void testStreamsOnlyLargePages() {
+        TodoPageWriter thresholdTodoPageWriter = new TodoPageWriter(jdbcTemplate, objectMapper.getFactory(), 50);
+
+        assertThat(thresholdTodoPageWriter.streams(PageRequest.of(0, 20))).isFalse();
+        assertThat(thresholdTodoPageWriter.streams(PageRequest.of(0, 50))).isTrue();
+        assertThat(thresholdTodoPageWriter.streams(Pageable.unpaged())).isTrue();
+    }
+
+    @Test
+    public void testWriteLeavesPageUnterminatedWhenQueryFails() throws SQLException {
+        JdbcTemplate failingJdbcTemplate = mock(JdbcTemplate.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        when(resultSet.getString(1)).thenReturn(UUID.randomUUID().toString());
+        when(resultSet.getString(2)).thenReturn("DESCRIPTION");
+        when(resultSet.getLong(anyInt())).thenReturn(System.currentTimeMillis());
+
+        doAnswer(invocation -> {
+                    RowCallbackHandler handler = invocation.getArgument(1);
+
+                    for (int row = 0; row < 1000; row++) {
+                        handler.processRow(resultSet);
+                    }
+
+                    throw new QueryTimeoutException("Cancelled");
+                })
+                .when(failingJdbcTemplate)
+                .query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        TodoPageWriter failingTodoPageWriter = new TodoPageWriter(failingJdbcTemplate, objectMapper.getFactory(), 1);
+
+        assertThrows(
+                QueryTimeoutException.class,
+                () -> failingTodoPageWriter.write(
+                        TodoSortField.validate(PageRequest.of(0, 1000)), Optional.empty(), outputStream));
+
+        String written = outputStream.toString(StandardCharsets.UTF_8);
+
+        assertThat(written).startsWith("{\"content\":[{").doesNotContain("\"page\"");
+        assertThrows(JsonProcessingException.class, () -> objectMapper.readTree(written));
+    }
+
+    private void assertSameJson(Pageable pageable, Optional<Boolean> completed) throws IOException {
+        Pageable validated = TodoSortField.validate(pageable);
+        Page<Todo> page = completed.isPresent()
+                ? todoRepository.findByCompleted(validated, completed.get())
+                : todoRepository.findAll(validated);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        todoPageWriter.write(validated, completed, outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8))
+                .isEqualTo(objectMapper.writeValueAsString(new PagedModel<>(page)));
+    }
+}
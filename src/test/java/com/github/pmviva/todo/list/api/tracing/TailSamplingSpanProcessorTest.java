@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class TailSamplingSpanProcessorTest {
+
+    private static final Duration SLOW_THRESHOLD = Duration.ofMillis(500);
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+
+    private SdkTracerProvider tracerProvider;
+
+    private TailSamplingSpanProcessor processor;
+
+    @AfterEach
+    public void afterEach() {
+        tracerProvider.close();
+    }
+
+    @Test
+    public void testKeepSlowTrace() {
+        Tracer tracer = createTracer(0);
+
+        Span root = startSpan(tracer, "GET /api/v1/todos", null, 0);
+        startSpan(tracer, "query", root, 10).end(20, TimeUnit.MILLISECONDS);
+        startSpan(tracer, "query", root, 30).end(40, TimeUnit.MILLISECONDS);
+
+        assertThat(exporter.getFinishedSpanItems()).isEmpty();
+        assertThat(processor.getPending()).isEqualTo(1);
+
+        root.end(SLOW_THRESHOLD.toMillis(), TimeUnit.MILLISECONDS);
+
+        assertThat(exporter.getFinishedSpanItems())
+                .extracting(SpanData::getName)
+                .containsExactly("query", "query", "GET /api/v1/todos");
+        assertThat(processor.getKept()).isEqualTo(1);
+        assertThat(processor.getPending()).isZero();
+    }
+
+    @Test
+    public void testDropFastTrace() {
+        Tracer tracer = createTracer(0);
+
+        Span root = startSpan(tracer, "GET /api/v1/todos", null, 0);
+        startSpan(tracer, "query", root, 10).end(20, TimeUnit.MILLISECONDS);
+        root.end(SLOW_THRESHOLD.toMillis() - 1, TimeUnit.MILLISECONDS);
+
+        assertThat(exporter.getFinishedSpanItems()).isEmpty();
+        assertThat(processor.getDropped()).isEqualTo(1);
+        assertThat(processor.getPending()).isZero();
+    }
+
+    @Test
+    public void testKeepFailedTrace() {
+        Tracer tracer = createTracer(0);
+
+        Span root = startSpan(tracer, "GET /api/v1/todos", null, 0);
+        root.setStatus(StatusCode.ERROR);
+        root.end(10, TimeUnit.MILLISECONDS);
+
+        assertThat(exporter.getFinishedSpanItems()).hasSize(1);
+    }
+
+    @Test
+    public void testKeepSampledTrace() {
+        Tracer tracer = createTracer(1);
+
+        startSpan(tracer, "GET /api/v1/todos", null, 0).end(10, TimeUnit.MILLISECONDS);
+
+        assertThat(exporter.getFinishedSpanItems()).hasSize(1);
+    }
+
+    @Test
+    public void testLateSpanFollowsDecision() {
+        Tracer tracer = createTracer(0);
+
+        Span slowRoot = startSpan(tracer, "slow", null, 0);
+        Span slowChild = startSpan(tracer, "slow child", slowRoot, 10);
+        slowRoot.end(SLOW_THRESHOLD.toMillis(), TimeUnit.MILLISECONDS);
+        slowChild.end(SLOW_THRESHOLD.toMillis() + 10, TimeUnit.MILLISECONDS);
+
+        Span fastRoot = startSpan(tracer, "fast", null, 0);
+        Span fastChild = startSpan(tracer, "fast child", fastRoot, 10);
+        fastRoot.end(20, TimeUnit.MILLISECONDS);
+        fastChild.end(30, TimeUnit.MILLISECONDS);
+
+        assertThat(exporter.getFinishedSpanItems())
+                .extracting(SpanData::getName)
+                .containsExactly("slow", "slow child");
+        assertThat(processor.getPending()).isZero();
+    }
+
+    private Tracer createTracer(double sampleProbability) {
+        processor = new TailSamplingSpanProcessor(
+                SimpleSpanProcessor.create(exporter), SLOW_THRESHOLD, sampleProbability, 100, Duration.ofMinutes(1));
+        tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+
+        return tracerProvider.get(TailSamplingSpanProcessorTest.class.getName());
+    }
+
+    private static Span startSpan(Tracer tracer, String name, Span parent, long startMillis) {
+        return tracer.spanBuilder(name)
+                .setParent(parent != null ? Context.root().with(parent) : Context.root())
+                .setStartTimestamp(startMillis, TimeUnit.MILLISECONDS)
+                .startSpan();
+    }
+}
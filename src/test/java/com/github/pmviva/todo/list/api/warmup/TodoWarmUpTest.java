@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.pmviva.todo.list.api.exception.NotFoundException;
+import com.github.pmviva.todo.list.api.model.Todo;
+import com.github.pmviva.todo.list.api.pool.AdaptivePoolSizer;
+import com.github.pmviva.todo.list.api.service.TodoService;
+import com.nimbusds.jwt.SignedJWT;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoWarmUpTest {
+
+    private static final int ITERATIONS = 3;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Mock
+    private TodoService todoService;
+
+    @Mock
+    private HikariDataSource dataSource;
+
+    @Mock
+    private AdaptivePoolSizer poolSizer;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    public void testWarmUpExercisesReadPaths() throws Exception {
+        List<String> tokens = new ArrayList<>();
+        Consumer<String> decoder = token -> {
+            tokens.add(token);
+            throw new BadJwtException("No matching key");
+        };
+
+        doReturn(new PageImpl<>(List.of(new Todo("Warm up", false))))
+                .when(todoService)
+                .getTodos(any(Pageable.class), eq(Optional.empty()));
+        doReturn(new PageImpl<>(List.of(Map.of("description", "Warm up"))))
+                .when(todoService)
+                .getTodos(any(Pageable.class), eq(Optional.of(false)), anySet());
+        doThrow(new NotFoundException("Todo not found")).when(todoService).getTodo(any(UUID.class));
+
+        TodoWarmUp todoWarmUp = createWarmUp(Optional.of(decoder));
+        todoWarmUp.run(new DefaultApplicationArguments());
+
+        verify(todoService, times(ITERATIONS)).getTodos(any(Pageable.class), eq(Optional.empty()));
+        verify(todoService, times(ITERATIONS)).getTodos(any(Pageable.class), eq(Optional.of(false)), anySet());
+        verify(todoService, times(ITERATIONS)).getTodo(any(UUID.class));
+
+        assertThat(tokens).hasSize(1);
+        assertThat(SignedJWT.parse(tokens.getFirst()).getHeader().getKeyID()).isEqualTo("todo-warm-up");
+        assertThat(todoWarmUp.getIterations()).isEqualTo(ITERATIONS);
+        assertThat(todoWarmUp.getFailures()).isZero();
+        assertThat(todoWarmUp.getFirstIteration()).isPositive();
+        assertThat(todoWarmUp.getDuration()).isPositive();
+    }
+
+    @Test
+    public void testWarmUpStopsOnFailure() {
+        doThrow(new IllegalStateException("Database unavailable"))
+                .when(todoService)
+                .getTodos(any(Pageable.class), eq(Optional.empty()));
+
+        TodoWarmUp todoWarmUp = createWarmUp(Optional.empty());
+        todoWarmUp.run(new DefaultApplicationArguments());
+
+        verify(todoService, times(1)).getTodos(any(Pageable.class), eq(Optional.empty()));
+
+        assertThat(todoWarmUp.getIterations()).isZero();
+        assertThat(todoWarmUp.getFailures()).isEqualTo(1);
+    }
+
+    @Test
+    public void testWarmUpReservesBudgetBeforeOpeningMinimumIdleConnections() throws Exception {
+        doReturn(2).when(dataSource).getMinimumIdle();
+        doReturn(10).when(poolSizer).reserve();
+        doReturn(connection).when(dataSource).getConnection();
+        doReturn(new PageImpl<>(List.of())).when(todoService).getTodos(any(Pageable.class), eq(Optional.empty()));
+        doReturn(new PageImpl<>(List.of()))
+                .when(todoService)
+                .getTodos(any(Pageable.class), eq(Optional.of(false)), anySet());
+
+        TodoWarmUp todoWarmUp = createWarmUp(Optional.of(dataSource), Optional.of(poolSizer), Optional.empty());
+        todoWarmUp.run(new DefaultApplicationArguments());
+
+        InOrder inOrder = inOrder(poolSizer, dataSource);
+        inOrder.verify(poolSizer).reserve();
+        inOrder.verify(dataSource, times(2)).getConnection();
+        verify(connection, times(2)).close();
+
+        assertThat(todoWarmUp.getConnections()).isEqualTo(2);
+    }
+
+    @Test
+    public void testWarmUpOpensNoMoreConnectionsThanGranted() throws Exception {
+        doReturn(4).when(dataSource).getMinimumIdle();
+        doReturn(3).when(poolSizer).reserve();
+        doReturn(connection).when(dataSource).getConnection();
+        doReturn(new PageImpl<>(List.of())).when(todoService).getTodos(any(Pageable.class), eq(Optional.empty()));
+        doReturn(new PageImpl<>(List.of()))
+                .when(todoService)
+                .getTodos(any(Pageable.class), eq(Optional.of(false)), anySet());
+
+        TodoWarmUp todoWarmUp = createWarmUp(Optional.of(dataSource), Optional.of(poolSizer), Optional.empty());
+        todoWarmUp.run(new DefaultApplicationArguments());
+
+        verify(dataSource, times(3)).getConnection();
+
+        assertThat(todoWarmUp.getConnections()).isEqualTo(3);
+    }
+
+    private TodoWarmUp createWarmUp(Optional<Consumer<String>> decoder) {
+        return createWarmUp(Optional.empty(), Optional.empty(), decoder);
+    }
+
+    private TodoWarmUp createWarmUp(
+            Optional<HikariDataSource> dataSource,
+            Optional<AdaptivePoolSizer> poolSizer,
+            Optional<Consumer<String>> decoder) {
+        return new TodoWarmUp(
+                todoService,
+                objectMapper,
+                dataSource,
+                poolSizer,
+                decoder,
+                Optional.empty(),
+                ITERATIONS,
+                Duration.ofMinutes(1),
+                20);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.writebehind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class BoundedQueueTest {
+
+    @Test
+    public void testTryReserveRespectsCapacity() {
+        BoundedQueue<String> queue = new BoundedQueue<>(2);
+
+        assertThat(queue.tryReserve()).isTrue();
+        assertThat(queue.tryReserve()).isTrue();
+        assertThat(queue.tryReserve()).isFalse();
+
+        queue.cancelReservation();
+
+        assertThat(queue.tryReserve()).isTrue();
+    }
+
+    @Test
+    public void testDrainToReleasesCapacity() {
+        BoundedQueue<String> queue = new BoundedQueue<>(2);
+        List<String> drained = new ArrayList<>();
+
+        queue.tryReserve();
+        queue.put("A");
+        queue.tryReserve();
+        queue.put("B");
+
+        assertThat(queue.drainTo(drained, 1)).isEqualTo(1);
+        assertThat(drained).containsExactly("A");
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.tryReserve()).isTrue();
+    }
+
+    @Test
+    public void testForcePutExceedsCapacity() {
+        BoundedQueue<String> queue = new BoundedQueue<>(1);
+
+        queue.forcePut("A");
+        queue.forcePut("B");
+
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.tryReserve()).isFalse();
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.writebehind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.github.pmviva.todo.list.api.event.TodoChangeType;
+import com.github.pmviva.todo.list.api.event.TodoChangedEvent;
+import com.github.pmviva.todo.list.api.event.TodoSnapshot;
+import com.github.pmviva.todo.list.api.exception.ServiceUnavailableException;
+import com.github.pmviva.todo.list.api.model.Todo;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoWriteBehindTest {
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TodoWriteBehind todoWriteBehind;
+
+    @AfterEach
+    public void afterEach() {
+        if (todoWriteBehind != null && todoWriteBehind.isRunning()) {
+            todoWriteBehind.stop();
+        }
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testEnqueueWritesTodo() {
+        doAnswer(invocation -> List.of(invocation.getArgument(2, UUID.class)))
+                .when(jdbcTemplate)
+                .queryForList(anyString(), eq(UUID.class), any(Object[].class));
+
+        todoWriteBehind = createTodoWriteBehind(10);
+        todoWriteBehind.start();
+
+        Todo result = todoWriteBehind.enqueue(new Todo("DESCRIPTION", false));
+
+        assertThat(result.getId()).isNotNull();
+        assertThat(result.getCreatedAt()).isNotNull();
+
+        verify(jdbcTemplate, timeout(5000))
+                .queryForList(startsWith("INSERT INTO todos"), eq(UUID.class), any(Object[].class));
+        verify(eventPublisher, timeout(5000))
+                .publishEvent(new TodoChangedEvent(
+                        TodoChangeType.CREATED, result.getId(), null, new TodoSnapshot("DESCRIPTION", false)));
+
+        todoWriteBehind.stop();
+
+        assertThat(todoWriteBehind.getState(result.getId())).isEmpty();
+        assertThat(todoWriteBehind.getWritten()).isEqualTo(1);
+    }
+
+    @Test
+    public void testWrittenTodoCarriesEnqueuingPrincipal() {
+        doAnswer(invocation -> List.of(invocation.getArgument(2, UUID.class)))
+                .when(jdbcTemplate)
+                .queryForList(anyString(), eq(UUID.class), any(Object[].class));
+
+        todoWriteBehind = createTodoWriteBehind(10);
+        todoWriteBehind.start();
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", null));
+
+        Todo result = todoWriteBehind.enqueue(new Todo("DESCRIPTION", false));
+
+        verify(eventPublisher, timeout(5000))
+                .publishEvent(new TodoChangedEvent(
+                                TodoChangeType.CREATED, result.getId(), null, new TodoSnapshot("DESCRIPTION", false))
+                        .withPrincipal("user"));
+    }
+
+    @Test
+    public void testFlushPublishesOnlyInsertedTodos() {
+        doReturn(List.of())
+                .when(jdbcTemplate)
+                .queryForList(anyString(), eq(UUID.class), any(Object[].class));
+
+        todoWriteBehind = createTodoWriteBehind(10);
+        todoWriteBehind.start();
+
+        todoWriteBehind.enqueue(new Todo("DESCRIPTION", false));
+
+        verify(jdbcTemplate, timeout(5000))
+                .queryForList(startsWith("INSERT INTO todos"), eq(UUID.class), any(Object[].class));
+
+        todoWriteBehind.stop();
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    public void testEnqueueRejectsWhenStopped() {
+        todoWriteBehind = createTodoWriteBehind(10);
+
+        assertThrows(ServiceUnavailableException.class, () -> todoWriteBehind.enqueue(new Todo("DESCRIPTION", false)));
+    }
+
+    @Test
+    public void testRejectedTodoIsMarkedFailed() {
+        doThrow(new DataIntegrityViolationException("Rejected"))
+                .when(jdbcTemplate)
+                .queryForList(anyString(), eq(UUID.class), any(Object[].class));
+
+        todoWriteBehind = createTodoWriteBehind(10);
+        todoWriteBehind.start();
+
+        Todo result = todoWriteBehind.enqueue(new Todo("DESCRIPTION", false));
+
+        verify(jdbcTemplate, timeout(5000).times(2)).queryForList(anyString(), eq(UUID.class), any(Object[].class));
+
+        todoWriteBehind.stop();
+
+        assertThat(todoWriteBehind.getState(result.getId())).isEqualTo(Optional.of(OperationState.FAILED));
+        assertThat(todoWriteBehind.getFailures()).isEqualTo(1);
+    }
+
+    private TodoWriteBehind createTodoWriteBehind(int capacity) {
+        return new TodoWriteBehind(
+                jdbcTemplate,
+                TransactionOperations.withoutTransaction(),
+                eventPublisher,
+                directory,
+                1024 * 1024,
+                capacity,
+                100,
+                Duration.ofMillis(1),
+                Duration.ofMillis(10),
+                Duration.ofHours(1),
+                Clock.systemUTC());
+    }
+}
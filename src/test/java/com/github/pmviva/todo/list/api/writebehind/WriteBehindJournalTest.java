@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Pablo Martin Viva
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.pmviva.todo.list.api.writebehind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.pmviva.todo.list.api.model.Todo;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class WriteBehindJournalTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testOpenReplaysUnacknowledgedTodos() throws IOException {
+        WriteBehindJournal journal = new WriteBehindJournal(directory, 1024);
+        journal.open();
+
+        Todo first = generateTodo("DESCRIPTION | 01\n");
+        Todo second = generateTodo("DESCRIPTION 02");
+
+        journal.append(first, null).acknowledge();
+        journal.append(second, "user");
+        journal.close();
+
+        List<WriteBehindJournal.Entry> entries = new WriteBehindJournal(directory, 1024).open();
+
+        assertThat(entries).hasSize(2);
+        assertThat(entries.get(0).todo().getId()).isEqualTo(first.getId());
+        assertThat(entries.get(0).todo().getDescription()).isEqualTo(first.getDescription());
+        assertThat(entries.get(0).principal()).isNull();
+        assertThat(entries.get(1).todo().getId()).isEqualTo(second.getId());
+        assertThat(entries.get(1).todo().getCreatedAt()).isEqualTo(second.getCreatedAt());
+        assertThat(entries.get(1).principal()).isEqualTo("user");
+    }
+
+    @Test
+    public void testAcknowledgedSealedSegmentsAreDeleted() throws IOException {
+        WriteBehindJournal journal = new WriteBehindJournal(directory, 1);
+        journal.open();
+
+        WriteBehindJournal.Segment first = journal.append(generateTodo("DESCRIPTION 01"), null);
+        WriteBehindJournal.Segment second = journal.append(generateTodo("DESCRIPTION 02"), null);
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(countSegments()).isEqualTo(2);
+
+        first.acknowledge();
+
+        assertThat(countSegments()).isEqualTo(1);
+
+        second.acknowledge();
+        journal.close();
+
+        assertThat(countSegments()).isZero();
+    }
+
+    @Test
+    public void testOpenSkipsTruncatedRecords() throws IOException {
+        WriteBehindJournal journal = new WriteBehindJournal(directory, 1024);
+        journal.open();
+        journal.append(generateTodo("DESCRIPTION 01"), null);
+        journal.close();
+
+        try (Stream<Path> segments = Files.list(directory)) {
+            Files.writeString(
+                    segments.findFirst().orElseThrow(),
+                    UUID.randomUUID() + "|fal",
+                    StandardCharsets.US_ASCII,
+                    StandardOpenOption.APPEND);
+        }
+
+        assertThat(new WriteBehindJournal(directory, 1024).open()).hasSize(1);
+    }
+
+    private long countSegments() throws IOException {
+        try (Stream<Path> segments = Files.list(directory)) {
+            return segments.count();
+        }
+    }
+
+    private Todo generateTodo(String description) {
+        Todo todo = new Todo(description, false);
+        todo.setId(UUID.randomUUID());
+        todo.setCreatedAt(Instant.ofEpochMilli(System.currentTimeMillis()));
+        todo.setUpdatedAt(todo.getCreatedAt());
+
+        return todo;
+    }
+}
@@ -0,0 +1,5 @@
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 01', true, now() - interval '60 days', now() - interval '45 days');
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 02', true, now() - interval '60 days', now() - interval '45 days');
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 03', true, now() - interval '60 days', now() - interval '45 days');
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 04', true, now() - interval '60 days', now() - interval '1 day');
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 05', false, now() - interval '60 days', now() - interval '45 days');
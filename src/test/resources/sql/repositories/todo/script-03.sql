@@ -0,0 +1,5 @@
+INSERT INTO todos (id, description, completed, deleted_at) VALUES (gen_random_uuid(), 'DESCRIPTION 01', true, now() - interval '1 hour');
+INSERT INTO todos (id, description, completed, deleted_at) VALUES (gen_random_uuid(), 'DESCRIPTION 02', true, now() - interval '1 hour');
+INSERT INTO todos (id, description, completed, deleted_at) VALUES (gen_random_uuid(), 'DESCRIPTION 03', false, now() - interval '1 hour');
+INSERT INTO todos (id, description, completed, deleted_at) VALUES (gen_random_uuid(), 'DESCRIPTION 04', false, now());
+INSERT INTO todos (id, description, completed) VALUES (gen_random_uuid(), 'DESCRIPTION 05', false);
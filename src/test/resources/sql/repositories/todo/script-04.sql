@@ -0,0 +1,18 @@
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 01', false, now() - interval '400 days', now() - interval '390 days');
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 02', false, now() - interval '400 days', now() - interval '390 days');
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 03', false, now() - interval '400 days', now() - interval '390 days');
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 04', false, now() - interval '400 days', now() - interval '390 days');
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 05', false, now() - interval '400 days', now() - interval '390 days');
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 06', false, now() - interval '400 days', now() - interval '390 days');
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 07', false, now() - interval '400 days', now() - interval '390 days');
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 08', false, now() - interval '400 days', now() - interval '390 days');
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 09', false, now() - interval '400 days', now() - interval '390 days');
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 10', false, now() - interval '400 days', now() - interval '390 days');
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 11', false, now() - interval '400 days', now() - interval '390 days');
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 12', false, now() - interval '400 days', now() - interval '390 days');
+
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 13', true, now() - interval '400 days', now() - interval '390 days');
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 14', true, now() - interval '400 days', now() - interval '390 days');
+INSERT INTO todos_archive (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 15', true, now() - interval '400 days', now() - interval '390 days');
+
+INSERT INTO todo_ids (id, created_at) SELECT id, created_at FROM todos_archive ON CONFLICT DO NOTHING;
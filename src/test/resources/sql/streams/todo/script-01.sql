@@ -0,0 +1,13 @@
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 01', false, '2025-01-01 10:00:00.037456+00', '2025-02-12 08:30:15.999999+00');
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 02', false, '2025-01-02 10:00:00.074456+00', '2025-02-11 08:30:15.999999+00');
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 03', true, '2025-01-03 10:00:00.111456+00', '2025-02-10 08:30:15.999999+00');
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 04', false, '2025-01-04 10:00:00.148456+00', '2025-02-09 08:30:15.999999+00');
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION "QUOTED" \\ ÜNICODE ✓', false, '2025-01-05 10:00:00.185456+00', '2025-02-08 08:30:15.999999+00');
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 06', true, '2025-01-06 10:00:00.222456+00', '2025-02-07 08:30:15.999999+00');
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 07', false, '2025-01-07 10:00:00.259456+00', NULL);
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 08', false, '2025-01-08 10:00:00.296456+00', '2025-02-05 08:30:15.999999+00');
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 09', true, '2025-01-09 10:00:00.333456+00', '2025-02-04 08:30:15.999999+00');
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 10', false, '2025-01-10 10:00:00.370456+00', '2025-02-03 08:30:15.999999+00');
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 11', false, '2025-01-11 10:00:00.407456+00', '2025-02-02 08:30:15.999999+00');
+INSERT INTO todos (id, description, completed, created_at, updated_at) VALUES (gen_random_uuid(), 'DESCRIPTION 12', true, '2025-01-12 10:00:00.444456+00', '2025-02-01 08:30:15.999999+00');
+INSERT INTO todos (id, description, completed, created_at, updated_at, deleted_at) VALUES (gen_random_uuid(), 'DESCRIPTION DELETED', false, '2025-01-20 10:00:00+00', '2025-01-20 10:00:00+00', '2025-01-21 10:00:00+00');